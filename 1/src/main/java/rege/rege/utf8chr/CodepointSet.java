@@ -0,0 +1,137 @@
+package rege.rege.utf8chr;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of codepoints. ASCII codepoints are looked up in a
+ * bitmap, the others by binary search over sorted ranges.
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public final class CodepointSet {
+    /**
+     * Bits of codepoints {@code 0} to {@code 63}, and {@code 64} to
+     * {@code 127}.
+     */
+    private final long asciiLow;
+    private final long asciiHigh;
+    /**
+     * Other codepoints as inclusive ranges, {@code [first, last]} at
+     * {@code ranges[2 * i]} and {@code ranges[2 * i + 1]}, sorted and
+     * disjoint.
+     */
+    private final long[] ranges;
+
+    /**
+     * @param codepoints The codepoints in the set, in any order and possibly
+     * repeated. {@code -1} stands for EOF.
+     */
+    public CodepointSet(long... codepoints) {
+        final long[] SORTED = codepoints.clone();
+        Arrays.sort(SORTED);
+        long low = 0L;
+        long high = 0L;
+        long[] res = new long[8];
+        int count = 0;
+        for (int i = 0; i < SORTED.length; i++) {
+            final long C = SORTED[i];
+            if (C >= 0L && C < 64L) {
+                low |= 1L << C;
+            } else if (C >= 64L && C < 128L) {
+                high |= 1L << (C - 64L);
+            } else if (count > 0 && C <= res[count - 1] + 1L) {
+                res[count - 1] = Math.max(res[count - 1], C);
+            } else {
+                if (count + 2 > res.length) {
+                    res = Arrays.copyOf(res, res.length * 2);
+                }
+                res[count++] = C;
+                res[count++] = C;
+            }
+        }
+        this.asciiLow = low;
+        this.asciiHigh = high;
+        this.ranges = Arrays.copyOf(res, count);
+    }
+
+    /**
+     * @param chars The characters in the set, in any order and possibly
+     * repeated.
+     * @throws NullPointerException If the sequence is null.
+     */
+    public CodepointSet(UTF8Sequence chars) {
+        this(codepointsOf(chars));
+    }
+
+    private static long[] codepointsOf(UTF8Sequence chars) {
+        final long[] RES = new long[chars.length()];
+        int pos = chars.posOf(0);
+        for (int i = 0; i < RES.length; i++) {
+            final int NEXT = chars.nextPos(i, pos);
+            RES[i] = chars.ordAt(pos, NEXT);
+            pos = NEXT;
+        }
+        return RES;
+    }
+
+    /**
+     * @param codepoint The codepoint to look up, {@code -1} for EOF.
+     * @return Whether the codepoint is in this set.
+     */
+    public boolean contains(long codepoint) {
+        if (codepoint >= 0L && codepoint < 64L) {
+            return (this.asciiLow & (1L << codepoint)) != 0L;
+        }
+        if (codepoint >= 64L && codepoint < 128L) {
+            return (this.asciiHigh & (1L << (codepoint - 64L))) != 0L;
+        }
+        int lo = 0;
+        int hi = (this.ranges.length >>> 1) - 1;
+        while (lo <= hi) {
+            final int MID = (lo + hi) >>> 1;
+            if (codepoint < this.ranges[MID << 1]) {
+                hi = MID - 1;
+            } else if (codepoint > this.ranges[(MID << 1) + 1]) {
+                lo = MID + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param c The character to look up.
+     * @return Whether the codepoint of the character is in this set.
+     * @throws NullPointerException If the character is null.
+     */
+    public boolean contains(UTF8Char c) {
+        return this.contains(c.ord());
+    }
+
+    /**
+     * @return Whether this set contains no codepoint.
+     */
+    public boolean isEmpty() {
+        return this.asciiLow == 0L && this.asciiHigh == 0L &&
+               this.ranges.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CodepointSet) {
+            final CodepointSet CVT = (CodepointSet)o;
+            return this.asciiLow == CVT.asciiLow &&
+                   this.asciiHigh == CVT.asciiHigh &&
+                   Arrays.equals(this.ranges, CVT.ranges);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return (Long.hashCode(this.asciiLow) * 31 +
+                Long.hashCode(this.asciiHigh)) * 31 +
+               Arrays.hashCode(this.ranges);
+    }
+}
@@ -1,86 +1,224 @@
-package rege.rege.utf8chr;
-
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * @author REGE
- * @since 0.0.1a1
- */
-public class UTF8DecodeErrorHandler {
-    public static final
-    Map<String, UTF8DecodeErrorHandlerProvider> HANDLER;
-
-    private UTF8DecodeErrorHandler() {
-        throw new UnsupportedOperationException();
-    }
-
-    static {
-        HANDLER = new HashMap<String, UTF8DecodeErrorHandlerProvider>();
-        HANDLER.put("strict", new UTF8DecodeErrorHandlerProvider() {
-            //@Override
-            public Map.Entry<Integer, Iterable<UTF8Char>>
-            provide(int origPos, byte[] bytes) throws UTF8CharDecodeException {
-                final StringBuilder SB = new StringBuilder();
-                SB.append((bytes.length == 1) ?
-                          "Malformed byte " : "Malformed bytes ");
-                for (int i = 0; i < bytes.length; i++) {
-                    if (bytes[i] >= 0 && bytes[i] < 16) {
-                        SB.append('0');
-                    }
-                    SB.append(Long.toHexString(Byte.toUnsignedLong(bytes[i])));
-                    SB.append(' ');
-                }
-                SB.append("at position ");
-                SB.append(origPos);
-                throw new UTF8CharDecodeException(SB.toString());
-            }
-        });
-        HANDLER.put("ignore", new UTF8DecodeErrorHandlerProvider() {
-            //@Override
-            public Map.Entry<Integer, Iterable<UTF8Char>>
-            provide(int origPos, byte[] bytes) {
-                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
-                    Integer.valueOf(origPos + 1), new UTF8Sequence()
-                );
-            }
-        });
-        HANDLER.put("replace", new UTF8DecodeErrorHandlerProvider() {
-            //@Override
-            public Map.Entry<Integer, Iterable<UTF8Char>>
-            provide(int origPos, byte[] bytes) {
-                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
-                    Integer.valueOf(origPos + bytes.length),
-                    new UTF8Sequence('\ufffd')
-                );
-            }
-        });
-        HANDLER.put("surrogateescape", new UTF8DecodeErrorHandlerProvider() {
-            //@Override
-            public Map.Entry<Integer, Iterable<UTF8Char>>
-            provide(int origPos, byte[] bytes) {
-                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
-                    Integer.valueOf(origPos + 1),
-                    new UTF8Sequence(new UTF8Char(
-                        (bytes[0] < 0) ? 0xdd00L + bytes[0] : bytes[0]
-                    ))
-                );
-            }
-        });
-        HANDLER.put("backslashreplace", new UTF8DecodeErrorHandlerProvider() {
-            //@Override
-            public Map.Entry<Integer, Iterable<UTF8Char>>
-            provide(int origPos, byte[] bytes) {
-                final byte HIGH = (byte)(bytes[0] >>> 4);
-                final byte LOW = (byte)(bytes[0] & (byte)0xf);
-                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
-                    Integer.valueOf(origPos + 1),
-                    new UTF8Sequence(new long[]{
-                        92, 120, HIGH + (byte)((HIGH > (byte)9) ? 87 : 48),
-                        LOW + (byte)((LOW > (byte)9) ? 87 : 48)
-                    })
-                );
-            }
-        });
-    }
-}
\ No newline at end of file
+package rege.rege.utf8chr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8DecodeErrorHandler {
+    public static final
+    Map<String, UTF8DecodeErrorHandlerProvider> HANDLER;
+
+    /**
+     * Throw a {@link UTF8CharDecodeException} for the malformed bytes.
+     */
+    public static final UTF8DecodeErrorHandlerProvider STRICT;
+    /**
+     * Skip the first malformed byte.
+     */
+    public static final UTF8DecodeErrorHandlerProvider IGNORE;
+    /**
+     * Replace the malformed bytes with U+FFFD.
+     */
+    public static final UTF8DecodeErrorHandlerProvider REPLACE;
+    /**
+     * Replace the first malformed byte {@code b} with U+DC00 + {@code b}.
+     */
+    public static final UTF8DecodeErrorHandlerProvider SURROGATEESCAPE;
+    /**
+     * Replace the first malformed byte with a {@code \xhh} escape.
+     */
+    public static final UTF8DecodeErrorHandlerProvider BACKSLASHREPLACE;
+
+    private static final UTF8Sequence EMPTY = new UTF8Sequence();
+    private static final UTF8Sequence REPLACEMENT =
+    new UTF8Sequence('\ufffd');
+    /**
+     * Replacements of the first malformed byte, indexed by its unsigned
+     * value.
+     */
+    private static final UTF8Sequence[] ESCAPES = new UTF8Sequence[256];
+    private static final UTF8Sequence[] BACKSLASHES = new UTF8Sequence[256];
+
+    private UTF8DecodeErrorHandler() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * A built-in handler. The decoders call {@link #handle} instead of
+     * {@link #provide}, so the malformed bytes need not be copied.
+     */
+    abstract static class Builtin implements UTF8DecodeErrorHandlerProvider {
+        /**
+         * Handle the malformed bytes {@code from[off, off + len)} found at
+         * {@code origPos}, appending the replacement to {@code out}.
+         * @return The position to continue decoding from.
+         */
+        abstract int handle(UTF8SequenceBuilder out, int origPos,
+                            byte[] from, int off, int len);
+
+        //@Override
+        public Map.Entry<Integer, Iterable<UTF8Char>>
+        provide(int origPos, byte[] bytes) {
+            final UTF8SequenceBuilder B = new UTF8SequenceBuilder();
+            final int POS = this.handle(B, origPos, bytes, 0, bytes.length);
+            return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                Integer.valueOf(POS), B.toUTF8Sequence()
+            );
+        }
+    }
+
+    /**
+     * A built-in handler that moves one byte ahead. The decoders call
+     * {@link #handleSpan} with whole runs of malformed bytes.
+     */
+    abstract static class BuiltinSpan extends Builtin
+    implements UTF8DecodeErrorHandlerProvider.SpanProvider {
+        /**
+         * Handle the run of malformed bytes {@code from[off, off + len)}
+         * found at {@code origPos}, appending the replacements to
+         * {@code out}.
+         * @return The position to continue decoding from.
+         */
+        abstract int handleSpan(UTF8SequenceBuilder out, int origPos,
+                                byte[] from, int off, int len);
+
+        @Override
+        int handle(UTF8SequenceBuilder out, int origPos,
+                   byte[] from, int off, int len) {
+            return this.handleSpan(out, origPos, from, off, 1);
+        }
+
+        //@Override
+        public Map.Entry<Integer, Iterable<UTF8Char>>
+        provideSpan(int origPos, byte[] bytes) {
+            final UTF8SequenceBuilder B = new UTF8SequenceBuilder();
+            final int POS =
+            this.handleSpan(B, origPos, bytes, 0, bytes.length);
+            return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                Integer.valueOf(POS), B.toUTF8Sequence()
+            );
+        }
+    }
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            final byte B = (byte)i;
+            ESCAPES[i] = new UTF8Sequence(UTF8Char.valueOf(
+                (B < 0) ? 0xdd00L + B : B
+            ));
+            final int HIGH = (i >>> 4) & 0xf;
+            final int LOW = i & 0xf;
+            BACKSLASHES[i] = new UTF8Sequence(new long[]{
+                92, 120, HIGH + ((HIGH > 9) ? 87 : 48),
+                LOW + ((LOW > 9) ? 87 : 48)
+            });
+        }
+        STRICT = new Builtin() {
+            @Override
+            int handle(UTF8SequenceBuilder out, int origPos,
+                       byte[] from, int off, int len)
+            throws UTF8CharDecodeException {
+                final StringBuilder SB = new StringBuilder();
+                SB.append((len == 1) ?
+                          "Malformed byte " : "Malformed bytes ");
+                for (int i = off; i < off + len; i++) {
+                    if (from[i] >= 0 && from[i] < 16) {
+                        SB.append('0');
+                    }
+                    SB.append(Long.toHexString(
+                        Byte.toUnsignedLong(from[i])
+                    ));
+                    SB.append(' ');
+                }
+                SB.append("at position ");
+                SB.append(origPos);
+                throw new UTF8CharDecodeException(SB.toString());
+            }
+        };
+        IGNORE = new BuiltinSpan() {
+            @Override
+            int handleSpan(UTF8SequenceBuilder out, int origPos,
+                           byte[] from, int off, int len) {
+                return origPos + len;
+            }
+
+            @Override
+            public Map.Entry<Integer, Iterable<UTF8Char>>
+            provideSpan(int origPos, byte[] bytes) {
+                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                    Integer.valueOf(origPos + bytes.length), EMPTY
+                );
+            }
+
+            @Override
+            public Map.Entry<Integer, Iterable<UTF8Char>>
+            provide(int origPos, byte[] bytes) {
+                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                    Integer.valueOf(origPos + 1), EMPTY
+                );
+            }
+        };
+        REPLACE = new Builtin() {
+            @Override
+            int handle(UTF8SequenceBuilder out, int origPos,
+                       byte[] from, int off, int len) {
+                out.append(REPLACEMENT);
+                return origPos + len;
+            }
+
+            @Override
+            public Map.Entry<Integer, Iterable<UTF8Char>>
+            provide(int origPos, byte[] bytes) {
+                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                    Integer.valueOf(origPos + bytes.length), REPLACEMENT
+                );
+            }
+        };
+        SURROGATEESCAPE = new BuiltinSpan() {
+            @Override
+            int handleSpan(UTF8SequenceBuilder out, int origPos,
+                           byte[] from, int off, int len) {
+                for (int i = off; i < off + len; i++) {
+                    out.append(ESCAPES[from[i] & 0xff]);
+                }
+                return origPos + len;
+            }
+
+            @Override
+            public Map.Entry<Integer, Iterable<UTF8Char>>
+            provide(int origPos, byte[] bytes) {
+                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                    Integer.valueOf(origPos + 1), ESCAPES[bytes[0] & 0xff]
+                );
+            }
+        };
+        BACKSLASHREPLACE = new BuiltinSpan() {
+            @Override
+            int handleSpan(UTF8SequenceBuilder out, int origPos,
+                           byte[] from, int off, int len) {
+                for (int i = off; i < off + len; i++) {
+                    out.append(BACKSLASHES[from[i] & 0xff]);
+                }
+                return origPos + len;
+            }
+
+            @Override
+            public Map.Entry<Integer, Iterable<UTF8Char>>
+            provide(int origPos, byte[] bytes) {
+                return new UTF8DecodeErrorHandlerProvider.ProvidedEntry(
+                    Integer.valueOf(origPos + 1),
+                    BACKSLASHES[bytes[0] & 0xff]
+                );
+            }
+        };
+        HANDLER = new HashMap<String, UTF8DecodeErrorHandlerProvider>();
+        HANDLER.put("strict", STRICT);
+        HANDLER.put("ignore", IGNORE);
+        HANDLER.put("replace", REPLACE);
+        HANDLER.put("surrogateescape", SURROGATEESCAPE);
+        HANDLER.put("backslashreplace", BACKSLASHREPLACE);
+    }
+}
@@ -1,33 +1,51 @@
-package rege.rege.utf8chr;
-
-import java.util.Map.Entry;
-
-public interface UTF8DecodeErrorHandlerProvider {
-    public Entry<Integer,Iterable<UTF8Char>>provide(int origPos, byte[] bytes);
-
-    public static final class ProvidedEntry
-    implements Entry<Integer, Iterable<UTF8Char>> {
-        public final Integer newPos;
-        public final UTF8Sequence replaceSeq;
-
-        public ProvidedEntry(Integer newPos, UTF8Sequence replaceSeq) {
-            this.newPos = newPos;
-            this.replaceSeq = replaceSeq;
-        }
-
-        //@Override
-        public final Integer getKey() {
-            return this.newPos;
-        }
-
-        //@Override
-        public final UTF8Sequence getValue() {
-            return this.replaceSeq;
-        }
-
-        //@Override
-        public final UTF8Sequence setValue(Iterable<UTF8Char> value) {
-            throw new UnsupportedOperationException();
-        }
-    }
+package rege.rege.utf8chr;
+
+import java.util.Map.Entry;
+
+public interface UTF8DecodeErrorHandlerProvider {
+    public Entry<Integer,Iterable<UTF8Char>>provide(int origPos, byte[] bytes);
+
+    /**
+     * A handler that moves one byte ahead from every malformed unit, and so
+     * can take a whole run of malformed bytes in one call.
+     */
+    public static interface SpanProvider
+    extends UTF8DecodeErrorHandlerProvider {
+        /**
+         * Called instead of {@link #provide} with the longest run of bytes
+         * at each of which a malformed unit starts. It must return what
+         * calling {@link #provide} at each byte in turn would, with the
+         * replacements concatenated and the last position.
+         * @param origPos The position of the run.
+         * @param bytes The bytes of the run.
+         */
+        public Entry<Integer, Iterable<UTF8Char>>
+        provideSpan(int origPos, byte[] bytes);
+    }
+
+    public static final class ProvidedEntry
+    implements Entry<Integer, Iterable<UTF8Char>> {
+        public final Integer newPos;
+        public final UTF8Sequence replaceSeq;
+
+        public ProvidedEntry(Integer newPos, UTF8Sequence replaceSeq) {
+            this.newPos = newPos;
+            this.replaceSeq = replaceSeq;
+        }
+
+        //@Override
+        public final Integer getKey() {
+            return this.newPos;
+        }
+
+        //@Override
+        public final UTF8Sequence getValue() {
+            return this.replaceSeq;
+        }
+
+        //@Override
+        public final UTF8Sequence setValue(Iterable<UTF8Char> value) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
\ No newline at end of file
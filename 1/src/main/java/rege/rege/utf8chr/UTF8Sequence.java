@@ -1,3544 +1,5098 @@
-package rege.rege.utf8chr;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-
-import static java.util.Collections.sort;
-
-/**
- * @author REGE
- * @since 0.0.1a1
- */
-public class UTF8Sequence
-implements Comparable<UTF8Sequence>, Iterable<UTF8Char> {
-    /**
-     * Where to store the UTF8 characters.
-     */
-    private final UTF8Char[] chars;
-
-    /**
-     * Line separators from Python, contains {@code \v}, {@code \n},
-     * {@code \r}, {@code \r\n}.
-     */
-    private static final UTF8Sequence[] LINESEPS;
-    /**
-     * Whitespace characters from Python.
-     */
-    public static final UTF8Sequence WHITESPACES;
-    /**
-     * Decimal characters from Python.
-     */
-    public static final UTF8Sequence DECIMALS;
-    /**
-     * Digit characters from Python.
-     */
-    public static final UTF8Sequence DIGITS;
-    /**
-     * Numeric characters from Python.
-     */
-    public static final UTF8Sequence NUMERICS;
-    private static final Map<UTF8Char, Iterable<UTF8Char>> TOLOWERS;
-    private static final Map<UTF8Char, Iterable<UTF8Char>> TOUPPERS;
-
-    /**
-     * @param chars Create a new UTF8Sequence with the characters in the array.
-     * @throws NullPointerException If the array or one of its element is null.
-     */
-    public UTF8Sequence(UTF8Char[] chars) {
-        this.chars = new UTF8Char[chars.length];
-        for (int i = 0; i < chars.length; i++) {
-            this.chars[i] = chars[i];
-        }
-    }
-
-    /**
-     * @param chars Create a new UTF8Sequence with the characters in the
-     * iterable.
-     * @throws NullPointerException If the iterable or one of its next is null.
-     */
-    public UTF8Sequence(Iterable<UTF8Char> chars) {
-        final List<UTF8Char> LIST = new ArrayList<UTF8Char>();
-        for (UTF8Char i : chars) {
-            LIST.add(i);
-        }
-        this.chars = new UTF8Char[LIST.size()];
-        int j = 0;
-        while (!(LIST.isEmpty())) {
-            this.chars[j] = LIST.remove(0);
-            j++;
-        }
-    }
-
-    /**
-     * @param codepoints Create a new UTF8Sequence with the character
-     * codepoints in the array.
-     * @throws NullPointerException If the array is null.
-     */
-    public UTF8Sequence(long[] codepoints) {
-        this.chars = new UTF8Char[codepoints.length];
-        for (int i = 0; i < codepoints.length; i++) {
-            this.chars[i] = new UTF8Char(codepoints[i]);
-        }
-    }
-
-    /**
-     * @param codepoints Create a new UTF8Sequence with the character
-     * codepoints in the array.
-     * @throws NullPointerException If the array or one of its element is null.
-     */
-    public UTF8Sequence(Long[] codepoints) {
-        this.chars = new UTF8Char[codepoints.length];
-        for (int i = 0; i < codepoints.length; i++) {
-            this.chars[i] = new UTF8Char(codepoints[i].longValue());
-        }
-    }
-
-    /**
-     * @param string Create a new UTF8Sequence converts from
-     * {@link java.lang.String}.
-     * @throws NullPointerException If the string is null.
-     */
-    public UTF8Sequence(String string) {
-        final List<UTF8Char> LIST = new ArrayList<UTF8Char>();
-        for (int i = 0; true; i++) {
-            try {
-                LIST.add(new UTF8Char(string.codePointAt(i)));
-                if (string.codePointAt(i) > 0xffff) {
-                    i++;
-                }
-            } catch (IndexOutOfBoundsException e) {
-                break;
-            }
-        }
-        this.chars = new UTF8Char[LIST.size()];
-        int j = 0;
-        while (!(LIST.isEmpty())) {
-            this.chars[j] = LIST.remove(0);
-            j++;
-        }
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Long.toString(i))}. @see
-     * {@link java.lang.Long}, {@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(long i) {
-        this(Long.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Integer.toString(i))}.
-     * @see {@link java.lang.Integer},{@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(int i) {
-        this(Integer.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Short.toString(i))}. @see
-     * {@link java.lang.Short}, {@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(short i) {
-        this(Short.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Byte.toString(i))}. @see
-     * {@link java.lang.Byte}, {@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(byte i) {
-        this(Byte.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Float.toString(i))}. @see
-     * {@link java.lang.Float}, {@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(float i) {
-        this(Float.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to {@code new UTF8Sequence(Double.toString(i))}.
-     * @see {@link java.lang.Double}, {@link #UTF8Sequence(String)}
-     */
-    public UTF8Sequence(double i) {
-        this(Double.toString(i));
-    }
-
-    /**
-     * @param i Equivalent to
-     * {@code new UTF8Sequence(new UTF8Char[]&#123;i&#125;)}. @see
-     * {@link #UTF8Sequence(UTF8Char[])}
-     * @throws NullPointerException If the character is null.
-     * @see UTF8Char
-     */
-    public UTF8Sequence(UTF8Char i) {
-        this(new UTF8Char[]{i});
-    }
-
-    /**
-     * @param i Equivalent to
-     * {@code new UTF8Sequence(new UTF8Char[]&#123;new UTF8Char(i)&#125;)}.
-     * @see {@link #UTF8Sequence(UTF8Char[])}
-     */
-    public UTF8Sequence(char i) {
-        this(new UTF8Char[]{new UTF8Char(i)});
-    }
-
-    /**
-     * Create a new empty UTF8Sequence.
-     */
-    public UTF8Sequence() {
-        this(new long[0]);
-    }
-
-    //@Override
-    public Iterator<UTF8Char> iterator() {
-        List<UTF8Char> LIST = new ArrayList<UTF8Char>();
-        for (int i = 0; i < this.chars.length; i++) {
-            LIST.add(this.chars[i]);
-        }
-        return LIST.iterator();
-    }
-
-    /**
-     * @return An array contains 1-length {@link UTF8Sequence}s.
-     * e.g. {@code new UTF8Sequence("test").singles()} will return
-     * {@code new UTF8Sequence[]&#123;new UTF8Sequence('t'),
-     * new UTF8Sequence('e'), new UTF8Sequence('s'),
-     * new UTF8Sequence('t')&#125;}.
-     */
-    public UTF8Sequence[] singles() {
-        UTF8Sequence[] R = new UTF8Sequence[this.chars.length];
-        for (int i = 0; i < R.length; i++) {
-            R[i] = new UTF8Sequence(this.chars[i]);
-        }
-        return R;
-    }
-
-    /**
-     * @return The length of this sequence. e.g.
-     * {@code new UTF8Sequence("test").length()} will return {@code 4}.
-     */
-    public int length() {
-        return this.chars.length;
-    }
-
-    /**
-     * @return The length of this sequence encoded to bytes. e.g.
-     * {@code new UTF8Sequence("\u6d4b\u8bd5").length()} will return {@code 6}.
-     */
-    public long byteLength() {
-        long res = 0L;
-        for (UTF8Char i : this) {
-            res += i.getByteLength();
-        }
-        return res;
-    }
-
-    public List<Byte> flattenBytes() {
-        final List<Byte> RES = new ArrayList<Byte>();
-        byte[] sl;
-        for (UTF8Char i : this) {
-            sl = i.toByteArray();
-            for (byte j = 0; j < sl.length; j++) {
-                RES.add(Byte.valueOf(sl[j]));
-            }
-        }
-        return RES;
-    }
-
-    /**
-     * @return a byte array of encoded sequence. e.g.
-     * {@code new UTF8Sequence("\u6d4b\u8bd5").getBytes()} will return
-     * {@code new byte[]&#123;-26, -75, -117, -24, -81, -107&#125;}.
-     * @throws IndexOutOfBoundsException if
-     * {@code this.byteLength() > 0x7fffffffL}. @see
-     * {@link UTF8Sequence#byteLength()}.
-     */
-    public byte[] getBytes() throws IndexOutOfBoundsException {
-        final long LENGTH = this.byteLength();
-        if (LENGTH > 0x7fffffffL) {
-            throw new IndexOutOfBoundsException();
-        }
-        final byte[] RES = new byte[(int)LENGTH];
-        byte[] sl;
-        int index = 0;
-        for (UTF8Char i : this) {
-            sl = i.toByteArray();
-            for (byte j = 0; j < sl.length; j++) {
-                RES[index] = sl[j];
-                index++;
-            }
-        }
-        return RES;
-    }
-
-    /**
-     * @param i The index to get, count from 0.
-     * @return The character at index {@code i}. If {@code i} is negative, it
-     * is equivalent to {@code this.charAt(this.length() - i)}. e.g.
-     * {@code new UTF8Sequence("test").charAt(-3)} will return
-     * {@code new UTF8Char('e')}.
-     * @throws IndexOutOfBoundsException If
-     * {@code i >= this.length() || i < -this.length()}. @see
-     * {@link UTF8Sequence#byteLength()}.
-     */
-    public UTF8Char charAt(int i) throws IndexOutOfBoundsException {
-        return this.chars[(i < 0) ? this.chars.length + i : i];
-    }
-
-    //@Override
-    public int compareTo(UTF8Sequence o) {
-        final int MINLEN = Math.min(this.length(), o.length());
-        int cmp;
-        for (int i = 0; i < MINLEN; i++) {
-            if ((cmp = this.charAt(i).compareTo(o.charAt(i))) != 0) {
-                return cmp;
-            }
-        }
-        return Integer.compare(this.length(), o.length());
-    }
-
-    /**
-     * @param o Another object.
-     * @return A boolean reflects whether two sequences are equal, the
-     * regulars are ignored.
-     */
-    @Override
-    public boolean equals(Object o) {
-        if (o instanceof UTF8Sequence) {
-            final UTF8Sequence CVT = (UTF8Sequence)o;
-            if (CVT.length() != this.length()) {
-                return false;
-            }
-            return this.compareTo(CVT) == 0;
-        }
-        return false;
-    }
-
-    /**
-     * @return A boolean reflect whether this sequence is empty.
-     */
-    public boolean isEmpty() {
-        return this.chars.length == 0;
-    }
-
-    /**
-     * @return A boolean reflect whether this sequence is going to write
-     * nothing.
-     */
-    public boolean isWriteEmpty() {
-        for (UTF8Char i : this) {
-            if (!(i.equals(UTF8Char.EOF))) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    @Override
-    public int hashCode() {
-        return Arrays.hashCode(this.chars);
-    }
-
-    @Override
-    public String toString() {
-        final StringBuilder SB = new StringBuilder();
-        boolean fallback = false;
-        for (UTF8Char i : this) {
-            if (i.ord() == -1L || i.ord() > 0xffffffffL) {
-                fallback = true;
-                break;
-            }
-            SB.append(i.toString());
-        }
-        if (fallback) {
-            return this.toEvalString();
-        }
-        return SB.toString();
-    }
-
-    public String toEvalString() {
-        final StringBuilder SB = new StringBuilder();
-        SB.append("new " + UTF8Sequence.class.getName() + "(new " +
-                   UTF8Char.class.getName() + "[]{");
-        for (UTF8Char i : this) {
-            SB.append(i.toEvalString());
-            SB.append(',');
-        }
-        SB.append("})");
-        return SB.toString();
-    }
-
-    /**
-     * @param seqs The sequences to concatenate to this.
-     * @return A UTF8Sequence with combined content, from less index to
-     * greater index.
-     */
-    public UTF8Sequence concat(UTF8Sequence... seqs) {
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            R.add(i);
-        }
-        for (int i = 0; i < seqs.length; i++) {
-            for (UTF8Char j : seqs[i]) {
-                R.add(j);
-            }
-        }
-        return new UTF8Sequence(R);
-    }
-
-    /**
-     * @param value
-     * @return A Python-like value of {@code this*value}. e.g.
-     * {@code new UTF8Sequence("test").times(3)} will return
-     * {@code new UTF8Sequence("testtesttest")}, and
-     * {@code new UTF8Sequence("test").times(-3)} will return
-     * {@code new UTF8Sequence()}. Unlike {@link #repeat(int)}, it will not
-     * throw an exception when {@code value} is negative.
-     */
-    public UTF8Sequence times(int value) {
-        if (value <= 0) {
-            return new UTF8Sequence();
-        }
-        value--;
-        final UTF8Sequence[] R = new UTF8Sequence[value];
-        for (int i = 0; i < value; i++) {
-            R[i] = this;
-        }
-        return this.concat(R);
-    }
-
-    public UTF8Sequence repeat(int count) throws IllegalArgumentException {
-        if (count < 0) {
-            throw new IllegalArgumentException("count is negative: " +
-                                               Integer.toString(count));
-        }
-        return this.times(count);
-    }
-
-    /**
-     * @param start
-     * @param stop
-     * @param step
-     * @return A Python-like value of {@code this[start:stop:step]}, with
-     * {@code null = None}. e.g.
-     * {@code new UTF8Sequence("test").slice(null, null, -1)} will return
-     * {@code new UTF8Sequence("tset")}, and
-     * {@code new UTF8Sequence("test").slice(1, -1, null)} will return
-     * {@code new UTF8Sequence("es")}.
-     * @throws IllegalArgumentException When {@code step.intValue() == 0}.
-     */
-    public UTF8Sequence slice(Integer start, Integer stop, Integer step)
-    throws IllegalArgumentException {
-        final int STEP = (step != null) ? step.intValue() : 1;
-        if (STEP == 0) {
-            throw new IllegalArgumentException("slice step cannot be zero");
-        }
-        int ts;
-        final int NEWLEN;
-        final UTF8Char[] R;
-        if (STEP < 0) {
-            ts = (start == null) ? this.chars.length - 1 : start.intValue();
-            if (ts < 0) {
-                ts += this.chars.length;
-                if (ts < 0) {
-                    return new UTF8Sequence();
-                }
-            }
-            if (ts >= this.chars.length) {
-                ts = this.chars.length - 1;
-            }
-            if (stop == null) {
-                NEWLEN = (ts + 1) / -STEP + (((ts + 1) % STEP != 0) ? 1 : 0);
-            } else {
-                if (stop.intValue() < 0) {
-                    stop = Integer.valueOf(this.chars.length +stop.intValue());
-                    if (stop.intValue() < 0) {
-                        return this.slice(start, null, step);
-                    }
-                }
-                if (stop.intValue() >= ts) {
-                    return new UTF8Sequence();
-                }
-                NEWLEN = (ts - stop.intValue()) / -STEP +
-                         (((ts - stop.intValue()) % -STEP != 0) ? 1 : 0);
-            }
-        } else {
-            ts = (start == null) ? 0 : start.intValue();
-            if (ts < 0) {
-                ts += this.chars.length;
-                if (ts < 0) {
-                    ts = 0;
-                }
-            }
-            if (stop == null) {
-                NEWLEN = (this.chars.length - ts) / STEP +
-                         (((this.chars.length - ts) % STEP != 0) ? 1 : 0);
-            } else {
-                if (stop.intValue() < 0) {
-                    stop = Integer.valueOf(this.chars.length +stop.intValue());
-                    if (stop.intValue() <= ts) {
-                        return new UTF8Sequence();
-                    }
-                }
-                if (stop.intValue() >= this.chars.length) {
-                    return this.slice(start, null, step);
-                }
-                NEWLEN = (stop.intValue() - ts) / STEP +
-                         (((stop.intValue() - ts) % STEP != 0) ? 1 : 0);
-            }
-        }
-        if (NEWLEN <= 0) {
-            return new UTF8Sequence();
-        }
-        R = new UTF8Char[NEWLEN];
-        int p = ts;
-        for (int i = 0; i < NEWLEN; i++) {
-            R[i] = this.chars[p];
-            p += STEP;
-        }
-        return new UTF8Sequence(R);
-    }
-
-    /**
-     * @param start
-     * @param stop
-     * @return @see {@link #slice(Integer, Integer, Integer)}
-     */
-    public UTF8Sequence slice(Integer start, Integer stop) {
-        return this.slice(start, stop, Integer.valueOf(1));
-    }
-
-    /**
-     * @param start the start index, inclusive
-     * @param end the end index, exclusive
-     * @return
-     * @throws IndexOutOfBoundsException When
-     * {@code start > end || start < 0 || end > this.}{@link #length()}.
-     */
-    public UTF8Sequence subSequence(int start, int end)
-    throws IndexOutOfBoundsException {
-        if (start > end) {
-            throw new IndexOutOfBoundsException();
-        }
-        final UTF8Char[] NEWS = new UTF8Char[end - start];
-        for (int i = start; i < end; i++) {
-            NEWS[i - start] = this.chars[i];
-        }
-        return new UTF8Sequence(NEWS);
-    }
-
-    /**
-     * @param start @see {@link #subSequence(int, int)}
-     * @return Equivalent to {@code this.subSequence(start, this.length())}.
-     * @throws IndexOutOfBoundsException When
-     * {@code start < 0 || start > this.}{@link #length()}.
-     */
-    public UTF8Sequence subSequence(int start)throws IndexOutOfBoundsException{
-        return this.subSequence(start, this.length());
-    }
-
-    public UTF8Sequence join(UTF8Sequence[] seqs) {
-        if (seqs.length == 0) {
-            return new UTF8Sequence();
-        }
-        if (seqs.length == 1) {
-            return seqs[0];
-        }
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        final List<UTF8Char> P = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            P.add(i);
-        }
-        for (UTF8Char i : seqs[0]) {
-            R.add(i);
-        }
-        for (int i = 1; i < seqs.length; i++) {
-            R.addAll(P);
-            for (UTF8Char j : seqs[i]) {
-                R.add(j);
-            }
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence join(Iterable<UTF8Sequence> seqs) {
-        final Iterator<UTF8Sequence> ITT = seqs.iterator();
-        if (!(ITT.hasNext())) {
-            return new UTF8Sequence();
-        }
-        final UTF8Sequence SINGLE = ITT.next();
-        if (!(ITT.hasNext())) {
-            return SINGLE;
-        }
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        final List<UTF8Char> P = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            P.add(i);
-        }
-        for (UTF8Char i : SINGLE) {
-            R.add(i);
-        }
-        while (ITT.hasNext()) {
-            R.addAll(P);
-            for (UTF8Char i : ITT.next()) {
-                R.add(i);
-            }
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public static UTF8Sequence join(UTF8Sequence self, UTF8Sequence... seqs) {
-        return self.join(seqs);
-    }
-
-    public static UTF8Sequence
-    join(UTF8Sequence self, Iterable<UTF8Sequence> seqs) {
-        return self.join(seqs);
-    }
-
-    public static UTF8Sequence join(UTF8Char self, UTF8Sequence... seqs) {
-        return new UTF8Sequence(self).join(seqs);
-    }
-
-    public static UTF8Sequence
-    join(UTF8Char self, Iterable<UTF8Sequence> seqs) {
-        return new UTF8Sequence(self).join(seqs);
-    }
-
-    public static UTF8Sequence decodeFrom(byte[] from, String errors)
-    throws IllegalArgumentException {
-        byte[] bytes = null;
-        int pos = 0;
-        boolean malformed;
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        while (true) {
-            if (pos >= from.length) {
-                return new UTF8Sequence(R);
-            }
-            malformed = false;
-            if (from[pos] >= (byte)0) {
-                R.add(new UTF8Char(from[pos]));
-                pos++;
-            } else if (((byte)-64) <= from[pos] && from[pos] < (byte)-32) {
-                if (pos + 1 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1]};
-                }
-                if (malformed || bytes[1] >= (byte)-64) {
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((0x1fL & (long)(bytes[0])) << 6L) |
-                        (0x3fL & (long)(bytes[1])), (byte)2
-                    ));
-                    pos += 2;
-                }
-            } else if (((byte)-32) <= from[pos] && from[pos] < (byte)-16) {
-                if (pos + 2 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1],from[pos + 2]};
-                }
-                if (malformed||bytes[1] >= ((byte)-64)||bytes[2] >= (byte)-64){
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((0xfL & (long)(bytes[0])) << 12L) |
-                        ((0x3fL & (long)(bytes[1])) << 6L) |
-                        (0x3fL & (long)(bytes[2])), (byte)3
-                    ));
-                    pos += 3;
-                }
-            } else if (((byte)-16) <= from[pos] && from[pos] < (byte)-8) {
-                if (pos + 3 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1], from[pos + 2],
-                                       from[pos + 3]};
-                }
-                if (malformed || bytes[1] >= ((byte)-64) ||
-                    bytes[2] >= ((byte)-64) || bytes[3] >= (byte)-64) {
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((0x7L & (long)(bytes[0])) << 18L) |
-                        ((0x3fL & (long)(bytes[1])) << 12L) |
-                        ((0x3fL & (long)(bytes[2])) << 6L) |
-                        (0x3fL & (long)(bytes[3])), (byte)4
-                    ));
-                    pos += 4;
-                }
-            } else if (((byte)-8) <= from[pos] && from[pos] < (byte)-4) {
-                if (pos + 4 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1], from[pos + 2],
-                                       from[pos + 3], from[pos + 4]};
-                }
-                if (malformed || bytes[1] >= ((byte)-64) ||
-                    bytes[2] >= ((byte)-64) || bytes[3] >= ((byte)-64) ||
-                    bytes[4] >= (byte)-64) {
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((0x3L & (long)(bytes[0])) << 24L) |
-                        ((0x3fL & (long)(bytes[1])) << 18L) |
-                        ((0x3fL & (long)(bytes[2])) << 12L) |
-                        ((0x3fL & (long)(bytes[3])) << 6L) |
-                        (0x3fL & (long)(bytes[4])), (byte)5
-                    ));
-                    pos += 5;
-                }
-            } else if (((byte)-4) == from[pos] || from[pos] == (byte)-3) {
-                if (pos + 5 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1], from[pos + 2],
-                                       from[pos + 3], from[pos + 4],
-                                       from[pos + 5]};
-                }
-                if (malformed || bytes[1] >= ((byte)-64) ||
-                    bytes[2] >= ((byte)-64) || bytes[3] >= ((byte)-64) ||
-                    bytes[4] >= ((byte)-64) || bytes[5] >= (byte)-64) {
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((1L & (long)(bytes[0])) << 30L) |
-                        ((0x3fL & (long)(bytes[1])) << 24L) |
-                        ((0x3fL & (long)(bytes[2])) << 18L) |
-                        ((0x3fL & (long)(bytes[3])) << 12L) |
-                        ((0x3fL & (long)(bytes[4])) << 6L) |
-                        (0x3fL & (long)(bytes[5])), (byte)6
-                    ));
-                    pos += 6;
-                }
-            } else if (from[pos] == (byte)-2) {
-                if (pos + 6 >= from.length) {
-                    malformed = true;
-                } else {
-                    bytes = new byte[]{from[pos], from[pos + 1], from[pos + 2],
-                                       from[pos + 3], from[pos + 4],
-                                       from[pos + 5], from[pos + 6]};
-                }
-                if (malformed || bytes[1] >= ((byte)-64) ||
-                    bytes[2] >= ((byte)-64) || bytes[3] >= ((byte)-64) ||
-                    bytes[4] >= ((byte)-64) || bytes[5] >= ((byte)-64) ||
-                    bytes[6] >= (byte)-64) {
-                    if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))){
-                        throw new IllegalArgumentException(
-                            "unknown error handler name '" + errors + "'"
-                        );
-                    }
-                    if (malformed) {
-                        bytes = new byte[from.length - pos];
-                        for (int i = 0; i < bytes.length; i++) {
-                            bytes[i] = from[pos + i];
-                        }
-                    }
-                    final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                    UTF8DecodeErrorHandler
-                    .HANDLER.get(errors).provide(pos, bytes);
-                    for (UTF8Char i : HANDLED.getValue()) {
-                        R.add(i);
-                    }
-                    pos = HANDLED.getKey().intValue();
-                } else {
-                    R.add(new UTF8Char(
-                        ((0x3fL & (long)(bytes[1])) << 30L) |
-                        ((0x3fL & (long)(bytes[2])) << 24L) |
-                        ((0x3fL & (long)(bytes[3])) << 18L) |
-                        ((0x3fL & (long)(bytes[4])) << 12L) |
-                        ((0x3fL & (long)(bytes[5])) << 6L) |
-                        (0x3fL & (long)(bytes[6])), (byte)7
-                    ));
-                    pos += 7;
-                }
-            } else {
-                if (!(UTF8DecodeErrorHandler.HANDLER.containsKey(errors))) {
-                    throw new IllegalArgumentException(
-                        "unknown error handler name '" + errors + "'"
-                    );
-                }
-                final Entry<Integer, Iterable<UTF8Char>> HANDLED =
-                UTF8DecodeErrorHandler.HANDLER.get(errors)
-                .provide(pos, new byte[]{from[pos]});
-                for (UTF8Char i : HANDLED.getValue()) {
-                    R.add(i);
-                }
-                pos = HANDLED.getKey().intValue();
-            }
-        }
-    }
-
-    public static UTF8Sequence decodeFrom(byte[] from)
-    throws IllegalArgumentException {
-        return decodeFrom(from, "strict");
-    }
-
-    public UTF8Sequence unescape() {
-        /* 0: Not escaped
-         * 1: Met '\'
-         * 2: 3-digit octal, digit 1
-         * 3: 3-digit octal, digit 2
-         * 4: 2-digit hex, digit 0
-         * 5: 2-digit hex, digit 1
-         * 6: 4-digit hex, digit 0
-         * 7: 4-digit hex, digit 1
-         * 8: 4-digit hex, digit 2
-         * 9: 4-digit hex, digit 3
-         * 10: 8-digit hex, digit 0
-         * 11: 8-digit hex, digit 1
-         * 12: 8-digit hex, digit 2
-         * 13: 8-digit hex, digit 3
-         * 14: 8-digit hex, digit 4
-         * 15: 8-digit hex, digit 5
-         * 16: 8-digit hex, digit 6
-         * 17: 8-digit hex, digit 7
-         */
-        byte escapeMode = 0;
-        long escapeCodepoint = 0L;
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            if (i.ord() == 92L) { // '\'
-                switch (escapeMode) {
-                    case 0: {
-                        escapeMode = 1;
-                        break;
-                    }
-                    case 1: {
-                        escapeMode = 0;
-                        R.add(i);
-                        break;
-                    }
-                    case 4: {
-                        escapeMode = 1;
-                        R.add(i);
-                        R.add(new UTF8Char('x'));
-                        break;
-                    }
-                    case 6: {
-                        escapeMode = 1;
-                        R.add(i);
-                        R.add(new UTF8Char('u'));
-                        break;
-                    }
-                    case 10: {
-                        escapeMode = 1;
-                        R.add(i);
-                        R.add(new UTF8Char('U'));
-                        break;
-                    }
-                    case 2:
-                    case 3:
-                    case 5:
-                    case 7:
-                    case 8:
-                    case 9:
-                    case 11:
-                    case 12:
-                    case 13:
-                    case 14:
-                    case 15:
-                    case 16:
-                    case 17: {
-                        escapeMode = 1;
-                        R.add(new UTF8Char(escapeCodepoint));
-                        break;
-                    }
-                    default: assert false : "Unexpected escapeMode " +
-                                            Byte.toString(escapeMode);
-                }
-            } else {
-                switch (escapeMode) {
-                    case 0: {
-                        R.add(i);
-                        break;
-                    }
-                    case 1: {
-                        final long ORD = i.ord();
-                        if (ORD < 0xffffffffL) {
-                            final int ORDINT = (int)ORD;
-                            switch (ORDINT) {
-                                case 10: { // '\n'
-                                    escapeMode = 0;
-                                    break;
-                                }
-                                case 34: { // '"'
-                                    escapeMode = 0;
-                                    R.add(new UTF8Char('"'));
-                                    break;
-                                }
-                                case 39: { // '\''
-                                    escapeMode = 0;
-                                    R.add(new UTF8Char('\''));
-                                    break;
-                                }
-                                case 48: // '0'
-                                case 49: // '1'
-                                case 50: // '2'
-                                case 51: // '3'
-                                case 52: // '4'
-                                case 53: // '5'
-                                case 54: // '6'
-                                case 55: { // '7'
-                                    escapeCodepoint = ORDINT - 48L;
-                                    escapeMode = 2;
-                                    break;
-                                }
-                                case 85: { // 'U'
-                                    escapeMode = 10;
-                                    escapeCodepoint = 0L;
-                                    break;
-                                }
-                                case 97: { // 'a'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.BEL);
-                                    break;
-                                }
-                                case 98: { // 'b'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.BS);
-                                    break;
-                                }
-                                case 101: { // 'e'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.ESC);
-                                    break;
-                                }
-                                case 102: { // 'f'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.FF);
-                                    break;
-                                }
-                                case 110: { // 'n'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.LF);
-                                    break;
-                                }
-                                case 114: { // 'r'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.CR);
-                                    break;
-                                }
-                                case 116: { // 't'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.HT);
-                                    break;
-                                }
-                                case 117: { // 'u'
-                                    escapeMode = 6;
-                                    escapeCodepoint = 0L;
-                                    break;
-                                }
-                                case 118: { // 'v'
-                                    escapeMode = 0;
-                                    R.add(UTF8Char.VT);
-                                    break;
-                                }
-                                case 120: { // 'x'
-                                    escapeMode = 4;
-                                    escapeCodepoint = 0L;
-                                    break;
-                                }
-                                default: {
-                                    escapeMode = 0;
-                                    R.add(new UTF8Char('\\'));
-                                    R.add(i);
-                                    break;
-                                }
-                            }
-                        }
-                        break;
-                    }
-                    case 2:
-                    case 3: {
-                        final long ORD = i.ord();
-                        if (48L <= ORD && ORD <= 55L) {
-                            escapeCodepoint *= 8L;
-                            escapeCodepoint += ORD - 48L;
-                            if (escapeMode == (byte)3) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            } else {
-                                escapeMode = 3;
-                            }
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char(escapeCodepoint));
-                        }
-                        break;
-                    }
-                    case 4: {
-                        final long ORD = i.ord();
-                        escapeMode = 5;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint = ORD - 48L;
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint = ORD - 55L;
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint = ORD - 87L;
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char('\\'));
-                            R.add(new UTF8Char('x'));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    case 5: {
-                        final long ORD = i.ord();
-                        escapeMode = 0;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint *= 8L;
-                            escapeCodepoint += ORD - 48L;
-                            R.add(new UTF8Char(escapeCodepoint));
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint *= 8L;
-                            escapeCodepoint += ORD - 55L;
-                            R.add(new UTF8Char(escapeCodepoint));
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint *= 8L;
-                            escapeCodepoint += ORD - 87L;
-                            R.add(new UTF8Char(escapeCodepoint));
-                        } else {
-                            R.add(new UTF8Char(escapeCodepoint));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    case 6: {
-                        final long ORD = i.ord();
-                        escapeMode = 7;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint = ORD - 48L;
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint = ORD - 55L;
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint = ORD - 87L;
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char('\\'));
-                            R.add(new UTF8Char('u'));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    case 7:
-                    case 8:
-                    case 9: {
-                        final long ORD = i.ord();
-                        escapeMode++;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 48L;
-                            if (escapeMode == (byte)10) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 55L;
-                            if (escapeMode == (byte)10) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 87L;
-                            if (escapeMode == (byte)10) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char(escapeCodepoint));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    case 10: {
-                        final long ORD = i.ord();
-                        escapeMode = 11;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint = ORD - 48L;
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint = ORD - 55L;
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint = ORD - 87L;
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char('\\'));
-                            R.add(new UTF8Char('U'));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    case 11:
-                    case 12:
-                    case 13:
-                    case 14:
-                    case 15:
-                    case 16:
-                    case 17: {
-                        final long ORD = i.ord();
-                        escapeMode++;
-                        if (48L <= ORD && ORD <= 57L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 48L;
-                            if (escapeMode == (byte)18) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else if (65L <= ORD && ORD <= 70L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 55L;
-                            if (escapeMode == (byte)18) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else if (97L <= ORD && ORD <= 102L) {
-                            escapeCodepoint *= 16L;
-                            escapeCodepoint += ORD - 87L;
-                            if (escapeMode == (byte)18) {
-                                escapeMode = 0;
-                                R.add(new UTF8Char(escapeCodepoint));
-                            }
-                        } else {
-                            escapeMode = 0;
-                            R.add(new UTF8Char(escapeCodepoint));
-                            R.add(i);
-                        }
-                        break;
-                    }
-                    default: assert false : "Unexpected escapeMode " +
-                                            Byte.toString(escapeMode);
-                }
-            }
-        }
-        switch (escapeMode) {
-            case 0: break;
-            case 1: {
-                R.add(new UTF8Char('\\'));
-                break;
-            }
-            case 4: {
-                R.add(new UTF8Char('\\'));
-                R.add(new UTF8Char('x'));
-                break;
-            }
-            case 6: {
-                R.add(new UTF8Char('\\'));
-                R.add(new UTF8Char('u'));
-                break;
-            }
-            case 10: {
-                R.add(new UTF8Char('\\'));
-                R.add(new UTF8Char('U'));
-                break;
-            }
-            case 2:
-            case 3:
-            case 5:
-            case 7:
-            case 8:
-            case 9:
-            case 11:
-            case 12:
-            case 13:
-            case 14:
-            case 15:
-            case 16:
-            case 17: {
-                R.add(new UTF8Char(escapeCodepoint));
-                break;
-            }
-            default: assert false : "Unexpected escapeMode " +
-                                    Byte.toString(escapeMode);
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence upper() {
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            if (TOUPPERS.containsKey(i)) {
-                for (UTF8Char j : TOUPPERS.get(i)) {
-                    R.add(j);
-                }
-            } else {
-                R.add(i);
-            }
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence lower() {
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            if (TOLOWERS.containsKey(i)) {
-                for (UTF8Char j : TOLOWERS.get(i)) {
-                    R.add(j);
-                }
-            } else {
-                R.add(i);
-            }
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence ljust(int width, UTF8Char fillchar) {
-        if (this.chars.length >= width) {
-            return this;
-        }
-        final UTF8Char[] R = new UTF8Char[width];
-        for (int i = 0; i < this.chars.length; i++) {
-            R[i] = this.charAt(i);
-        }
-        for (int i = this.chars.length; i < width; i++) {
-            R[i] = fillchar;
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence ljust(int width, UTF8Sequence fillchar)
-    throws IllegalArgumentException {
-        if (fillchar.chars.length != 1) {
-            throw new IllegalArgumentException(
-                "The fill character must be exactly one character long"
-            );
-        }
-        return this.ljust(width, fillchar.charAt(0));
-    }
-
-    public UTF8Sequence ljust(int width) {
-        return this.ljust(width, new UTF8Char(' '));
-    }
-
-    public UTF8Sequence rjust(int width, UTF8Char fillchar) {
-        if (this.chars.length >= width) {
-            return this;
-        }
-        final UTF8Char[] R = new UTF8Char[width];
-        final int FW = width - this.chars.length;
-        for (int i = 0; i < FW; i++) {
-            R[i] = fillchar;
-        }
-        for (int i = FW; i < width; i++) {
-            R[i] = this.charAt(i - FW);
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence rjust(int width, UTF8Sequence fillchar)
-    throws IllegalArgumentException {
-        if (fillchar.chars.length != 1) {
-            throw new IllegalArgumentException(
-                "The fill character must be exactly one character long"
-            );
-        }
-        return this.rjust(width, fillchar.charAt(0));
-    }
-
-    public UTF8Sequence rjust(int width) {
-        return this.rjust(width, new UTF8Char(' '));
-    }
-
-    public UTF8Sequence format(Object... objects)
-    throws IllegalArgumentException {
-        // TODO
-        return new UTF8Sequence();
-    }
-
-    public UTF8Sequence format(Iterable<Object> objects)
-    throws IllegalArgumentException {
-        // TODO
-        return new UTF8Sequence();
-    }
-
-    public UTF8Sequence
-    format(Iterable<Object> args, Map<UTF8Sequence, Object> kw)
-    throws IllegalArgumentException {
-        // TODO
-        return new UTF8Sequence();
-    }
-
-    public static UTF8Sequence format(UTF8Sequence self, Object... objects)
-    throws IllegalArgumentException {
-        return self.format(objects);
-    }
-
-    public int indexOf(UTF8Char sub, int fromIndex) {
-        for (int i = fromIndex; i < this.chars.length; i++) {
-            if (sub.equals(this.chars[i])) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    public int indexOf(UTF8Char sub) {
-        return this.indexOf(sub, 0);
-    }
-
-    public int indexOf(long sub, int fromIndex) {
-        return this.indexOf(new UTF8Char(sub), fromIndex);
-    }
-
-    public int indexOf(long sub) {
-        return this.indexOf(new UTF8Char(sub), 0);
-    }
-
-    public int indexOf(UTF8Sequence sub, int fromIndex) {
-        if (sub.isEmpty()) {
-            if (this.chars.length - fromIndex >= 0) {
-                return fromIndex;
-            }
-            return -1;
-        }
-        if (this.isEmpty()) {
-            return -1;
-        }
-        final int CW = this.chars.length - sub.chars.length;
-        for (int i = fromIndex; i <= CW; i++) {
-            if (sub.equals(this.subSequence(i, i + sub.chars.length))) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    public int indexOf(UTF8Sequence sub) {
-        return this.indexOf(sub, 0);
-    }
-
-    public boolean contains(UTF8Char sub) {
-        return this.indexOf(sub, 0) != -1;
-    }
-
-    public boolean contains(UTF8Sequence sub) {
-        return this.indexOf(sub, 0) != -1;
-    }
-
-    public int lastIndexOf(UTF8Char sub, int fromIndex) {
-        // TODO
-        return -1;
-    }
-
-    public int lastIndexOf(UTF8Char sub) {
-        return this.lastIndexOf(sub, 0);
-    }
-
-    public int lastIndexOf(long sub, int fromIndex) {
-        return this.lastIndexOf(new UTF8Char(sub), fromIndex);
-    }
-
-    public int lastIndexOf(long sub) {
-        return this.lastIndexOf(new UTF8Char(sub), 0);
-    }
-
-    public int lastIndexOf(UTF8Sequence sub, int fromIndex) {
-        // TODO
-        return -1;
-    }
-
-    public int lastIndexOf(UTF8Sequence sub) {
-        return this.lastIndexOf(sub, 0);
-    }
-
-    public int count(UTF8Char sub) {
-        int res = 0;
-        for (int i = 0; i < this.chars.length; i++) {
-            if (sub.equals(this.chars[i])) {
-                res++;
-            }
-        }
-        return res;
-    }
-
-    public int count(long sub) {
-        return this.count(new UTF8Char(sub));
-    }
-
-    public int count(UTF8Sequence sub, boolean allowOverlap) {
-        int res = 0;
-        final int CW = this.chars.length - sub.chars.length;
-        for (int i = 0; i <= CW;) {
-            if (sub.equals(this.subSequence(i, i + sub.chars.length))) {
-                res++;
-            }
-            if (allowOverlap || sub.chars.length == 0) {
-                i++;
-            } else {
-                i += sub.chars.length;
-            }
-        }
-        return res;
-    }
-
-    public int[] indicesOf(UTF8Char sub, int fromIndex) {
-        final List<Integer> R = new ArrayList<Integer>();
-        for (int i = fromIndex; i < this.chars.length; i++) {
-            if (sub.equals(this.chars[i])) {
-                R.add(Integer.valueOf(i));
-            }
-        }
-        final int[] RES = new int[R.size()];
-        for (int i = 0; i < RES.length; i++) {
-            RES[i] = R.get(i).intValue();
-        }
-        return RES;
-    }
-
-    public int[] indicesOf(UTF8Char sub) {
-        return this.indicesOf(sub, 0);
-    }
-
-    public int[] indicesOf(long sub, int fromIndex) {
-        return this.indicesOf(new UTF8Char(sub), fromIndex);
-    }
-
-    public int[] indicesOf(long sub) {
-        return this.indicesOf(new UTF8Char(sub), 0);
-    }
-
-    public int[]
-    indicesOf(UTF8Sequence sub, boolean allowOverlap, int fromIndex) {
-        if (sub.isEmpty()) {
-            if (this.chars.length - fromIndex >= 0) {
-                final int[] RES = new int[this.chars.length - fromIndex + 1];
-                for (int i = fromIndex; i <= this.chars.length; i++) {
-                    RES[i - fromIndex] = i;
-                }
-            }
-            return new int[0];
-        }
-        if (this.isEmpty()) {
-            return new int[0];
-        }
-        final int CW = this.chars.length - sub.chars.length;
-        final List<Integer> R = new ArrayList<Integer>();
-        for (int i = fromIndex; i <= CW;) {
-            if (sub.equals(this.subSequence(i, i + sub.chars.length))) {
-                R.add(Integer.valueOf(i));
-            }
-            if (allowOverlap || sub.chars.length == 0) {
-                i++;
-            } else {
-                i += sub.chars.length;
-            }
-        }
-        final int[] RES = new int[R.size()];
-        for (int i = 0; i < RES.length; i++) {
-            RES[i] = R.get(i).intValue();
-        }
-        return RES;
-    }
-
-    public int[]
-    indicesOf(UTF8Sequence sub, int fromIndex, boolean allowOverlap) {
-        return this.indicesOf(sub, allowOverlap, fromIndex);
-    }
-
-    public int[] indicesOf(UTF8Sequence sub, boolean allowOverlap) {
-        return this.indicesOf(sub, allowOverlap, 0);
-    }
-
-    public UTF8Sequence[] split(UTF8Sequence sep, int maxsplit)
-    throws IllegalArgumentException {
-        if (sep.isEmpty()) {
-            throw new IllegalArgumentException("empty separator");
-        }
-        final int[] INDICES = this.indicesOf(sep, false);
-        if (maxsplit >= 0 && INDICES.length > maxsplit) {
-            final UTF8Sequence[] RES = new UTF8Sequence[maxsplit + 1];
-            int startIndex = 0;
-            for (int i = 0; i < maxsplit; i++) {
-                RES[i] = this.subSequence(startIndex, INDICES[i]);
-                startIndex = INDICES[i] + sep.chars.length;
-            }
-            RES[maxsplit] = this.subSequence(startIndex);
-            return RES;
-        }
-        final UTF8Sequence[] RES = new UTF8Sequence[INDICES.length + 1];
-        int startIndex = 0;
-        for (int i = 0; i < INDICES.length; i++) {
-            RES[i] = this.subSequence(startIndex, INDICES[i]);
-            startIndex = INDICES[i] + sep.chars.length;
-        }
-        RES[maxsplit] = this.subSequence(startIndex);
-        return RES;
-    }
-
-    public UTF8Sequence[] split(UTF8Sequence sep)
-    throws IllegalArgumentException {
-        return this.split(sep, -1);
-    }
-
-    public UTF8Sequence[] split(UTF8Char sep, int maxsplit) {
-        final int[] INDICES = this.indicesOf(sep);
-        if (maxsplit >= 0 && INDICES.length > maxsplit) {
-            final UTF8Sequence[] RES = new UTF8Sequence[maxsplit + 1];
-            int startIndex = 0;
-            for (int i = 0; i < maxsplit; i++) {
-                RES[i] = this.subSequence(startIndex, INDICES[i]);
-                startIndex = INDICES[i] + 1;
-            }
-            RES[maxsplit] = this.subSequence(startIndex);
-            return RES;
-        }
-        final UTF8Sequence[] RES = new UTF8Sequence[INDICES.length + 1];
-        int startIndex = 0;
-        for (int i = 0; i < INDICES.length; i++) {
-            RES[i] = this.subSequence(startIndex, INDICES[i]);
-            startIndex = INDICES[i] + 1;
-        }
-        RES[INDICES.length] = this.subSequence(startIndex);
-        return RES;
-    }
-
-    public UTF8Sequence[] split(UTF8Char sep) {
-        return this.split(sep, -1);
-    }
-
-    public UTF8Sequence[] split(int maxsplit) {
-        final UTF8Sequence STRIPPED = this.strip();
-        final List<Integer> ALL_INDICES = new ArrayList<Integer>();
-        for (UTF8Char i : WHITESPACES) {
-            final int[] INDICES = STRIPPED.indicesOf(i);
-            for (int j = 0; j < INDICES.length; j++) {
-                ALL_INDICES.add(Integer.valueOf(INDICES[j]));
-            }
-        }
-        sort(ALL_INDICES);
-        if (maxsplit >= 0 && ALL_INDICES.size() > maxsplit) {
-            final UTF8Sequence[] RES = new UTF8Sequence[maxsplit + 1];
-            int startIndex = 0;
-            for (int i = 0; i < maxsplit; i++) {
-                RES[i] = STRIPPED.subSequence(startIndex, ALL_INDICES.get(i)
-                                                          .intValue());
-                startIndex = ALL_INDICES.get(i).intValue() + 1;
-            }
-            RES[maxsplit] = STRIPPED.subSequence(startIndex);
-            return RES;
-        }
-        final int SIZE = ALL_INDICES.size();
-        final UTF8Sequence[] RES = new UTF8Sequence[SIZE + 1];
-        int startIndex = 0;
-        for (int i = 0; i < SIZE; i++) {
-            RES[i] = STRIPPED
-                     .subSequence(startIndex, ALL_INDICES.get(i).intValue());
-            startIndex = ALL_INDICES.get(i).intValue() + 1;
-        }
-        RES[SIZE] = STRIPPED.subSequence(startIndex);
-        return RES;
-    }
-
-    public UTF8Sequence[] split() {
-        return this.split(-1);
-    }
-
-    public UTF8Sequence[] splitlines(boolean keepends) {
-        final Map<Integer, UTF8Sequence> ALL_INDICES =
-        new HashMap<Integer, UTF8Sequence>();
-        for (int i = 0; i < LINESEPS.length; i++) {
-            final int[] INDICES = this.indicesOf(LINESEPS[i], false);
-            for (int j = 0; i < INDICES.length; j++) {
-                ALL_INDICES.put(Integer.valueOf(INDICES[j]), LINESEPS[i]);
-            }
-        }
-        final int SIZE = ALL_INDICES.size();
-        final List<Integer> INDICES = new ArrayList<Integer>();
-        INDICES.addAll(ALL_INDICES.keySet());
-        sort(INDICES);
-        final boolean ENDSEP = INDICES.get(SIZE - 1).intValue() +
-                               ALL_INDICES.get(INDICES.get(SIZE - 1))
-                               .chars.length == this.chars.length;
-        final UTF8Sequence[] RES = new UTF8Sequence[SIZE + (ENDSEP ? 0 : 1)];
-        int startIndex = 0;
-        for (int i = 0; i < SIZE; i++) {
-            RES[i] = this.subSequence(
-                startIndex, INDICES.get(i).intValue() +
-                            (keepends ?
-                             ALL_INDICES.get(INDICES.get(i)).chars.length : 0)
-            );
-            startIndex = INDICES.get(i).intValue() +
-                         ALL_INDICES.get(INDICES.get(i)).chars.length;
-        }
-        if (!ENDSEP) {
-            RES[SIZE] = this.subSequence(startIndex);
-        }
-        return RES;
-    }
-
-    public UTF8Sequence[] splitlines() {
-        return this.splitlines(false);
-    }
-
-    public UTF8SequencePartition partition(UTF8Sequence sep) {
-        final UTF8Sequence[] E = this.split(sep, 1);
-        return (E.length == 2) ? new UTF8SequencePartition(E[0], sep, E[1]) :
-               new UTF8SequencePartition(this, new UTF8Sequence(),
-                                         new UTF8Sequence());
-    }
-
-    public UTF8SequencePartition partition(UTF8Char sep) {
-        final UTF8Sequence[] E = this.split(sep, 1);
-        return (E.length == 2) ?
-               new UTF8SequencePartition(E[0], new UTF8Sequence(sep), E[1]) :
-               new UTF8SequencePartition(this, new UTF8Sequence(),
-                                         new UTF8Sequence());
-    }
-
-    public UTF8Sequence lstrip(UTF8Sequence chars) {
-        if (chars == null) {
-            chars = WHITESPACES;
-        }
-        int stripIndex = 0;
-        while (stripIndex < this.chars.length) {
-            if (chars.indexOf(this.chars[stripIndex]) == -1) {
-                break;
-            }
-            stripIndex++;
-        }
-        return (stripIndex != 0) ? this.subSequence(stripIndex) : this;
-    }
-
-    public UTF8Sequence lstrip(UTF8Char chars) {
-        if (chars == null) {
-            return this.lstrip(WHITESPACES);
-        }
-        int stripIndex = 0;
-        while (stripIndex < this.chars.length) {
-            if (!(chars.equals(this.chars[stripIndex]))) {
-                break;
-            }
-            stripIndex++;
-        }
-        return (stripIndex != 0) ? this.subSequence(stripIndex) : this;
-    }
-
-    public UTF8Sequence lstrip() {
-        return this.lstrip(WHITESPACES);
-    }
-
-    public UTF8Sequence rstrip(UTF8Sequence chars) {
-        if (chars == null) {
-            chars = WHITESPACES;
-        }
-        int stripIndex = this.chars.length - 1;
-        while (stripIndex >= 0) {
-            if (chars.indexOf(this.chars[stripIndex]) == -1) {
-                break;
-            }
-            stripIndex--;
-        }
-        return (stripIndex != this.chars.length - 1) ?
-               this.subSequence(0, stripIndex + 1) : this;
-    }
-
-    public UTF8Sequence rstrip(UTF8Char chars) {
-        if (chars == null) {
-            return this.rstrip(WHITESPACES);
-        }
-        int stripIndex = this.chars.length - 1;
-        while (stripIndex >= 0) {
-            if (!(chars.equals(this.chars[stripIndex]))) {
-                break;
-            }
-            stripIndex--;
-        }
-        return (stripIndex != this.chars.length - 1) ?
-               this.subSequence(0, stripIndex + 1) : this;
-    }
-
-    public UTF8Sequence rstrip() {
-        return this.rstrip(WHITESPACES);
-    }
-
-    public UTF8Sequence strip(UTF8Sequence chars) {
-        if (chars == null) {
-            chars = WHITESPACES;
-        }
-        int stripIndexStart = 0;
-        while (stripIndexStart < this.chars.length) {
-            if (chars.indexOf(this.chars[stripIndexStart]) == -1) {
-                break;
-            }
-            stripIndexStart++;
-        }
-        int stripIndexEnd = this.chars.length - 1;
-        while (stripIndexEnd >= 0) {
-            if (chars.indexOf(this.chars[stripIndexEnd]) == -1) {
-                break;
-            }
-            stripIndexEnd--;
-            if (stripIndexStart >= stripIndexEnd) {
-                return new UTF8Sequence();
-            }
-        }
-        return (stripIndexStart != 0 || stripIndexEnd != this.chars.length - 1)
-               ? this.subSequence(stripIndexStart, stripIndexEnd + 1) : this;
-    }
-
-    public UTF8Sequence strip(UTF8Char chars) {
-        if (chars == null) {
-            return this.strip(WHITESPACES);
-        }
-        int stripIndexStart = 0;
-        while (stripIndexStart < this.chars.length) {
-            if ((chars.equals(this.chars[stripIndexStart]))) {
-                break;
-            }
-            stripIndexStart++;
-        }
-        int stripIndexEnd = this.chars.length - 1;
-        while (stripIndexEnd >= 0) {
-            if ((chars.equals(this.chars[stripIndexEnd]))) {
-                break;
-            }
-            stripIndexEnd--;
-            if (stripIndexStart >= stripIndexEnd) {
-                return new UTF8Sequence();
-            }
-        }
-        return (stripIndexStart != 0 || stripIndexEnd != this.chars.length - 1)
-               ? this.subSequence(stripIndexStart, stripIndexEnd + 1) : this;
-    }
-
-    public UTF8Sequence strip() {
-        return this.strip(WHITESPACES);
-    }
-
-    public UTF8Sequence trim() {
-        return this.strip(new UTF8Sequence(new long[]{
-            0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18,
-            19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32
-        }));
-    }
-
-    public boolean isupper() {
-        return this.equals(this.upper());
-    }
-
-    public boolean islower() {
-        return this.equals(this.lower());
-    }
-
-    public boolean isdecimal() {
-        return this.chars.length != 0 && this.strip(DECIMALS).chars.length ==0;
-    }
-
-    public boolean isdigit() {
-        return this.chars.length != 0 && this.strip(DIGITS).chars.length == 0;
-    }
-
-    public boolean isnumeric() {
-        return this.chars.length != 0 && this.strip(NUMERICS).chars.length ==0;
-    }
-
-    public UTF8Sequence
-    replace(UTF8Sequence old, UTF8Sequence new_, int count) {
-        if (count == 0 || old.equals(new_)) {
-            return this;
-        }
-        if (!(old.isEmpty())) {
-            return new_.join(this.split(old, count));
-        }
-        final List<UTF8Char> P = new ArrayList<UTF8Char>();
-        for (UTF8Char i : new_) {
-            P.add(i);
-        }
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            R.addAll(P);
-            R.add(i);
-            count--;
-            if (count <= 0) {
-                return new UTF8Sequence(R);
-            }
-        }
-        R.addAll(P);
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence replace(UTF8Sequence old, UTF8Sequence new_) {
-        return this.replace(old, new_, -1);
-    }
-
-    public UTF8Sequence replace(UTF8Sequence old, UTF8Char new_, int count) {
-        if (count == 0 || old.equals(new UTF8Sequence(new_))) {
-            return this;
-        }
-        if (!(old.isEmpty())) {
-            return join(new_, this.split(old, count));
-        }
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            R.add(new_);
-            R.add(i);
-            count--;
-            if (count <= 0) {
-                return new UTF8Sequence(R);
-            }
-        }
-        R.add(new_);
-        return new UTF8Sequence(R);
-    }
-
-    public UTF8Sequence replace(UTF8Sequence old, UTF8Char new_) {
-        return this.replace(old, new_, -1);
-    }
-
-    public UTF8Sequence replace(UTF8Char old, UTF8Sequence new_, int count) {
-        if (count == 0 || new UTF8Sequence(old).equals(new_)) {
-            return this;
-        }
-        return new_.join(this.split(old, count));
-    }
-
-    public UTF8Sequence replace(UTF8Char old, UTF8Sequence new_) {
-        return this.replace(old, new_, -1);
-    }
-
-    public UTF8Sequence replace(UTF8Char old, UTF8Char new_, int count) {
-        if (count == 0 || old.equals(new_)) {
-            return this;
-        }
-        return join(new_, this.split(old, count));
-    }
-
-    public UTF8Sequence replace(UTF8Char old, UTF8Char new_) {
-        return this.replace(old, new_, -1);
-    }
-
-    public boolean startswith(UTF8Sequence prefix, int start, int end) {
-        if (prefix.isEmpty()) {
-            return start <= -this.chars.length ||
-                   (start <= this.chars.length && start >= 0 && end >= 0 &&
-                    start <= end) ||
-                   (start <= this.chars.length && start >= 0 && end < 0 &&
-                    start <= end + this.chars.length) ||
-                   (start <= this.chars.length && start < 0 && end >= 0 &&
-                    start + this.chars.length <= end) ||
-                   (start <= this.chars.length && start < 0 && end < 0 &&
-                    start <= end);
-        }
-        if (start < 0) {
-            start += this.chars.length;
-            if (start < 0) {
-                start = 0;
-            }
-        } else if (start > this.chars.length) {
-            start = this.chars.length;
-        }
-        if (end < 0) {
-            end += this.chars.length;
-            if (end < 0) {
-                end = 0;
-            }
-        } else if (end > this.chars.length) {
-            end = this.chars.length;
-        }
-        return end - start < prefix.chars.length &&
-               this.subSequence(start, start + prefix.chars.length)
-               .equals(prefix);
-    }
-
-    public boolean startswith(UTF8Sequence prefix, int start) {
-        return this.startswith(prefix, start, this.chars.length);
-    }
-
-    public boolean startswith(UTF8Sequence prefix) {
-        return this.startswith(prefix, 0, this.chars.length);
-    }
-
-    public boolean startsWith(UTF8Sequence prefix, int toffset) {
-        if (toffset < 0) {
-            return false;
-        }
-        if (toffset > 0) {
-            return this.subSequence(toffset).startsWith(prefix, 0);
-        }
-        if (prefix.chars.length > this.chars.length) {
-            return false;
-        }
-        return this.subSequence(0, prefix.chars.length).equals(prefix);
-    }
-
-    public boolean startsWith(UTF8Sequence prefix) {
-        return this.startsWith(prefix, 0);
-    }
-
-    public UTF8Sequence regularAll() {
-        final List<UTF8Char> R = new ArrayList<UTF8Char>();
-        for (UTF8Char i : this) {
-            R.add(new UTF8Char(i.ord()));
-        }
-        return new UTF8Sequence(R);
-    }
-
-    public boolean equalsWithRegular(UTF8Sequence o) {
-        if (this.chars.length != o.chars.length) {
-            return false;
-        }
-        for (int i = 0; i < this.chars.length; i++) {
-            if (this.chars[i].ord() != o.chars[i].ord() ||
-                this.chars[i].getByteLength() != o.chars[i].getByteLength()) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static void registerPairs(UTF8Char upper, UTF8Char lower) {
-        TOLOWERS.put(upper, new UTF8Sequence(lower));
-        TOUPPERS.put(lower, new UTF8Sequence(upper));
-    }
-
-    private static void registerPairs(char upper, char lower) {
-        TOLOWERS.put(new UTF8Char(upper), new UTF8Sequence(lower));
-        TOUPPERS.put(new UTF8Char(lower), new UTF8Sequence(upper));
-    }
-
-    static {
-        LINESEPS = new UTF8Sequence[]{
-            new UTF8Sequence(UTF8Char.VT),
-            new UTF8Sequence(UTF8Char.LF),
-            new UTF8Sequence(UTF8Char.CR),
-            new UTF8Sequence(new UTF8Char[]{UTF8Char.CR, UTF8Char.LF})
-        };
-        WHITESPACES = new UTF8Sequence(new UTF8Char[]{
-            UTF8Char.HT, UTF8Char.VT, UTF8Char.LF, UTF8Char.CR,
-            new UTF8Char(' '), UTF8Char.NBSP, UTF8Char.IDSP
-        });
-        DECIMALS = new UTF8Sequence(new long[]{
-            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 1632, 1633, 1634, 1635,
-            1636, 1637, 1638, 1639, 1640, 1641, 1776, 1777, 1778, 1779, 1780,
-            1781, 1782, 1783, 1784, 1785, 1984, 1985, 1986, 1987, 1988, 1989,
-            1990, 1991, 1992, 1993, 2406, 2407, 2408, 2409, 2410, 2411, 2412,
-            2413, 2414, 2415, 2534, 2535, 2536, 2537, 2538, 2539, 2540, 2541,
-            2542, 2543, 2662, 2663, 2664, 2665, 2666, 2667, 2668, 2669, 2670,
-            2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797, 2798, 2799,
-            2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926, 2927, 3046,
-            3047, 3048, 3049, 3050, 3051, 3052, 3053, 3054, 3055, 3174, 3175,
-            3176, 3177, 3178, 3179, 3180, 3181, 3182, 3183, 3302, 3303, 3304,
-            3305, 3306, 3307, 3308, 3309, 3310, 3311, 3430, 3431, 3432, 3433,
-            3434, 3435, 3436, 3437, 3438, 3439, 3558, 3559, 3560, 3561, 3562,
-            3563, 3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667, 3668, 3669,
-            3670, 3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796, 3797, 3798,
-            3799, 3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877, 3878, 3879,
-            3880, 3881, 4160, 4161, 4162, 4163, 4164, 4165, 4166, 4167, 4168,
-            4169, 4240, 4241, 4242, 4243, 4244, 4245, 4246, 4247, 4248, 4249,
-            6112, 6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6160,
-            6161, 6162, 6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471,
-            6472, 6473, 6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610,
-            6611, 6612, 6613, 6614, 6615, 6616, 6617, 6784, 6785, 6786, 6787,
-            6788, 6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803, 6804,
-            6805, 6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996, 6997,
-            6998, 6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093, 7094,
-            7095, 7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238, 7239,
-            7240, 7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255, 7256,
-            7257, 42528, 42529, 42530, 42531, 42532, 42533, 42534, 42535,
-            42536, 42537, 43216, 43217, 43218, 43219, 43220, 43221, 43222,
-            43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268, 43269,
-            43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475, 43476,
-            43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506, 43507,
-            43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601, 43602,
-            43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016, 44017,
-            44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025, 65296,
-            65297, 65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305,
-            66720, 66721, 66722, 66723, 66724, 66725, 66726, 66727, 66728,
-            66729, 68912, 68913, 68914, 68915, 68916, 68917, 68918, 68919,
-            68920, 68921, 69734, 69735, 69736, 69737, 69738, 69739, 69740,
-            69741, 69742, 69743, 69872, 69873, 69874, 69875, 69876, 69877,
-            69878, 69879, 69880, 69881, 69942, 69943, 69944, 69945, 69946,
-            69947, 69948, 69949, 69950, 69951, 70096, 70097, 70098, 70099,
-            70100, 70101, 70102, 70103, 70104, 70105, 70384, 70385, 70386,
-            70387, 70388, 70389, 70390, 70391, 70392, 70393, 70736, 70737,
-            70738, 70739, 70740, 70741, 70742, 70743, 70744, 70745, 70864,
-            70865, 70866, 70867, 70868, 70869, 70870, 70871, 70872, 70873,
-            71248, 71249, 71250, 71251, 71252, 71253, 71254, 71255, 71256,
-            71257, 71360, 71361, 71362, 71363, 71364, 71365, 71366, 71367,
-            71368, 71369, 71472, 71473, 71474, 71475, 71476, 71477, 71478,
-            71479, 71480, 71481, 71904, 71905, 71906, 71907, 71908, 71909,
-            71910, 71911, 71912, 71913, 72016, 72017, 72018, 72019, 72020,
-            72021, 72022, 72023, 72024, 72025, 72784, 72785, 72786, 72787,
-            72788, 72789, 72790, 72791, 72792, 72793, 73040, 73041, 73042,
-            73043, 73044, 73045, 73046, 73047, 73048, 73049, 73120, 73121,
-            73122, 73123, 73124, 73125, 73126, 73127, 73128, 73129, 73552,
-            73553, 73554, 73555, 73556, 73557, 73558, 73559, 73560, 73561,
-            92768, 92769, 92770, 92771, 92772, 92773, 92774, 92775, 92776,
-            92777, 92864, 92865, 92866, 92867, 92868, 92869, 92870, 92871,
-            92872, 92873, 93008, 93009, 93010, 93011, 93012, 93013, 93014,
-            93015, 93016, 93017, 120782, 120783, 120784, 120785, 120786,
-            120787, 120788, 120789, 120790, 120791, 120792, 120793, 120794,
-            120795, 120796, 120797, 120798, 120799, 120800, 120801, 120802,
-            120803, 120804, 120805, 120806, 120807, 120808, 120809, 120810,
-            120811, 120812, 120813, 120814, 120815, 120816, 120817, 120818,
-            120819, 120820, 120821, 120822, 120823, 120824, 120825, 120826,
-            120827, 120828, 120829, 120830, 120831, 123200, 123201, 123202,
-            123203, 123204, 123205, 123206, 123207, 123208, 123209, 123632,
-            123633, 123634, 123635, 123636, 123637, 123638, 123639, 123640,
-            123641, 124144, 124145, 124146, 124147, 124148, 124149, 124150,
-            124151, 124152, 124153, 125264, 125265, 125266, 125267, 125268,
-            125269, 125270, 125271, 125272, 125273, 130032, 130033, 130034,
-            130035, 130036, 130037, 130038, 130039, 130040, 130041
-        });
-        DIGITS = new UTF8Sequence(new long[]{
-            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 178, 179, 185, 1632, 1633,
-            1634, 1635, 1636, 1637, 1638, 1639, 1640, 1641, 1776, 1777, 1778,
-            1779, 1780, 1781, 1782, 1783, 1784, 1785, 1984, 1985, 1986, 1987,
-            1988, 1989, 1990, 1991, 1992, 1993, 2406, 2407, 2408, 2409, 2410,
-            2411, 2412, 2413, 2414, 2415, 2534, 2535, 2536, 2537, 2538, 2539,
-            2540, 2541, 2542, 2543, 2662, 2663, 2664, 2665, 2666, 2667, 2668,
-            2669, 2670, 2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797,
-            2798, 2799, 2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926,
-            2927, 3046, 3047, 3048, 3049, 3050, 3051, 3052, 3053, 3054, 3055,
-            3174, 3175, 3176, 3177, 3178, 3179, 3180, 3181, 3182, 3183, 3302,
-            3303, 3304, 3305, 3306, 3307, 3308, 3309, 3310, 3311, 3430, 3431,
-            3432, 3433, 3434, 3435, 3436, 3437, 3438, 3439, 3558, 3559, 3560,
-            3561, 3562, 3563, 3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667,
-            3668, 3669, 3670, 3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796,
-            3797, 3798, 3799, 3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877,
-            3878, 3879, 3880, 3881, 4160, 4161, 4162, 4163, 4164, 4165, 4166,
-            4167, 4168, 4169, 4240, 4241, 4242, 4243, 4244, 4245, 4246, 4247,
-            4248, 4249, 4969, 4970, 4971, 4972, 4973, 4974, 4975, 4976, 4977,
-            6112, 6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6160,
-            6161, 6162, 6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471,
-            6472, 6473, 6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610,
-            6611, 6612, 6613, 6614, 6615, 6616, 6617, 6618, 6784, 6785, 6786,
-            6787, 6788, 6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803,
-            6804, 6805, 6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996,
-            6997, 6998, 6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093,
-            7094, 7095, 7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238,
-            7239, 7240, 7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255,
-            7256, 7257, 8304, 8308, 8309, 8310, 8311, 8312, 8313, 8320, 8321,
-            8322, 8323, 8324, 8325, 8326, 8327, 8328, 8329, 9312, 9313, 9314,
-            9315, 9316, 9317, 9318, 9319, 9320, 9332, 9333, 9334, 9335, 9336,
-            9337, 9338, 9339, 9340, 9352, 9353, 9354, 9355, 9356, 9357, 9358,
-            9359, 9360, 9450, 9461, 9462, 9463, 9464, 9465, 9466, 9467, 9468,
-            9469, 9471, 10102, 10103, 10104, 10105, 10106, 10107, 10108, 10109,
-            10110, 10112, 10113, 10114, 10115, 10116, 10117, 10118, 10119,
-            10120, 10122, 10123, 10124, 10125, 10126, 10127, 10128, 10129,
-            10130, 42528, 42529, 42530, 42531, 42532, 42533, 42534, 42535,
-            42536, 42537, 43216, 43217, 43218, 43219, 43220, 43221, 43222,
-            43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268, 43269,
-            43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475, 43476,
-            43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506, 43507,
-            43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601, 43602,
-            43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016, 44017,
-            44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025, 65296,
-            65297, 65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305,
-            66720, 66721, 66722, 66723, 66724, 66725, 66726, 66727, 66728,
-            66729, 68160, 68161, 68162, 68163, 68912, 68913, 68914, 68915,
-            68916, 68917, 68918, 68919, 68920, 68921, 69216, 69217, 69218,
-            69219, 69220, 69221, 69222, 69223, 69224, 69714, 69715, 69716,
-            69717, 69718, 69719, 69720, 69721, 69722, 69734, 69735, 69736,
-            69737, 69738, 69739, 69740, 69741, 69742, 69743, 69872, 69873,
-            69874, 69875, 69876, 69877, 69878, 69879, 69880, 69881, 69942,
-            69943, 69944, 69945, 69946, 69947, 69948, 69949, 69950, 69951,
-            70096, 70097, 70098, 70099, 70100, 70101, 70102, 70103, 70104,
-            70105, 70384, 70385, 70386, 70387, 70388, 70389, 70390, 70391,
-            70392, 70393, 70736, 70737, 70738, 70739, 70740, 70741, 70742,
-            70743, 70744, 70745, 70864, 70865, 70866, 70867, 70868, 70869,
-            70870, 70871, 70872, 70873, 71248, 71249, 71250, 71251, 71252,
-            71253, 71254, 71255, 71256, 71257, 71360, 71361, 71362, 71363,
-            71364, 71365, 71366, 71367, 71368, 71369, 71472, 71473, 71474,
-            71475, 71476, 71477, 71478, 71479, 71480, 71481, 71904, 71905,
-            71906, 71907, 71908, 71909, 71910, 71911, 71912, 71913, 72016,
-            72017, 72018, 72019, 72020, 72021, 72022, 72023, 72024, 72025,
-            72784, 72785, 72786, 72787, 72788, 72789, 72790, 72791, 72792,
-            72793, 73040, 73041, 73042, 73043, 73044, 73045, 73046, 73047,
-            73048, 73049, 73120, 73121, 73122, 73123, 73124, 73125, 73126,
-            73127, 73128, 73129, 73552, 73553, 73554, 73555, 73556, 73557,
-            73558, 73559, 73560, 73561, 92768, 92769, 92770, 92771, 92772,
-            92773, 92774, 92775, 92776, 92777, 92864, 92865, 92866, 92867,
-            92868, 92869, 92870, 92871, 92872, 92873, 93008, 93009, 93010,
-            93011, 93012, 93013, 93014, 93015, 93016, 93017, 120782, 120783,
-            120784, 120785, 120786, 120787, 120788, 120789, 120790, 120791,
-            120792, 120793, 120794, 120795, 120796, 120797, 120798, 120799,
-            120800, 120801, 120802, 120803, 120804, 120805, 120806, 120807,
-            120808, 120809, 120810, 120811, 120812, 120813, 120814, 120815,
-            120816, 120817, 120818, 120819, 120820, 120821, 120822, 120823,
-            120824, 120825, 120826, 120827, 120828, 120829, 120830, 120831,
-            123200, 123201, 123202, 123203, 123204, 123205, 123206, 123207,
-            123208, 123209, 123632, 123633, 123634, 123635, 123636, 123637,
-            123638, 123639, 123640, 123641, 124144, 124145, 124146, 124147,
-            124148, 124149, 124150, 124151, 124152, 124153, 125264, 125265,
-            125266, 125267, 125268, 125269, 125270, 125271, 125272, 125273,
-            127232, 127233, 127234, 127235, 127236, 127237, 127238, 127239,
-            127240, 127241, 127242, 130032, 130033, 130034, 130035, 130036,
-            130037, 130038, 130039, 130040, 130041
-        });
-        NUMERICS = new UTF8Sequence(new long[]{
-            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 178, 179, 185, 188, 189,
-            190, 1632, 1633, 1634, 1635, 1636, 1637, 1638, 1639, 1640, 1641,
-            1776, 1777, 1778, 1779, 1780, 1781, 1782, 1783, 1784, 1785, 1984,
-            1985, 1986, 1987, 1988, 1989, 1990, 1991, 1992, 1993, 2406, 2407,
-            2408, 2409, 2410, 2411, 2412, 2413, 2414, 2415, 2534, 2535, 2536,
-            2537, 2538, 2539, 2540, 2541, 2542, 2543, 2548, 2549, 2550, 2551,
-            2552, 2553, 2662, 2663, 2664, 2665, 2666, 2667, 2668, 2669, 2670,
-            2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797, 2798, 2799,
-            2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926, 2927, 2930,
-            2931, 2932, 2933, 2934, 2935, 3046, 3047, 3048, 3049, 3050, 3051,
-            3052, 3053, 3054, 3055, 3056, 3057, 3058, 3174, 3175, 3176, 3177,
-            3178, 3179, 3180, 3181, 3182, 3183, 3192, 3193, 3194, 3195, 3196,
-            3197, 3198, 3302, 3303, 3304, 3305, 3306, 3307, 3308, 3309, 3310,
-            3311, 3416, 3417, 3418, 3419, 3420, 3421, 3422, 3430, 3431, 3432,
-            3433, 3434, 3435, 3436, 3437, 3438, 3439, 3440, 3441, 3442, 3443,
-            3444, 3445, 3446, 3447, 3448, 3558, 3559, 3560, 3561, 3562, 3563,
-            3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667, 3668, 3669, 3670,
-            3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796, 3797, 3798, 3799,
-            3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877, 3878, 3879, 3880,
-            3881, 3882, 3883, 3884, 3885, 3886, 3887, 3888, 3889, 3890, 3891,
-            4160, 4161, 4162, 4163, 4164, 4165, 4166, 4167, 4168, 4169, 4240,
-            4241, 4242, 4243, 4244, 4245, 4246, 4247, 4248, 4249, 4969, 4970,
-            4971, 4972, 4973, 4974, 4975, 4976, 4977, 4978, 4979, 4980, 4981,
-            4982, 4983, 4984, 4985, 4986, 4987, 4988, 5870, 5871, 5872, 6112,
-            6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6128, 6129,
-            6130, 6131, 6132, 6133, 6134, 6135, 6136, 6137, 6160, 6161, 6162,
-            6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471, 6472, 6473,
-            6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610, 6611, 6612,
-            6613, 6614, 6615, 6616, 6617, 6618, 6784, 6785, 6786, 6787, 6788,
-            6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803, 6804, 6805,
-            6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996, 6997, 6998,
-            6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093, 7094, 7095,
-            7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238, 7239, 7240,
-            7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255, 7256, 7257,
-            8304, 8308, 8309, 8310, 8311, 8312, 8313, 8320, 8321, 8322, 8323,
-            8324, 8325, 8326, 8327, 8328, 8329, 8528, 8529, 8530, 8531, 8532,
-            8533, 8534, 8535, 8536, 8537, 8538, 8539, 8540, 8541, 8542, 8543,
-            8544, 8545, 8546, 8547, 8548, 8549, 8550, 8551, 8552, 8553, 8554,
-            8555, 8556, 8557, 8558, 8559, 8560, 8561, 8562, 8563, 8564, 8565,
-            8566, 8567, 8568, 8569, 8570, 8571, 8572, 8573, 8574, 8575, 8576,
-            8577, 8578, 8581, 8582, 8583, 8584, 8585, 9312, 9313, 9314, 9315,
-            9316, 9317, 9318, 9319, 9320, 9321, 9322, 9323, 9324, 9325, 9326,
-            9327, 9328, 9329, 9330, 9331, 9332, 9333, 9334, 9335, 9336, 9337,
-            9338, 9339, 9340, 9341, 9342, 9343, 9344, 9345, 9346, 9347, 9348,
-            9349, 9350, 9351, 9352, 9353, 9354, 9355, 9356, 9357, 9358, 9359,
-            9360, 9361, 9362, 9363, 9364, 9365, 9366, 9367, 9368, 9369, 9370,
-            9371, 9450, 9451, 9452, 9453, 9454, 9455, 9456, 9457, 9458, 9459,
-            9460, 9461, 9462, 9463, 9464, 9465, 9466, 9467, 9468, 9469, 9470,
-            9471, 10102, 10103, 10104, 10105, 10106, 10107, 10108, 10109,
-            10110, 10111, 10112, 10113, 10114, 10115, 10116, 10117, 10118,
-            10119, 10120, 10121, 10122, 10123, 10124, 10125, 10126, 10127,
-            10128, 10129, 10130, 10131, 11517, 12295, 12321, 12322, 12323,
-            12324, 12325, 12326, 12327, 12328, 12329, 12344, 12345, 12346,
-            12690, 12691, 12692, 12693, 12832, 12833, 12834, 12835, 12836,
-            12837, 12838, 12839, 12840, 12841, 12872, 12873, 12874, 12875,
-            12876, 12877, 12878, 12879, 12881, 12882, 12883, 12884, 12885,
-            12886, 12887, 12888, 12889, 12890, 12891, 12892, 12893, 12894,
-            12895, 12928, 12929, 12930, 12931, 12932, 12933, 12934, 12935,
-            12936, 12937, 12977, 12978, 12979, 12980, 12981, 12982, 12983,
-            12984, 12985, 12986, 12987, 12988, 12989, 12990, 12991, 13317,
-            13443, 14378, 15181, 19968, 19971, 19975, 19977, 20004, 20061,
-            20108, 20116, 20118, 20140, 20159, 20160, 20191, 20200, 20237,
-            20336, 20457, 20486, 20740, 20806, 20841, 20843, 20845, 21313,
-            21315, 21316, 21317, 21324, 21441, 21442, 21443, 21444, 22235,
-            22769, 22777, 24186, 24318, 24319, 24332, 24333, 24334, 24336,
-            25296, 25342, 25420, 26578, 27934, 28422, 29590, 30334, 30357,
-            31213, 32902, 33836, 36014, 36019, 36144, 37390, 38057, 38433,
-            38470, 38476, 38520, 38646, 42528, 42529, 42530, 42531, 42532,
-            42533, 42534, 42535, 42536, 42537, 42726, 42727, 42728, 42729,
-            42730, 42731, 42732, 42733, 42734, 42735, 43056, 43057, 43058,
-            43059, 43060, 43061, 43216, 43217, 43218, 43219, 43220, 43221,
-            43222, 43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268,
-            43269, 43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475,
-            43476, 43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506,
-            43507, 43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601,
-            43602, 43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016,
-            44017, 44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025,
-            63851, 63859, 63864, 63922, 63953, 63955, 63997, 65296, 65297,
-            65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305, 65799,
-            65800, 65801, 65802, 65803, 65804, 65805, 65806, 65807, 65808,
-            65809, 65810, 65811, 65812, 65813, 65814, 65815, 65816, 65817,
-            65818, 65819, 65820, 65821, 65822, 65823, 65824, 65825, 65826,
-            65827, 65828, 65829, 65830, 65831, 65832, 65833, 65834, 65835,
-            65836, 65837, 65838, 65839, 65840, 65841, 65842, 65843, 65856,
-            65857, 65858, 65859, 65860, 65861, 65862, 65863, 65864, 65865,
-            65866, 65867, 65868, 65869, 65870, 65871, 65872, 65873, 65874,
-            65875, 65876, 65877, 65878, 65879, 65880, 65881, 65882, 65883,
-            65884, 65885, 65886, 65887, 65888, 65889, 65890, 65891, 65892,
-            65893, 65894, 65895, 65896, 65897, 65898, 65899, 65900, 65901,
-            65902, 65903, 65904, 65905, 65906, 65907, 65908, 65909, 65910,
-            65911, 65912, 65930, 65931, 66273, 66274, 66275, 66276, 66277,
-            66278, 66279, 66280, 66281, 66282, 66283, 66284, 66285, 66286,
-            66287, 66288, 66289, 66290, 66291, 66292, 66293, 66294, 66295,
-            66296, 66297, 66298, 66299, 66336, 66337, 66338, 66339, 66369,
-            66378, 66513, 66514, 66515, 66516, 66517, 66720, 66721, 66722,
-            66723, 66724, 66725, 66726, 66727, 66728, 66729, 67672, 67673,
-            67674, 67675, 67676, 67677, 67678, 67679, 67705, 67706, 67707,
-            67708, 67709, 67710, 67711, 67751, 67752, 67753, 67754, 67755,
-            67756, 67757, 67758, 67759, 67835, 67836, 67837, 67838, 67839,
-            67862, 67863, 67864, 67865, 67866, 67867, 68028, 68029, 68032,
-            68033, 68034, 68035, 68036, 68037, 68038, 68039, 68040, 68041,
-            68042, 68043, 68044, 68045, 68046, 68047, 68050, 68051, 68052,
-            68053, 68054, 68055, 68056, 68057, 68058, 68059, 68060, 68061,
-            68062, 68063, 68064, 68065, 68066, 68067, 68068, 68069, 68070,
-            68071, 68072, 68073, 68074, 68075, 68076, 68077, 68078, 68079,
-            68080, 68081, 68082, 68083, 68084, 68085, 68086, 68087, 68088,
-            68089, 68090, 68091, 68092, 68093, 68094, 68095, 68160, 68161,
-            68162, 68163, 68164, 68165, 68166, 68167, 68168, 68221, 68222,
-            68253, 68254, 68255, 68331, 68332, 68333, 68334, 68335, 68440,
-            68441, 68442, 68443, 68444, 68445, 68446, 68447, 68472, 68473,
-            68474, 68475, 68476, 68477, 68478, 68479, 68521, 68522, 68523,
-            68524, 68525, 68526, 68527, 68858, 68859, 68860, 68861, 68862,
-            68863, 68912, 68913, 68914, 68915, 68916, 68917, 68918, 68919,
-            68920, 68921, 69216, 69217, 69218, 69219, 69220, 69221, 69222,
-            69223, 69224, 69225, 69226, 69227, 69228, 69229, 69230, 69231,
-            69232, 69233, 69234, 69235, 69236, 69237, 69238, 69239, 69240,
-            69241, 69242, 69243, 69244, 69245, 69246, 69405, 69406, 69407,
-            69408, 69409, 69410, 69411, 69412, 69413, 69414, 69457, 69458,
-            69459, 69460, 69573, 69574, 69575, 69576, 69577, 69578, 69579,
-            69714, 69715, 69716, 69717, 69718, 69719, 69720, 69721, 69722,
-            69723, 69724, 69725, 69726, 69727, 69728, 69729, 69730, 69731,
-            69732, 69733, 69734, 69735, 69736, 69737, 69738, 69739, 69740,
-            69741, 69742, 69743, 69872, 69873, 69874, 69875, 69876, 69877,
-            69878, 69879, 69880, 69881, 69942, 69943, 69944, 69945, 69946,
-            69947, 69948, 69949, 69950, 69951, 70096, 70097, 70098, 70099,
-            70100, 70101, 70102, 70103, 70104, 70105, 70113, 70114, 70115,
-            70116, 70117, 70118, 70119, 70120, 70121, 70122, 70123, 70124,
-            70125, 70126, 70127, 70128, 70129, 70130, 70131, 70132, 70384,
-            70385, 70386, 70387, 70388, 70389, 70390, 70391, 70392, 70393,
-            70736, 70737, 70738, 70739, 70740, 70741, 70742, 70743, 70744,
-            70745, 70864, 70865, 70866, 70867, 70868, 70869, 70870, 70871,
-            70872, 70873, 71248, 71249, 71250, 71251, 71252, 71253, 71254,
-            71255, 71256, 71257, 71360, 71361, 71362, 71363, 71364, 71365,
-            71366, 71367, 71368, 71369, 71472, 71473, 71474, 71475, 71476,
-            71477, 71478, 71479, 71480, 71481, 71482, 71483, 71904, 71905,
-            71906, 71907, 71908, 71909, 71910, 71911, 71912, 71913, 71914,
-            71915, 71916, 71917, 71918, 71919, 71920, 71921, 71922, 72016,
-            72017, 72018, 72019, 72020, 72021, 72022, 72023, 72024, 72025,
-            72784, 72785, 72786, 72787, 72788, 72789, 72790, 72791, 72792,
-            72793, 72794, 72795, 72796, 72797, 72798, 72799, 72800, 72801,
-            72802, 72803, 72804, 72805, 72806, 72807, 72808, 72809, 72810,
-            72811, 72812, 73040, 73041, 73042, 73043, 73044, 73045, 73046,
-            73047, 73048, 73049, 73120, 73121, 73122, 73123, 73124, 73125,
-            73126, 73127, 73128, 73129, 73552, 73553, 73554, 73555, 73556,
-            73557, 73558, 73559, 73560, 73561, 73664, 73665, 73666, 73667,
-            73668, 73669, 73670, 73671, 73672, 73673, 73674, 73675, 73676,
-            73677, 73678, 73679, 73680, 73681, 73682, 73683, 73684, 74752,
-            74753, 74754, 74755, 74756, 74757, 74758, 74759, 74760, 74761,
-            74762, 74763, 74764, 74765, 74766, 74767, 74768, 74769, 74770,
-            74771, 74772, 74773, 74774, 74775, 74776, 74777, 74778, 74779,
-            74780, 74781, 74782, 74783, 74784, 74785, 74786, 74787, 74788,
-            74789, 74790, 74791, 74792, 74793, 74794, 74795, 74796, 74797,
-            74798, 74799, 74800, 74801, 74802, 74803, 74804, 74805, 74806,
-            74807, 74808, 74809, 74810, 74811, 74812, 74813, 74814, 74815,
-            74816, 74817, 74818, 74819, 74820, 74821, 74822, 74823, 74824,
-            74825, 74826, 74827, 74828, 74829, 74830, 74831, 74832, 74833,
-            74834, 74835, 74836, 74837, 74838, 74839, 74840, 74841, 74842,
-            74843, 74844, 74845, 74846, 74847, 74848, 74849, 74850, 74851,
-            74852, 74853, 74854, 74855, 74856, 74857, 74858, 74859, 74860,
-            74861, 74862, 92768, 92769, 92770, 92771, 92772, 92773, 92774,
-            92775, 92776, 92777, 92864, 92865, 92866, 92867, 92868, 92869,
-            92870, 92871, 92872, 92873, 93008, 93009, 93010, 93011, 93012,
-            93013, 93014, 93015, 93016, 93017, 93019, 93020, 93021, 93022,
-            93023, 93024, 93025, 93824, 93825, 93826, 93827, 93828, 93829,
-            93830, 93831, 93832, 93833, 93834, 93835, 93836, 93837, 93838,
-            93839, 93840, 93841, 93842, 93843, 93844, 93845, 93846, 119488,
-            119489, 119490, 119491, 119492, 119493, 119494, 119495, 119496,
-            119497, 119498, 119499, 119500, 119501, 119502, 119503, 119504,
-            119505, 119506, 119507, 119520, 119521, 119522, 119523, 119524,
-            119525, 119526, 119527, 119528, 119529, 119530, 119531, 119532,
-            119533, 119534, 119535, 119536, 119537, 119538, 119539, 119648,
-            119649, 119650, 119651, 119652, 119653, 119654, 119655, 119656,
-            119657, 119658, 119659, 119660, 119661, 119662, 119663, 119664,
-            119665, 119666, 119667, 119668, 119669, 119670, 119671, 119672,
-            120782, 120783, 120784, 120785, 120786, 120787, 120788, 120789,
-            120790, 120791, 120792, 120793, 120794, 120795, 120796, 120797,
-            120798, 120799, 120800, 120801, 120802, 120803, 120804, 120805,
-            120806, 120807, 120808, 120809, 120810, 120811, 120812, 120813,
-            120814, 120815, 120816, 120817, 120818, 120819, 120820, 120821,
-            120822, 120823, 120824, 120825, 120826, 120827, 120828, 120829,
-            120830, 120831, 123200, 123201, 123202, 123203, 123204, 123205,
-            123206, 123207, 123208, 123209, 123632, 123633, 123634, 123635,
-            123636, 123637, 123638, 123639, 123640, 123641, 124144, 124145,
-            124146, 124147, 124148, 124149, 124150, 124151, 124152, 124153,
-            125127, 125128, 125129, 125130, 125131, 125132, 125133, 125134,
-            125135, 125264, 125265, 125266, 125267, 125268, 125269, 125270,
-            125271, 125272, 125273, 126065, 126066, 126067, 126068, 126069,
-            126070, 126071, 126072, 126073, 126074, 126075, 126076, 126077,
-            126078, 126079, 126080, 126081, 126082, 126083, 126084, 126085,
-            126086, 126087, 126088, 126089, 126090, 126091, 126092, 126093,
-            126094, 126095, 126096, 126097, 126098, 126099, 126100, 126101,
-            126102, 126103, 126104, 126105, 126106, 126107, 126108, 126109,
-            126110, 126111, 126112, 126113, 126114, 126115, 126116, 126117,
-            126118, 126119, 126120, 126121, 126122, 126123, 126125, 126126,
-            126127, 126129, 126130, 126131, 126132, 126209, 126210, 126211,
-            126212, 126213, 126214, 126215, 126216, 126217, 126218, 126219,
-            126220, 126221, 126222, 126223, 126224, 126225, 126226, 126227,
-            126228, 126229, 126230, 126231, 126232, 126233, 126234, 126235,
-            126236, 126237, 126238, 126239, 126240, 126241, 126242, 126243,
-            126244, 126245, 126246, 126247, 126248, 126249, 126250, 126251,
-            126252, 126253, 126255, 126256, 126257, 126258, 126259, 126260,
-            126261, 126262, 126263, 126264, 126265, 126266, 126267, 126268,
-            126269, 127232, 127233, 127234, 127235, 127236, 127237, 127238,
-            127239, 127240, 127241, 127242, 127243, 127244, 130032, 130033,
-            130034, 130035, 130036, 130037, 130038, 130039, 130040, 130041,
-            131073, 131172, 131298, 131361, 133418, 133507, 133516, 133532,
-            133866, 133885, 133913, 140176, 141720, 146203, 156269, 194704
-        });
-        TOLOWERS = new HashMap<UTF8Char, Iterable<UTF8Char>>();
-        TOUPPERS = new HashMap<UTF8Char, Iterable<UTF8Char>>();
-        registerPairs('A', 'a');
-        registerPairs('B', 'b');
-        registerPairs('C', 'c');
-        registerPairs('D', 'd');
-        registerPairs('E', 'e');
-        registerPairs('F', 'f');
-        registerPairs('G', 'g');
-        registerPairs('H', 'h');
-        registerPairs('I', 'i');
-        registerPairs('J', 'j');
-        registerPairs('K', 'k');
-        registerPairs('L', 'l');
-        registerPairs('M', 'm');
-        registerPairs('N', 'n');
-        registerPairs('O', 'o');
-        registerPairs('P', 'p');
-        registerPairs('Q', 'q');
-        registerPairs('R', 'r');
-        registerPairs('S', 's');
-        registerPairs('T', 't');
-        registerPairs('U', 'u');
-        registerPairs('V', 'v');
-        registerPairs('W', 'w');
-        registerPairs('X', 'x');
-        registerPairs('Y', 'y');
-        registerPairs('Z', 'z');
-        registerPairs(new UTF8Char(192), new UTF8Char(224));
-        registerPairs(new UTF8Char(193), new UTF8Char(225));
-        registerPairs(new UTF8Char(194), new UTF8Char(226));
-        registerPairs(new UTF8Char(195), new UTF8Char(227));
-        registerPairs(new UTF8Char(196), new UTF8Char(228));
-        registerPairs(new UTF8Char(197), new UTF8Char(229));
-        registerPairs(new UTF8Char(198), new UTF8Char(230));
-        registerPairs(new UTF8Char(199), new UTF8Char(231));
-        registerPairs(new UTF8Char(200), new UTF8Char(232));
-        registerPairs(new UTF8Char(201), new UTF8Char(233));
-        registerPairs(new UTF8Char(202), new UTF8Char(234));
-        registerPairs(new UTF8Char(203), new UTF8Char(235));
-        registerPairs(new UTF8Char(204), new UTF8Char(236));
-        registerPairs(new UTF8Char(205), new UTF8Char(237));
-        registerPairs(new UTF8Char(206), new UTF8Char(238));
-        registerPairs(new UTF8Char(207), new UTF8Char(239));
-        registerPairs(new UTF8Char(208), new UTF8Char(240));
-        registerPairs(new UTF8Char(209), new UTF8Char(241));
-        registerPairs(new UTF8Char(210), new UTF8Char(242));
-        registerPairs(new UTF8Char(211), new UTF8Char(243));
-        registerPairs(new UTF8Char(212), new UTF8Char(244));
-        registerPairs(new UTF8Char(213), new UTF8Char(245));
-        registerPairs(new UTF8Char(214), new UTF8Char(246));
-        registerPairs(new UTF8Char(216), new UTF8Char(248));
-        registerPairs(new UTF8Char(217), new UTF8Char(249));
-        registerPairs(new UTF8Char(218), new UTF8Char(250));
-        registerPairs(new UTF8Char(219), new UTF8Char(251));
-        registerPairs(new UTF8Char(220), new UTF8Char(252));
-        registerPairs(new UTF8Char(221), new UTF8Char(253));
-        registerPairs(new UTF8Char(222), new UTF8Char(254));
-        registerPairs(new UTF8Char(256), new UTF8Char(257));
-        registerPairs(new UTF8Char(258), new UTF8Char(259));
-        registerPairs(new UTF8Char(260), new UTF8Char(261));
-        registerPairs(new UTF8Char(262), new UTF8Char(263));
-        registerPairs(new UTF8Char(264), new UTF8Char(265));
-        registerPairs(new UTF8Char(266), new UTF8Char(267));
-        registerPairs(new UTF8Char(268), new UTF8Char(269));
-        registerPairs(new UTF8Char(270), new UTF8Char(271));
-        registerPairs(new UTF8Char(272), new UTF8Char(273));
-        registerPairs(new UTF8Char(274), new UTF8Char(275));
-        registerPairs(new UTF8Char(276), new UTF8Char(277));
-        registerPairs(new UTF8Char(278), new UTF8Char(279));
-        registerPairs(new UTF8Char(280), new UTF8Char(281));
-        registerPairs(new UTF8Char(282), new UTF8Char(283));
-        registerPairs(new UTF8Char(284), new UTF8Char(285));
-        registerPairs(new UTF8Char(286), new UTF8Char(287));
-        registerPairs(new UTF8Char(288), new UTF8Char(289));
-        registerPairs(new UTF8Char(290), new UTF8Char(291));
-        registerPairs(new UTF8Char(292), new UTF8Char(293));
-        registerPairs(new UTF8Char(294), new UTF8Char(295));
-        registerPairs(new UTF8Char(296), new UTF8Char(297));
-        registerPairs(new UTF8Char(298), new UTF8Char(299));
-        registerPairs(new UTF8Char(300), new UTF8Char(301));
-        registerPairs(new UTF8Char(302), new UTF8Char(303));
-        registerPairs(new UTF8Char(306), new UTF8Char(307));
-        registerPairs(new UTF8Char(308), new UTF8Char(309));
-        registerPairs(new UTF8Char(310), new UTF8Char(311));
-        registerPairs(new UTF8Char(313), new UTF8Char(314));
-        registerPairs(new UTF8Char(315), new UTF8Char(316));
-        registerPairs(new UTF8Char(317), new UTF8Char(318));
-        registerPairs(new UTF8Char(319), new UTF8Char(320));
-        registerPairs(new UTF8Char(321), new UTF8Char(322));
-        registerPairs(new UTF8Char(323), new UTF8Char(324));
-        registerPairs(new UTF8Char(325), new UTF8Char(326));
-        registerPairs(new UTF8Char(327), new UTF8Char(328));
-        registerPairs(new UTF8Char(330), new UTF8Char(331));
-        registerPairs(new UTF8Char(332), new UTF8Char(333));
-        registerPairs(new UTF8Char(334), new UTF8Char(335));
-        registerPairs(new UTF8Char(336), new UTF8Char(337));
-        registerPairs(new UTF8Char(338), new UTF8Char(339));
-        registerPairs(new UTF8Char(340), new UTF8Char(341));
-        registerPairs(new UTF8Char(342), new UTF8Char(343));
-        registerPairs(new UTF8Char(344), new UTF8Char(345));
-        registerPairs(new UTF8Char(346), new UTF8Char(347));
-        registerPairs(new UTF8Char(348), new UTF8Char(349));
-        registerPairs(new UTF8Char(350), new UTF8Char(351));
-        registerPairs(new UTF8Char(352), new UTF8Char(353));
-        registerPairs(new UTF8Char(354), new UTF8Char(355));
-        registerPairs(new UTF8Char(356), new UTF8Char(357));
-        registerPairs(new UTF8Char(358), new UTF8Char(359));
-        registerPairs(new UTF8Char(360), new UTF8Char(361));
-        registerPairs(new UTF8Char(362), new UTF8Char(363));
-        registerPairs(new UTF8Char(364), new UTF8Char(365));
-        registerPairs(new UTF8Char(366), new UTF8Char(367));
-        registerPairs(new UTF8Char(368), new UTF8Char(369));
-        registerPairs(new UTF8Char(370), new UTF8Char(371));
-        registerPairs(new UTF8Char(372), new UTF8Char(373));
-        registerPairs(new UTF8Char(374), new UTF8Char(375));
-        registerPairs(new UTF8Char(376), new UTF8Char(255));
-        registerPairs(new UTF8Char(377), new UTF8Char(378));
-        registerPairs(new UTF8Char(379), new UTF8Char(380));
-        registerPairs(new UTF8Char(381), new UTF8Char(382));
-        registerPairs(new UTF8Char(385), new UTF8Char(595));
-        registerPairs(new UTF8Char(386), new UTF8Char(387));
-        registerPairs(new UTF8Char(388), new UTF8Char(389));
-        registerPairs(new UTF8Char(390), new UTF8Char(596));
-        registerPairs(new UTF8Char(391), new UTF8Char(392));
-        registerPairs(new UTF8Char(393), new UTF8Char(598));
-        registerPairs(new UTF8Char(394), new UTF8Char(599));
-        registerPairs(new UTF8Char(395), new UTF8Char(396));
-        registerPairs(new UTF8Char(398), new UTF8Char(477));
-        registerPairs(new UTF8Char(399), new UTF8Char(601));
-        registerPairs(new UTF8Char(400), new UTF8Char(603));
-        registerPairs(new UTF8Char(401), new UTF8Char(402));
-        registerPairs(new UTF8Char(403), new UTF8Char(608));
-        registerPairs(new UTF8Char(404), new UTF8Char(611));
-        registerPairs(new UTF8Char(406), new UTF8Char(617));
-        registerPairs(new UTF8Char(407), new UTF8Char(616));
-        registerPairs(new UTF8Char(408), new UTF8Char(409));
-        registerPairs(new UTF8Char(412), new UTF8Char(623));
-        registerPairs(new UTF8Char(413), new UTF8Char(626));
-        registerPairs(new UTF8Char(415), new UTF8Char(629));
-        registerPairs(new UTF8Char(416), new UTF8Char(417));
-        registerPairs(new UTF8Char(418), new UTF8Char(419));
-        registerPairs(new UTF8Char(420), new UTF8Char(421));
-        registerPairs(new UTF8Char(422), new UTF8Char(640));
-        registerPairs(new UTF8Char(423), new UTF8Char(424));
-        registerPairs(new UTF8Char(425), new UTF8Char(643));
-        registerPairs(new UTF8Char(428), new UTF8Char(429));
-        registerPairs(new UTF8Char(430), new UTF8Char(648));
-        registerPairs(new UTF8Char(431), new UTF8Char(432));
-        registerPairs(new UTF8Char(433), new UTF8Char(650));
-        registerPairs(new UTF8Char(434), new UTF8Char(651));
-        registerPairs(new UTF8Char(435), new UTF8Char(436));
-        registerPairs(new UTF8Char(437), new UTF8Char(438));
-        registerPairs(new UTF8Char(439), new UTF8Char(658));
-        registerPairs(new UTF8Char(440), new UTF8Char(441));
-        registerPairs(new UTF8Char(444), new UTF8Char(445));
-        registerPairs(new UTF8Char(452), new UTF8Char(454));
-        registerPairs(new UTF8Char(453), new UTF8Char(454));
-        registerPairs(new UTF8Char(455), new UTF8Char(457));
-        registerPairs(new UTF8Char(456), new UTF8Char(457));
-        registerPairs(new UTF8Char(458), new UTF8Char(460));
-        registerPairs(new UTF8Char(459), new UTF8Char(460));
-        registerPairs(new UTF8Char(461), new UTF8Char(462));
-        registerPairs(new UTF8Char(463), new UTF8Char(464));
-        registerPairs(new UTF8Char(465), new UTF8Char(466));
-        registerPairs(new UTF8Char(467), new UTF8Char(468));
-        registerPairs(new UTF8Char(469), new UTF8Char(470));
-        registerPairs(new UTF8Char(471), new UTF8Char(472));
-        registerPairs(new UTF8Char(473), new UTF8Char(474));
-        registerPairs(new UTF8Char(475), new UTF8Char(476));
-        registerPairs(new UTF8Char(478), new UTF8Char(479));
-        registerPairs(new UTF8Char(480), new UTF8Char(481));
-        registerPairs(new UTF8Char(482), new UTF8Char(483));
-        registerPairs(new UTF8Char(484), new UTF8Char(485));
-        registerPairs(new UTF8Char(486), new UTF8Char(487));
-        registerPairs(new UTF8Char(488), new UTF8Char(489));
-        registerPairs(new UTF8Char(490), new UTF8Char(491));
-        registerPairs(new UTF8Char(492), new UTF8Char(493));
-        registerPairs(new UTF8Char(494), new UTF8Char(495));
-        registerPairs(new UTF8Char(497), new UTF8Char(499));
-        registerPairs(new UTF8Char(498), new UTF8Char(499));
-        registerPairs(new UTF8Char(500), new UTF8Char(501));
-        registerPairs(new UTF8Char(502), new UTF8Char(405));
-        registerPairs(new UTF8Char(503), new UTF8Char(447));
-        registerPairs(new UTF8Char(504), new UTF8Char(505));
-        registerPairs(new UTF8Char(506), new UTF8Char(507));
-        registerPairs(new UTF8Char(508), new UTF8Char(509));
-        registerPairs(new UTF8Char(510), new UTF8Char(511));
-        registerPairs(new UTF8Char(512), new UTF8Char(513));
-        registerPairs(new UTF8Char(514), new UTF8Char(515));
-        registerPairs(new UTF8Char(516), new UTF8Char(517));
-        registerPairs(new UTF8Char(518), new UTF8Char(519));
-        registerPairs(new UTF8Char(520), new UTF8Char(521));
-        registerPairs(new UTF8Char(522), new UTF8Char(523));
-        registerPairs(new UTF8Char(524), new UTF8Char(525));
-        registerPairs(new UTF8Char(526), new UTF8Char(527));
-        registerPairs(new UTF8Char(528), new UTF8Char(529));
-        registerPairs(new UTF8Char(530), new UTF8Char(531));
-        registerPairs(new UTF8Char(532), new UTF8Char(533));
-        registerPairs(new UTF8Char(534), new UTF8Char(535));
-        registerPairs(new UTF8Char(536), new UTF8Char(537));
-        registerPairs(new UTF8Char(538), new UTF8Char(539));
-        registerPairs(new UTF8Char(540), new UTF8Char(541));
-        registerPairs(new UTF8Char(542), new UTF8Char(543));
-        registerPairs(new UTF8Char(544), new UTF8Char(414));
-        registerPairs(new UTF8Char(546), new UTF8Char(547));
-        registerPairs(new UTF8Char(548), new UTF8Char(549));
-        registerPairs(new UTF8Char(550), new UTF8Char(551));
-        registerPairs(new UTF8Char(552), new UTF8Char(553));
-        registerPairs(new UTF8Char(554), new UTF8Char(555));
-        registerPairs(new UTF8Char(556), new UTF8Char(557));
-        registerPairs(new UTF8Char(558), new UTF8Char(559));
-        registerPairs(new UTF8Char(560), new UTF8Char(561));
-        registerPairs(new UTF8Char(562), new UTF8Char(563));
-        registerPairs(new UTF8Char(570), new UTF8Char(11365));
-        registerPairs(new UTF8Char(571), new UTF8Char(572));
-        registerPairs(new UTF8Char(573), new UTF8Char(410));
-        registerPairs(new UTF8Char(574), new UTF8Char(11366));
-        registerPairs(new UTF8Char(577), new UTF8Char(578));
-        registerPairs(new UTF8Char(579), new UTF8Char(384));
-        registerPairs(new UTF8Char(580), new UTF8Char(649));
-        registerPairs(new UTF8Char(581), new UTF8Char(652));
-        registerPairs(new UTF8Char(582), new UTF8Char(583));
-        registerPairs(new UTF8Char(584), new UTF8Char(585));
-        registerPairs(new UTF8Char(586), new UTF8Char(587));
-        registerPairs(new UTF8Char(588), new UTF8Char(589));
-        registerPairs(new UTF8Char(590), new UTF8Char(591));
-        registerPairs(new UTF8Char(880), new UTF8Char(881));
-        registerPairs(new UTF8Char(882), new UTF8Char(883));
-        registerPairs(new UTF8Char(886), new UTF8Char(887));
-        registerPairs(new UTF8Char(895), new UTF8Char(1011));
-        registerPairs(new UTF8Char(902), new UTF8Char(940));
-        registerPairs(new UTF8Char(904), new UTF8Char(941));
-        registerPairs(new UTF8Char(905), new UTF8Char(942));
-        registerPairs(new UTF8Char(906), new UTF8Char(943));
-        registerPairs(new UTF8Char(908), new UTF8Char(972));
-        registerPairs(new UTF8Char(910), new UTF8Char(973));
-        registerPairs(new UTF8Char(911), new UTF8Char(974));
-        registerPairs(new UTF8Char(913), new UTF8Char(945));
-        registerPairs(new UTF8Char(914), new UTF8Char(946));
-        registerPairs(new UTF8Char(915), new UTF8Char(947));
-        registerPairs(new UTF8Char(916), new UTF8Char(948));
-        registerPairs(new UTF8Char(917), new UTF8Char(949));
-        registerPairs(new UTF8Char(918), new UTF8Char(950));
-        registerPairs(new UTF8Char(919), new UTF8Char(951));
-        registerPairs(new UTF8Char(920), new UTF8Char(952));
-        registerPairs(new UTF8Char(921), new UTF8Char(953));
-        registerPairs(new UTF8Char(922), new UTF8Char(954));
-        registerPairs(new UTF8Char(923), new UTF8Char(955));
-        registerPairs(new UTF8Char(924), new UTF8Char(956));
-        registerPairs(new UTF8Char(925), new UTF8Char(957));
-        registerPairs(new UTF8Char(926), new UTF8Char(958));
-        registerPairs(new UTF8Char(927), new UTF8Char(959));
-        registerPairs(new UTF8Char(928), new UTF8Char(960));
-        registerPairs(new UTF8Char(929), new UTF8Char(961));
-        registerPairs(new UTF8Char(931), new UTF8Char(963));
-        registerPairs(new UTF8Char(932), new UTF8Char(964));
-        registerPairs(new UTF8Char(933), new UTF8Char(965));
-        registerPairs(new UTF8Char(934), new UTF8Char(966));
-        registerPairs(new UTF8Char(935), new UTF8Char(967));
-        registerPairs(new UTF8Char(936), new UTF8Char(968));
-        registerPairs(new UTF8Char(937), new UTF8Char(969));
-        registerPairs(new UTF8Char(938), new UTF8Char(970));
-        registerPairs(new UTF8Char(939), new UTF8Char(971));
-        registerPairs(new UTF8Char(975), new UTF8Char(983));
-        registerPairs(new UTF8Char(984), new UTF8Char(985));
-        registerPairs(new UTF8Char(986), new UTF8Char(987));
-        registerPairs(new UTF8Char(988), new UTF8Char(989));
-        registerPairs(new UTF8Char(990), new UTF8Char(991));
-        registerPairs(new UTF8Char(992), new UTF8Char(993));
-        registerPairs(new UTF8Char(994), new UTF8Char(995));
-        registerPairs(new UTF8Char(996), new UTF8Char(997));
-        registerPairs(new UTF8Char(998), new UTF8Char(999));
-        registerPairs(new UTF8Char(1000), new UTF8Char(1001));
-        registerPairs(new UTF8Char(1002), new UTF8Char(1003));
-        registerPairs(new UTF8Char(1004), new UTF8Char(1005));
-        registerPairs(new UTF8Char(1006), new UTF8Char(1007));
-        registerPairs(new UTF8Char(1012), new UTF8Char(952));
-        registerPairs(new UTF8Char(1015), new UTF8Char(1016));
-        registerPairs(new UTF8Char(1017), new UTF8Char(1010));
-        registerPairs(new UTF8Char(1018), new UTF8Char(1019));
-        registerPairs(new UTF8Char(1021), new UTF8Char(891));
-        registerPairs(new UTF8Char(1022), new UTF8Char(892));
-        registerPairs(new UTF8Char(1023), new UTF8Char(893));
-        registerPairs(new UTF8Char(1024), new UTF8Char(1104));
-        registerPairs(new UTF8Char(1025), new UTF8Char(1105));
-        registerPairs(new UTF8Char(1026), new UTF8Char(1106));
-        registerPairs(new UTF8Char(1027), new UTF8Char(1107));
-        registerPairs(new UTF8Char(1028), new UTF8Char(1108));
-        registerPairs(new UTF8Char(1029), new UTF8Char(1109));
-        registerPairs(new UTF8Char(1030), new UTF8Char(1110));
-        registerPairs(new UTF8Char(1031), new UTF8Char(1111));
-        registerPairs(new UTF8Char(1032), new UTF8Char(1112));
-        registerPairs(new UTF8Char(1033), new UTF8Char(1113));
-        registerPairs(new UTF8Char(1034), new UTF8Char(1114));
-        registerPairs(new UTF8Char(1035), new UTF8Char(1115));
-        registerPairs(new UTF8Char(1036), new UTF8Char(1116));
-        registerPairs(new UTF8Char(1037), new UTF8Char(1117));
-        registerPairs(new UTF8Char(1038), new UTF8Char(1118));
-        registerPairs(new UTF8Char(1039), new UTF8Char(1119));
-        registerPairs(new UTF8Char(1040), new UTF8Char(1072));
-        registerPairs(new UTF8Char(1041), new UTF8Char(1073));
-        registerPairs(new UTF8Char(1042), new UTF8Char(1074));
-        registerPairs(new UTF8Char(1043), new UTF8Char(1075));
-        registerPairs(new UTF8Char(1044), new UTF8Char(1076));
-        registerPairs(new UTF8Char(1045), new UTF8Char(1077));
-        registerPairs(new UTF8Char(1046), new UTF8Char(1078));
-        registerPairs(new UTF8Char(1047), new UTF8Char(1079));
-        registerPairs(new UTF8Char(1048), new UTF8Char(1080));
-        registerPairs(new UTF8Char(1049), new UTF8Char(1081));
-        registerPairs(new UTF8Char(1050), new UTF8Char(1082));
-        registerPairs(new UTF8Char(1051), new UTF8Char(1083));
-        registerPairs(new UTF8Char(1052), new UTF8Char(1084));
-        registerPairs(new UTF8Char(1053), new UTF8Char(1085));
-        registerPairs(new UTF8Char(1054), new UTF8Char(1086));
-        registerPairs(new UTF8Char(1055), new UTF8Char(1087));
-        registerPairs(new UTF8Char(1056), new UTF8Char(1088));
-        registerPairs(new UTF8Char(1057), new UTF8Char(1089));
-        registerPairs(new UTF8Char(1058), new UTF8Char(1090));
-        registerPairs(new UTF8Char(1059), new UTF8Char(1091));
-        registerPairs(new UTF8Char(1060), new UTF8Char(1092));
-        registerPairs(new UTF8Char(1061), new UTF8Char(1093));
-        registerPairs(new UTF8Char(1062), new UTF8Char(1094));
-        registerPairs(new UTF8Char(1063), new UTF8Char(1095));
-        registerPairs(new UTF8Char(1064), new UTF8Char(1096));
-        registerPairs(new UTF8Char(1065), new UTF8Char(1097));
-        registerPairs(new UTF8Char(1066), new UTF8Char(1098));
-        registerPairs(new UTF8Char(1067), new UTF8Char(1099));
-        registerPairs(new UTF8Char(1068), new UTF8Char(1100));
-        registerPairs(new UTF8Char(1069), new UTF8Char(1101));
-        registerPairs(new UTF8Char(1070), new UTF8Char(1102));
-        registerPairs(new UTF8Char(1071), new UTF8Char(1103));
-        registerPairs(new UTF8Char(1120), new UTF8Char(1121));
-        registerPairs(new UTF8Char(1122), new UTF8Char(1123));
-        registerPairs(new UTF8Char(1124), new UTF8Char(1125));
-        registerPairs(new UTF8Char(1126), new UTF8Char(1127));
-        registerPairs(new UTF8Char(1128), new UTF8Char(1129));
-        registerPairs(new UTF8Char(1130), new UTF8Char(1131));
-        registerPairs(new UTF8Char(1132), new UTF8Char(1133));
-        registerPairs(new UTF8Char(1134), new UTF8Char(1135));
-        registerPairs(new UTF8Char(1136), new UTF8Char(1137));
-        registerPairs(new UTF8Char(1138), new UTF8Char(1139));
-        registerPairs(new UTF8Char(1140), new UTF8Char(1141));
-        registerPairs(new UTF8Char(1142), new UTF8Char(1143));
-        registerPairs(new UTF8Char(1144), new UTF8Char(1145));
-        registerPairs(new UTF8Char(1146), new UTF8Char(1147));
-        registerPairs(new UTF8Char(1148), new UTF8Char(1149));
-        registerPairs(new UTF8Char(1150), new UTF8Char(1151));
-        registerPairs(new UTF8Char(1152), new UTF8Char(1153));
-        registerPairs(new UTF8Char(1162), new UTF8Char(1163));
-        registerPairs(new UTF8Char(1164), new UTF8Char(1165));
-        registerPairs(new UTF8Char(1166), new UTF8Char(1167));
-        registerPairs(new UTF8Char(1168), new UTF8Char(1169));
-        registerPairs(new UTF8Char(1170), new UTF8Char(1171));
-        registerPairs(new UTF8Char(1172), new UTF8Char(1173));
-        registerPairs(new UTF8Char(1174), new UTF8Char(1175));
-        registerPairs(new UTF8Char(1176), new UTF8Char(1177));
-        registerPairs(new UTF8Char(1178), new UTF8Char(1179));
-        registerPairs(new UTF8Char(1180), new UTF8Char(1181));
-        registerPairs(new UTF8Char(1182), new UTF8Char(1183));
-        registerPairs(new UTF8Char(1184), new UTF8Char(1185));
-        registerPairs(new UTF8Char(1186), new UTF8Char(1187));
-        registerPairs(new UTF8Char(1188), new UTF8Char(1189));
-        registerPairs(new UTF8Char(1190), new UTF8Char(1191));
-        registerPairs(new UTF8Char(1192), new UTF8Char(1193));
-        registerPairs(new UTF8Char(1194), new UTF8Char(1195));
-        registerPairs(new UTF8Char(1196), new UTF8Char(1197));
-        registerPairs(new UTF8Char(1198), new UTF8Char(1199));
-        registerPairs(new UTF8Char(1200), new UTF8Char(1201));
-        registerPairs(new UTF8Char(1202), new UTF8Char(1203));
-        registerPairs(new UTF8Char(1204), new UTF8Char(1205));
-        registerPairs(new UTF8Char(1206), new UTF8Char(1207));
-        registerPairs(new UTF8Char(1208), new UTF8Char(1209));
-        registerPairs(new UTF8Char(1210), new UTF8Char(1211));
-        registerPairs(new UTF8Char(1212), new UTF8Char(1213));
-        registerPairs(new UTF8Char(1214), new UTF8Char(1215));
-        registerPairs(new UTF8Char(1216), new UTF8Char(1231));
-        registerPairs(new UTF8Char(1217), new UTF8Char(1218));
-        registerPairs(new UTF8Char(1219), new UTF8Char(1220));
-        registerPairs(new UTF8Char(1221), new UTF8Char(1222));
-        registerPairs(new UTF8Char(1223), new UTF8Char(1224));
-        registerPairs(new UTF8Char(1225), new UTF8Char(1226));
-        registerPairs(new UTF8Char(1227), new UTF8Char(1228));
-        registerPairs(new UTF8Char(1229), new UTF8Char(1230));
-        registerPairs(new UTF8Char(1232), new UTF8Char(1233));
-        registerPairs(new UTF8Char(1234), new UTF8Char(1235));
-        registerPairs(new UTF8Char(1236), new UTF8Char(1237));
-        registerPairs(new UTF8Char(1238), new UTF8Char(1239));
-        registerPairs(new UTF8Char(1240), new UTF8Char(1241));
-        registerPairs(new UTF8Char(1242), new UTF8Char(1243));
-        registerPairs(new UTF8Char(1244), new UTF8Char(1245));
-        registerPairs(new UTF8Char(1246), new UTF8Char(1247));
-        registerPairs(new UTF8Char(1248), new UTF8Char(1249));
-        registerPairs(new UTF8Char(1250), new UTF8Char(1251));
-        registerPairs(new UTF8Char(1252), new UTF8Char(1253));
-        registerPairs(new UTF8Char(1254), new UTF8Char(1255));
-        registerPairs(new UTF8Char(1256), new UTF8Char(1257));
-        registerPairs(new UTF8Char(1258), new UTF8Char(1259));
-        registerPairs(new UTF8Char(1260), new UTF8Char(1261));
-        registerPairs(new UTF8Char(1262), new UTF8Char(1263));
-        registerPairs(new UTF8Char(1264), new UTF8Char(1265));
-        registerPairs(new UTF8Char(1266), new UTF8Char(1267));
-        registerPairs(new UTF8Char(1268), new UTF8Char(1269));
-        registerPairs(new UTF8Char(1270), new UTF8Char(1271));
-        registerPairs(new UTF8Char(1272), new UTF8Char(1273));
-        registerPairs(new UTF8Char(1274), new UTF8Char(1275));
-        registerPairs(new UTF8Char(1276), new UTF8Char(1277));
-        registerPairs(new UTF8Char(1278), new UTF8Char(1279));
-        registerPairs(new UTF8Char(1280), new UTF8Char(1281));
-        registerPairs(new UTF8Char(1282), new UTF8Char(1283));
-        registerPairs(new UTF8Char(1284), new UTF8Char(1285));
-        registerPairs(new UTF8Char(1286), new UTF8Char(1287));
-        registerPairs(new UTF8Char(1288), new UTF8Char(1289));
-        registerPairs(new UTF8Char(1290), new UTF8Char(1291));
-        registerPairs(new UTF8Char(1292), new UTF8Char(1293));
-        registerPairs(new UTF8Char(1294), new UTF8Char(1295));
-        registerPairs(new UTF8Char(1296), new UTF8Char(1297));
-        registerPairs(new UTF8Char(1298), new UTF8Char(1299));
-        registerPairs(new UTF8Char(1300), new UTF8Char(1301));
-        registerPairs(new UTF8Char(1302), new UTF8Char(1303));
-        registerPairs(new UTF8Char(1304), new UTF8Char(1305));
-        registerPairs(new UTF8Char(1306), new UTF8Char(1307));
-        registerPairs(new UTF8Char(1308), new UTF8Char(1309));
-        registerPairs(new UTF8Char(1310), new UTF8Char(1311));
-        registerPairs(new UTF8Char(1312), new UTF8Char(1313));
-        registerPairs(new UTF8Char(1314), new UTF8Char(1315));
-        registerPairs(new UTF8Char(1316), new UTF8Char(1317));
-        registerPairs(new UTF8Char(1318), new UTF8Char(1319));
-        registerPairs(new UTF8Char(1320), new UTF8Char(1321));
-        registerPairs(new UTF8Char(1322), new UTF8Char(1323));
-        registerPairs(new UTF8Char(1324), new UTF8Char(1325));
-        registerPairs(new UTF8Char(1326), new UTF8Char(1327));
-        registerPairs(new UTF8Char(1329), new UTF8Char(1377));
-        registerPairs(new UTF8Char(1330), new UTF8Char(1378));
-        registerPairs(new UTF8Char(1331), new UTF8Char(1379));
-        registerPairs(new UTF8Char(1332), new UTF8Char(1380));
-        registerPairs(new UTF8Char(1333), new UTF8Char(1381));
-        registerPairs(new UTF8Char(1334), new UTF8Char(1382));
-        registerPairs(new UTF8Char(1335), new UTF8Char(1383));
-        registerPairs(new UTF8Char(1336), new UTF8Char(1384));
-        registerPairs(new UTF8Char(1337), new UTF8Char(1385));
-        registerPairs(new UTF8Char(1338), new UTF8Char(1386));
-        registerPairs(new UTF8Char(1339), new UTF8Char(1387));
-        registerPairs(new UTF8Char(1340), new UTF8Char(1388));
-        registerPairs(new UTF8Char(1341), new UTF8Char(1389));
-        registerPairs(new UTF8Char(1342), new UTF8Char(1390));
-        registerPairs(new UTF8Char(1343), new UTF8Char(1391));
-        registerPairs(new UTF8Char(1344), new UTF8Char(1392));
-        registerPairs(new UTF8Char(1345), new UTF8Char(1393));
-        registerPairs(new UTF8Char(1346), new UTF8Char(1394));
-        registerPairs(new UTF8Char(1347), new UTF8Char(1395));
-        registerPairs(new UTF8Char(1348), new UTF8Char(1396));
-        registerPairs(new UTF8Char(1349), new UTF8Char(1397));
-        registerPairs(new UTF8Char(1350), new UTF8Char(1398));
-        registerPairs(new UTF8Char(1351), new UTF8Char(1399));
-        registerPairs(new UTF8Char(1352), new UTF8Char(1400));
-        registerPairs(new UTF8Char(1353), new UTF8Char(1401));
-        registerPairs(new UTF8Char(1354), new UTF8Char(1402));
-        registerPairs(new UTF8Char(1355), new UTF8Char(1403));
-        registerPairs(new UTF8Char(1356), new UTF8Char(1404));
-        registerPairs(new UTF8Char(1357), new UTF8Char(1405));
-        registerPairs(new UTF8Char(1358), new UTF8Char(1406));
-        registerPairs(new UTF8Char(1359), new UTF8Char(1407));
-        registerPairs(new UTF8Char(1360), new UTF8Char(1408));
-        registerPairs(new UTF8Char(1361), new UTF8Char(1409));
-        registerPairs(new UTF8Char(1362), new UTF8Char(1410));
-        registerPairs(new UTF8Char(1363), new UTF8Char(1411));
-        registerPairs(new UTF8Char(1364), new UTF8Char(1412));
-        registerPairs(new UTF8Char(1365), new UTF8Char(1413));
-        registerPairs(new UTF8Char(1366), new UTF8Char(1414));
-        registerPairs(new UTF8Char(4256), new UTF8Char(11520));
-        registerPairs(new UTF8Char(4257), new UTF8Char(11521));
-        registerPairs(new UTF8Char(4258), new UTF8Char(11522));
-        registerPairs(new UTF8Char(4259), new UTF8Char(11523));
-        registerPairs(new UTF8Char(4260), new UTF8Char(11524));
-        registerPairs(new UTF8Char(4261), new UTF8Char(11525));
-        registerPairs(new UTF8Char(4262), new UTF8Char(11526));
-        registerPairs(new UTF8Char(4263), new UTF8Char(11527));
-        registerPairs(new UTF8Char(4264), new UTF8Char(11528));
-        registerPairs(new UTF8Char(4265), new UTF8Char(11529));
-        registerPairs(new UTF8Char(4266), new UTF8Char(11530));
-        registerPairs(new UTF8Char(4267), new UTF8Char(11531));
-        registerPairs(new UTF8Char(4268), new UTF8Char(11532));
-        registerPairs(new UTF8Char(4269), new UTF8Char(11533));
-        registerPairs(new UTF8Char(4270), new UTF8Char(11534));
-        registerPairs(new UTF8Char(4271), new UTF8Char(11535));
-        registerPairs(new UTF8Char(4272), new UTF8Char(11536));
-        registerPairs(new UTF8Char(4273), new UTF8Char(11537));
-        registerPairs(new UTF8Char(4274), new UTF8Char(11538));
-        registerPairs(new UTF8Char(4275), new UTF8Char(11539));
-        registerPairs(new UTF8Char(4276), new UTF8Char(11540));
-        registerPairs(new UTF8Char(4277), new UTF8Char(11541));
-        registerPairs(new UTF8Char(4278), new UTF8Char(11542));
-        registerPairs(new UTF8Char(4279), new UTF8Char(11543));
-        registerPairs(new UTF8Char(4280), new UTF8Char(11544));
-        registerPairs(new UTF8Char(4281), new UTF8Char(11545));
-        registerPairs(new UTF8Char(4282), new UTF8Char(11546));
-        registerPairs(new UTF8Char(4283), new UTF8Char(11547));
-        registerPairs(new UTF8Char(4284), new UTF8Char(11548));
-        registerPairs(new UTF8Char(4285), new UTF8Char(11549));
-        registerPairs(new UTF8Char(4286), new UTF8Char(11550));
-        registerPairs(new UTF8Char(4287), new UTF8Char(11551));
-        registerPairs(new UTF8Char(4288), new UTF8Char(11552));
-        registerPairs(new UTF8Char(4289), new UTF8Char(11553));
-        registerPairs(new UTF8Char(4290), new UTF8Char(11554));
-        registerPairs(new UTF8Char(4291), new UTF8Char(11555));
-        registerPairs(new UTF8Char(4292), new UTF8Char(11556));
-        registerPairs(new UTF8Char(4293), new UTF8Char(11557));
-        registerPairs(new UTF8Char(4295), new UTF8Char(11559));
-        registerPairs(new UTF8Char(4301), new UTF8Char(11565));
-        registerPairs(new UTF8Char(5024), new UTF8Char(43888));
-        registerPairs(new UTF8Char(5025), new UTF8Char(43889));
-        registerPairs(new UTF8Char(5026), new UTF8Char(43890));
-        registerPairs(new UTF8Char(5027), new UTF8Char(43891));
-        registerPairs(new UTF8Char(5028), new UTF8Char(43892));
-        registerPairs(new UTF8Char(5029), new UTF8Char(43893));
-        registerPairs(new UTF8Char(5030), new UTF8Char(43894));
-        registerPairs(new UTF8Char(5031), new UTF8Char(43895));
-        registerPairs(new UTF8Char(5032), new UTF8Char(43896));
-        registerPairs(new UTF8Char(5033), new UTF8Char(43897));
-        registerPairs(new UTF8Char(5034), new UTF8Char(43898));
-        registerPairs(new UTF8Char(5035), new UTF8Char(43899));
-        registerPairs(new UTF8Char(5036), new UTF8Char(43900));
-        registerPairs(new UTF8Char(5037), new UTF8Char(43901));
-        registerPairs(new UTF8Char(5038), new UTF8Char(43902));
-        registerPairs(new UTF8Char(5039), new UTF8Char(43903));
-        registerPairs(new UTF8Char(5040), new UTF8Char(43904));
-        registerPairs(new UTF8Char(5041), new UTF8Char(43905));
-        registerPairs(new UTF8Char(5042), new UTF8Char(43906));
-        registerPairs(new UTF8Char(5043), new UTF8Char(43907));
-        registerPairs(new UTF8Char(5044), new UTF8Char(43908));
-        registerPairs(new UTF8Char(5045), new UTF8Char(43909));
-        registerPairs(new UTF8Char(5046), new UTF8Char(43910));
-        registerPairs(new UTF8Char(5047), new UTF8Char(43911));
-        registerPairs(new UTF8Char(5048), new UTF8Char(43912));
-        registerPairs(new UTF8Char(5049), new UTF8Char(43913));
-        registerPairs(new UTF8Char(5050), new UTF8Char(43914));
-        registerPairs(new UTF8Char(5051), new UTF8Char(43915));
-        registerPairs(new UTF8Char(5052), new UTF8Char(43916));
-        registerPairs(new UTF8Char(5053), new UTF8Char(43917));
-        registerPairs(new UTF8Char(5054), new UTF8Char(43918));
-        registerPairs(new UTF8Char(5055), new UTF8Char(43919));
-        registerPairs(new UTF8Char(5056), new UTF8Char(43920));
-        registerPairs(new UTF8Char(5057), new UTF8Char(43921));
-        registerPairs(new UTF8Char(5058), new UTF8Char(43922));
-        registerPairs(new UTF8Char(5059), new UTF8Char(43923));
-        registerPairs(new UTF8Char(5060), new UTF8Char(43924));
-        registerPairs(new UTF8Char(5061), new UTF8Char(43925));
-        registerPairs(new UTF8Char(5062), new UTF8Char(43926));
-        registerPairs(new UTF8Char(5063), new UTF8Char(43927));
-        registerPairs(new UTF8Char(5064), new UTF8Char(43928));
-        registerPairs(new UTF8Char(5065), new UTF8Char(43929));
-        registerPairs(new UTF8Char(5066), new UTF8Char(43930));
-        registerPairs(new UTF8Char(5067), new UTF8Char(43931));
-        registerPairs(new UTF8Char(5068), new UTF8Char(43932));
-        registerPairs(new UTF8Char(5069), new UTF8Char(43933));
-        registerPairs(new UTF8Char(5070), new UTF8Char(43934));
-        registerPairs(new UTF8Char(5071), new UTF8Char(43935));
-        registerPairs(new UTF8Char(5072), new UTF8Char(43936));
-        registerPairs(new UTF8Char(5073), new UTF8Char(43937));
-        registerPairs(new UTF8Char(5074), new UTF8Char(43938));
-        registerPairs(new UTF8Char(5075), new UTF8Char(43939));
-        registerPairs(new UTF8Char(5076), new UTF8Char(43940));
-        registerPairs(new UTF8Char(5077), new UTF8Char(43941));
-        registerPairs(new UTF8Char(5078), new UTF8Char(43942));
-        registerPairs(new UTF8Char(5079), new UTF8Char(43943));
-        registerPairs(new UTF8Char(5080), new UTF8Char(43944));
-        registerPairs(new UTF8Char(5081), new UTF8Char(43945));
-        registerPairs(new UTF8Char(5082), new UTF8Char(43946));
-        registerPairs(new UTF8Char(5083), new UTF8Char(43947));
-        registerPairs(new UTF8Char(5084), new UTF8Char(43948));
-        registerPairs(new UTF8Char(5085), new UTF8Char(43949));
-        registerPairs(new UTF8Char(5086), new UTF8Char(43950));
-        registerPairs(new UTF8Char(5087), new UTF8Char(43951));
-        registerPairs(new UTF8Char(5088), new UTF8Char(43952));
-        registerPairs(new UTF8Char(5089), new UTF8Char(43953));
-        registerPairs(new UTF8Char(5090), new UTF8Char(43954));
-        registerPairs(new UTF8Char(5091), new UTF8Char(43955));
-        registerPairs(new UTF8Char(5092), new UTF8Char(43956));
-        registerPairs(new UTF8Char(5093), new UTF8Char(43957));
-        registerPairs(new UTF8Char(5094), new UTF8Char(43958));
-        registerPairs(new UTF8Char(5095), new UTF8Char(43959));
-        registerPairs(new UTF8Char(5096), new UTF8Char(43960));
-        registerPairs(new UTF8Char(5097), new UTF8Char(43961));
-        registerPairs(new UTF8Char(5098), new UTF8Char(43962));
-        registerPairs(new UTF8Char(5099), new UTF8Char(43963));
-        registerPairs(new UTF8Char(5100), new UTF8Char(43964));
-        registerPairs(new UTF8Char(5101), new UTF8Char(43965));
-        registerPairs(new UTF8Char(5102), new UTF8Char(43966));
-        registerPairs(new UTF8Char(5103), new UTF8Char(43967));
-        registerPairs(new UTF8Char(5104), new UTF8Char(5112));
-        registerPairs(new UTF8Char(5105), new UTF8Char(5113));
-        registerPairs(new UTF8Char(5106), new UTF8Char(5114));
-        registerPairs(new UTF8Char(5107), new UTF8Char(5115));
-        registerPairs(new UTF8Char(5108), new UTF8Char(5116));
-        registerPairs(new UTF8Char(5109), new UTF8Char(5117));
-        registerPairs(new UTF8Char(7312), new UTF8Char(4304));
-        registerPairs(new UTF8Char(7313), new UTF8Char(4305));
-        registerPairs(new UTF8Char(7314), new UTF8Char(4306));
-        registerPairs(new UTF8Char(7315), new UTF8Char(4307));
-        registerPairs(new UTF8Char(7316), new UTF8Char(4308));
-        registerPairs(new UTF8Char(7317), new UTF8Char(4309));
-        registerPairs(new UTF8Char(7318), new UTF8Char(4310));
-        registerPairs(new UTF8Char(7319), new UTF8Char(4311));
-        registerPairs(new UTF8Char(7320), new UTF8Char(4312));
-        registerPairs(new UTF8Char(7321), new UTF8Char(4313));
-        registerPairs(new UTF8Char(7322), new UTF8Char(4314));
-        registerPairs(new UTF8Char(7323), new UTF8Char(4315));
-        registerPairs(new UTF8Char(7324), new UTF8Char(4316));
-        registerPairs(new UTF8Char(7325), new UTF8Char(4317));
-        registerPairs(new UTF8Char(7326), new UTF8Char(4318));
-        registerPairs(new UTF8Char(7327), new UTF8Char(4319));
-        registerPairs(new UTF8Char(7328), new UTF8Char(4320));
-        registerPairs(new UTF8Char(7329), new UTF8Char(4321));
-        registerPairs(new UTF8Char(7330), new UTF8Char(4322));
-        registerPairs(new UTF8Char(7331), new UTF8Char(4323));
-        registerPairs(new UTF8Char(7332), new UTF8Char(4324));
-        registerPairs(new UTF8Char(7333), new UTF8Char(4325));
-        registerPairs(new UTF8Char(7334), new UTF8Char(4326));
-        registerPairs(new UTF8Char(7335), new UTF8Char(4327));
-        registerPairs(new UTF8Char(7336), new UTF8Char(4328));
-        registerPairs(new UTF8Char(7337), new UTF8Char(4329));
-        registerPairs(new UTF8Char(7338), new UTF8Char(4330));
-        registerPairs(new UTF8Char(7339), new UTF8Char(4331));
-        registerPairs(new UTF8Char(7340), new UTF8Char(4332));
-        registerPairs(new UTF8Char(7341), new UTF8Char(4333));
-        registerPairs(new UTF8Char(7342), new UTF8Char(4334));
-        registerPairs(new UTF8Char(7343), new UTF8Char(4335));
-        registerPairs(new UTF8Char(7344), new UTF8Char(4336));
-        registerPairs(new UTF8Char(7345), new UTF8Char(4337));
-        registerPairs(new UTF8Char(7346), new UTF8Char(4338));
-        registerPairs(new UTF8Char(7347), new UTF8Char(4339));
-        registerPairs(new UTF8Char(7348), new UTF8Char(4340));
-        registerPairs(new UTF8Char(7349), new UTF8Char(4341));
-        registerPairs(new UTF8Char(7350), new UTF8Char(4342));
-        registerPairs(new UTF8Char(7351), new UTF8Char(4343));
-        registerPairs(new UTF8Char(7352), new UTF8Char(4344));
-        registerPairs(new UTF8Char(7353), new UTF8Char(4345));
-        registerPairs(new UTF8Char(7354), new UTF8Char(4346));
-        registerPairs(new UTF8Char(7357), new UTF8Char(4349));
-        registerPairs(new UTF8Char(7358), new UTF8Char(4350));
-        registerPairs(new UTF8Char(7359), new UTF8Char(4351));
-        registerPairs(new UTF8Char(7680), new UTF8Char(7681));
-        registerPairs(new UTF8Char(7682), new UTF8Char(7683));
-        registerPairs(new UTF8Char(7684), new UTF8Char(7685));
-        registerPairs(new UTF8Char(7686), new UTF8Char(7687));
-        registerPairs(new UTF8Char(7688), new UTF8Char(7689));
-        registerPairs(new UTF8Char(7690), new UTF8Char(7691));
-        registerPairs(new UTF8Char(7692), new UTF8Char(7693));
-        registerPairs(new UTF8Char(7694), new UTF8Char(7695));
-        registerPairs(new UTF8Char(7696), new UTF8Char(7697));
-        registerPairs(new UTF8Char(7698), new UTF8Char(7699));
-        registerPairs(new UTF8Char(7700), new UTF8Char(7701));
-        registerPairs(new UTF8Char(7702), new UTF8Char(7703));
-        registerPairs(new UTF8Char(7704), new UTF8Char(7705));
-        registerPairs(new UTF8Char(7706), new UTF8Char(7707));
-        registerPairs(new UTF8Char(7708), new UTF8Char(7709));
-        registerPairs(new UTF8Char(7710), new UTF8Char(7711));
-        registerPairs(new UTF8Char(7712), new UTF8Char(7713));
-        registerPairs(new UTF8Char(7714), new UTF8Char(7715));
-        registerPairs(new UTF8Char(7716), new UTF8Char(7717));
-        registerPairs(new UTF8Char(7718), new UTF8Char(7719));
-        registerPairs(new UTF8Char(7720), new UTF8Char(7721));
-        registerPairs(new UTF8Char(7722), new UTF8Char(7723));
-        registerPairs(new UTF8Char(7724), new UTF8Char(7725));
-        registerPairs(new UTF8Char(7726), new UTF8Char(7727));
-        registerPairs(new UTF8Char(7728), new UTF8Char(7729));
-        registerPairs(new UTF8Char(7730), new UTF8Char(7731));
-        registerPairs(new UTF8Char(7732), new UTF8Char(7733));
-        registerPairs(new UTF8Char(7734), new UTF8Char(7735));
-        registerPairs(new UTF8Char(7736), new UTF8Char(7737));
-        registerPairs(new UTF8Char(7738), new UTF8Char(7739));
-        registerPairs(new UTF8Char(7740), new UTF8Char(7741));
-        registerPairs(new UTF8Char(7742), new UTF8Char(7743));
-        registerPairs(new UTF8Char(7744), new UTF8Char(7745));
-        registerPairs(new UTF8Char(7746), new UTF8Char(7747));
-        registerPairs(new UTF8Char(7748), new UTF8Char(7749));
-        registerPairs(new UTF8Char(7750), new UTF8Char(7751));
-        registerPairs(new UTF8Char(7752), new UTF8Char(7753));
-        registerPairs(new UTF8Char(7754), new UTF8Char(7755));
-        registerPairs(new UTF8Char(7756), new UTF8Char(7757));
-        registerPairs(new UTF8Char(7758), new UTF8Char(7759));
-        registerPairs(new UTF8Char(7760), new UTF8Char(7761));
-        registerPairs(new UTF8Char(7762), new UTF8Char(7763));
-        registerPairs(new UTF8Char(7764), new UTF8Char(7765));
-        registerPairs(new UTF8Char(7766), new UTF8Char(7767));
-        registerPairs(new UTF8Char(7768), new UTF8Char(7769));
-        registerPairs(new UTF8Char(7770), new UTF8Char(7771));
-        registerPairs(new UTF8Char(7772), new UTF8Char(7773));
-        registerPairs(new UTF8Char(7774), new UTF8Char(7775));
-        registerPairs(new UTF8Char(7776), new UTF8Char(7777));
-        registerPairs(new UTF8Char(7778), new UTF8Char(7779));
-        registerPairs(new UTF8Char(7780), new UTF8Char(7781));
-        registerPairs(new UTF8Char(7782), new UTF8Char(7783));
-        registerPairs(new UTF8Char(7784), new UTF8Char(7785));
-        registerPairs(new UTF8Char(7786), new UTF8Char(7787));
-        registerPairs(new UTF8Char(7788), new UTF8Char(7789));
-        registerPairs(new UTF8Char(7790), new UTF8Char(7791));
-        registerPairs(new UTF8Char(7792), new UTF8Char(7793));
-        registerPairs(new UTF8Char(7794), new UTF8Char(7795));
-        registerPairs(new UTF8Char(7796), new UTF8Char(7797));
-        registerPairs(new UTF8Char(7798), new UTF8Char(7799));
-        registerPairs(new UTF8Char(7800), new UTF8Char(7801));
-        registerPairs(new UTF8Char(7802), new UTF8Char(7803));
-        registerPairs(new UTF8Char(7804), new UTF8Char(7805));
-        registerPairs(new UTF8Char(7806), new UTF8Char(7807));
-        registerPairs(new UTF8Char(7808), new UTF8Char(7809));
-        registerPairs(new UTF8Char(7810), new UTF8Char(7811));
-        registerPairs(new UTF8Char(7812), new UTF8Char(7813));
-        registerPairs(new UTF8Char(7814), new UTF8Char(7815));
-        registerPairs(new UTF8Char(7816), new UTF8Char(7817));
-        registerPairs(new UTF8Char(7818), new UTF8Char(7819));
-        registerPairs(new UTF8Char(7820), new UTF8Char(7821));
-        registerPairs(new UTF8Char(7822), new UTF8Char(7823));
-        registerPairs(new UTF8Char(7824), new UTF8Char(7825));
-        registerPairs(new UTF8Char(7826), new UTF8Char(7827));
-        registerPairs(new UTF8Char(7828), new UTF8Char(7829));
-        registerPairs(new UTF8Char(7838), new UTF8Char(223));
-        registerPairs(new UTF8Char(7840), new UTF8Char(7841));
-        registerPairs(new UTF8Char(7842), new UTF8Char(7843));
-        registerPairs(new UTF8Char(7844), new UTF8Char(7845));
-        registerPairs(new UTF8Char(7846), new UTF8Char(7847));
-        registerPairs(new UTF8Char(7848), new UTF8Char(7849));
-        registerPairs(new UTF8Char(7850), new UTF8Char(7851));
-        registerPairs(new UTF8Char(7852), new UTF8Char(7853));
-        registerPairs(new UTF8Char(7854), new UTF8Char(7855));
-        registerPairs(new UTF8Char(7856), new UTF8Char(7857));
-        registerPairs(new UTF8Char(7858), new UTF8Char(7859));
-        registerPairs(new UTF8Char(7860), new UTF8Char(7861));
-        registerPairs(new UTF8Char(7862), new UTF8Char(7863));
-        registerPairs(new UTF8Char(7864), new UTF8Char(7865));
-        registerPairs(new UTF8Char(7866), new UTF8Char(7867));
-        registerPairs(new UTF8Char(7868), new UTF8Char(7869));
-        registerPairs(new UTF8Char(7870), new UTF8Char(7871));
-        registerPairs(new UTF8Char(7872), new UTF8Char(7873));
-        registerPairs(new UTF8Char(7874), new UTF8Char(7875));
-        registerPairs(new UTF8Char(7876), new UTF8Char(7877));
-        registerPairs(new UTF8Char(7878), new UTF8Char(7879));
-        registerPairs(new UTF8Char(7880), new UTF8Char(7881));
-        registerPairs(new UTF8Char(7882), new UTF8Char(7883));
-        registerPairs(new UTF8Char(7884), new UTF8Char(7885));
-        registerPairs(new UTF8Char(7886), new UTF8Char(7887));
-        registerPairs(new UTF8Char(7888), new UTF8Char(7889));
-        registerPairs(new UTF8Char(7890), new UTF8Char(7891));
-        registerPairs(new UTF8Char(7892), new UTF8Char(7893));
-        registerPairs(new UTF8Char(7894), new UTF8Char(7895));
-        registerPairs(new UTF8Char(7896), new UTF8Char(7897));
-        registerPairs(new UTF8Char(7898), new UTF8Char(7899));
-        registerPairs(new UTF8Char(7900), new UTF8Char(7901));
-        registerPairs(new UTF8Char(7902), new UTF8Char(7903));
-        registerPairs(new UTF8Char(7904), new UTF8Char(7905));
-        registerPairs(new UTF8Char(7906), new UTF8Char(7907));
-        registerPairs(new UTF8Char(7908), new UTF8Char(7909));
-        registerPairs(new UTF8Char(7910), new UTF8Char(7911));
-        registerPairs(new UTF8Char(7912), new UTF8Char(7913));
-        registerPairs(new UTF8Char(7914), new UTF8Char(7915));
-        registerPairs(new UTF8Char(7916), new UTF8Char(7917));
-        registerPairs(new UTF8Char(7918), new UTF8Char(7919));
-        registerPairs(new UTF8Char(7920), new UTF8Char(7921));
-        registerPairs(new UTF8Char(7922), new UTF8Char(7923));
-        registerPairs(new UTF8Char(7924), new UTF8Char(7925));
-        registerPairs(new UTF8Char(7926), new UTF8Char(7927));
-        registerPairs(new UTF8Char(7928), new UTF8Char(7929));
-        registerPairs(new UTF8Char(7930), new UTF8Char(7931));
-        registerPairs(new UTF8Char(7932), new UTF8Char(7933));
-        registerPairs(new UTF8Char(7934), new UTF8Char(7935));
-        registerPairs(new UTF8Char(7944), new UTF8Char(7936));
-        registerPairs(new UTF8Char(7945), new UTF8Char(7937));
-        registerPairs(new UTF8Char(7946), new UTF8Char(7938));
-        registerPairs(new UTF8Char(7947), new UTF8Char(7939));
-        registerPairs(new UTF8Char(7948), new UTF8Char(7940));
-        registerPairs(new UTF8Char(7949), new UTF8Char(7941));
-        registerPairs(new UTF8Char(7950), new UTF8Char(7942));
-        registerPairs(new UTF8Char(7951), new UTF8Char(7943));
-        registerPairs(new UTF8Char(7960), new UTF8Char(7952));
-        registerPairs(new UTF8Char(7961), new UTF8Char(7953));
-        registerPairs(new UTF8Char(7962), new UTF8Char(7954));
-        registerPairs(new UTF8Char(7963), new UTF8Char(7955));
-        registerPairs(new UTF8Char(7964), new UTF8Char(7956));
-        registerPairs(new UTF8Char(7965), new UTF8Char(7957));
-        registerPairs(new UTF8Char(7976), new UTF8Char(7968));
-        registerPairs(new UTF8Char(7977), new UTF8Char(7969));
-        registerPairs(new UTF8Char(7978), new UTF8Char(7970));
-        registerPairs(new UTF8Char(7979), new UTF8Char(7971));
-        registerPairs(new UTF8Char(7980), new UTF8Char(7972));
-        registerPairs(new UTF8Char(7981), new UTF8Char(7973));
-        registerPairs(new UTF8Char(7982), new UTF8Char(7974));
-        registerPairs(new UTF8Char(7983), new UTF8Char(7975));
-        registerPairs(new UTF8Char(7992), new UTF8Char(7984));
-        registerPairs(new UTF8Char(7993), new UTF8Char(7985));
-        registerPairs(new UTF8Char(7994), new UTF8Char(7986));
-        registerPairs(new UTF8Char(7995), new UTF8Char(7987));
-        registerPairs(new UTF8Char(7996), new UTF8Char(7988));
-        registerPairs(new UTF8Char(7997), new UTF8Char(7989));
-        registerPairs(new UTF8Char(7998), new UTF8Char(7990));
-        registerPairs(new UTF8Char(7999), new UTF8Char(7991));
-        registerPairs(new UTF8Char(8008), new UTF8Char(8000));
-        registerPairs(new UTF8Char(8009), new UTF8Char(8001));
-        registerPairs(new UTF8Char(8010), new UTF8Char(8002));
-        registerPairs(new UTF8Char(8011), new UTF8Char(8003));
-        registerPairs(new UTF8Char(8012), new UTF8Char(8004));
-        registerPairs(new UTF8Char(8013), new UTF8Char(8005));
-        registerPairs(new UTF8Char(8025), new UTF8Char(8017));
-        registerPairs(new UTF8Char(8027), new UTF8Char(8019));
-        registerPairs(new UTF8Char(8029), new UTF8Char(8021));
-        registerPairs(new UTF8Char(8031), new UTF8Char(8023));
-        registerPairs(new UTF8Char(8040), new UTF8Char(8032));
-        registerPairs(new UTF8Char(8041), new UTF8Char(8033));
-        registerPairs(new UTF8Char(8042), new UTF8Char(8034));
-        registerPairs(new UTF8Char(8043), new UTF8Char(8035));
-        registerPairs(new UTF8Char(8044), new UTF8Char(8036));
-        registerPairs(new UTF8Char(8045), new UTF8Char(8037));
-        registerPairs(new UTF8Char(8046), new UTF8Char(8038));
-        registerPairs(new UTF8Char(8047), new UTF8Char(8039));
-        registerPairs(new UTF8Char(8072), new UTF8Char(8064));
-        registerPairs(new UTF8Char(8073), new UTF8Char(8065));
-        registerPairs(new UTF8Char(8074), new UTF8Char(8066));
-        registerPairs(new UTF8Char(8075), new UTF8Char(8067));
-        registerPairs(new UTF8Char(8076), new UTF8Char(8068));
-        registerPairs(new UTF8Char(8077), new UTF8Char(8069));
-        registerPairs(new UTF8Char(8078), new UTF8Char(8070));
-        registerPairs(new UTF8Char(8079), new UTF8Char(8071));
-        registerPairs(new UTF8Char(8088), new UTF8Char(8080));
-        registerPairs(new UTF8Char(8089), new UTF8Char(8081));
-        registerPairs(new UTF8Char(8090), new UTF8Char(8082));
-        registerPairs(new UTF8Char(8091), new UTF8Char(8083));
-        registerPairs(new UTF8Char(8092), new UTF8Char(8084));
-        registerPairs(new UTF8Char(8093), new UTF8Char(8085));
-        registerPairs(new UTF8Char(8094), new UTF8Char(8086));
-        registerPairs(new UTF8Char(8095), new UTF8Char(8087));
-        registerPairs(new UTF8Char(8104), new UTF8Char(8096));
-        registerPairs(new UTF8Char(8105), new UTF8Char(8097));
-        registerPairs(new UTF8Char(8106), new UTF8Char(8098));
-        registerPairs(new UTF8Char(8107), new UTF8Char(8099));
-        registerPairs(new UTF8Char(8108), new UTF8Char(8100));
-        registerPairs(new UTF8Char(8109), new UTF8Char(8101));
-        registerPairs(new UTF8Char(8110), new UTF8Char(8102));
-        registerPairs(new UTF8Char(8111), new UTF8Char(8103));
-        registerPairs(new UTF8Char(8120), new UTF8Char(8112));
-        registerPairs(new UTF8Char(8121), new UTF8Char(8113));
-        registerPairs(new UTF8Char(8122), new UTF8Char(8048));
-        registerPairs(new UTF8Char(8123), new UTF8Char(8049));
-        registerPairs(new UTF8Char(8124), new UTF8Char(8115));
-        registerPairs(new UTF8Char(8136), new UTF8Char(8050));
-        registerPairs(new UTF8Char(8137), new UTF8Char(8051));
-        registerPairs(new UTF8Char(8138), new UTF8Char(8052));
-        registerPairs(new UTF8Char(8139), new UTF8Char(8053));
-        registerPairs(new UTF8Char(8140), new UTF8Char(8131));
-        registerPairs(new UTF8Char(8152), new UTF8Char(8144));
-        registerPairs(new UTF8Char(8153), new UTF8Char(8145));
-        registerPairs(new UTF8Char(8154), new UTF8Char(8054));
-        registerPairs(new UTF8Char(8155), new UTF8Char(8055));
-        registerPairs(new UTF8Char(8168), new UTF8Char(8160));
-        registerPairs(new UTF8Char(8169), new UTF8Char(8161));
-        registerPairs(new UTF8Char(8170), new UTF8Char(8058));
-        registerPairs(new UTF8Char(8171), new UTF8Char(8059));
-        registerPairs(new UTF8Char(8172), new UTF8Char(8165));
-        registerPairs(new UTF8Char(8184), new UTF8Char(8056));
-        registerPairs(new UTF8Char(8185), new UTF8Char(8057));
-        registerPairs(new UTF8Char(8186), new UTF8Char(8060));
-        registerPairs(new UTF8Char(8187), new UTF8Char(8061));
-        registerPairs(new UTF8Char(8188), new UTF8Char(8179));
-        registerPairs(new UTF8Char(8486), new UTF8Char(969));
-        registerPairs(new UTF8Char(8490), new UTF8Char(107));
-        registerPairs(new UTF8Char(8491), new UTF8Char(229));
-        registerPairs(new UTF8Char(8498), new UTF8Char(8526));
-        registerPairs(new UTF8Char(8544), new UTF8Char(8560));
-        registerPairs(new UTF8Char(8545), new UTF8Char(8561));
-        registerPairs(new UTF8Char(8546), new UTF8Char(8562));
-        registerPairs(new UTF8Char(8547), new UTF8Char(8563));
-        registerPairs(new UTF8Char(8548), new UTF8Char(8564));
-        registerPairs(new UTF8Char(8549), new UTF8Char(8565));
-        registerPairs(new UTF8Char(8550), new UTF8Char(8566));
-        registerPairs(new UTF8Char(8551), new UTF8Char(8567));
-        registerPairs(new UTF8Char(8552), new UTF8Char(8568));
-        registerPairs(new UTF8Char(8553), new UTF8Char(8569));
-        registerPairs(new UTF8Char(8554), new UTF8Char(8570));
-        registerPairs(new UTF8Char(8555), new UTF8Char(8571));
-        registerPairs(new UTF8Char(8556), new UTF8Char(8572));
-        registerPairs(new UTF8Char(8557), new UTF8Char(8573));
-        registerPairs(new UTF8Char(8558), new UTF8Char(8574));
-        registerPairs(new UTF8Char(8559), new UTF8Char(8575));
-        registerPairs(new UTF8Char(8579), new UTF8Char(8580));
-        registerPairs(new UTF8Char(9398), new UTF8Char(9424));
-        registerPairs(new UTF8Char(9399), new UTF8Char(9425));
-        registerPairs(new UTF8Char(9400), new UTF8Char(9426));
-        registerPairs(new UTF8Char(9401), new UTF8Char(9427));
-        registerPairs(new UTF8Char(9402), new UTF8Char(9428));
-        registerPairs(new UTF8Char(9403), new UTF8Char(9429));
-        registerPairs(new UTF8Char(9404), new UTF8Char(9430));
-        registerPairs(new UTF8Char(9405), new UTF8Char(9431));
-        registerPairs(new UTF8Char(9406), new UTF8Char(9432));
-        registerPairs(new UTF8Char(9407), new UTF8Char(9433));
-        registerPairs(new UTF8Char(9408), new UTF8Char(9434));
-        registerPairs(new UTF8Char(9409), new UTF8Char(9435));
-        registerPairs(new UTF8Char(9410), new UTF8Char(9436));
-        registerPairs(new UTF8Char(9411), new UTF8Char(9437));
-        registerPairs(new UTF8Char(9412), new UTF8Char(9438));
-        registerPairs(new UTF8Char(9413), new UTF8Char(9439));
-        registerPairs(new UTF8Char(9414), new UTF8Char(9440));
-        registerPairs(new UTF8Char(9415), new UTF8Char(9441));
-        registerPairs(new UTF8Char(9416), new UTF8Char(9442));
-        registerPairs(new UTF8Char(9417), new UTF8Char(9443));
-        registerPairs(new UTF8Char(9418), new UTF8Char(9444));
-        registerPairs(new UTF8Char(9419), new UTF8Char(9445));
-        registerPairs(new UTF8Char(9420), new UTF8Char(9446));
-        registerPairs(new UTF8Char(9421), new UTF8Char(9447));
-        registerPairs(new UTF8Char(9422), new UTF8Char(9448));
-        registerPairs(new UTF8Char(9423), new UTF8Char(9449));
-        registerPairs(new UTF8Char(11264), new UTF8Char(11312));
-        registerPairs(new UTF8Char(11265), new UTF8Char(11313));
-        registerPairs(new UTF8Char(11266), new UTF8Char(11314));
-        registerPairs(new UTF8Char(11267), new UTF8Char(11315));
-        registerPairs(new UTF8Char(11268), new UTF8Char(11316));
-        registerPairs(new UTF8Char(11269), new UTF8Char(11317));
-        registerPairs(new UTF8Char(11270), new UTF8Char(11318));
-        registerPairs(new UTF8Char(11271), new UTF8Char(11319));
-        registerPairs(new UTF8Char(11272), new UTF8Char(11320));
-        registerPairs(new UTF8Char(11273), new UTF8Char(11321));
-        registerPairs(new UTF8Char(11274), new UTF8Char(11322));
-        registerPairs(new UTF8Char(11275), new UTF8Char(11323));
-        registerPairs(new UTF8Char(11276), new UTF8Char(11324));
-        registerPairs(new UTF8Char(11277), new UTF8Char(11325));
-        registerPairs(new UTF8Char(11278), new UTF8Char(11326));
-        registerPairs(new UTF8Char(11279), new UTF8Char(11327));
-        registerPairs(new UTF8Char(11280), new UTF8Char(11328));
-        registerPairs(new UTF8Char(11281), new UTF8Char(11329));
-        registerPairs(new UTF8Char(11282), new UTF8Char(11330));
-        registerPairs(new UTF8Char(11283), new UTF8Char(11331));
-        registerPairs(new UTF8Char(11284), new UTF8Char(11332));
-        registerPairs(new UTF8Char(11285), new UTF8Char(11333));
-        registerPairs(new UTF8Char(11286), new UTF8Char(11334));
-        registerPairs(new UTF8Char(11287), new UTF8Char(11335));
-        registerPairs(new UTF8Char(11288), new UTF8Char(11336));
-        registerPairs(new UTF8Char(11289), new UTF8Char(11337));
-        registerPairs(new UTF8Char(11290), new UTF8Char(11338));
-        registerPairs(new UTF8Char(11291), new UTF8Char(11339));
-        registerPairs(new UTF8Char(11292), new UTF8Char(11340));
-        registerPairs(new UTF8Char(11293), new UTF8Char(11341));
-        registerPairs(new UTF8Char(11294), new UTF8Char(11342));
-        registerPairs(new UTF8Char(11295), new UTF8Char(11343));
-        registerPairs(new UTF8Char(11296), new UTF8Char(11344));
-        registerPairs(new UTF8Char(11297), new UTF8Char(11345));
-        registerPairs(new UTF8Char(11298), new UTF8Char(11346));
-        registerPairs(new UTF8Char(11299), new UTF8Char(11347));
-        registerPairs(new UTF8Char(11300), new UTF8Char(11348));
-        registerPairs(new UTF8Char(11301), new UTF8Char(11349));
-        registerPairs(new UTF8Char(11302), new UTF8Char(11350));
-        registerPairs(new UTF8Char(11303), new UTF8Char(11351));
-        registerPairs(new UTF8Char(11304), new UTF8Char(11352));
-        registerPairs(new UTF8Char(11305), new UTF8Char(11353));
-        registerPairs(new UTF8Char(11306), new UTF8Char(11354));
-        registerPairs(new UTF8Char(11307), new UTF8Char(11355));
-        registerPairs(new UTF8Char(11308), new UTF8Char(11356));
-        registerPairs(new UTF8Char(11309), new UTF8Char(11357));
-        registerPairs(new UTF8Char(11310), new UTF8Char(11358));
-        registerPairs(new UTF8Char(11360), new UTF8Char(11361));
-        registerPairs(new UTF8Char(11362), new UTF8Char(619));
-        registerPairs(new UTF8Char(11363), new UTF8Char(7549));
-        registerPairs(new UTF8Char(11364), new UTF8Char(637));
-        registerPairs(new UTF8Char(11367), new UTF8Char(11368));
-        registerPairs(new UTF8Char(11369), new UTF8Char(11370));
-        registerPairs(new UTF8Char(11371), new UTF8Char(11372));
-        registerPairs(new UTF8Char(11373), new UTF8Char(593));
-        registerPairs(new UTF8Char(11374), new UTF8Char(625));
-        registerPairs(new UTF8Char(11375), new UTF8Char(592));
-        registerPairs(new UTF8Char(11376), new UTF8Char(594));
-        registerPairs(new UTF8Char(11378), new UTF8Char(11379));
-        registerPairs(new UTF8Char(11381), new UTF8Char(11382));
-        registerPairs(new UTF8Char(11390), new UTF8Char(575));
-        registerPairs(new UTF8Char(11391), new UTF8Char(576));
-        registerPairs(new UTF8Char(11392), new UTF8Char(11393));
-        registerPairs(new UTF8Char(11394), new UTF8Char(11395));
-        registerPairs(new UTF8Char(11396), new UTF8Char(11397));
-        registerPairs(new UTF8Char(11398), new UTF8Char(11399));
-        registerPairs(new UTF8Char(11400), new UTF8Char(11401));
-        registerPairs(new UTF8Char(11402), new UTF8Char(11403));
-        registerPairs(new UTF8Char(11404), new UTF8Char(11405));
-        registerPairs(new UTF8Char(11406), new UTF8Char(11407));
-        registerPairs(new UTF8Char(11408), new UTF8Char(11409));
-        registerPairs(new UTF8Char(11410), new UTF8Char(11411));
-        registerPairs(new UTF8Char(11412), new UTF8Char(11413));
-        registerPairs(new UTF8Char(11414), new UTF8Char(11415));
-        registerPairs(new UTF8Char(11416), new UTF8Char(11417));
-        registerPairs(new UTF8Char(11418), new UTF8Char(11419));
-        registerPairs(new UTF8Char(11420), new UTF8Char(11421));
-        registerPairs(new UTF8Char(11422), new UTF8Char(11423));
-        registerPairs(new UTF8Char(11424), new UTF8Char(11425));
-        registerPairs(new UTF8Char(11426), new UTF8Char(11427));
-        registerPairs(new UTF8Char(11428), new UTF8Char(11429));
-        registerPairs(new UTF8Char(11430), new UTF8Char(11431));
-        registerPairs(new UTF8Char(11432), new UTF8Char(11433));
-        registerPairs(new UTF8Char(11434), new UTF8Char(11435));
-        registerPairs(new UTF8Char(11436), new UTF8Char(11437));
-        registerPairs(new UTF8Char(11438), new UTF8Char(11439));
-        registerPairs(new UTF8Char(11440), new UTF8Char(11441));
-        registerPairs(new UTF8Char(11442), new UTF8Char(11443));
-        registerPairs(new UTF8Char(11444), new UTF8Char(11445));
-        registerPairs(new UTF8Char(11446), new UTF8Char(11447));
-        registerPairs(new UTF8Char(11448), new UTF8Char(11449));
-        registerPairs(new UTF8Char(11450), new UTF8Char(11451));
-        registerPairs(new UTF8Char(11452), new UTF8Char(11453));
-        registerPairs(new UTF8Char(11454), new UTF8Char(11455));
-        registerPairs(new UTF8Char(11456), new UTF8Char(11457));
-        registerPairs(new UTF8Char(11458), new UTF8Char(11459));
-        registerPairs(new UTF8Char(11460), new UTF8Char(11461));
-        registerPairs(new UTF8Char(11462), new UTF8Char(11463));
-        registerPairs(new UTF8Char(11464), new UTF8Char(11465));
-        registerPairs(new UTF8Char(11466), new UTF8Char(11467));
-        registerPairs(new UTF8Char(11468), new UTF8Char(11469));
-        registerPairs(new UTF8Char(11470), new UTF8Char(11471));
-        registerPairs(new UTF8Char(11472), new UTF8Char(11473));
-        registerPairs(new UTF8Char(11474), new UTF8Char(11475));
-        registerPairs(new UTF8Char(11476), new UTF8Char(11477));
-        registerPairs(new UTF8Char(11478), new UTF8Char(11479));
-        registerPairs(new UTF8Char(11480), new UTF8Char(11481));
-        registerPairs(new UTF8Char(11482), new UTF8Char(11483));
-        registerPairs(new UTF8Char(11484), new UTF8Char(11485));
-        registerPairs(new UTF8Char(11486), new UTF8Char(11487));
-        registerPairs(new UTF8Char(11488), new UTF8Char(11489));
-        registerPairs(new UTF8Char(11490), new UTF8Char(11491));
-        registerPairs(new UTF8Char(11499), new UTF8Char(11500));
-        registerPairs(new UTF8Char(11501), new UTF8Char(11502));
-        registerPairs(new UTF8Char(11506), new UTF8Char(11507));
-        registerPairs(new UTF8Char(42560), new UTF8Char(42561));
-        registerPairs(new UTF8Char(42562), new UTF8Char(42563));
-        registerPairs(new UTF8Char(42564), new UTF8Char(42565));
-        registerPairs(new UTF8Char(42566), new UTF8Char(42567));
-        registerPairs(new UTF8Char(42568), new UTF8Char(42569));
-        registerPairs(new UTF8Char(42570), new UTF8Char(42571));
-        registerPairs(new UTF8Char(42572), new UTF8Char(42573));
-        registerPairs(new UTF8Char(42574), new UTF8Char(42575));
-        registerPairs(new UTF8Char(42576), new UTF8Char(42577));
-        registerPairs(new UTF8Char(42578), new UTF8Char(42579));
-        registerPairs(new UTF8Char(42580), new UTF8Char(42581));
-        registerPairs(new UTF8Char(42582), new UTF8Char(42583));
-        registerPairs(new UTF8Char(42584), new UTF8Char(42585));
-        registerPairs(new UTF8Char(42586), new UTF8Char(42587));
-        registerPairs(new UTF8Char(42588), new UTF8Char(42589));
-        registerPairs(new UTF8Char(42590), new UTF8Char(42591));
-        registerPairs(new UTF8Char(42592), new UTF8Char(42593));
-        registerPairs(new UTF8Char(42594), new UTF8Char(42595));
-        registerPairs(new UTF8Char(42596), new UTF8Char(42597));
-        registerPairs(new UTF8Char(42598), new UTF8Char(42599));
-        registerPairs(new UTF8Char(42600), new UTF8Char(42601));
-        registerPairs(new UTF8Char(42602), new UTF8Char(42603));
-        registerPairs(new UTF8Char(42604), new UTF8Char(42605));
-        registerPairs(new UTF8Char(42624), new UTF8Char(42625));
-        registerPairs(new UTF8Char(42626), new UTF8Char(42627));
-        registerPairs(new UTF8Char(42628), new UTF8Char(42629));
-        registerPairs(new UTF8Char(42630), new UTF8Char(42631));
-        registerPairs(new UTF8Char(42632), new UTF8Char(42633));
-        registerPairs(new UTF8Char(42634), new UTF8Char(42635));
-        registerPairs(new UTF8Char(42636), new UTF8Char(42637));
-        registerPairs(new UTF8Char(42638), new UTF8Char(42639));
-        registerPairs(new UTF8Char(42640), new UTF8Char(42641));
-        registerPairs(new UTF8Char(42642), new UTF8Char(42643));
-        registerPairs(new UTF8Char(42644), new UTF8Char(42645));
-        registerPairs(new UTF8Char(42646), new UTF8Char(42647));
-        registerPairs(new UTF8Char(42648), new UTF8Char(42649));
-        registerPairs(new UTF8Char(42650), new UTF8Char(42651));
-        registerPairs(new UTF8Char(42786), new UTF8Char(42787));
-        registerPairs(new UTF8Char(42788), new UTF8Char(42789));
-        registerPairs(new UTF8Char(42790), new UTF8Char(42791));
-        registerPairs(new UTF8Char(42792), new UTF8Char(42793));
-        registerPairs(new UTF8Char(42794), new UTF8Char(42795));
-        registerPairs(new UTF8Char(42796), new UTF8Char(42797));
-        registerPairs(new UTF8Char(42798), new UTF8Char(42799));
-        registerPairs(new UTF8Char(42802), new UTF8Char(42803));
-        registerPairs(new UTF8Char(42804), new UTF8Char(42805));
-        registerPairs(new UTF8Char(42806), new UTF8Char(42807));
-        registerPairs(new UTF8Char(42808), new UTF8Char(42809));
-        registerPairs(new UTF8Char(42810), new UTF8Char(42811));
-        registerPairs(new UTF8Char(42812), new UTF8Char(42813));
-        registerPairs(new UTF8Char(42814), new UTF8Char(42815));
-        registerPairs(new UTF8Char(42816), new UTF8Char(42817));
-        registerPairs(new UTF8Char(42818), new UTF8Char(42819));
-        registerPairs(new UTF8Char(42820), new UTF8Char(42821));
-        registerPairs(new UTF8Char(42822), new UTF8Char(42823));
-        registerPairs(new UTF8Char(42824), new UTF8Char(42825));
-        registerPairs(new UTF8Char(42826), new UTF8Char(42827));
-        registerPairs(new UTF8Char(42828), new UTF8Char(42829));
-        registerPairs(new UTF8Char(42830), new UTF8Char(42831));
-        registerPairs(new UTF8Char(42832), new UTF8Char(42833));
-        registerPairs(new UTF8Char(42834), new UTF8Char(42835));
-        registerPairs(new UTF8Char(42836), new UTF8Char(42837));
-        registerPairs(new UTF8Char(42838), new UTF8Char(42839));
-        registerPairs(new UTF8Char(42840), new UTF8Char(42841));
-        registerPairs(new UTF8Char(42842), new UTF8Char(42843));
-        registerPairs(new UTF8Char(42844), new UTF8Char(42845));
-        registerPairs(new UTF8Char(42846), new UTF8Char(42847));
-        registerPairs(new UTF8Char(42848), new UTF8Char(42849));
-        registerPairs(new UTF8Char(42850), new UTF8Char(42851));
-        registerPairs(new UTF8Char(42852), new UTF8Char(42853));
-        registerPairs(new UTF8Char(42854), new UTF8Char(42855));
-        registerPairs(new UTF8Char(42856), new UTF8Char(42857));
-        registerPairs(new UTF8Char(42858), new UTF8Char(42859));
-        registerPairs(new UTF8Char(42860), new UTF8Char(42861));
-        registerPairs(new UTF8Char(42862), new UTF8Char(42863));
-        registerPairs(new UTF8Char(42873), new UTF8Char(42874));
-        registerPairs(new UTF8Char(42875), new UTF8Char(42876));
-        registerPairs(new UTF8Char(42877), new UTF8Char(7545));
-        registerPairs(new UTF8Char(42878), new UTF8Char(42879));
-        registerPairs(new UTF8Char(42880), new UTF8Char(42881));
-        registerPairs(new UTF8Char(42882), new UTF8Char(42883));
-        registerPairs(new UTF8Char(42884), new UTF8Char(42885));
-        registerPairs(new UTF8Char(42886), new UTF8Char(42887));
-        registerPairs(new UTF8Char(42891), new UTF8Char(42892));
-        registerPairs(new UTF8Char(42893), new UTF8Char(613));
-        registerPairs(new UTF8Char(42896), new UTF8Char(42897));
-        registerPairs(new UTF8Char(42898), new UTF8Char(42899));
-        registerPairs(new UTF8Char(42902), new UTF8Char(42903));
-        registerPairs(new UTF8Char(42904), new UTF8Char(42905));
-        registerPairs(new UTF8Char(42906), new UTF8Char(42907));
-        registerPairs(new UTF8Char(42908), new UTF8Char(42909));
-        registerPairs(new UTF8Char(42910), new UTF8Char(42911));
-        registerPairs(new UTF8Char(42912), new UTF8Char(42913));
-        registerPairs(new UTF8Char(42914), new UTF8Char(42915));
-        registerPairs(new UTF8Char(42916), new UTF8Char(42917));
-        registerPairs(new UTF8Char(42918), new UTF8Char(42919));
-        registerPairs(new UTF8Char(42920), new UTF8Char(42921));
-        registerPairs(new UTF8Char(42922), new UTF8Char(614));
-        registerPairs(new UTF8Char(42923), new UTF8Char(604));
-        registerPairs(new UTF8Char(42924), new UTF8Char(609));
-        registerPairs(new UTF8Char(42925), new UTF8Char(620));
-        registerPairs(new UTF8Char(42926), new UTF8Char(618));
-        registerPairs(new UTF8Char(42928), new UTF8Char(670));
-        registerPairs(new UTF8Char(42929), new UTF8Char(647));
-        registerPairs(new UTF8Char(42930), new UTF8Char(669));
-        registerPairs(new UTF8Char(42931), new UTF8Char(43859));
-        registerPairs(new UTF8Char(42932), new UTF8Char(42933));
-        registerPairs(new UTF8Char(42934), new UTF8Char(42935));
-        registerPairs(new UTF8Char(42936), new UTF8Char(42937));
-        registerPairs(new UTF8Char(42938), new UTF8Char(42939));
-        registerPairs(new UTF8Char(42940), new UTF8Char(42941));
-        registerPairs(new UTF8Char(42942), new UTF8Char(42943));
-        registerPairs(new UTF8Char(42946), new UTF8Char(42947));
-        registerPairs(new UTF8Char(42948), new UTF8Char(42900));
-        registerPairs(new UTF8Char(42949), new UTF8Char(642));
-        registerPairs(new UTF8Char(42950), new UTF8Char(7566));
-        registerPairs(new UTF8Char(65313), new UTF8Char(65345));
-        registerPairs(new UTF8Char(65314), new UTF8Char(65346));
-        registerPairs(new UTF8Char(65315), new UTF8Char(65347));
-        registerPairs(new UTF8Char(65316), new UTF8Char(65348));
-        registerPairs(new UTF8Char(65317), new UTF8Char(65349));
-        registerPairs(new UTF8Char(65318), new UTF8Char(65350));
-        registerPairs(new UTF8Char(65319), new UTF8Char(65351));
-        registerPairs(new UTF8Char(65320), new UTF8Char(65352));
-        registerPairs(new UTF8Char(65321), new UTF8Char(65353));
-        registerPairs(new UTF8Char(65322), new UTF8Char(65354));
-        registerPairs(new UTF8Char(65323), new UTF8Char(65355));
-        registerPairs(new UTF8Char(65324), new UTF8Char(65356));
-        registerPairs(new UTF8Char(65325), new UTF8Char(65357));
-        registerPairs(new UTF8Char(65326), new UTF8Char(65358));
-        registerPairs(new UTF8Char(65327), new UTF8Char(65359));
-        registerPairs(new UTF8Char(65328), new UTF8Char(65360));
-        registerPairs(new UTF8Char(65329), new UTF8Char(65361));
-        registerPairs(new UTF8Char(65330), new UTF8Char(65362));
-        registerPairs(new UTF8Char(65331), new UTF8Char(65363));
-        registerPairs(new UTF8Char(65332), new UTF8Char(65364));
-        registerPairs(new UTF8Char(65333), new UTF8Char(65365));
-        registerPairs(new UTF8Char(65334), new UTF8Char(65366));
-        registerPairs(new UTF8Char(65335), new UTF8Char(65367));
-        registerPairs(new UTF8Char(65336), new UTF8Char(65368));
-        registerPairs(new UTF8Char(65337), new UTF8Char(65369));
-        registerPairs(new UTF8Char(65338), new UTF8Char(65370));
-    }
-}
+package rege.rege.utf8chr;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.GatheringByteChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8Sequence
+implements Comparable<UTF8Sequence>, Iterable<UTF8Char> {
+    /**
+     * Where to store the encoded units of the characters.
+     */
+    private final byte[] bytes;
+    /**
+     * Range of {@link #bytes} used by this sequence.
+     */
+    private final int byteStart;
+    private final int byteEnd;
+    /**
+     * Absolute byte offset of every {@code (1 << boundsShift)}th character,
+     * counted from {@link #charStart}'s origin, or null if every unit is
+     * 1 byte long.
+     */
+    private final int[] bounds;
+    private final int boundsShift;
+    private final int charStart;
+    private final int length;
+    /**
+     * Whether every unit is the shortest encoding of its codepoint and can
+     * be walked by its first byte, so that equal characters are equal bytes
+     * and no unit starts inside another one.
+     */
+    private final boolean shortest;
+
+    /**
+     * Line boundaries from Python's {@code str.splitlines}. {@code \r\n}
+     * is one boundary.
+     */
+    private static final CodepointSet LINEBREAK_SET;
+    /**
+     * Whitespace characters from Python.
+     */
+    public static final UTF8Sequence WHITESPACES;
+    /**
+     * Decimal characters from Python.
+     */
+    public static final UTF8Sequence DECIMALS;
+    /**
+     * Digit characters from Python.
+     */
+    public static final UTF8Sequence DIGITS;
+    /**
+     * Numeric characters from Python.
+     */
+    public static final UTF8Sequence NUMERICS;
+    /**
+     * {@link #WHITESPACES}, {@link #DECIMALS}, {@link #DIGITS} and
+     * {@link #NUMERICS} as sets.
+     */
+    public static final CodepointSet WHITESPACE_SET;
+    public static final CodepointSet DECIMAL_SET;
+    public static final CodepointSet DIGIT_SET;
+    public static final CodepointSet NUMERIC_SET;
+    /**
+     * Codepoints {@code 0} to {@code 32}, stripped by {@link #trim()}.
+     */
+    private static final CodepointSet TRIMMED_SET;
+    private static final Map<UTF8Char, Iterable<UTF8Char>> TOLOWERS;
+    private static final Map<UTF8Char, Iterable<UTF8Char>> TOUPPERS;
+    /**
+     * Per-thread buffer to decode direct {@link ByteBuffer}s from. It is
+     * taken out while in use, so an error handler decoding again gets its
+     * own.
+     */
+    private static final ThreadLocal<byte[]> DIRECT_WINDOW =
+    new ThreadLocal<byte[]>();
+    private static final int DIRECT_WINDOW_SIZE = 8192;
+    /**
+     * The least count of bytes worth decoding in a task of its own.
+     */
+    private static final int PARALLEL_CHUNK = 1 << 20;
+
+    /**
+     * Byte classes of the decoder: {@code 0} for ASCII, {@code 1} for
+     * continuation bytes, {@code 2} to {@code 7} for lead bytes of that byte
+     * length, {@code 8} for {@code 0xff}.
+     */
+    private static final byte[] DECODE_CLASSES = new byte[256];
+    private static final int DECODE_CLASS_COUNT = 9;
+    private static final int DECODE_REJECT = 7;
+    /**
+     * Transitions of the decoder, indexed by
+     * {@code state * DECODE_CLASS_COUNT + class}. State {@code 0} accepts,
+     * state {@code k} below {@link #DECODE_REJECT} awaits {@code k} more
+     * continuation bytes.
+     */
+    private static final byte[] DECODE_STATES =
+    new byte[(DECODE_REJECT + 1) * DECODE_CLASS_COUNT];
+
+    /**
+     * @param chars Create a new UTF8Sequence with the characters in the array.
+     * @throws NullPointerException If the array or one of its element is null.
+     */
+    public UTF8Sequence(UTF8Char[] chars) {
+        this(packChars(chars));
+    }
+
+    /**
+     * @param chars Create a new UTF8Sequence with the characters in the
+     * iterable.
+     * @throws NullPointerException If the iterable or one of its next is null.
+     */
+    public UTF8Sequence(Iterable<UTF8Char> chars) {
+        this(new UTF8SequenceBuilder(
+            (chars instanceof Collection) ? ((Collection<?>)chars).size() : 16
+        ).append(chars).toUTF8Sequence());
+    }
+
+    /**
+     * @param codepoints Create a new UTF8Sequence with the character
+     * codepoints in the array.
+     * @throws NullPointerException If the array is null.
+     */
+    public UTF8Sequence(long[] codepoints) {
+        this(packCodepoints(codepoints));
+    }
+
+    /**
+     * @param codepoints Create a new UTF8Sequence with the character
+     * codepoints in the array.
+     * @throws NullPointerException If the array or one of its element is null.
+     */
+    public UTF8Sequence(Long[] codepoints) {
+        this(packCodepoints(codepoints));
+    }
+
+    /**
+     * @param string Create a new UTF8Sequence converts from
+     * {@link java.lang.String}.
+     * @throws NullPointerException If the string is null.
+     */
+    public UTF8Sequence(String string) {
+        this(packString(string));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Long.toString(i))}. @see
+     * {@link java.lang.Long}, {@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(long i) {
+        this(Long.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Integer.toString(i))}.
+     * @see {@link java.lang.Integer},{@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(int i) {
+        this(Integer.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Short.toString(i))}. @see
+     * {@link java.lang.Short}, {@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(short i) {
+        this(Short.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Byte.toString(i))}. @see
+     * {@link java.lang.Byte}, {@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(byte i) {
+        this(Byte.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Float.toString(i))}. @see
+     * {@link java.lang.Float}, {@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(float i) {
+        this(Float.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to {@code new UTF8Sequence(Double.toString(i))}.
+     * @see {@link java.lang.Double}, {@link #UTF8Sequence(String)}
+     */
+    public UTF8Sequence(double i) {
+        this(Double.toString(i));
+    }
+
+    /**
+     * @param i Equivalent to
+     * {@code new UTF8Sequence(new UTF8Char[]&#123;i&#125;)}. @see
+     * {@link #UTF8Sequence(UTF8Char[])}
+     * @throws NullPointerException If the character is null.
+     * @see UTF8Char
+     */
+    public UTF8Sequence(UTF8Char i) {
+        this(new UTF8Char[]{i});
+    }
+
+    /**
+     * @param i Equivalent to
+     * {@code new UTF8Sequence(new UTF8Char[]&#123;new UTF8Char(i)&#125;)}.
+     * @see {@link #UTF8Sequence(UTF8Char[])}
+     */
+    public UTF8Sequence(char i) {
+        this(new UTF8Char[]{UTF8Char.valueOf(i)});
+    }
+
+    /**
+     * Create a new empty UTF8Sequence.
+     */
+    public UTF8Sequence() {
+        this(new long[0]);
+    }
+
+    /**
+     * Create a new UTF8Sequence sharing the storage of another one.
+     */
+    private UTF8Sequence(UTF8Sequence seq) {
+        this(seq.bytes, seq.byteStart, seq.byteEnd, seq.bounds,
+             seq.boundsShift, seq.charStart, seq.length, seq.shortest);
+    }
+
+    /**
+     * Create a new UTF8Sequence over encoded units, taking ownership of the
+     * arrays.
+     */
+    UTF8Sequence(byte[] bytes, int byteStart, int byteEnd, int[] bounds,
+                 int boundsShift, int charStart, int length,
+                 boolean shortest) {
+        this.bytes = bytes;
+        this.byteStart = byteStart;
+        this.byteEnd = byteEnd;
+        this.bounds = bounds;
+        this.boundsShift = boundsShift;
+        this.charStart = charStart;
+        this.length = length;
+        this.shortest = shortest;
+    }
+
+    /**
+     * @return A builder capacity for an estimated byte length.
+     */
+    private static int capacityOf(long size) {
+        return (int)Math.min(size, 0x7ffffff7L);
+    }
+
+    private static UTF8Sequence packChars(UTF8Char[] chars) {
+        long size = 0L;
+        for (int i = 0; i < chars.length; i++) {
+            size += chars[i].getByteLength();
+        }
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(size));
+        for (int i = 0; i < chars.length; i++) {
+            B.append(chars[i]);
+        }
+        return B.toUTF8Sequence();
+    }
+
+    private static UTF8Sequence packCodepoints(long[] codepoints) {
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(codepoints.length);
+        for (int i = 0; i < codepoints.length; i++) {
+            B.append(UTF8Char.valueOf(codepoints[i]));
+        }
+        return B.toUTF8Sequence();
+    }
+
+    private static UTF8Sequence packCodepoints(Long[] codepoints) {
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(codepoints.length);
+        for (int i = 0; i < codepoints.length; i++) {
+            B.append(UTF8Char.valueOf(codepoints[i].longValue()));
+        }
+        return B.toUTF8Sequence();
+    }
+
+    private static UTF8Sequence packString(String string) {
+        final int LEN = string.length();
+        int size = 0;
+        for (int i = 0; i < LEN; i++) {
+            final char C = string.charAt(i);
+            if (C < 0x80) {
+                size++;
+            } else if (C < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(C) && i + 1 < LEN &&
+                       Character.isLowSurrogate(string.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        if (size == LEN) {
+            final byte[] DATA = new byte[LEN];
+            for (int i = 0; i < LEN; i++) {
+                DATA[i] = (byte)(string.charAt(i));
+            }
+            return new UTF8Sequence(DATA, 0, LEN, null,
+                                    UTF8SequenceBuilder.SPARSE_SHIFT, 0, LEN,
+                                    true);
+        }
+        return new UTF8SequenceBuilder(size).append(string).toUTF8Sequence();
+    }
+
+    /**
+     * @param i The index of a character, {@code 0 <= i <= length}.
+     * @return The byte offset where the character starts.
+     */
+    int posOf(int i) {
+        if (this.bounds == null) {
+            return this.byteStart + i;
+        }
+        final int G = this.charStart + i;
+        int pos = this.bounds[G >>> this.boundsShift];
+        for (int r = G & ((1 << this.boundsShift) - 1); r > 0; r--) {
+            pos += UTF8Char.WIDTHS[this.bytes[pos] & 0xff];
+        }
+        return pos;
+    }
+
+    /**
+     * @param i The index of a character, {@code 0 <= i < length}.
+     * @param pos The byte offset where the character starts.
+     * @return The byte offset where the character ends.
+     */
+    int nextPos(int i, int pos) {
+        if (this.bounds != null && this.boundsShift == 0) {
+            return this.bounds[this.charStart + i + 1];
+        }
+        return pos + UTF8Char.WIDTHS[this.bytes[pos] & 0xff];
+    }
+
+    /**
+     * @param i The index of a character, {@code 0 < i <= length}.
+     * @param pos The byte offset where the character starts.
+     * @return The byte offset where the previous character starts.
+     */
+    private int prevPos(int i, int pos) {
+        if (this.bounds == null) {
+            return pos - 1;
+        }
+        if (this.boundsShift == 0) {
+            return this.bounds[this.charStart + i - 1];
+        }
+        do {
+            pos--;
+        } while ((this.bytes[pos] & 0xc0) == 0x80);
+        return pos;
+    }
+
+    /**
+     * @return The codepoint of the unit in {@code [pos, end)}.
+     */
+    long ordAt(int pos, int end) {
+        if (end - pos == 1 && this.bytes[pos] >= 0) {
+            return this.bytes[pos];
+        }
+        return UTF8Char.decode(this.bytes, pos, end - pos);
+    }
+
+    /**
+     * @return Whether some units may not be walked by their first byte.
+     */
+    private boolean isDense() {
+        return this.bounds != null && this.boundsShift == 0;
+    }
+
+    /**
+     * @return A sequence of characters in {@code [start, end)} sharing the
+     * storage of this one, with {@code pos} and {@code end} already located.
+     */
+    private UTF8Sequence view(int start, int end, int pos, int endPos) {
+        return new UTF8Sequence(this.bytes, pos, endPos, this.bounds,
+                                this.boundsShift, this.charStart + start,
+                                end - start, this.shortest);
+    }
+
+    /**
+     * @return Whether the encoded units of two sequences are identical.
+     */
+    private boolean sameBytes(UTF8Sequence o) {
+        final int LEN = this.byteEnd - this.byteStart;
+        if (LEN != o.byteEnd - o.byteStart) {
+            return false;
+        }
+        for (int i = 0; i < LEN; i++) {
+            if (this.bytes[this.byteStart + i] != o.bytes[o.byteStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append characters in {@code [start, end)} to a builder.
+     */
+    void appendTo(UTF8SequenceBuilder builder, int start, int end) {
+        if (start < end) {
+            this.appendTo(builder, start, end, this.posOf(start),
+                          this.posOf(end));
+        }
+    }
+
+    /**
+     * Append characters in {@code [start, end)} to a builder, with
+     * {@code pos} and {@code endPos} already located.
+     */
+    void appendTo(UTF8SequenceBuilder builder, int start, int end, int pos,
+                  int endPos) {
+        if (start >= end) {
+            return;
+        }
+        if (this.bounds == null) {
+            builder.appendSingles(this.bytes, pos, end - start);
+            return;
+        }
+        if (!(this.isDense())) {
+            builder.appendWalkable(this.bytes, pos, endPos - pos,
+                                   end - start, this.shortest);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            builder.appendUnit(this.bytes, pos, NEXT - pos);
+            pos = NEXT;
+        }
+    }
+
+    //@Override
+    public Iterator<UTF8Char> iterator() {
+        return new Iterator<UTF8Char>() {
+            private int index = 0;
+            private int pos = UTF8Sequence.this.posOf(0);
+
+            //@Override
+            public boolean hasNext() {
+                return this.index < UTF8Sequence.this.length;
+            }
+
+            //@Override
+            public UTF8Char next() {
+                if (this.index >= UTF8Sequence.this.length) {
+                    throw new NoSuchElementException();
+                }
+                final int NEXT =
+                UTF8Sequence.this.nextPos(this.index, this.pos);
+                final UTF8Char R = UTF8Char.fromUnit(
+                    UTF8Sequence.this.bytes, this.pos, NEXT - this.pos
+                );
+                this.index++;
+                this.pos = NEXT;
+                return R;
+            }
+
+            //@Override
+            public void remove() {
+                throw new UnsupportedOperationException(
+                    "UTF8Sequence is immutable"
+                );
+            }
+        };
+    }
+
+    /**
+     * @return An array contains 1-length {@link UTF8Sequence}s.
+     * e.g. {@code new UTF8Sequence("test").singles()} will return
+     * {@code new UTF8Sequence[]&#123;new UTF8Sequence('t'),
+     * new UTF8Sequence('e'), new UTF8Sequence('s'),
+     * new UTF8Sequence('t')&#125;}.
+     */
+    public UTF8Sequence[] singles() {
+        final UTF8Sequence[] R = new UTF8Sequence[this.length];
+        int pos = this.posOf(0);
+        for (int i = 0; i < R.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            R[i] = this.view(i, i + 1, pos, NEXT);
+            pos = NEXT;
+        }
+        return R;
+    }
+
+    /**
+     * @return The length of this sequence. e.g.
+     * {@code new UTF8Sequence("test").length()} will return {@code 4}.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * @return The length of this sequence encoded to bytes. e.g.
+     * {@code new UTF8Sequence("\u6d4b\u8bd5").length()} will return {@code 6}.
+     */
+    public long byteLength() {
+        return this.byteEnd - this.byteStart;
+    }
+
+    /**
+     * @return A read-only list view of the encoded sequence. The bytes are
+     * not copied, and boxing them allocates nothing.
+     */
+    public List<Byte> flattenBytes() {
+        return new AbstractList<Byte>() {
+            @Override
+            public Byte get(int index) {
+                if (index < 0 ||
+                    index >= UTF8Sequence.this.byteEnd -
+                             UTF8Sequence.this.byteStart) {
+                    throw new IndexOutOfBoundsException(
+                        Integer.toString(index)
+                    );
+                }
+                return Byte.valueOf(
+                    UTF8Sequence.this.bytes[UTF8Sequence.this.byteStart +
+                                            index]
+                );
+            }
+
+            @Override
+            public int size() {
+                return UTF8Sequence.this.byteEnd - UTF8Sequence.this.byteStart;
+            }
+        };
+    }
+
+    /**
+     * @return A read-only buffer over the encoded sequence, from position
+     * {@code 0} to limit {@code this.byteLength()}. The bytes are not
+     * copied.
+     */
+    public ByteBuffer asByteBuffer() {
+        return this.wrapBytes().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a byte array of encoded sequence. e.g.
+     * {@code new UTF8Sequence("\u6d4b\u8bd5").getBytes()} will return
+     * {@code new byte[]&#123;-26, -75, -117, -24, -81, -107&#125;}.
+     * @throws IndexOutOfBoundsException if
+     * {@code this.byteLength() > 0x7fffffffL}. @see
+     * {@link UTF8Sequence#byteLength()}.
+     */
+    public byte[] getBytes() throws IndexOutOfBoundsException {
+        return Arrays.copyOfRange(this.bytes, this.byteStart, this.byteEnd);
+    }
+
+    /**
+     * Copy the encoded sequence into an array.
+     * @param dst The array to write to.
+     * @param off Where to start writing.
+     * @return The count of bytes written, {@code this.byteLength()}.
+     * @throws IndexOutOfBoundsException If the encoded sequence does not fit
+     * in {@code dst} from {@code off}.
+     */
+    public int encodeTo(byte[] dst, int off) throws IndexOutOfBoundsException {
+        final int LEN = this.byteEnd - this.byteStart;
+        if (off < 0 || off > dst.length - LEN) {
+            throw new IndexOutOfBoundsException(
+                "off " + Integer.toString(off) + ", len " +
+                Integer.toString(LEN) + ", length " +
+                Integer.toString(dst.length)
+            );
+        }
+        System.arraycopy(this.bytes, this.byteStart, dst, off, LEN);
+        return LEN;
+    }
+
+    /**
+     * Put the encoded sequence into a buffer at its position, moving the
+     * position past it.
+     * @return The count of bytes written, {@code this.byteLength()}.
+     * @throws BufferOverflowException If fewer bytes remain in {@code dst}.
+     * @throws ReadOnlyBufferException If {@code dst} is read-only.
+     */
+    public int encodeTo(ByteBuffer dst)
+    throws BufferOverflowException, ReadOnlyBufferException {
+        final int LEN = this.byteEnd - this.byteStart;
+        dst.put(this.bytes, this.byteStart, LEN);
+        return LEN;
+    }
+
+    /**
+     * Write the encoded sequence to a stream.
+     * @throws IOException If the stream throws it.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.bytes, this.byteStart, this.byteEnd - this.byteStart);
+    }
+
+    /**
+     * Write the encoded sequences to a channel, in order, with gathering
+     * writes over their storage. The bytes are not copied. It returns when
+     * every byte is written, or when a write makes no progress, as a
+     * non-blocking channel does when it is full. Callers using non-blocking
+     * channels retry with the bytes left, from the returned count on.
+     * @return The count of bytes written.
+     * @throws NullPointerException If the array or one of its element is null.
+     * @throws IOException If the channel throws it.
+     */
+    public static long writeAll(GatheringByteChannel channel,
+                                UTF8Sequence... seqs) throws IOException {
+        final ByteBuffer[] BUFS = new ByteBuffer[seqs.length];
+        int count = 0;
+        for (int i = 0; i < seqs.length; i++) {
+            if (seqs[i].byteEnd > seqs[i].byteStart) {
+                BUFS[count++] = seqs[i].wrapBytes();
+            }
+        }
+        return writeBuffers(channel, BUFS, count);
+    }
+
+    /**
+     * Write the encoded sequences to a channel, in order, with gathering
+     * writes over their storage. The bytes are not copied. It returns when
+     * every byte is written, or when a write makes no progress, as a
+     * non-blocking channel does when it is full. Callers using non-blocking
+     * channels retry with the bytes left, from the returned count on.
+     * @return The count of bytes written.
+     * @throws NullPointerException If one of the sequences is null.
+     * @throws IOException If the channel throws it.
+     */
+    public static long writeAll(GatheringByteChannel channel,
+                                Iterable<UTF8Sequence> seqs)
+    throws IOException {
+        ByteBuffer[] bufs = new ByteBuffer[(seqs instanceof Collection) ?
+                                           ((Collection<?>)seqs).size() : 16];
+        int count = 0;
+        for (UTF8Sequence i : seqs) {
+            if (i.byteEnd > i.byteStart) {
+                if (count == bufs.length) {
+                    bufs = Arrays.copyOf(bufs, count * 2 + 1);
+                }
+                bufs[count++] = i.wrapBytes();
+            }
+        }
+        return writeBuffers(channel, bufs, count);
+    }
+
+    /**
+     * @return A buffer over the encoded sequence at position {@code 0}.
+     */
+    private ByteBuffer wrapBytes() {
+        return ByteBuffer.wrap(this.bytes, this.byteStart,
+                               this.byteEnd - this.byteStart).slice();
+    }
+
+    /**
+     * Write {@code bufs[0, count)} until none has bytes remaining or a write
+     * makes no progress.
+     * @return The count of bytes written.
+     */
+    private static long writeBuffers(GatheringByteChannel channel,
+                                     ByteBuffer[] bufs, int count)
+    throws IOException {
+        long written = 0L;
+        int first = 0;
+        while (first < count) {
+            final long N = channel.write(bufs, first, count - first);
+            if (N <= 0L) {
+                break;
+            }
+            written += N;
+            while (first < count && !(bufs[first].hasRemaining())) {
+                first++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * @param i The index to get, count from 0.
+     * @return The character at index {@code i}. If {@code i} is negative, it
+     * is equivalent to {@code this.charAt(this.length() - i)}. e.g.
+     * {@code new UTF8Sequence("test").charAt(-3)} will return
+     * {@code new UTF8Char('e')}.
+     * @throws IndexOutOfBoundsException If
+     * {@code i >= this.length() || i < -this.length()}. @see
+     * {@link UTF8Sequence#byteLength()}.
+     */
+    public UTF8Char charAt(int i) throws IndexOutOfBoundsException {
+        if (i < 0) {
+            i += this.length;
+        }
+        if (i < 0 || i >= this.length) {
+            throw new IndexOutOfBoundsException(Integer.toString(i));
+        }
+        final int POS = this.posOf(i);
+        return UTF8Char.fromUnit(this.bytes, POS, this.nextPos(i, POS) - POS);
+    }
+
+    //@Override
+    public int compareTo(UTF8Sequence o) {
+        final int MINLEN = Math.min(this.length, o.length);
+        int pos = this.posOf(0);
+        int opos = o.posOf(0);
+        int cmp;
+        for (int i = 0; i < MINLEN; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            final int ONEXT = o.nextPos(i, opos);
+            if ((cmp = Long.compare(this.ordAt(pos, NEXT),
+                                    o.ordAt(opos, ONEXT))) != 0) {
+                return cmp;
+            }
+            pos = NEXT;
+            opos = ONEXT;
+        }
+        return Integer.compare(this.length, o.length);
+    }
+
+    /**
+     * @param o Another object.
+     * @return A boolean reflects whether two sequences are equal, the
+     * regulars are ignored.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof UTF8Sequence) {
+            final UTF8Sequence CVT = (UTF8Sequence)o;
+            if (CVT.length != this.length) {
+                return false;
+            }
+            if (!(this.isDense()) && !(CVT.isDense()) &&
+                this.sameBytes(CVT)) {
+                return true;
+            }
+            return this.compareTo(CVT) == 0;
+        }
+        return false;
+    }
+
+    /**
+     * @return A boolean reflect whether this sequence is empty.
+     */
+    public boolean isEmpty() {
+        return this.length == 0;
+    }
+
+    /**
+     * @return A boolean reflect whether this sequence is going to write
+     * nothing.
+     */
+    public boolean isWriteEmpty() {
+        int pos = this.posOf(0);
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) != -1L) {
+                return false;
+            }
+            pos = NEXT;
+        }
+        return true;
+    }
+
+    /**
+     * @return Equivalent to {@link java.util.Arrays#hashCode(Object[])} of
+     * the characters.
+     */
+    @Override
+    public int hashCode() {
+        int res = 1;
+        int pos = this.posOf(0);
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            res = 31 * res + Long.hashCode(this.ordAt(pos, NEXT));
+            pos = NEXT;
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder SB = new StringBuilder(this.length);
+        boolean fallback = false;
+        for (UTF8Char i : this) {
+            final long ORD = i.ord();
+            if (ORD == -1L || ORD > 0xffffffffL) {
+                fallback = true;
+                break;
+            }
+            SB.append(i.toString());
+        }
+        if (fallback) {
+            return this.toEvalString();
+        }
+        return SB.toString();
+    }
+
+    public String toEvalString() {
+        final StringBuilder SB = new StringBuilder();
+        SB.append("new " + UTF8Sequence.class.getName() + "(new " +
+                   UTF8Char.class.getName() + "[]{");
+        for (UTF8Char i : this) {
+            SB.append(i.toEvalString());
+            SB.append(',');
+        }
+        SB.append("})");
+        return SB.toString();
+    }
+
+    /**
+     * @param seqs The sequences to concatenate to this.
+     * @return A UTF8Sequence with combined content, from less index to
+     * greater index.
+     */
+    public UTF8Sequence concat(UTF8Sequence... seqs) {
+        long size = this.byteLength();
+        for (int i = 0; i < seqs.length; i++) {
+            size += seqs[i].byteLength();
+        }
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(size));
+        B.append(this);
+        for (int i = 0; i < seqs.length; i++) {
+            B.append(seqs[i]);
+        }
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * @param value
+     * @return A Python-like value of {@code this*value}. e.g.
+     * {@code new UTF8Sequence("test").times(3)} will return
+     * {@code new UTF8Sequence("testtesttest")}, and
+     * {@code new UTF8Sequence("test").times(-3)} will return
+     * {@code new UTF8Sequence()}. Unlike {@link #repeat(int)}, it will not
+     * throw an exception when {@code value} is negative.
+     */
+    public UTF8Sequence times(int value) {
+        if (value <= 0) {
+            return new UTF8Sequence();
+        }
+        value--;
+        final UTF8Sequence[] R = new UTF8Sequence[value];
+        for (int i = 0; i < value; i++) {
+            R[i] = this;
+        }
+        return this.concat(R);
+    }
+
+    public UTF8Sequence repeat(int count) throws IllegalArgumentException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count is negative: " +
+                                               Integer.toString(count));
+        }
+        return this.times(count);
+    }
+
+    /**
+     * @param start
+     * @param stop
+     * @param step
+     * @return A Python-like value of {@code this[start:stop:step]}, with
+     * {@code null = None}. e.g.
+     * {@code new UTF8Sequence("test").slice(null, null, -1)} will return
+     * {@code new UTF8Sequence("tset")}, and
+     * {@code new UTF8Sequence("test").slice(1, -1, null)} will return
+     * {@code new UTF8Sequence("es")}.
+     * @throws IllegalArgumentException When {@code step.intValue() == 0}.
+     */
+    public UTF8Sequence slice(Integer start, Integer stop, Integer step)
+    throws IllegalArgumentException {
+        final int STEP = (step != null) ? step.intValue() : 1;
+        if (STEP == 0) {
+            throw new IllegalArgumentException("slice step cannot be zero");
+        }
+        int ts;
+        final int NEWLEN;
+        if (STEP < 0) {
+            ts = (start == null) ? this.length - 1 : start.intValue();
+            if (ts < 0) {
+                ts += this.length;
+                if (ts < 0) {
+                    return new UTF8Sequence();
+                }
+            }
+            if (ts >= this.length) {
+                ts = this.length - 1;
+            }
+            if (stop == null) {
+                NEWLEN = (ts + 1) / -STEP + (((ts + 1) % STEP != 0) ? 1 : 0);
+            } else {
+                if (stop.intValue() < 0) {
+                    stop = Integer.valueOf(this.length +stop.intValue());
+                    if (stop.intValue() < 0) {
+                        return this.slice(start, null, step);
+                    }
+                }
+                if (stop.intValue() >= ts) {
+                    return new UTF8Sequence();
+                }
+                NEWLEN = (ts - stop.intValue()) / -STEP +
+                         (((ts - stop.intValue()) % -STEP != 0) ? 1 : 0);
+            }
+        } else {
+            ts = (start == null) ? 0 : start.intValue();
+            if (ts < 0) {
+                ts += this.length;
+                if (ts < 0) {
+                    ts = 0;
+                }
+            }
+            if (stop == null) {
+                NEWLEN = (this.length - ts) / STEP +
+                         (((this.length - ts) % STEP != 0) ? 1 : 0);
+            } else {
+                if (stop.intValue() < 0) {
+                    stop = Integer.valueOf(this.length +stop.intValue());
+                    if (stop.intValue() <= ts) {
+                        return new UTF8Sequence();
+                    }
+                }
+                if (stop.intValue() >= this.length) {
+                    return this.slice(start, null, step);
+                }
+                NEWLEN = (stop.intValue() - ts) / STEP +
+                         (((stop.intValue() - ts) % STEP != 0) ? 1 : 0);
+            }
+        }
+        if (NEWLEN <= 0) {
+            return new UTF8Sequence();
+        }
+        if (STEP == 1) {
+            return this.subSequence(ts, ts + NEWLEN);
+        }
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(NEWLEN);
+        int p = ts;
+        for (int i = 0; i < NEWLEN; i++) {
+            this.appendTo(B, p, p + 1);
+            p += STEP;
+        }
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * @param start
+     * @param stop
+     * @return @see {@link #slice(Integer, Integer, Integer)}
+     */
+    public UTF8Sequence slice(Integer start, Integer stop) {
+        return this.slice(start, stop, Integer.valueOf(1));
+    }
+
+    /**
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return A sequence sharing the storage of this one.
+     * @throws IndexOutOfBoundsException When
+     * {@code start > end || start < 0 || end > this.}{@link #length()}.
+     */
+    public UTF8Sequence subSequence(int start, int end)
+    throws IndexOutOfBoundsException {
+        if (start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (start == end) {
+            return new UTF8Sequence();
+        }
+        if (start < 0 || end > this.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (start == 0 && end == this.length) {
+            return this;
+        }
+        final int POS = this.posOf(start);
+        return this.view(start, end, POS,
+                         (end - start == 1) ? this.nextPos(start, POS) :
+                         this.posOf(end));
+    }
+
+    /**
+     * @param start @see {@link #subSequence(int, int)}
+     * @return Equivalent to {@code this.subSequence(start, this.length())}.
+     * @throws IndexOutOfBoundsException When
+     * {@code start < 0 || start > this.}{@link #length()}.
+     */
+    public UTF8Sequence subSequence(int start)throws IndexOutOfBoundsException{
+        return this.subSequence(start, this.length());
+    }
+
+    public UTF8Sequence join(UTF8Sequence[] seqs) {
+        if (seqs.length == 0) {
+            return new UTF8Sequence();
+        }
+        if (seqs.length == 1) {
+            return seqs[0];
+        }
+        long size = (seqs.length - 1L) * this.byteLength();
+        for (int i = 0; i < seqs.length; i++) {
+            size += seqs[i].byteLength();
+        }
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(size));
+        B.append(seqs[0]);
+        for (int i = 1; i < seqs.length; i++) {
+            B.append(this);
+            B.append(seqs[i]);
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence join(Iterable<UTF8Sequence> seqs) {
+        final Iterator<UTF8Sequence> ITT = seqs.iterator();
+        if (!(ITT.hasNext())) {
+            return new UTF8Sequence();
+        }
+        final UTF8Sequence SINGLE = ITT.next();
+        if (!(ITT.hasNext())) {
+            return SINGLE;
+        }
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(capacityOf(
+            SINGLE.byteLength() + this.byteLength() + 16L
+        ));
+        B.append(SINGLE);
+        while (ITT.hasNext()) {
+            B.append(this);
+            B.append(ITT.next());
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public static UTF8Sequence join(UTF8Sequence self, UTF8Sequence... seqs) {
+        return self.join(seqs);
+    }
+
+    public static UTF8Sequence
+    join(UTF8Sequence self, Iterable<UTF8Sequence> seqs) {
+        return self.join(seqs);
+    }
+
+    public static UTF8Sequence join(UTF8Char self, UTF8Sequence... seqs) {
+        return new UTF8Sequence(self).join(seqs);
+    }
+
+    public static UTF8Sequence
+    join(UTF8Char self, Iterable<UTF8Sequence> seqs) {
+        return new UTF8Sequence(self).join(seqs);
+    }
+
+    public static UTF8Sequence decodeFrom(byte[] from, String errors)
+    throws IllegalArgumentException {
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(from.length);
+        decodeInto(B, from, 0, from.length, from.length, 0, true, null,
+                   errors);
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * @param from The bytes to decode.
+     * @param handler The error handler, e.g.
+     * {@link UTF8DecodeErrorHandler#REPLACE}.
+     * @throws NullPointerException If the array or the handler is null.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it.
+     */
+    public static UTF8Sequence
+    decodeFrom(byte[] from, UTF8DecodeErrorHandlerProvider handler)
+    throws IllegalArgumentException {
+        requireHandler(handler);
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(from.length);
+        decodeInto(B, from, 0, from.length, from.length, 0, true, handler,
+                   null);
+        return B.toUTF8Sequence();
+    }
+
+    private static void requireHandler(UTF8DecodeErrorHandlerProvider handler)
+    throws NullPointerException {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+    }
+
+    /**
+     * Decode the units of {@code from} starting in {@code [start, stop)}
+     * into {@code builder}. A unit may extend up to {@code end}.
+     * @param origin Subtracted from offsets given to the error handler, and
+     * added to offsets it returns.
+     * @param last Whether a unit cut off by {@code end} is malformed rather
+     * than left for more input. The bytes given to the error handler also
+     * depend on what follows.
+     * @param handler The error handler, null to look up {@code errors} when
+     * first needed.
+     * @return Where decoding stopped: the start of a unit cut off by
+     * {@code end}, or an offset not less than {@code stop}.
+     * @throws IllegalArgumentException If the error handler is needed but
+     * unknown.
+     */
+    static int decodeInto(UTF8SequenceBuilder builder, byte[] from,
+                          int start, int stop, int end, int origin,
+                          boolean last, UTF8DecodeErrorHandlerProvider handler,
+                          String errors)
+    throws IllegalArgumentException {
+        int pos = start;
+        while (pos < stop) {
+            int next = asciiEnd(from, pos, stop);
+            if (next > pos) {
+                builder.appendSingles(from, pos, next - pos);
+                pos = next;
+                continue;
+            }
+            next = unitEnd(from, pos, end);
+            if (next >= 0) {
+                builder.appendUnit(from, pos, next - pos);
+                pos = next;
+                continue;
+            }
+            final int WIDTH = Math.max(UTF8Char.WIDTHS[from[pos] & 0xff], 1);
+            if (!last && pos + WIDTH > end) {
+                return pos;
+            }
+            if (handler == null) {
+                handler = UTF8DecodeErrorHandler.HANDLER.get(errors);
+                if (handler == null) {
+                    throw new IllegalArgumentException(
+                        "unknown error handler name '" + errors + "'"
+                    );
+                }
+            }
+            if (handler instanceof
+                UTF8DecodeErrorHandlerProvider.SpanProvider) {
+                final int RUN = malformedRunEnd(from, pos, stop, end, last);
+                if (handler instanceof UTF8DecodeErrorHandler.BuiltinSpan) {
+                    pos = ((UTF8DecodeErrorHandler.BuiltinSpan)handler)
+                          .handleSpan(builder, pos - origin, from, pos,
+                                      RUN - pos) + origin;
+                    continue;
+                }
+                final Entry<Integer, Iterable<UTF8Char>> HANDLED =
+                ((UTF8DecodeErrorHandlerProvider.SpanProvider)handler)
+                .provideSpan(pos - origin,
+                             Arrays.copyOfRange(from, pos, RUN));
+                builder.append(HANDLED.getValue());
+                pos = HANDLED.getKey().intValue() + origin;
+                continue;
+            }
+            final int LEN = Math.min(pos + WIDTH, end) - pos;
+            if (handler instanceof UTF8DecodeErrorHandler.Builtin) {
+                pos = ((UTF8DecodeErrorHandler.Builtin)handler).handle(
+                    builder, pos - origin, from, pos, LEN
+                ) + origin;
+                continue;
+            }
+            final Entry<Integer, Iterable<UTF8Char>> HANDLED =
+            handler.provide(pos - origin,
+                            Arrays.copyOfRange(from, pos, pos + LEN));
+            builder.append(HANDLED.getValue());
+            pos = HANDLED.getKey().intValue() + origin;
+        }
+        return pos;
+    }
+
+    /**
+     * @param pos The start of a malformed unit.
+     * @return The end of the run of bytes from {@code pos} at each of which
+     * {@link #decodeInto} would call the error handler, stopping at
+     * {@code stop}.
+     */
+    private static int malformedRunEnd(byte[] from, int pos, int stop,
+                                       int end, boolean last) {
+        int i = pos + 1;
+        while (i < stop && from[i] < 0 && unitEnd(from, i, end) < 0 &&
+               (last ||
+                i + Math.max(UTF8Char.WIDTHS[from[i] & 0xff], 1) <= end)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return The end of the well-formed unit starting at {@code pos} and
+     * ending by {@code end}, {@code -1} if there is none.
+     */
+    private static int unitEnd(byte[] from, int pos, int end) {
+        int state = DECODE_STATES[DECODE_CLASSES[from[pos] & 0xff]];
+        pos++;
+        while (state != 0 && state != DECODE_REJECT && pos < end) {
+            state = DECODE_STATES[state * DECODE_CLASS_COUNT +
+                                  DECODE_CLASSES[from[pos] & 0xff]];
+            pos++;
+        }
+        return (state == 0) ? pos : -1;
+    }
+
+    /**
+     * Check the units of {@code [start, end)} by the rules of
+     * {@link #decodeFrom(byte[])} without decoding them.
+     * @return The count of units if all are well formed, otherwise
+     * {@code -1 - offset} of the first malformed one.
+     */
+    private static int scanUnits(byte[] from, int start, int end) {
+        int count = 0;
+        int pos = start;
+        while (pos < end) {
+            if (from[pos] >= 0) {
+                final int NEXT = asciiEnd(from, pos + 1, end);
+                count += NEXT - pos;
+                pos = NEXT;
+                continue;
+            }
+            final int NEXT = unitEnd(from, pos, end);
+            if (NEXT < 0) {
+                return -1 - pos;
+            }
+            count++;
+            pos = NEXT;
+        }
+        return count;
+    }
+
+    /**
+     * @param from The bytes to check.
+     * @return The offset of the first unit that
+     * {@link #decodeFrom(byte[])} would reject, {@code -1} if there is
+     * none.
+     * @throws NullPointerException If the array is null.
+     */
+    public static int validate(byte[] from) {
+        return validate(from, 0, from.length);
+    }
+
+    /**
+     * @param from Holding the bytes to check.
+     * @param off Where the bytes start.
+     * @param len The count of bytes.
+     * @return The offset in {@code from} of the first unit that
+     * {@link #decodeFrom(byte[], int, int)} would reject, {@code -1} if
+     * there is none.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     */
+    public static int validate(byte[] from, int off, int len)
+    throws IndexOutOfBoundsException {
+        checkRange(from, off, len);
+        final int R = scanUnits(from, off, off + len);
+        return (R < 0) ? -1 - R : -1;
+    }
+
+    /**
+     * @param from The bytes to count.
+     * @return The count of characters {@link #decodeFrom(byte[])} would
+     * return, {@code -1} if it would reject a unit.
+     * @throws NullPointerException If the array is null.
+     */
+    public static int countCodepoints(byte[] from) {
+        return countCodepoints(from, 0, from.length);
+    }
+
+    /**
+     * @param from Holding the bytes to count.
+     * @param off Where the bytes start.
+     * @param len The count of bytes.
+     * @return The count of characters
+     * {@link #decodeFrom(byte[], int, int)} would return, {@code -1} if it
+     * would reject a unit.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     */
+    public static int countCodepoints(byte[] from, int off, int len)
+    throws IndexOutOfBoundsException {
+        checkRange(from, off, len);
+        final int R = scanUnits(from, off, off + len);
+        return (R < 0) ? -1 : R;
+    }
+
+    private static void checkRange(byte[] from, int off, int len)
+    throws IndexOutOfBoundsException {
+        if (off < 0 || len < 0 || off > from.length - len) {
+            throw new IndexOutOfBoundsException(
+                "off " + Integer.toString(off) + ", len " +
+                Integer.toString(len) + ", length " +
+                Integer.toString(from.length)
+            );
+        }
+    }
+
+    /**
+     * @return The offset of the first byte in {@code [start, end)} that is
+     * not ASCII, {@code end} if there is none. Bytes are tested 8 at a time.
+     */
+    static int asciiEnd(byte[] src, int start, int end) {
+        int i = start;
+        while (i <= end - 8 &&
+               (src[i] | src[i + 1] | src[i + 2] | src[i + 3] | src[i + 4] |
+                src[i + 5] | src[i + 6] | src[i + 7]) >= 0) {
+            i += 8;
+        }
+        while (i < end && src[i] >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    public static UTF8Sequence decodeFrom(byte[] from)
+    throws IllegalArgumentException {
+        return decodeFrom(from, UTF8DecodeErrorHandler.STRICT);
+    }
+
+    /**
+     * Decode a range of an array in place. Offsets given to the error
+     * handler count from {@code off}.
+     * @param from Holding the bytes to decode.
+     * @param off Where the bytes start.
+     * @param len The count of bytes.
+     * @param errors The name of the error handler.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public static UTF8Sequence
+    decodeFrom(byte[] from, int off, int len, String errors)
+    throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(from, off, len);
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(len);
+        decodeInto(B, from, off, off + len, off + len, off, true, null,
+                   errors);
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * Decode a range of an array in place. Offsets given to the error
+     * handler count from {@code off}.
+     * @throws NullPointerException If the array or the handler is null.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it.
+     */
+    public static UTF8Sequence
+    decodeFrom(byte[] from, int off, int len,
+               UTF8DecodeErrorHandlerProvider handler)
+    throws IndexOutOfBoundsException, IllegalArgumentException {
+        requireHandler(handler);
+        checkRange(from, off, len);
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(len);
+        decodeInto(B, from, off, off + len, off + len, off, true, handler,
+                   null);
+        return B.toUTF8Sequence();
+    }
+
+    public static UTF8Sequence decodeFrom(byte[] from, int off, int len)
+    throws IndexOutOfBoundsException, IllegalArgumentException {
+        return decodeFrom(from, off, len, UTF8DecodeErrorHandler.STRICT);
+    }
+
+    /**
+     * Decode the bytes from the position to the limit of a buffer, and move
+     * the position to the limit. Offsets given to the error handler count
+     * from the position.
+     * @param from The buffer, heap or direct.
+     * @param errors The name of the error handler.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public static UTF8Sequence decodeFrom(ByteBuffer from, String errors)
+    throws IllegalArgumentException {
+        return decodeFrom(from, null, errors);
+    }
+
+    /**
+     * Decode the bytes from the position to the limit of a buffer, and move
+     * the position to the limit. Offsets given to the error handler count
+     * from the position.
+     * @throws NullPointerException If the buffer or the handler is null.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it.
+     */
+    public static UTF8Sequence
+    decodeFrom(ByteBuffer from, UTF8DecodeErrorHandlerProvider handler)
+    throws IllegalArgumentException {
+        requireHandler(handler);
+        return decodeFrom(from, handler, null);
+    }
+
+    private static UTF8Sequence
+    decodeFrom(ByteBuffer from, UTF8DecodeErrorHandlerProvider handler,
+               String errors)
+    throws IllegalArgumentException {
+        final int LEN = from.remaining();
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(LEN);
+        if (from.hasArray()) {
+            final int OFF = from.arrayOffset() + from.position();
+            decodeInto(B, from.array(), OFF, OFF + LEN, OFF + LEN, OFF, true,
+                       handler, errors);
+            from.position(from.limit());
+            return B.toUTF8Sequence();
+        }
+        byte[] window = DIRECT_WINDOW.get();
+        DIRECT_WINDOW.remove();
+        if (window == null) {
+            window = new byte[DIRECT_WINDOW_SIZE];
+        }
+        if (LEN <= window.length) {
+            from.get(window, 0, LEN);
+            decodeInto(B, window, 0, LEN, LEN, 0, true, handler, errors);
+        } else {
+            final UTF8StreamDecoder DECODER = (handler == null) ?
+                                              new UTF8StreamDecoder(errors) :
+                                              new UTF8StreamDecoder(handler);
+            while (from.hasRemaining()) {
+                final int CHUNK = Math.min(from.remaining(), window.length);
+                from.get(window, 0, CHUNK);
+                DECODER.decode(window, 0, CHUNK, B);
+            }
+            DECODER.finish(B);
+        }
+        DIRECT_WINDOW.set(window);
+        return B.toUTF8Sequence();
+    }
+
+    public static UTF8Sequence decodeFrom(ByteBuffer from)
+    throws IllegalArgumentException {
+        return decodeFrom(from, UTF8DecodeErrorHandler.STRICT, null);
+    }
+
+    /**
+     * Like {@link #decodeFrom(byte[], String)}, but decode large arrays in
+     * chunks on a {@link ForkJoinPool}. Chunks are split at bytes that are
+     * not continuation bytes and that no unit before them can reach,
+     * looking one chunk further on when there is none near the end of a
+     * chunk. Offsets given to the error handler count from the start of
+     * {@code from}. The handler may be called from several threads at once,
+     * and if it moves past the end of a chunk, the rest of the array is
+     * decoded in the calling thread instead. A run of malformed bytes
+     * crossing the end of a chunk may reach a
+     * {@link UTF8DecodeErrorHandlerProvider.SpanProvider} as several calls
+     * of {@code provideSpan}.
+     * @param pool Where to run the chunks.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown. The earliest such unit is reported.
+     */
+    public static UTF8Sequence
+    decodeParallel(byte[] from, String errors, ForkJoinPool pool)
+    throws IllegalArgumentException {
+        return decodeParallel(from, null, errors, pool);
+    }
+
+    /**
+     * Like {@link #decodeParallel(byte[], String, ForkJoinPool)} with an
+     * error handler object.
+     * @throws NullPointerException If the array, the handler or the pool is
+     * null.
+     */
+    public static UTF8Sequence
+    decodeParallel(byte[] from, UTF8DecodeErrorHandlerProvider handler,
+                   ForkJoinPool pool)
+    throws IllegalArgumentException {
+        requireHandler(handler);
+        return decodeParallel(from, handler, null, pool);
+    }
+
+    public static UTF8Sequence
+    decodeParallel(byte[] from, UTF8DecodeErrorHandlerProvider handler)
+    throws IllegalArgumentException {
+        return decodeParallel(from, handler, ForkJoinPool.commonPool());
+    }
+
+    private static UTF8Sequence
+    decodeParallel(final byte[] from,
+                   final UTF8DecodeErrorHandlerProvider handler,
+                   final String errors, ForkJoinPool pool)
+    throws IllegalArgumentException {
+        final int CHUNK = Math.max(
+            PARALLEL_CHUNK, from.length / (pool.getParallelism() * 4) + 1
+        );
+        if (from.length < CHUNK * 2) {
+            final UTF8SequenceBuilder B = new UTF8SequenceBuilder(from.length);
+            decodeInto(B, from, 0, from.length, from.length, 0, true, handler,
+                       errors);
+            return B.toUTF8Sequence();
+        }
+        final List<ForkJoinTask<Object[]>> TASKS =
+        new ArrayList<ForkJoinTask<Object[]>>();
+        final List<Integer> STARTS = new ArrayList<Integer>();
+        int start = 0;
+        while (start < from.length) {
+            final int START = start;
+            final int STOP = splitAt(from, (long)START + CHUNK, CHUNK);
+            STARTS.add(Integer.valueOf(START));
+            TASKS.add(pool.submit(new Callable<Object[]>() {
+                //@Override
+                public Object[] call() {
+                    final UTF8SequenceBuilder B =
+                    new UTF8SequenceBuilder(STOP - START);
+                    try {
+                        final int END = decodeInto(B, from, START, STOP,
+                                                   from.length, 0, true,
+                                                   handler, errors);
+                        return new Object[]{B.toUTF8Sequence(),
+                                            Integer.valueOf(END)};
+                    } catch (RuntimeException e) {
+                        return new Object[]{e};
+                    }
+                }
+            }));
+            start = STOP;
+        }
+        final List<UTF8Sequence> PARTS = new ArrayList<UTF8Sequence>();
+        int pos = 0;
+        try {
+            for (int i = 0; i < TASKS.size(); i++) {
+                if (pos != STARTS.get(i).intValue()) {
+                    break;
+                }
+                final Object[] RES = TASKS.get(i).join();
+                if (RES.length == 1) {
+                    throw (RuntimeException)(RES[0]);
+                }
+                PARTS.add((UTF8Sequence)(RES[0]));
+                pos = ((Integer)(RES[1])).intValue();
+            }
+        } finally {
+            for (ForkJoinTask<Object[]> i : TASKS) {
+                i.cancel(false);
+            }
+        }
+        if (pos < from.length) {
+            final UTF8SequenceBuilder B =
+            new UTF8SequenceBuilder(from.length - pos);
+            decodeInto(B, from, pos, from.length, from.length, 0, true,
+                       handler, errors);
+            PARTS.add(B.toUTF8Sequence());
+        }
+        return joinParts(PARTS, pool);
+    }
+
+    public static UTF8Sequence decodeParallel(byte[] from, String errors)
+    throws IllegalArgumentException {
+        return decodeParallel(from, errors, ForkJoinPool.commonPool());
+    }
+
+    public static UTF8Sequence decodeParallel(byte[] from)
+    throws IllegalArgumentException {
+        return decodeParallel(from, UTF8DecodeErrorHandler.STRICT,
+                              ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Concatenate decoded parts, copying them into place on {@code pool}.
+     */
+    private static UTF8Sequence
+    joinParts(final List<UTF8Sequence> parts, ForkJoinPool pool) {
+        final int SHIFT = UTF8SequenceBuilder.SPARSE_SHIFT;
+        final int MASK = UTF8SequenceBuilder.SPARSE_MASK;
+        long size = 0L;
+        long count = 0L;
+        boolean multibyte = false;
+        boolean shortest = true;
+        for (UTF8Sequence i : parts) {
+            if (i.isDense()) {
+                return new UTF8Sequence().concat(
+                    parts.toArray(new UTF8Sequence[parts.size()])
+                );
+            }
+            size += i.byteLength();
+            count += i.length;
+            multibyte |= i.bounds != null;
+            shortest &= i.shortest;
+        }
+        if (size > 0x7ffffff7L) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        final byte[] DATA = new byte[(int)size];
+        final int[] BOUNDS =
+        multibyte ? new int[(int)(count >>> SHIFT) + 1] : null;
+        final List<ForkJoinTask<?>> TASKS = new ArrayList<ForkJoinTask<?>>();
+        int byteOff = 0;
+        int charOff = 0;
+        for (final UTF8Sequence PART : parts) {
+            final int BYTE_OFF = byteOff;
+            final int CHAR_OFF = charOff;
+            TASKS.add(pool.submit(new Runnable() {
+                //@Override
+                public void run() {
+                    System.arraycopy(PART.bytes, PART.byteStart, DATA,
+                                     BYTE_OFF, PART.byteEnd - PART.byteStart);
+                    if (BOUNDS == null) {
+                        return;
+                    }
+                    final int END = CHAR_OFF + PART.length;
+                    for (int g = (CHAR_OFF + MASK) & ~MASK; g < END;
+                         g += MASK + 1) {
+                        BOUNDS[g >>> SHIFT] = BYTE_OFF +
+                        PART.posOf(g - CHAR_OFF) - PART.byteStart;
+                    }
+                }
+            }));
+            byteOff += PART.byteEnd - PART.byteStart;
+            charOff += PART.length;
+        }
+        for (ForkJoinTask<?> i : TASKS) {
+            i.join();
+        }
+        if (BOUNDS != null && (charOff & MASK) == 0) {
+            BOUNDS[charOff >>> SHIFT] = byteOff;
+        }
+        return new UTF8Sequence(DATA, 0, byteOff, BOUNDS, SHIFT, 0, charOff,
+                                shortest);
+    }
+
+    /**
+     * @return The first offset from {@code target} of a byte starting a
+     * unit that no unit starting before it can reach, looking in windows of
+     * 1024 bytes every {@code step} bytes, {@code from.length} if there is
+     * none.
+     */
+    private static int splitAt(byte[] from, long target, int step) {
+        for (long t = target; t < from.length; t += step) {
+            final int LIMIT = (int)Math.min(t + 1024L, from.length);
+            for (int i = (int)t; i < LIMIT; i++) {
+                if ((from[i] & 0xc0) == 0x80) {
+                    continue;
+                }
+                boolean reached = false;
+                for (int j = Math.max(i - 6, 0); j < i && !reached; j++) {
+                    reached = j + UTF8Char.WIDTHS[from[j] & 0xff] > i;
+                }
+                if (!reached) {
+                    return i;
+                }
+            }
+        }
+        return from.length;
+    }
+
+    public UTF8Sequence unescape() {
+        /* 0: Not escaped
+         * 1: Met '\'
+         * 2: 3-digit octal, digit 1
+         * 3: 3-digit octal, digit 2
+         * 4: 2-digit hex, digit 0
+         * 5: 2-digit hex, digit 1
+         * 6: 4-digit hex, digit 0
+         * 7: 4-digit hex, digit 1
+         * 8: 4-digit hex, digit 2
+         * 9: 4-digit hex, digit 3
+         * 10: 8-digit hex, digit 0
+         * 11: 8-digit hex, digit 1
+         * 12: 8-digit hex, digit 2
+         * 13: 8-digit hex, digit 3
+         * 14: 8-digit hex, digit 4
+         * 15: 8-digit hex, digit 5
+         * 16: 8-digit hex, digit 6
+         * 17: 8-digit hex, digit 7
+         */
+        byte escapeMode = 0;
+        long escapeCodepoint = 0L;
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(this.byteLength()));
+        for (UTF8Char i : this) {
+            if (i.ord() == 92L) { // '\'
+                switch (escapeMode) {
+                    case 0: {
+                        escapeMode = 1;
+                        break;
+                    }
+                    case 1: {
+                        escapeMode = 0;
+                        B.append(i);
+                        break;
+                    }
+                    case 4: {
+                        escapeMode = 1;
+                        B.append(i);
+                        B.append(UTF8Char.valueOf('x'));
+                        break;
+                    }
+                    case 6: {
+                        escapeMode = 1;
+                        B.append(i);
+                        B.append(UTF8Char.valueOf('u'));
+                        break;
+                    }
+                    case 10: {
+                        escapeMode = 1;
+                        B.append(i);
+                        B.append(UTF8Char.valueOf('U'));
+                        break;
+                    }
+                    case 2:
+                    case 3:
+                    case 5:
+                    case 7:
+                    case 8:
+                    case 9:
+                    case 11:
+                    case 12:
+                    case 13:
+                    case 14:
+                    case 15:
+                    case 16:
+                    case 17: {
+                        escapeMode = 1;
+                        B.append(UTF8Char.valueOf(escapeCodepoint));
+                        break;
+                    }
+                    default: assert false : "Unexpected escapeMode " +
+                                            Byte.toString(escapeMode);
+                }
+            } else {
+                switch (escapeMode) {
+                    case 0: {
+                        B.append(i);
+                        break;
+                    }
+                    case 1: {
+                        final long ORD = i.ord();
+                        if (ORD < 0xffffffffL) {
+                            final int ORDINT = (int)ORD;
+                            switch (ORDINT) {
+                                case 10: { // '\n'
+                                    escapeMode = 0;
+                                    break;
+                                }
+                                case 34: { // '"'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.valueOf('"'));
+                                    break;
+                                }
+                                case 39: { // '\''
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.valueOf('\''));
+                                    break;
+                                }
+                                case 48: // '0'
+                                case 49: // '1'
+                                case 50: // '2'
+                                case 51: // '3'
+                                case 52: // '4'
+                                case 53: // '5'
+                                case 54: // '6'
+                                case 55: { // '7'
+                                    escapeCodepoint = ORDINT - 48L;
+                                    escapeMode = 2;
+                                    break;
+                                }
+                                case 85: { // 'U'
+                                    escapeMode = 10;
+                                    escapeCodepoint = 0L;
+                                    break;
+                                }
+                                case 97: { // 'a'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.BEL);
+                                    break;
+                                }
+                                case 98: { // 'b'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.BS);
+                                    break;
+                                }
+                                case 101: { // 'e'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.ESC);
+                                    break;
+                                }
+                                case 102: { // 'f'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.FF);
+                                    break;
+                                }
+                                case 110: { // 'n'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.LF);
+                                    break;
+                                }
+                                case 114: { // 'r'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.CR);
+                                    break;
+                                }
+                                case 116: { // 't'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.HT);
+                                    break;
+                                }
+                                case 117: { // 'u'
+                                    escapeMode = 6;
+                                    escapeCodepoint = 0L;
+                                    break;
+                                }
+                                case 118: { // 'v'
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.VT);
+                                    break;
+                                }
+                                case 120: { // 'x'
+                                    escapeMode = 4;
+                                    escapeCodepoint = 0L;
+                                    break;
+                                }
+                                default: {
+                                    escapeMode = 0;
+                                    B.append(UTF8Char.valueOf('\\'));
+                                    B.append(i);
+                                    break;
+                                }
+                            }
+                        }
+                        break;
+                    }
+                    case 2:
+                    case 3: {
+                        final long ORD = i.ord();
+                        if (48L <= ORD && ORD <= 55L) {
+                            escapeCodepoint *= 8L;
+                            escapeCodepoint += ORD - 48L;
+                            if (escapeMode == (byte)3) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            } else {
+                                escapeMode = 3;
+                            }
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                        }
+                        break;
+                    }
+                    case 4: {
+                        final long ORD = i.ord();
+                        escapeMode = 5;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint = ORD - 48L;
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint = ORD - 55L;
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint = ORD - 87L;
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf('\\'));
+                            B.append(UTF8Char.valueOf('x'));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    case 5: {
+                        final long ORD = i.ord();
+                        escapeMode = 0;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint *= 8L;
+                            escapeCodepoint += ORD - 48L;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint *= 8L;
+                            escapeCodepoint += ORD - 55L;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint *= 8L;
+                            escapeCodepoint += ORD - 87L;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                        } else {
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    case 6: {
+                        final long ORD = i.ord();
+                        escapeMode = 7;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint = ORD - 48L;
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint = ORD - 55L;
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint = ORD - 87L;
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf('\\'));
+                            B.append(UTF8Char.valueOf('u'));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    case 7:
+                    case 8:
+                    case 9: {
+                        final long ORD = i.ord();
+                        escapeMode++;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 48L;
+                            if (escapeMode == (byte)10) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 55L;
+                            if (escapeMode == (byte)10) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 87L;
+                            if (escapeMode == (byte)10) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    case 10: {
+                        final long ORD = i.ord();
+                        escapeMode = 11;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint = ORD - 48L;
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint = ORD - 55L;
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint = ORD - 87L;
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf('\\'));
+                            B.append(UTF8Char.valueOf('U'));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    case 11:
+                    case 12:
+                    case 13:
+                    case 14:
+                    case 15:
+                    case 16:
+                    case 17: {
+                        final long ORD = i.ord();
+                        escapeMode++;
+                        if (48L <= ORD && ORD <= 57L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 48L;
+                            if (escapeMode == (byte)18) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else if (65L <= ORD && ORD <= 70L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 55L;
+                            if (escapeMode == (byte)18) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else if (97L <= ORD && ORD <= 102L) {
+                            escapeCodepoint *= 16L;
+                            escapeCodepoint += ORD - 87L;
+                            if (escapeMode == (byte)18) {
+                                escapeMode = 0;
+                                B.append(UTF8Char.valueOf(escapeCodepoint));
+                            }
+                        } else {
+                            escapeMode = 0;
+                            B.append(UTF8Char.valueOf(escapeCodepoint));
+                            B.append(i);
+                        }
+                        break;
+                    }
+                    default: assert false : "Unexpected escapeMode " +
+                                            Byte.toString(escapeMode);
+                }
+            }
+        }
+        switch (escapeMode) {
+            case 0: break;
+            case 1: {
+                B.append(UTF8Char.valueOf('\\'));
+                break;
+            }
+            case 4: {
+                B.append(UTF8Char.valueOf('\\'));
+                B.append(UTF8Char.valueOf('x'));
+                break;
+            }
+            case 6: {
+                B.append(UTF8Char.valueOf('\\'));
+                B.append(UTF8Char.valueOf('u'));
+                break;
+            }
+            case 10: {
+                B.append(UTF8Char.valueOf('\\'));
+                B.append(UTF8Char.valueOf('U'));
+                break;
+            }
+            case 2:
+            case 3:
+            case 5:
+            case 7:
+            case 8:
+            case 9:
+            case 11:
+            case 12:
+            case 13:
+            case 14:
+            case 15:
+            case 16:
+            case 17: {
+                B.append(UTF8Char.valueOf(escapeCodepoint));
+                break;
+            }
+            default: assert false : "Unexpected escapeMode " +
+                                    Byte.toString(escapeMode);
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence upper() {
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(this.byteLength()));
+        for (UTF8Char i : this) {
+            if (TOUPPERS.containsKey(i)) {
+                B.append(TOUPPERS.get(i));
+            } else {
+                B.append(i);
+            }
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence lower() {
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(capacityOf(this.byteLength()));
+        for (UTF8Char i : this) {
+            if (TOLOWERS.containsKey(i)) {
+                B.append(TOLOWERS.get(i));
+            } else {
+                B.append(i);
+            }
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence ljust(int width, UTF8Char fillchar) {
+        if (this.length >= width) {
+            return this;
+        }
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(capacityOf(
+            this.byteLength() +
+            (width - this.length) * (long)(fillchar.getByteLength())
+        ));
+        B.append(this);
+        for (int i = this.length; i < width; i++) {
+            B.append(fillchar);
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence ljust(int width, UTF8Sequence fillchar)
+    throws IllegalArgumentException {
+        if (fillchar.length != 1) {
+            throw new IllegalArgumentException(
+                "The fill character must be exactly one character long"
+            );
+        }
+        return this.ljust(width, fillchar.charAt(0));
+    }
+
+    public UTF8Sequence ljust(int width) {
+        return this.ljust(width, UTF8Char.valueOf(' '));
+    }
+
+    public UTF8Sequence rjust(int width, UTF8Char fillchar) {
+        if (this.length >= width) {
+            return this;
+        }
+        final int FW = width - this.length;
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(capacityOf(
+            FW * (long)(fillchar.getByteLength()) + this.byteLength()
+        ));
+        for (int i = 0; i < FW; i++) {
+            B.append(fillchar);
+        }
+        B.append(this);
+        return B.toUTF8Sequence();
+    }
+
+    public UTF8Sequence rjust(int width, UTF8Sequence fillchar)
+    throws IllegalArgumentException {
+        if (fillchar.length != 1) {
+            throw new IllegalArgumentException(
+                "The fill character must be exactly one character long"
+            );
+        }
+        return this.rjust(width, fillchar.charAt(0));
+    }
+
+    public UTF8Sequence rjust(int width) {
+        return this.rjust(width, UTF8Char.valueOf(' '));
+    }
+
+    public UTF8Sequence format(Object... objects)
+    throws IllegalArgumentException {
+        // TODO
+        return new UTF8Sequence();
+    }
+
+    public UTF8Sequence format(Iterable<Object> objects)
+    throws IllegalArgumentException {
+        // TODO
+        return new UTF8Sequence();
+    }
+
+    public UTF8Sequence
+    format(Iterable<Object> args, Map<UTF8Sequence, Object> kw)
+    throws IllegalArgumentException {
+        // TODO
+        return new UTF8Sequence();
+    }
+
+    public static UTF8Sequence format(UTF8Sequence self, Object... objects)
+    throws IllegalArgumentException {
+        return self.format(objects);
+    }
+
+    /**
+     * Finds the occurrences of a non-empty sequence in another one, left to
+     * right or right to left. If both are in their shortest encodings, the
+     * encoded units are searched with Horspool's skip table, otherwise the
+     * characters are compared at every index. Nothing is allocated per
+     * probe.
+     */
+    private static final class Finder {
+        private final UTF8Sequence seq;
+        private final UTF8Sequence sub;
+        /**
+         * Horspool's shifts indexed by the unsigned last byte of the window,
+         * or the first one if {@link #reverse}, or null to compare
+         * characters.
+         */
+        private final int[] skip;
+        private final int subPos;
+        private final boolean reverse;
+        /**
+         * The least index to search right to left down to, and the byte
+         * offset where it starts.
+         */
+        private final int floor;
+        private final int floorPos;
+        /**
+         * The character index to search from, and the byte offset where it
+         * starts.
+         */
+        int index;
+        int pos;
+
+        /**
+         * Search left to right from {@code fromIndex}, which is at most
+         * {@code seq.length - sub.length}.
+         */
+        Finder(UTF8Sequence seq, UTF8Sequence sub, int fromIndex) {
+            this(seq, sub, fromIndex, false, 0);
+        }
+
+        /**
+         * Search right to left from {@code fromIndex}, which is at most
+         * {@code seq.length - sub.length}, down to {@code floor}.
+         */
+        Finder(UTF8Sequence seq, UTF8Sequence sub, int fromIndex,
+               int floor) {
+            this(seq, sub, fromIndex, true, floor);
+        }
+
+        private Finder(UTF8Sequence seq, UTF8Sequence sub, int fromIndex,
+                       boolean reverse, int floor) {
+            this.seq = seq;
+            this.sub = sub;
+            this.subPos = sub.posOf(0);
+            this.reverse = reverse;
+            this.floor = floor;
+            this.index = fromIndex;
+            this.pos = seq.posOf(fromIndex);
+            this.floorPos = reverse ? seq.posOf(floor) : 0;
+            if (seq.shortest && sub.shortest) {
+                final int M = sub.byteEnd - sub.byteStart;
+                this.skip = new int[256];
+                Arrays.fill(this.skip, M);
+                if (reverse) {
+                    for (int i = M - 1; i > 0; i--) {
+                        this.skip[sub.bytes[sub.byteStart + i] & 0xff] = i;
+                    }
+                } else {
+                    for (int i = 0; i < M - 1; i++) {
+                        this.skip[sub.bytes[sub.byteStart + i] & 0xff] =
+                        M - 1 - i;
+                    }
+                }
+            } else {
+                this.skip = null;
+            }
+        }
+
+        /**
+         * Move to the next occurrence from {@link #index}, in the direction
+         * of the search.
+         * @return Whether there is one.
+         */
+        boolean find() {
+            if (this.skip == null) {
+                return this.reverse ? this.findCharsBack() :
+                                      this.findChars();
+            }
+            if (this.reverse) {
+                return this.findBytesBack();
+            }
+            final byte[] H = this.seq.bytes;
+            final byte[] N = this.sub.bytes;
+            final int NSTART = this.sub.byteStart;
+            final int M = this.sub.byteEnd - NSTART;
+            final byte LAST = N[NSTART + M - 1];
+            final int STOP = this.seq.byteEnd - M;
+            for (int p = this.pos; p <= STOP;) {
+                final byte B = H[p + M - 1];
+                if (B == LAST) {
+                    int k = 0;
+                    while (k < M - 1 && H[p + k] == N[NSTART + k]) {
+                        k++;
+                    }
+                    if (k == M - 1) {
+                        this.index += this.seq.unitsIn(this.pos, p);
+                        this.pos = p;
+                        return true;
+                    }
+                }
+                p += this.skip[B & 0xff];
+            }
+            return false;
+        }
+
+        private boolean findBytesBack() {
+            final byte[] H = this.seq.bytes;
+            final byte[] N = this.sub.bytes;
+            final int NSTART = this.sub.byteStart;
+            final int M = this.sub.byteEnd - NSTART;
+            final byte FIRST = N[NSTART];
+            for (int p = Math.min(this.pos, this.seq.byteEnd - M);
+                 p >= this.floorPos;) {
+                final byte B = H[p];
+                if (B == FIRST) {
+                    int k = M - 1;
+                    while (k > 0 && H[p + k] == N[NSTART + k]) {
+                        k--;
+                    }
+                    if (k == 0) {
+                        this.index -= this.seq.unitsIn(p, this.pos);
+                        this.pos = p;
+                        return true;
+                    }
+                }
+                p -= this.skip[B & 0xff];
+            }
+            return false;
+        }
+
+        private boolean findChars() {
+            final int CW = this.seq.length - this.sub.length;
+            while (this.index <= CW) {
+                if (this.matches()) {
+                    return true;
+                }
+                this.pos = this.seq.nextPos(this.index, this.pos);
+                this.index++;
+            }
+            return false;
+        }
+
+        private boolean findCharsBack() {
+            while (this.index >= this.floor) {
+                if (this.matches()) {
+                    return true;
+                }
+                if (this.index == this.floor) {
+                    break;
+                }
+                this.pos = this.seq.prevPos(this.index, this.pos);
+                this.index--;
+            }
+            return false;
+        }
+
+        /**
+         * @return Whether {@link #sub} occurs at {@link #index}.
+         */
+        private boolean matches() {
+            int p = this.pos;
+            int q = this.subPos;
+            for (int i = 0; i < this.sub.length; i++) {
+                final int PNEXT = this.seq.nextPos(this.index + i, p);
+                final int QNEXT = this.sub.nextPos(i, q);
+                if (this.seq.ordAt(p, PNEXT) != this.sub.ordAt(q, QNEXT)) {
+                    return false;
+                }
+                p = PNEXT;
+                q = QNEXT;
+            }
+            return true;
+        }
+
+        /**
+         * Move {@link #index} by {@code chars} characters in the direction
+         * of the search.
+         * @return Whether an occurrence may still follow.
+         */
+        boolean skip(int chars) {
+            if (this.reverse) {
+                if (this.index - chars < this.floor) {
+                    return false;
+                }
+                for (int i = 0; i < chars; i++) {
+                    this.pos = this.seq.prevPos(this.index - i, this.pos);
+                }
+                this.index -= chars;
+                return true;
+            }
+            if (this.skip != null && chars == this.sub.length) {
+                this.pos += this.sub.byteEnd - this.sub.byteStart;
+            } else {
+                for (int i = 0; i < chars; i++) {
+                    this.pos = this.seq.nextPos(this.index + i, this.pos);
+                }
+            }
+            this.index += chars;
+            return true;
+        }
+    }
+
+    /**
+     * @return The count of units starting in {@code [from, to)}, both
+     * boundaries of units that can be walked by their first byte.
+     */
+    private int unitsIn(int from, int to) {
+        if (this.bounds == null) {
+            return to - from;
+        }
+        int res = 0;
+        for (int i = from; i < to; i++) {
+            if ((this.bytes[i] & 0xc0) != 0x80) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    public int indexOf(UTF8Char sub, int fromIndex) {
+        final long ORD = sub.ord();
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if (fromIndex >= this.length) {
+            return -1;
+        }
+        int pos = this.posOf(fromIndex);
+        for (int i = fromIndex; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) == ORD) {
+                return i;
+            }
+            pos = NEXT;
+        }
+        return -1;
+    }
+
+    public int indexOf(UTF8Char sub) {
+        return this.indexOf(sub, 0);
+    }
+
+    public int indexOf(long sub, int fromIndex) {
+        return this.indexOf(UTF8Char.valueOf(sub), fromIndex);
+    }
+
+    public int indexOf(long sub) {
+        return this.indexOf(UTF8Char.valueOf(sub), 0);
+    }
+
+    public int indexOf(UTF8Sequence sub, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if (sub.isEmpty()) {
+            if (this.length - fromIndex >= 0) {
+                return fromIndex;
+            }
+            return -1;
+        }
+        if (this.length - sub.length < fromIndex) {
+            return -1;
+        }
+        final Finder F = new Finder(this, sub, fromIndex);
+        return F.find() ? F.index : -1;
+    }
+
+    public int indexOf(UTF8Sequence sub) {
+        return this.indexOf(sub, 0);
+    }
+
+    public boolean contains(UTF8Char sub) {
+        return this.indexOf(sub, 0) != -1;
+    }
+
+    public boolean contains(UTF8Sequence sub) {
+        return this.indexOf(sub, 0) != -1;
+    }
+
+    /**
+     * @param sub The character to search for.
+     * @param fromIndex The greatest index to return, as in
+     * {@link String#lastIndexOf(int, int)}.
+     * @return The index of the last occurrence of {@code sub} at or before
+     * {@code fromIndex}, or {@code -1}.
+     */
+    public int lastIndexOf(UTF8Char sub, int fromIndex) {
+        return this.lastIndexOf(sub.ord(), Math.min(fromIndex,
+                                                    this.length - 1), 0);
+    }
+
+    public int lastIndexOf(UTF8Char sub) {
+        return this.lastIndexOf(sub, this.length);
+    }
+
+    public int lastIndexOf(long sub, int fromIndex) {
+        return this.lastIndexOf(UTF8Char.valueOf(sub), fromIndex);
+    }
+
+    public int lastIndexOf(long sub) {
+        return this.lastIndexOf(UTF8Char.valueOf(sub), this.length);
+    }
+
+    /**
+     * @return The index of the last character with codepoint {@code ord} in
+     * {@code [floor, fromIndex]}, or {@code -1}.
+     */
+    private int lastIndexOf(long ord, int fromIndex, int floor) {
+        if (fromIndex < floor) {
+            return -1;
+        }
+        int pos = this.posOf(fromIndex + 1);
+        for (int i = fromIndex; i >= floor; i--) {
+            final int PREV = this.prevPos(i + 1, pos);
+            if (this.ordAt(PREV, pos) == ord) {
+                return i;
+            }
+            pos = PREV;
+        }
+        return -1;
+    }
+
+    /**
+     * @param sub The sequence to search for.
+     * @param fromIndex The greatest index to return, as in
+     * {@link String#lastIndexOf(String, int)}.
+     * @return The index of the last occurrence of {@code sub} at or before
+     * {@code fromIndex}, or {@code -1}.
+     */
+    public int lastIndexOf(UTF8Sequence sub, int fromIndex) {
+        return this.lastIndexOf(sub, fromIndex, 0);
+    }
+
+    public int lastIndexOf(UTF8Sequence sub) {
+        return this.lastIndexOf(sub, this.length, 0);
+    }
+
+    /**
+     * @return The index of the last occurrence of {@code sub} in
+     * {@code [floor, fromIndex]}, or {@code -1}.
+     */
+    private int lastIndexOf(UTF8Sequence sub, int fromIndex, int floor) {
+        fromIndex = Math.min(fromIndex, this.length - sub.length);
+        if (fromIndex < floor) {
+            return -1;
+        }
+        if (sub.isEmpty()) {
+            return fromIndex;
+        }
+        final Finder F = new Finder(this, sub, fromIndex, floor);
+        return F.find() ? F.index : -1;
+    }
+
+    /**
+     * @param sub The character to search for.
+     * @param start The least index to return, @see {@link #slice}.
+     * @param end The index the occurrence must end by, @see {@link #slice}.
+     * @return A Python-like value of {@code this.rfind(sub, start, end)}.
+     */
+    public int rfind(UTF8Char sub, Integer start, Integer end) {
+        final int START = this.adjustStart(start);
+        final int END = this.adjustEnd(end);
+        if (START > this.length) {
+            return -1;
+        }
+        return this.lastIndexOf(sub.ord(), END - 1, START);
+    }
+
+    public int rfind(UTF8Char sub) {
+        return this.lastIndexOf(sub, this.length);
+    }
+
+    /**
+     * @param sub The sequence to search for.
+     * @param start The least index to return, @see {@link #slice}.
+     * @param end The index the occurrence must end by, @see {@link #slice}.
+     * @return A Python-like value of {@code this.rfind(sub, start, end)}.
+     */
+    public int rfind(UTF8Sequence sub, Integer start, Integer end) {
+        final int START = this.adjustStart(start);
+        final int END = this.adjustEnd(end);
+        if (START > this.length) {
+            return -1;
+        }
+        return this.lastIndexOf(sub, END - sub.length, START);
+    }
+
+    public int rfind(UTF8Sequence sub) {
+        return this.lastIndexOf(sub, this.length, 0);
+    }
+
+    /**
+     * @return A Python-like value of {@code this.rindex(sub, start, end)}.
+     * @throws IllegalArgumentException If {@code sub} is not found.
+     */
+    public int rindex(UTF8Char sub, Integer start, Integer end)
+    throws IllegalArgumentException {
+        final int RES = this.rfind(sub, start, end);
+        if (RES == -1) {
+            throw new IllegalArgumentException("substring not found");
+        }
+        return RES;
+    }
+
+    public int rindex(UTF8Char sub) throws IllegalArgumentException {
+        return this.rindex(sub, null, null);
+    }
+
+    /**
+     * @return A Python-like value of {@code this.rindex(sub, start, end)}.
+     * @throws IllegalArgumentException If {@code sub} is not found.
+     */
+    public int rindex(UTF8Sequence sub, Integer start, Integer end)
+    throws IllegalArgumentException {
+        final int RES = this.rfind(sub, start, end);
+        if (RES == -1) {
+            throw new IllegalArgumentException("substring not found");
+        }
+        return RES;
+    }
+
+    public int rindex(UTF8Sequence sub) throws IllegalArgumentException {
+        return this.rindex(sub, null, null);
+    }
+
+    /**
+     * Count the occurrences of {@code sub} at or before {@code fromIndex},
+     * matched right to left as {@link #lastIndexOf(UTF8Sequence, int)}
+     * finds them.
+     * @param allowOverlap Whether occurrences may overlap.
+     */
+    public int rcount(UTF8Sequence sub, boolean allowOverlap,
+                      int fromIndex) {
+        fromIndex = Math.min(fromIndex, this.length - sub.length);
+        if (fromIndex < 0) {
+            return 0;
+        }
+        if (sub.isEmpty()) {
+            return fromIndex + 1;
+        }
+        int res = 0;
+        final Finder F = new Finder(this, sub, fromIndex, 0);
+        while (F.find()) {
+            res++;
+            if (!(F.skip(allowOverlap ? 1 : sub.length))) {
+                break;
+            }
+        }
+        return res;
+    }
+
+    public int rcount(UTF8Sequence sub, boolean allowOverlap) {
+        return this.rcount(sub, allowOverlap, this.length);
+    }
+
+    /**
+     * @return {@code start} as an index of Python's slice, in
+     * {@code [0, this.length()]} unless greater.
+     */
+    private int adjustStart(Integer start) {
+        if (start == null) {
+            return 0;
+        }
+        final int START = start.intValue();
+        return (START < 0) ? Math.max(START + this.length, 0) : START;
+    }
+
+    /**
+     * @return {@code end} as an index of Python's slice, in
+     * {@code [0, this.length()]}.
+     */
+    private int adjustEnd(Integer end) {
+        if (end == null) {
+            return this.length;
+        }
+        final int END = end.intValue();
+        return (END < 0) ? Math.max(END + this.length, 0) :
+                           Math.min(END, this.length);
+    }
+
+    public int count(UTF8Char sub) {
+        final long ORD = sub.ord();
+        int res = 0;
+        int pos = this.posOf(0);
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) == ORD) {
+                res++;
+            }
+            pos = NEXT;
+        }
+        return res;
+    }
+
+    public int count(long sub) {
+        return this.count(UTF8Char.valueOf(sub));
+    }
+
+    public int count(UTF8Sequence sub, boolean allowOverlap) {
+        if (sub.isEmpty()) {
+            return this.length + 1;
+        }
+        if (this.length < sub.length) {
+            return 0;
+        }
+        int res = 0;
+        final Finder F = new Finder(this, sub, 0);
+        while (F.find()) {
+            res++;
+            F.skip(allowOverlap ? 1 : sub.length);
+        }
+        return res;
+    }
+
+    public int[] indicesOf(UTF8Char sub, int fromIndex) {
+        final long ORD = sub.ord();
+        final List<Integer> R = new ArrayList<Integer>();
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int pos = this.posOf(Math.min(fromIndex, this.length));
+        for (int i = fromIndex; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) == ORD) {
+                R.add(Integer.valueOf(i));
+            }
+            pos = NEXT;
+        }
+        final int[] RES = new int[R.size()];
+        for (int i = 0; i < RES.length; i++) {
+            RES[i] = R.get(i).intValue();
+        }
+        return RES;
+    }
+
+    public int[] indicesOf(UTF8Char sub) {
+        return this.indicesOf(sub, 0);
+    }
+
+    public int[] indicesOf(long sub, int fromIndex) {
+        return this.indicesOf(UTF8Char.valueOf(sub), fromIndex);
+    }
+
+    public int[] indicesOf(long sub) {
+        return this.indicesOf(UTF8Char.valueOf(sub), 0);
+    }
+
+    public int[]
+    indicesOf(UTF8Sequence sub, boolean allowOverlap, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if (sub.isEmpty()) {
+            if (this.length - fromIndex >= 0) {
+                final int[] RES = new int[this.length - fromIndex + 1];
+                for (int i = fromIndex; i <= this.length; i++) {
+                    RES[i - fromIndex] = i;
+                }
+                return RES;
+            }
+            return new int[0];
+        }
+        if (this.length - sub.length < fromIndex) {
+            return new int[0];
+        }
+        int[] res = new int[16];
+        int count = 0;
+        final Finder F = new Finder(this, sub, fromIndex);
+        while (F.find()) {
+            if (count == res.length) {
+                res = Arrays.copyOf(res, count * 2);
+            }
+            res[count++] = F.index;
+            F.skip(allowOverlap ? 1 : sub.length);
+        }
+        return Arrays.copyOf(res, count);
+    }
+
+    public int[]
+    indicesOf(UTF8Sequence sub, int fromIndex, boolean allowOverlap) {
+        return this.indicesOf(sub, allowOverlap, fromIndex);
+    }
+
+    public int[] indicesOf(UTF8Sequence sub, boolean allowOverlap) {
+        return this.indicesOf(sub, allowOverlap, 0);
+    }
+
+    /**
+     * An iterator over parts of a sequence, each found when asked for.
+     */
+    private abstract static class Parts implements Iterator<UTF8Sequence> {
+        private UTF8Sequence next;
+        private boolean ready;
+
+        /**
+         * @return The next part, or null after the last one.
+         */
+        abstract UTF8Sequence advance();
+
+        //@Override
+        public boolean hasNext() {
+            if (!(this.ready)) {
+                this.next = this.advance();
+                this.ready = true;
+            }
+            return this.next != null;
+        }
+
+        //@Override
+        public UTF8Sequence next() {
+            if (!(this.hasNext())) {
+                throw new NoSuchElementException();
+            }
+            this.ready = false;
+            return this.next;
+        }
+
+        //@Override
+        public void remove() {
+            throw new UnsupportedOperationException(
+                "UTF8Sequence is immutable"
+            );
+        }
+    }
+
+    /**
+     * @return The remaining parts of an iterator.
+     */
+    private static UTF8Sequence[] toArray(Iterator<UTF8Sequence> parts) {
+        final List<UTF8Sequence> RES = new ArrayList<UTF8Sequence>();
+        while (parts.hasNext()) {
+            RES.add(parts.next());
+        }
+        return RES.toArray(new UTF8Sequence[RES.size()]);
+    }
+
+    /**
+     * @param sep The separator to split at.
+     * @param maxsplit The most splits to do, all if negative.
+     * @return The parts between the separators, each a view sharing the
+     * storage of this sequence and found when asked for.
+     * @throws IllegalArgumentException If the separator is empty.
+     */
+    public Iterator<UTF8Sequence>
+    splitIterator(final UTF8Sequence sep, final int maxsplit)
+    throws IllegalArgumentException {
+        if (sep.isEmpty()) {
+            throw new IllegalArgumentException("empty separator");
+        }
+        return new Parts() {
+            private final Finder finder =
+            (UTF8Sequence.this.length >= sep.length) ?
+            new Finder(UTF8Sequence.this, sep, 0) : null;
+            private int splits = maxsplit;
+            private int start = 0;
+            private int startPos = UTF8Sequence.this.byteStart;
+            private boolean done;
+
+            @Override
+            UTF8Sequence advance() {
+                if (this.done) {
+                    return null;
+                }
+                if (this.splits != 0 && this.finder != null &&
+                    this.finder.find()) {
+                    final UTF8Sequence RES = UTF8Sequence.this.view(
+                        this.start, this.finder.index, this.startPos,
+                        this.finder.pos
+                    );
+                    this.finder.skip(sep.length);
+                    this.start = this.finder.index;
+                    this.startPos = this.finder.pos;
+                    this.splits--;
+                    return RES;
+                }
+                this.done = true;
+                return UTF8Sequence.this.view(
+                    this.start, UTF8Sequence.this.length, this.startPos,
+                    UTF8Sequence.this.byteEnd
+                );
+            }
+        };
+    }
+
+    public Iterator<UTF8Sequence> splitIterator(UTF8Sequence sep)
+    throws IllegalArgumentException {
+        return this.splitIterator(sep, -1);
+    }
+
+    /**
+     * @param seps The characters to split at.
+     * @param maxsplit The most splits to do, all if negative.
+     * @return The parts between the characters in {@code seps}, each a view
+     * sharing the storage of this sequence and found when asked for.
+     */
+    public Iterator<UTF8Sequence>
+    splitIterator(final CodepointSet seps, final int maxsplit) {
+        return new Parts() {
+            private int splits = maxsplit;
+            private int start = 0;
+            private int startPos = UTF8Sequence.this.byteStart;
+            private boolean done;
+
+            @Override
+            UTF8Sequence advance() {
+                if (this.done) {
+                    return null;
+                }
+                final UTF8Sequence SELF = UTF8Sequence.this;
+                int pos = this.startPos;
+                for (int i = this.start; this.splits != 0 && i < SELF.length;
+                     i++) {
+                    final int NEXT = SELF.nextPos(i, pos);
+                    if (seps.contains(SELF.ordAt(pos, NEXT))) {
+                        final UTF8Sequence RES =
+                        SELF.view(this.start, i, this.startPos, pos);
+                        this.start = i + 1;
+                        this.startPos = NEXT;
+                        this.splits--;
+                        return RES;
+                    }
+                    pos = NEXT;
+                }
+                this.done = true;
+                return SELF.view(this.start, SELF.length, this.startPos,
+                                 SELF.byteEnd);
+            }
+        };
+    }
+
+    public Iterator<UTF8Sequence> splitIterator(CodepointSet seps) {
+        return this.splitIterator(seps, -1);
+    }
+
+    public Iterator<UTF8Sequence> splitIterator(UTF8Char sep, int maxsplit) {
+        return this.splitIterator(new CodepointSet(sep.ord()), maxsplit);
+    }
+
+    public Iterator<UTF8Sequence> splitIterator(UTF8Char sep) {
+        return this.splitIterator(new CodepointSet(sep.ord()), -1);
+    }
+
+    /**
+     * @param maxsplit The most splits to do, all if negative.
+     * @return The parts of {@link #split(int)}, each a view sharing the
+     * storage of this sequence and found when asked for.
+     */
+    public Iterator<UTF8Sequence> splitIterator(final int maxsplit) {
+        return new Parts() {
+            private int splits = maxsplit;
+            private int index = 0;
+            private int pos = UTF8Sequence.this.byteStart;
+
+            @Override
+            UTF8Sequence advance() {
+                final UTF8Sequence SELF = UTF8Sequence.this;
+                while (this.index < SELF.length) {
+                    final int NEXT = SELF.nextPos(this.index, this.pos);
+                    if (!(WHITESPACE_SET.contains(SELF.ordAt(this.pos,
+                                                             NEXT)))) {
+                        break;
+                    }
+                    this.pos = NEXT;
+                    this.index++;
+                }
+                if (this.index == SELF.length) {
+                    return null;
+                }
+                final int START = this.index;
+                final int START_POS = this.pos;
+                if (this.splits == 0) {
+                    this.index = SELF.length;
+                    return SELF.view(START, SELF.length, START_POS,
+                                     SELF.byteEnd);
+                }
+                while (this.index < SELF.length) {
+                    final int NEXT = SELF.nextPos(this.index, this.pos);
+                    if (WHITESPACE_SET.contains(SELF.ordAt(this.pos, NEXT))) {
+                        break;
+                    }
+                    this.pos = NEXT;
+                    this.index++;
+                }
+                this.splits--;
+                return SELF.view(START, this.index, START_POS, this.pos);
+            }
+        };
+    }
+
+    public Iterator<UTF8Sequence> splitIterator() {
+        return this.splitIterator(-1);
+    }
+
+    /**
+     * @param keepends Whether to keep the line boundaries at the end of the
+     * lines.
+     * @return The lines of {@link #splitlines(boolean)}, each a view sharing
+     * the storage of this sequence and found when asked for.
+     */
+    public Iterator<UTF8Sequence> lines(final boolean keepends) {
+        return new Parts() {
+            private int start = 0;
+            private int startPos = UTF8Sequence.this.byteStart;
+
+            @Override
+            UTF8Sequence advance() {
+                final UTF8Sequence SELF = UTF8Sequence.this;
+                if (this.start >= SELF.length) {
+                    return null;
+                }
+                int pos = this.startPos;
+                for (int i = this.start; i < SELF.length; i++) {
+                    int next = SELF.nextPos(i, pos);
+                    final long C = SELF.ordAt(pos, next);
+                    if (LINEBREAK_SET.contains(C)) {
+                        int end = i + 1;
+                        if (C == 13L && end < SELF.length) {
+                            final int AFTER = SELF.nextPos(end, next);
+                            if (SELF.ordAt(next, AFTER) == 10L) {
+                                end++;
+                                next = AFTER;
+                            }
+                        }
+                        final UTF8Sequence RES = keepends ?
+                        SELF.view(this.start, end, this.startPos, next) :
+                        SELF.view(this.start, i, this.startPos, pos);
+                        this.start = end;
+                        this.startPos = next;
+                        return RES;
+                    }
+                    pos = next;
+                }
+                final UTF8Sequence RES = SELF.view(
+                    this.start, SELF.length, this.startPos, SELF.byteEnd
+                );
+                this.start = SELF.length;
+                return RES;
+            }
+        };
+    }
+
+    public Iterator<UTF8Sequence> lines() {
+        return this.lines(false);
+    }
+
+    public UTF8Sequence[] split(UTF8Sequence sep, int maxsplit)
+    throws IllegalArgumentException {
+        return toArray(this.splitIterator(sep, maxsplit));
+    }
+
+    public UTF8Sequence[] split(UTF8Sequence sep)
+    throws IllegalArgumentException {
+        return this.split(sep, -1);
+    }
+
+    public UTF8Sequence[] split(UTF8Char sep, int maxsplit) {
+        return toArray(this.splitIterator(sep, maxsplit));
+    }
+
+    public UTF8Sequence[] split(UTF8Char sep) {
+        return this.split(sep, -1);
+    }
+
+    /**
+     * @param seps The characters to split at.
+     * @param maxsplit The most splits to do, all if negative.
+     * @return The parts between the characters in {@code seps}.
+     */
+    public UTF8Sequence[] split(CodepointSet seps, int maxsplit) {
+        return toArray(this.splitIterator(seps, maxsplit));
+    }
+
+    public UTF8Sequence[] split(CodepointSet seps) {
+        return this.split(seps, -1);
+    }
+
+    /**
+     * @param maxsplit The most splits to do, all if negative.
+     * @return A Python-like value of {@code this.split(None, maxsplit)}: the
+     * runs of characters between runs of {@link #WHITESPACES}. The last
+     * part after {@code maxsplit} splits keeps its trailing whitespaces.
+     */
+    public UTF8Sequence[] split(int maxsplit) {
+        return toArray(this.splitIterator(maxsplit));
+    }
+
+    public UTF8Sequence[] split() {
+        return this.split(-1);
+    }
+
+    /**
+     * @param keepends Whether to keep the line boundaries at the end of the
+     * lines.
+     * @return A Python-like value of {@code this.splitlines(keepends)}. A
+     * boundary at the end starts no more line.
+     */
+    public UTF8Sequence[] splitlines(boolean keepends) {
+        return toArray(this.lines(keepends));
+    }
+
+    public UTF8Sequence[] splitlines() {
+        return this.splitlines(false);
+    }
+
+    /**
+     * @param sep The separator to search for.
+     * @return The parts before and after the first occurrence of
+     * {@code sep}, sharing the storage of this sequence, or this sequence
+     * and two empty ones if there is none. The search stops at the first
+     * occurrence.
+     * @throws IllegalArgumentException If the separator is empty.
+     */
+    public UTF8SequencePartition partition(UTF8Sequence sep)
+    throws IllegalArgumentException {
+        if (sep.isEmpty()) {
+            throw new IllegalArgumentException("empty separator");
+        }
+        if (this.length >= sep.length) {
+            final Finder F = new Finder(this, sep, 0);
+            if (F.find()) {
+                final UTF8Sequence BEFORE =
+                this.view(0, F.index, this.byteStart, F.pos);
+                F.skip(sep.length);
+                return new UTF8SequencePartition(
+                    BEFORE, sep,
+                    this.view(F.index, this.length, F.pos, this.byteEnd)
+                );
+            }
+        }
+        return new UTF8SequencePartition(this, new UTF8Sequence(),
+                                         new UTF8Sequence());
+    }
+
+    public UTF8SequencePartition partition(UTF8Char sep) {
+        final long ORD = sep.ord();
+        int pos = this.byteStart;
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) == ORD) {
+                return new UTF8SequencePartition(
+                    this.view(0, i, this.byteStart, pos),
+                    new UTF8Sequence(sep),
+                    this.view(i + 1, this.length, NEXT, this.byteEnd)
+                );
+            }
+            pos = NEXT;
+        }
+        return new UTF8SequencePartition(this, new UTF8Sequence(),
+                                         new UTF8Sequence());
+    }
+
+    /**
+     * @param sep The separator to search for.
+     * @return The parts before and after the last occurrence of
+     * {@code sep}, sharing the storage of this sequence, or two empty
+     * sequences and this one if there is none. The search goes right to
+     * left and stops at the first occurrence met.
+     * @throws IllegalArgumentException If the separator is empty.
+     */
+    public UTF8SequencePartition rpartition(UTF8Sequence sep)
+    throws IllegalArgumentException {
+        if (sep.isEmpty()) {
+            throw new IllegalArgumentException("empty separator");
+        }
+        if (this.length >= sep.length) {
+            final Finder F =
+            new Finder(this, sep, this.length - sep.length, 0);
+            if (F.find()) {
+                int end = F.pos;
+                for (int i = 0; i < sep.length; i++) {
+                    end = this.nextPos(F.index + i, end);
+                }
+                return new UTF8SequencePartition(
+                    this.view(0, F.index, this.byteStart, F.pos), sep,
+                    this.view(F.index + sep.length, this.length, end,
+                              this.byteEnd)
+                );
+            }
+        }
+        return new UTF8SequencePartition(new UTF8Sequence(),
+                                         new UTF8Sequence(), this);
+    }
+
+    public UTF8SequencePartition rpartition(UTF8Char sep) {
+        final long ORD = sep.ord();
+        int pos = this.byteEnd;
+        for (int i = this.length - 1; i >= 0; i--) {
+            final int PREV = this.prevPos(i + 1, pos);
+            if (this.ordAt(PREV, pos) == ORD) {
+                return new UTF8SequencePartition(
+                    this.view(0, i, this.byteStart, PREV),
+                    new UTF8Sequence(sep),
+                    this.view(i + 1, this.length, pos, this.byteEnd)
+                );
+            }
+            pos = PREV;
+        }
+        return new UTF8SequencePartition(new UTF8Sequence(),
+                                         new UTF8Sequence(), this);
+    }
+
+    /**
+     * @param chars The characters to strip.
+     * @return This sequence without the characters in {@code chars} at its
+     * start.
+     */
+    public UTF8Sequence lstrip(CodepointSet chars) {
+        final int START = this.stripStart(chars);
+        return (START != 0) ? this.subSequence(START) : this;
+    }
+
+    public UTF8Sequence lstrip(UTF8Sequence chars) {
+        return this.lstrip((chars == null) ? WHITESPACE_SET :
+                           new CodepointSet(chars));
+    }
+
+    public UTF8Sequence lstrip(UTF8Char chars) {
+        return this.lstrip((chars == null) ? WHITESPACE_SET :
+                           new CodepointSet(chars.ord()));
+    }
+
+    public UTF8Sequence lstrip() {
+        return this.lstrip(WHITESPACE_SET);
+    }
+
+    /**
+     * @param chars The characters to strip.
+     * @return This sequence without the characters in {@code chars} at its
+     * end.
+     */
+    public UTF8Sequence rstrip(CodepointSet chars) {
+        final int END = this.stripEnd(chars, 0);
+        return (END != this.length) ? this.subSequence(0, END) : this;
+    }
+
+    public UTF8Sequence rstrip(UTF8Sequence chars) {
+        return this.rstrip((chars == null) ? WHITESPACE_SET :
+                           new CodepointSet(chars));
+    }
+
+    public UTF8Sequence rstrip(UTF8Char chars) {
+        return this.rstrip((chars == null) ? WHITESPACE_SET :
+                           new CodepointSet(chars.ord()));
+    }
+
+    public UTF8Sequence rstrip() {
+        return this.rstrip(WHITESPACE_SET);
+    }
+
+    /**
+     * @param chars The characters to strip.
+     * @return This sequence without the characters in {@code chars} at both
+     * ends.
+     */
+    public UTF8Sequence strip(CodepointSet chars) {
+        final int START = this.stripStart(chars);
+        final int END = this.stripEnd(chars, START);
+        return (START != 0 || END != this.length) ?
+               this.subSequence(START, END) : this;
+    }
+
+    public UTF8Sequence strip(UTF8Sequence chars) {
+        return this.strip((chars == null) ? WHITESPACE_SET :
+                          new CodepointSet(chars));
+    }
+
+    public UTF8Sequence strip(UTF8Char chars) {
+        return this.strip((chars == null) ? WHITESPACE_SET :
+                          new CodepointSet(chars.ord()));
+    }
+
+    public UTF8Sequence strip() {
+        return this.strip(WHITESPACE_SET);
+    }
+
+    /**
+     * @return The index of the first character not in {@code chars}, or
+     * {@code this.length()}.
+     */
+    private int stripStart(CodepointSet chars) {
+        int pos = this.byteStart;
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (!(chars.contains(this.ordAt(pos, NEXT)))) {
+                return i;
+            }
+            pos = NEXT;
+        }
+        return this.length;
+    }
+
+    /**
+     * @return The index after the last character not in {@code chars}, or
+     * {@code floor} if there is none after it.
+     */
+    private int stripEnd(CodepointSet chars, int floor) {
+        int pos = this.byteEnd;
+        for (int i = this.length; i > floor; i--) {
+            final int PREV = this.prevPos(i, pos);
+            if (!(chars.contains(this.ordAt(PREV, pos)))) {
+                return i;
+            }
+            pos = PREV;
+        }
+        return floor;
+    }
+
+    public UTF8Sequence trim() {
+        return this.strip(TRIMMED_SET);
+    }
+
+    public boolean isupper() {
+        return this.equals(this.upper());
+    }
+
+    public boolean islower() {
+        return this.equals(this.lower());
+    }
+
+    public boolean isdecimal() {
+        return this.length != 0 && this.stripStart(DECIMAL_SET) == this.length;
+    }
+
+    public boolean isdigit() {
+        return this.length != 0 && this.stripStart(DIGIT_SET) == this.length;
+    }
+
+    public boolean isnumeric() {
+        return this.length != 0 && this.stripStart(NUMERIC_SET) == this.length;
+    }
+
+    /**
+     * @param chars The characters to count.
+     * @return The count of characters of this sequence in {@code chars}.
+     */
+    public int count(CodepointSet chars) {
+        int res = 0;
+        int pos = this.byteStart;
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (chars.contains(this.ordAt(pos, NEXT))) {
+                res++;
+            }
+            pos = NEXT;
+        }
+        return res;
+    }
+
+    /**
+     * @param old The sequence to replace.
+     * @param new_ The sequence to replace it with.
+     * @param count The most occurrences to replace, left to right, all if
+     * negative.
+     * @return This sequence with the occurrences of {@code old} replaced,
+     * found and copied in one pass, or this sequence itself if nothing is
+     * replaced. An empty {@code old} occurs before every character and at
+     * the end, as in Python.
+     */
+    public UTF8Sequence
+    replace(UTF8Sequence old, UTF8Sequence new_, int count) {
+        if (count == 0 || old.equals(new_)) {
+            return this;
+        }
+        if (old.isEmpty()) {
+            final int N = (count < 0 || count > this.length) ?
+                          this.length + 1 : count;
+            final UTF8SequenceBuilder B = new UTF8SequenceBuilder(capacityOf(
+                this.byteLength() + (long)N * new_.byteLength()
+            ));
+            int pos = this.byteStart;
+            for (int i = 0; i < N; i++) {
+                B.append(new_);
+                if (i < this.length) {
+                    final int NEXT = this.nextPos(i, pos);
+                    this.appendTo(B, i, i + 1, pos, NEXT);
+                    pos = NEXT;
+                }
+            }
+            this.appendTo(B, Math.min(N, this.length), this.length, pos,
+                          this.byteEnd);
+            return B.toUTF8Sequence();
+        }
+        if (this.length < old.length) {
+            return this;
+        }
+        final Finder F = new Finder(this, old, 0);
+        UTF8SequenceBuilder b = null;
+        int start = 0;
+        int startPos = this.byteStart;
+        while (count != 0 && F.find()) {
+            if (b == null) {
+                b = new UTF8SequenceBuilder(capacityOf(
+                    this.byteLength() +
+                    Math.max(0L, new_.byteLength() - old.byteLength())
+                ));
+            }
+            this.appendTo(b, start, F.index, startPos, F.pos);
+            b.append(new_);
+            F.skip(old.length);
+            start = F.index;
+            startPos = F.pos;
+            count--;
+        }
+        if (b == null) {
+            return this;
+        }
+        this.appendTo(b, start, this.length, startPos, this.byteEnd);
+        return b.toUTF8Sequence();
+    }
+
+    public UTF8Sequence replace(UTF8Sequence old, UTF8Sequence new_) {
+        return this.replace(old, new_, -1);
+    }
+
+    public UTF8Sequence replace(UTF8Sequence old, UTF8Char new_, int count) {
+        return this.replace(old, new UTF8Sequence(new_), count);
+    }
+
+    public UTF8Sequence replace(UTF8Sequence old, UTF8Char new_) {
+        return this.replace(old, new UTF8Sequence(new_), -1);
+    }
+
+    /**
+     * @param old The character to replace.
+     * @param new_ The sequence to replace it with.
+     * @param count The most occurrences to replace, left to right, all if
+     * negative.
+     * @return This sequence with the occurrences of {@code old} replaced,
+     * found and copied in one pass, or this sequence itself if nothing is
+     * replaced.
+     */
+    public UTF8Sequence replace(UTF8Char old, UTF8Sequence new_, int count) {
+        if (count == 0 || new UTF8Sequence(old).equals(new_)) {
+            return this;
+        }
+        final long ORD = old.ord();
+        UTF8SequenceBuilder b = null;
+        int start = 0;
+        int startPos = this.byteStart;
+        int pos = this.byteStart;
+        for (int i = 0; count != 0 && i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            if (this.ordAt(pos, NEXT) == ORD) {
+                if (b == null) {
+                    b = new UTF8SequenceBuilder(capacityOf(
+                        this.byteLength() +
+                        Math.max(0L, new_.byteLength() - (NEXT - pos))
+                    ));
+                }
+                this.appendTo(b, start, i, startPos, pos);
+                b.append(new_);
+                start = i + 1;
+                startPos = NEXT;
+                count--;
+            }
+            pos = NEXT;
+        }
+        if (b == null) {
+            return this;
+        }
+        this.appendTo(b, start, this.length, startPos, this.byteEnd);
+        return b.toUTF8Sequence();
+    }
+
+    public UTF8Sequence replace(UTF8Char old, UTF8Sequence new_) {
+        return this.replace(old, new_, -1);
+    }
+
+    public UTF8Sequence replace(UTF8Char old, UTF8Char new_, int count) {
+        return this.replace(old, new UTF8Sequence(new_), count);
+    }
+
+    public UTF8Sequence replace(UTF8Char old, UTF8Char new_) {
+        return this.replace(old, new UTF8Sequence(new_), -1);
+    }
+
+    /**
+     * @param table The replacement of each pattern.
+     * @return A replacer of all the patterns of {@code table} in one pass,
+     * to be compiled once and reused.
+     * @throws NullPointerException If the map, one of its keys or one of its
+     * values is null.
+     * @throws IllegalArgumentException If a pattern is empty.
+     */
+    public static UTF8SequenceReplacer
+    replacer(Map<UTF8Sequence, UTF8Sequence> table)
+    throws IllegalArgumentException {
+        return new UTF8SequenceReplacer(table);
+    }
+
+    public boolean startswith(UTF8Sequence prefix, int start, int end) {
+        if (prefix.isEmpty()) {
+            return start <= -this.length ||
+                   (start <= this.length && start >= 0 && end >= 0 &&
+                    start <= end) ||
+                   (start <= this.length && start >= 0 && end < 0 &&
+                    start <= end + this.length) ||
+                   (start <= this.length && start < 0 && end >= 0 &&
+                    start + this.length <= end) ||
+                   (start <= this.length && start < 0 && end < 0 &&
+                    start <= end);
+        }
+        if (start < 0) {
+            start += this.length;
+            if (start < 0) {
+                start = 0;
+            }
+        } else if (start > this.length) {
+            start = this.length;
+        }
+        if (end < 0) {
+            end += this.length;
+            if (end < 0) {
+                end = 0;
+            }
+        } else if (end > this.length) {
+            end = this.length;
+        }
+        return end - start < prefix.length &&
+               this.subSequence(start, start + prefix.length)
+               .equals(prefix);
+    }
+
+    public boolean startswith(UTF8Sequence prefix, int start) {
+        return this.startswith(prefix, start, this.length);
+    }
+
+    public boolean startswith(UTF8Sequence prefix) {
+        return this.startswith(prefix, 0, this.length);
+    }
+
+    public boolean startsWith(UTF8Sequence prefix, int toffset) {
+        if (toffset < 0) {
+            return false;
+        }
+        if (toffset > 0) {
+            return this.subSequence(toffset).startsWith(prefix, 0);
+        }
+        if (prefix.length > this.length) {
+            return false;
+        }
+        return this.subSequence(0, prefix.length).equals(prefix);
+    }
+
+    public boolean startsWith(UTF8Sequence prefix) {
+        return this.startsWith(prefix, 0);
+    }
+
+    public UTF8Sequence regularAll() {
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(this.length);
+        for (UTF8Char i : this) {
+            B.append(UTF8Char.valueOf(i.ord()));
+        }
+        return B.toUTF8Sequence();
+    }
+
+    public boolean equalsWithRegular(UTF8Sequence o) {
+        if (this.length != o.length) {
+            return false;
+        }
+        int pos = this.posOf(0);
+        int opos = o.posOf(0);
+        for (int i = 0; i < this.length; i++) {
+            final int NEXT = this.nextPos(i, pos);
+            final int ONEXT = o.nextPos(i, opos);
+            if (NEXT - pos != ONEXT - opos ||
+                this.ordAt(pos, NEXT) != o.ordAt(opos, ONEXT)) {
+                return false;
+            }
+            pos = NEXT;
+            opos = ONEXT;
+        }
+        return true;
+    }
+
+    private static void registerPairs(UTF8Char upper, UTF8Char lower) {
+        TOLOWERS.put(upper, new UTF8Sequence(lower));
+        TOUPPERS.put(lower, new UTF8Sequence(upper));
+    }
+
+    private static void registerPairs(char upper, char lower) {
+        TOLOWERS.put(UTF8Char.valueOf(upper), new UTF8Sequence(lower));
+        TOUPPERS.put(UTF8Char.valueOf(lower), new UTF8Sequence(upper));
+    }
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            DECODE_CLASSES[i] = (i < 0x80) ? 0 : (i == 0xff) ? 8 :
+                                ((i & 0xc0) == 0x80) ? 1 :
+                                UTF8Char.WIDTHS[i];
+        }
+        Arrays.fill(DECODE_STATES, (byte)DECODE_REJECT);
+        DECODE_STATES[0] = 0;
+        for (int i = 2; i <= 7; i++) {
+            DECODE_STATES[i] = (byte)(i - 1);
+        }
+        for (int i = 1; i < DECODE_REJECT; i++) {
+            DECODE_STATES[i * DECODE_CLASS_COUNT + 1] = (byte)(i - 1);
+        }
+        LINEBREAK_SET = new CodepointSet(new long[]{
+            10, 11, 12, 13, 28, 29, 30, 133, 8232, 8233
+        });
+        WHITESPACES = new UTF8Sequence(new UTF8Char[]{
+            UTF8Char.HT, UTF8Char.VT, UTF8Char.LF, UTF8Char.CR,
+            UTF8Char.valueOf(' '), UTF8Char.NBSP, UTF8Char.IDSP
+        });
+        DECIMALS = new UTF8Sequence(new long[]{
+            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 1632, 1633, 1634, 1635,
+            1636, 1637, 1638, 1639, 1640, 1641, 1776, 1777, 1778, 1779, 1780,
+            1781, 1782, 1783, 1784, 1785, 1984, 1985, 1986, 1987, 1988, 1989,
+            1990, 1991, 1992, 1993, 2406, 2407, 2408, 2409, 2410, 2411, 2412,
+            2413, 2414, 2415, 2534, 2535, 2536, 2537, 2538, 2539, 2540, 2541,
+            2542, 2543, 2662, 2663, 2664, 2665, 2666, 2667, 2668, 2669, 2670,
+            2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797, 2798, 2799,
+            2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926, 2927, 3046,
+            3047, 3048, 3049, 3050, 3051, 3052, 3053, 3054, 3055, 3174, 3175,
+            3176, 3177, 3178, 3179, 3180, 3181, 3182, 3183, 3302, 3303, 3304,
+            3305, 3306, 3307, 3308, 3309, 3310, 3311, 3430, 3431, 3432, 3433,
+            3434, 3435, 3436, 3437, 3438, 3439, 3558, 3559, 3560, 3561, 3562,
+            3563, 3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667, 3668, 3669,
+            3670, 3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796, 3797, 3798,
+            3799, 3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877, 3878, 3879,
+            3880, 3881, 4160, 4161, 4162, 4163, 4164, 4165, 4166, 4167, 4168,
+            4169, 4240, 4241, 4242, 4243, 4244, 4245, 4246, 4247, 4248, 4249,
+            6112, 6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6160,
+            6161, 6162, 6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471,
+            6472, 6473, 6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610,
+            6611, 6612, 6613, 6614, 6615, 6616, 6617, 6784, 6785, 6786, 6787,
+            6788, 6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803, 6804,
+            6805, 6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996, 6997,
+            6998, 6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093, 7094,
+            7095, 7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238, 7239,
+            7240, 7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255, 7256,
+            7257, 42528, 42529, 42530, 42531, 42532, 42533, 42534, 42535,
+            42536, 42537, 43216, 43217, 43218, 43219, 43220, 43221, 43222,
+            43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268, 43269,
+            43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475, 43476,
+            43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506, 43507,
+            43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601, 43602,
+            43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016, 44017,
+            44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025, 65296,
+            65297, 65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305,
+            66720, 66721, 66722, 66723, 66724, 66725, 66726, 66727, 66728,
+            66729, 68912, 68913, 68914, 68915, 68916, 68917, 68918, 68919,
+            68920, 68921, 69734, 69735, 69736, 69737, 69738, 69739, 69740,
+            69741, 69742, 69743, 69872, 69873, 69874, 69875, 69876, 69877,
+            69878, 69879, 69880, 69881, 69942, 69943, 69944, 69945, 69946,
+            69947, 69948, 69949, 69950, 69951, 70096, 70097, 70098, 70099,
+            70100, 70101, 70102, 70103, 70104, 70105, 70384, 70385, 70386,
+            70387, 70388, 70389, 70390, 70391, 70392, 70393, 70736, 70737,
+            70738, 70739, 70740, 70741, 70742, 70743, 70744, 70745, 70864,
+            70865, 70866, 70867, 70868, 70869, 70870, 70871, 70872, 70873,
+            71248, 71249, 71250, 71251, 71252, 71253, 71254, 71255, 71256,
+            71257, 71360, 71361, 71362, 71363, 71364, 71365, 71366, 71367,
+            71368, 71369, 71472, 71473, 71474, 71475, 71476, 71477, 71478,
+            71479, 71480, 71481, 71904, 71905, 71906, 71907, 71908, 71909,
+            71910, 71911, 71912, 71913, 72016, 72017, 72018, 72019, 72020,
+            72021, 72022, 72023, 72024, 72025, 72784, 72785, 72786, 72787,
+            72788, 72789, 72790, 72791, 72792, 72793, 73040, 73041, 73042,
+            73043, 73044, 73045, 73046, 73047, 73048, 73049, 73120, 73121,
+            73122, 73123, 73124, 73125, 73126, 73127, 73128, 73129, 73552,
+            73553, 73554, 73555, 73556, 73557, 73558, 73559, 73560, 73561,
+            92768, 92769, 92770, 92771, 92772, 92773, 92774, 92775, 92776,
+            92777, 92864, 92865, 92866, 92867, 92868, 92869, 92870, 92871,
+            92872, 92873, 93008, 93009, 93010, 93011, 93012, 93013, 93014,
+            93015, 93016, 93017, 120782, 120783, 120784, 120785, 120786,
+            120787, 120788, 120789, 120790, 120791, 120792, 120793, 120794,
+            120795, 120796, 120797, 120798, 120799, 120800, 120801, 120802,
+            120803, 120804, 120805, 120806, 120807, 120808, 120809, 120810,
+            120811, 120812, 120813, 120814, 120815, 120816, 120817, 120818,
+            120819, 120820, 120821, 120822, 120823, 120824, 120825, 120826,
+            120827, 120828, 120829, 120830, 120831, 123200, 123201, 123202,
+            123203, 123204, 123205, 123206, 123207, 123208, 123209, 123632,
+            123633, 123634, 123635, 123636, 123637, 123638, 123639, 123640,
+            123641, 124144, 124145, 124146, 124147, 124148, 124149, 124150,
+            124151, 124152, 124153, 125264, 125265, 125266, 125267, 125268,
+            125269, 125270, 125271, 125272, 125273, 130032, 130033, 130034,
+            130035, 130036, 130037, 130038, 130039, 130040, 130041
+        });
+        DIGITS = new UTF8Sequence(new long[]{
+            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 178, 179, 185, 1632, 1633,
+            1634, 1635, 1636, 1637, 1638, 1639, 1640, 1641, 1776, 1777, 1778,
+            1779, 1780, 1781, 1782, 1783, 1784, 1785, 1984, 1985, 1986, 1987,
+            1988, 1989, 1990, 1991, 1992, 1993, 2406, 2407, 2408, 2409, 2410,
+            2411, 2412, 2413, 2414, 2415, 2534, 2535, 2536, 2537, 2538, 2539,
+            2540, 2541, 2542, 2543, 2662, 2663, 2664, 2665, 2666, 2667, 2668,
+            2669, 2670, 2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797,
+            2798, 2799, 2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926,
+            2927, 3046, 3047, 3048, 3049, 3050, 3051, 3052, 3053, 3054, 3055,
+            3174, 3175, 3176, 3177, 3178, 3179, 3180, 3181, 3182, 3183, 3302,
+            3303, 3304, 3305, 3306, 3307, 3308, 3309, 3310, 3311, 3430, 3431,
+            3432, 3433, 3434, 3435, 3436, 3437, 3438, 3439, 3558, 3559, 3560,
+            3561, 3562, 3563, 3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667,
+            3668, 3669, 3670, 3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796,
+            3797, 3798, 3799, 3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877,
+            3878, 3879, 3880, 3881, 4160, 4161, 4162, 4163, 4164, 4165, 4166,
+            4167, 4168, 4169, 4240, 4241, 4242, 4243, 4244, 4245, 4246, 4247,
+            4248, 4249, 4969, 4970, 4971, 4972, 4973, 4974, 4975, 4976, 4977,
+            6112, 6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6160,
+            6161, 6162, 6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471,
+            6472, 6473, 6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610,
+            6611, 6612, 6613, 6614, 6615, 6616, 6617, 6618, 6784, 6785, 6786,
+            6787, 6788, 6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803,
+            6804, 6805, 6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996,
+            6997, 6998, 6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093,
+            7094, 7095, 7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238,
+            7239, 7240, 7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255,
+            7256, 7257, 8304, 8308, 8309, 8310, 8311, 8312, 8313, 8320, 8321,
+            8322, 8323, 8324, 8325, 8326, 8327, 8328, 8329, 9312, 9313, 9314,
+            9315, 9316, 9317, 9318, 9319, 9320, 9332, 9333, 9334, 9335, 9336,
+            9337, 9338, 9339, 9340, 9352, 9353, 9354, 9355, 9356, 9357, 9358,
+            9359, 9360, 9450, 9461, 9462, 9463, 9464, 9465, 9466, 9467, 9468,
+            9469, 9471, 10102, 10103, 10104, 10105, 10106, 10107, 10108, 10109,
+            10110, 10112, 10113, 10114, 10115, 10116, 10117, 10118, 10119,
+            10120, 10122, 10123, 10124, 10125, 10126, 10127, 10128, 10129,
+            10130, 42528, 42529, 42530, 42531, 42532, 42533, 42534, 42535,
+            42536, 42537, 43216, 43217, 43218, 43219, 43220, 43221, 43222,
+            43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268, 43269,
+            43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475, 43476,
+            43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506, 43507,
+            43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601, 43602,
+            43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016, 44017,
+            44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025, 65296,
+            65297, 65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305,
+            66720, 66721, 66722, 66723, 66724, 66725, 66726, 66727, 66728,
+            66729, 68160, 68161, 68162, 68163, 68912, 68913, 68914, 68915,
+            68916, 68917, 68918, 68919, 68920, 68921, 69216, 69217, 69218,
+            69219, 69220, 69221, 69222, 69223, 69224, 69714, 69715, 69716,
+            69717, 69718, 69719, 69720, 69721, 69722, 69734, 69735, 69736,
+            69737, 69738, 69739, 69740, 69741, 69742, 69743, 69872, 69873,
+            69874, 69875, 69876, 69877, 69878, 69879, 69880, 69881, 69942,
+            69943, 69944, 69945, 69946, 69947, 69948, 69949, 69950, 69951,
+            70096, 70097, 70098, 70099, 70100, 70101, 70102, 70103, 70104,
+            70105, 70384, 70385, 70386, 70387, 70388, 70389, 70390, 70391,
+            70392, 70393, 70736, 70737, 70738, 70739, 70740, 70741, 70742,
+            70743, 70744, 70745, 70864, 70865, 70866, 70867, 70868, 70869,
+            70870, 70871, 70872, 70873, 71248, 71249, 71250, 71251, 71252,
+            71253, 71254, 71255, 71256, 71257, 71360, 71361, 71362, 71363,
+            71364, 71365, 71366, 71367, 71368, 71369, 71472, 71473, 71474,
+            71475, 71476, 71477, 71478, 71479, 71480, 71481, 71904, 71905,
+            71906, 71907, 71908, 71909, 71910, 71911, 71912, 71913, 72016,
+            72017, 72018, 72019, 72020, 72021, 72022, 72023, 72024, 72025,
+            72784, 72785, 72786, 72787, 72788, 72789, 72790, 72791, 72792,
+            72793, 73040, 73041, 73042, 73043, 73044, 73045, 73046, 73047,
+            73048, 73049, 73120, 73121, 73122, 73123, 73124, 73125, 73126,
+            73127, 73128, 73129, 73552, 73553, 73554, 73555, 73556, 73557,
+            73558, 73559, 73560, 73561, 92768, 92769, 92770, 92771, 92772,
+            92773, 92774, 92775, 92776, 92777, 92864, 92865, 92866, 92867,
+            92868, 92869, 92870, 92871, 92872, 92873, 93008, 93009, 93010,
+            93011, 93012, 93013, 93014, 93015, 93016, 93017, 120782, 120783,
+            120784, 120785, 120786, 120787, 120788, 120789, 120790, 120791,
+            120792, 120793, 120794, 120795, 120796, 120797, 120798, 120799,
+            120800, 120801, 120802, 120803, 120804, 120805, 120806, 120807,
+            120808, 120809, 120810, 120811, 120812, 120813, 120814, 120815,
+            120816, 120817, 120818, 120819, 120820, 120821, 120822, 120823,
+            120824, 120825, 120826, 120827, 120828, 120829, 120830, 120831,
+            123200, 123201, 123202, 123203, 123204, 123205, 123206, 123207,
+            123208, 123209, 123632, 123633, 123634, 123635, 123636, 123637,
+            123638, 123639, 123640, 123641, 124144, 124145, 124146, 124147,
+            124148, 124149, 124150, 124151, 124152, 124153, 125264, 125265,
+            125266, 125267, 125268, 125269, 125270, 125271, 125272, 125273,
+            127232, 127233, 127234, 127235, 127236, 127237, 127238, 127239,
+            127240, 127241, 127242, 130032, 130033, 130034, 130035, 130036,
+            130037, 130038, 130039, 130040, 130041
+        });
+        NUMERICS = new UTF8Sequence(new long[]{
+            48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 178, 179, 185, 188, 189,
+            190, 1632, 1633, 1634, 1635, 1636, 1637, 1638, 1639, 1640, 1641,
+            1776, 1777, 1778, 1779, 1780, 1781, 1782, 1783, 1784, 1785, 1984,
+            1985, 1986, 1987, 1988, 1989, 1990, 1991, 1992, 1993, 2406, 2407,
+            2408, 2409, 2410, 2411, 2412, 2413, 2414, 2415, 2534, 2535, 2536,
+            2537, 2538, 2539, 2540, 2541, 2542, 2543, 2548, 2549, 2550, 2551,
+            2552, 2553, 2662, 2663, 2664, 2665, 2666, 2667, 2668, 2669, 2670,
+            2671, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797, 2798, 2799,
+            2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926, 2927, 2930,
+            2931, 2932, 2933, 2934, 2935, 3046, 3047, 3048, 3049, 3050, 3051,
+            3052, 3053, 3054, 3055, 3056, 3057, 3058, 3174, 3175, 3176, 3177,
+            3178, 3179, 3180, 3181, 3182, 3183, 3192, 3193, 3194, 3195, 3196,
+            3197, 3198, 3302, 3303, 3304, 3305, 3306, 3307, 3308, 3309, 3310,
+            3311, 3416, 3417, 3418, 3419, 3420, 3421, 3422, 3430, 3431, 3432,
+            3433, 3434, 3435, 3436, 3437, 3438, 3439, 3440, 3441, 3442, 3443,
+            3444, 3445, 3446, 3447, 3448, 3558, 3559, 3560, 3561, 3562, 3563,
+            3564, 3565, 3566, 3567, 3664, 3665, 3666, 3667, 3668, 3669, 3670,
+            3671, 3672, 3673, 3792, 3793, 3794, 3795, 3796, 3797, 3798, 3799,
+            3800, 3801, 3872, 3873, 3874, 3875, 3876, 3877, 3878, 3879, 3880,
+            3881, 3882, 3883, 3884, 3885, 3886, 3887, 3888, 3889, 3890, 3891,
+            4160, 4161, 4162, 4163, 4164, 4165, 4166, 4167, 4168, 4169, 4240,
+            4241, 4242, 4243, 4244, 4245, 4246, 4247, 4248, 4249, 4969, 4970,
+            4971, 4972, 4973, 4974, 4975, 4976, 4977, 4978, 4979, 4980, 4981,
+            4982, 4983, 4984, 4985, 4986, 4987, 4988, 5870, 5871, 5872, 6112,
+            6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6128, 6129,
+            6130, 6131, 6132, 6133, 6134, 6135, 6136, 6137, 6160, 6161, 6162,
+            6163, 6164, 6165, 6166, 6167, 6168, 6169, 6470, 6471, 6472, 6473,
+            6474, 6475, 6476, 6477, 6478, 6479, 6608, 6609, 6610, 6611, 6612,
+            6613, 6614, 6615, 6616, 6617, 6618, 6784, 6785, 6786, 6787, 6788,
+            6789, 6790, 6791, 6792, 6793, 6800, 6801, 6802, 6803, 6804, 6805,
+            6806, 6807, 6808, 6809, 6992, 6993, 6994, 6995, 6996, 6997, 6998,
+            6999, 7000, 7001, 7088, 7089, 7090, 7091, 7092, 7093, 7094, 7095,
+            7096, 7097, 7232, 7233, 7234, 7235, 7236, 7237, 7238, 7239, 7240,
+            7241, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255, 7256, 7257,
+            8304, 8308, 8309, 8310, 8311, 8312, 8313, 8320, 8321, 8322, 8323,
+            8324, 8325, 8326, 8327, 8328, 8329, 8528, 8529, 8530, 8531, 8532,
+            8533, 8534, 8535, 8536, 8537, 8538, 8539, 8540, 8541, 8542, 8543,
+            8544, 8545, 8546, 8547, 8548, 8549, 8550, 8551, 8552, 8553, 8554,
+            8555, 8556, 8557, 8558, 8559, 8560, 8561, 8562, 8563, 8564, 8565,
+            8566, 8567, 8568, 8569, 8570, 8571, 8572, 8573, 8574, 8575, 8576,
+            8577, 8578, 8581, 8582, 8583, 8584, 8585, 9312, 9313, 9314, 9315,
+            9316, 9317, 9318, 9319, 9320, 9321, 9322, 9323, 9324, 9325, 9326,
+            9327, 9328, 9329, 9330, 9331, 9332, 9333, 9334, 9335, 9336, 9337,
+            9338, 9339, 9340, 9341, 9342, 9343, 9344, 9345, 9346, 9347, 9348,
+            9349, 9350, 9351, 9352, 9353, 9354, 9355, 9356, 9357, 9358, 9359,
+            9360, 9361, 9362, 9363, 9364, 9365, 9366, 9367, 9368, 9369, 9370,
+            9371, 9450, 9451, 9452, 9453, 9454, 9455, 9456, 9457, 9458, 9459,
+            9460, 9461, 9462, 9463, 9464, 9465, 9466, 9467, 9468, 9469, 9470,
+            9471, 10102, 10103, 10104, 10105, 10106, 10107, 10108, 10109,
+            10110, 10111, 10112, 10113, 10114, 10115, 10116, 10117, 10118,
+            10119, 10120, 10121, 10122, 10123, 10124, 10125, 10126, 10127,
+            10128, 10129, 10130, 10131, 11517, 12295, 12321, 12322, 12323,
+            12324, 12325, 12326, 12327, 12328, 12329, 12344, 12345, 12346,
+            12690, 12691, 12692, 12693, 12832, 12833, 12834, 12835, 12836,
+            12837, 12838, 12839, 12840, 12841, 12872, 12873, 12874, 12875,
+            12876, 12877, 12878, 12879, 12881, 12882, 12883, 12884, 12885,
+            12886, 12887, 12888, 12889, 12890, 12891, 12892, 12893, 12894,
+            12895, 12928, 12929, 12930, 12931, 12932, 12933, 12934, 12935,
+            12936, 12937, 12977, 12978, 12979, 12980, 12981, 12982, 12983,
+            12984, 12985, 12986, 12987, 12988, 12989, 12990, 12991, 13317,
+            13443, 14378, 15181, 19968, 19971, 19975, 19977, 20004, 20061,
+            20108, 20116, 20118, 20140, 20159, 20160, 20191, 20200, 20237,
+            20336, 20457, 20486, 20740, 20806, 20841, 20843, 20845, 21313,
+            21315, 21316, 21317, 21324, 21441, 21442, 21443, 21444, 22235,
+            22769, 22777, 24186, 24318, 24319, 24332, 24333, 24334, 24336,
+            25296, 25342, 25420, 26578, 27934, 28422, 29590, 30334, 30357,
+            31213, 32902, 33836, 36014, 36019, 36144, 37390, 38057, 38433,
+            38470, 38476, 38520, 38646, 42528, 42529, 42530, 42531, 42532,
+            42533, 42534, 42535, 42536, 42537, 42726, 42727, 42728, 42729,
+            42730, 42731, 42732, 42733, 42734, 42735, 43056, 43057, 43058,
+            43059, 43060, 43061, 43216, 43217, 43218, 43219, 43220, 43221,
+            43222, 43223, 43224, 43225, 43264, 43265, 43266, 43267, 43268,
+            43269, 43270, 43271, 43272, 43273, 43472, 43473, 43474, 43475,
+            43476, 43477, 43478, 43479, 43480, 43481, 43504, 43505, 43506,
+            43507, 43508, 43509, 43510, 43511, 43512, 43513, 43600, 43601,
+            43602, 43603, 43604, 43605, 43606, 43607, 43608, 43609, 44016,
+            44017, 44018, 44019, 44020, 44021, 44022, 44023, 44024, 44025,
+            63851, 63859, 63864, 63922, 63953, 63955, 63997, 65296, 65297,
+            65298, 65299, 65300, 65301, 65302, 65303, 65304, 65305, 65799,
+            65800, 65801, 65802, 65803, 65804, 65805, 65806, 65807, 65808,
+            65809, 65810, 65811, 65812, 65813, 65814, 65815, 65816, 65817,
+            65818, 65819, 65820, 65821, 65822, 65823, 65824, 65825, 65826,
+            65827, 65828, 65829, 65830, 65831, 65832, 65833, 65834, 65835,
+            65836, 65837, 65838, 65839, 65840, 65841, 65842, 65843, 65856,
+            65857, 65858, 65859, 65860, 65861, 65862, 65863, 65864, 65865,
+            65866, 65867, 65868, 65869, 65870, 65871, 65872, 65873, 65874,
+            65875, 65876, 65877, 65878, 65879, 65880, 65881, 65882, 65883,
+            65884, 65885, 65886, 65887, 65888, 65889, 65890, 65891, 65892,
+            65893, 65894, 65895, 65896, 65897, 65898, 65899, 65900, 65901,
+            65902, 65903, 65904, 65905, 65906, 65907, 65908, 65909, 65910,
+            65911, 65912, 65930, 65931, 66273, 66274, 66275, 66276, 66277,
+            66278, 66279, 66280, 66281, 66282, 66283, 66284, 66285, 66286,
+            66287, 66288, 66289, 66290, 66291, 66292, 66293, 66294, 66295,
+            66296, 66297, 66298, 66299, 66336, 66337, 66338, 66339, 66369,
+            66378, 66513, 66514, 66515, 66516, 66517, 66720, 66721, 66722,
+            66723, 66724, 66725, 66726, 66727, 66728, 66729, 67672, 67673,
+            67674, 67675, 67676, 67677, 67678, 67679, 67705, 67706, 67707,
+            67708, 67709, 67710, 67711, 67751, 67752, 67753, 67754, 67755,
+            67756, 67757, 67758, 67759, 67835, 67836, 67837, 67838, 67839,
+            67862, 67863, 67864, 67865, 67866, 67867, 68028, 68029, 68032,
+            68033, 68034, 68035, 68036, 68037, 68038, 68039, 68040, 68041,
+            68042, 68043, 68044, 68045, 68046, 68047, 68050, 68051, 68052,
+            68053, 68054, 68055, 68056, 68057, 68058, 68059, 68060, 68061,
+            68062, 68063, 68064, 68065, 68066, 68067, 68068, 68069, 68070,
+            68071, 68072, 68073, 68074, 68075, 68076, 68077, 68078, 68079,
+            68080, 68081, 68082, 68083, 68084, 68085, 68086, 68087, 68088,
+            68089, 68090, 68091, 68092, 68093, 68094, 68095, 68160, 68161,
+            68162, 68163, 68164, 68165, 68166, 68167, 68168, 68221, 68222,
+            68253, 68254, 68255, 68331, 68332, 68333, 68334, 68335, 68440,
+            68441, 68442, 68443, 68444, 68445, 68446, 68447, 68472, 68473,
+            68474, 68475, 68476, 68477, 68478, 68479, 68521, 68522, 68523,
+            68524, 68525, 68526, 68527, 68858, 68859, 68860, 68861, 68862,
+            68863, 68912, 68913, 68914, 68915, 68916, 68917, 68918, 68919,
+            68920, 68921, 69216, 69217, 69218, 69219, 69220, 69221, 69222,
+            69223, 69224, 69225, 69226, 69227, 69228, 69229, 69230, 69231,
+            69232, 69233, 69234, 69235, 69236, 69237, 69238, 69239, 69240,
+            69241, 69242, 69243, 69244, 69245, 69246, 69405, 69406, 69407,
+            69408, 69409, 69410, 69411, 69412, 69413, 69414, 69457, 69458,
+            69459, 69460, 69573, 69574, 69575, 69576, 69577, 69578, 69579,
+            69714, 69715, 69716, 69717, 69718, 69719, 69720, 69721, 69722,
+            69723, 69724, 69725, 69726, 69727, 69728, 69729, 69730, 69731,
+            69732, 69733, 69734, 69735, 69736, 69737, 69738, 69739, 69740,
+            69741, 69742, 69743, 69872, 69873, 69874, 69875, 69876, 69877,
+            69878, 69879, 69880, 69881, 69942, 69943, 69944, 69945, 69946,
+            69947, 69948, 69949, 69950, 69951, 70096, 70097, 70098, 70099,
+            70100, 70101, 70102, 70103, 70104, 70105, 70113, 70114, 70115,
+            70116, 70117, 70118, 70119, 70120, 70121, 70122, 70123, 70124,
+            70125, 70126, 70127, 70128, 70129, 70130, 70131, 70132, 70384,
+            70385, 70386, 70387, 70388, 70389, 70390, 70391, 70392, 70393,
+            70736, 70737, 70738, 70739, 70740, 70741, 70742, 70743, 70744,
+            70745, 70864, 70865, 70866, 70867, 70868, 70869, 70870, 70871,
+            70872, 70873, 71248, 71249, 71250, 71251, 71252, 71253, 71254,
+            71255, 71256, 71257, 71360, 71361, 71362, 71363, 71364, 71365,
+            71366, 71367, 71368, 71369, 71472, 71473, 71474, 71475, 71476,
+            71477, 71478, 71479, 71480, 71481, 71482, 71483, 71904, 71905,
+            71906, 71907, 71908, 71909, 71910, 71911, 71912, 71913, 71914,
+            71915, 71916, 71917, 71918, 71919, 71920, 71921, 71922, 72016,
+            72017, 72018, 72019, 72020, 72021, 72022, 72023, 72024, 72025,
+            72784, 72785, 72786, 72787, 72788, 72789, 72790, 72791, 72792,
+            72793, 72794, 72795, 72796, 72797, 72798, 72799, 72800, 72801,
+            72802, 72803, 72804, 72805, 72806, 72807, 72808, 72809, 72810,
+            72811, 72812, 73040, 73041, 73042, 73043, 73044, 73045, 73046,
+            73047, 73048, 73049, 73120, 73121, 73122, 73123, 73124, 73125,
+            73126, 73127, 73128, 73129, 73552, 73553, 73554, 73555, 73556,
+            73557, 73558, 73559, 73560, 73561, 73664, 73665, 73666, 73667,
+            73668, 73669, 73670, 73671, 73672, 73673, 73674, 73675, 73676,
+            73677, 73678, 73679, 73680, 73681, 73682, 73683, 73684, 74752,
+            74753, 74754, 74755, 74756, 74757, 74758, 74759, 74760, 74761,
+            74762, 74763, 74764, 74765, 74766, 74767, 74768, 74769, 74770,
+            74771, 74772, 74773, 74774, 74775, 74776, 74777, 74778, 74779,
+            74780, 74781, 74782, 74783, 74784, 74785, 74786, 74787, 74788,
+            74789, 74790, 74791, 74792, 74793, 74794, 74795, 74796, 74797,
+            74798, 74799, 74800, 74801, 74802, 74803, 74804, 74805, 74806,
+            74807, 74808, 74809, 74810, 74811, 74812, 74813, 74814, 74815,
+            74816, 74817, 74818, 74819, 74820, 74821, 74822, 74823, 74824,
+            74825, 74826, 74827, 74828, 74829, 74830, 74831, 74832, 74833,
+            74834, 74835, 74836, 74837, 74838, 74839, 74840, 74841, 74842,
+            74843, 74844, 74845, 74846, 74847, 74848, 74849, 74850, 74851,
+            74852, 74853, 74854, 74855, 74856, 74857, 74858, 74859, 74860,
+            74861, 74862, 92768, 92769, 92770, 92771, 92772, 92773, 92774,
+            92775, 92776, 92777, 92864, 92865, 92866, 92867, 92868, 92869,
+            92870, 92871, 92872, 92873, 93008, 93009, 93010, 93011, 93012,
+            93013, 93014, 93015, 93016, 93017, 93019, 93020, 93021, 93022,
+            93023, 93024, 93025, 93824, 93825, 93826, 93827, 93828, 93829,
+            93830, 93831, 93832, 93833, 93834, 93835, 93836, 93837, 93838,
+            93839, 93840, 93841, 93842, 93843, 93844, 93845, 93846, 119488,
+            119489, 119490, 119491, 119492, 119493, 119494, 119495, 119496,
+            119497, 119498, 119499, 119500, 119501, 119502, 119503, 119504,
+            119505, 119506, 119507, 119520, 119521, 119522, 119523, 119524,
+            119525, 119526, 119527, 119528, 119529, 119530, 119531, 119532,
+            119533, 119534, 119535, 119536, 119537, 119538, 119539, 119648,
+            119649, 119650, 119651, 119652, 119653, 119654, 119655, 119656,
+            119657, 119658, 119659, 119660, 119661, 119662, 119663, 119664,
+            119665, 119666, 119667, 119668, 119669, 119670, 119671, 119672,
+            120782, 120783, 120784, 120785, 120786, 120787, 120788, 120789,
+            120790, 120791, 120792, 120793, 120794, 120795, 120796, 120797,
+            120798, 120799, 120800, 120801, 120802, 120803, 120804, 120805,
+            120806, 120807, 120808, 120809, 120810, 120811, 120812, 120813,
+            120814, 120815, 120816, 120817, 120818, 120819, 120820, 120821,
+            120822, 120823, 120824, 120825, 120826, 120827, 120828, 120829,
+            120830, 120831, 123200, 123201, 123202, 123203, 123204, 123205,
+            123206, 123207, 123208, 123209, 123632, 123633, 123634, 123635,
+            123636, 123637, 123638, 123639, 123640, 123641, 124144, 124145,
+            124146, 124147, 124148, 124149, 124150, 124151, 124152, 124153,
+            125127, 125128, 125129, 125130, 125131, 125132, 125133, 125134,
+            125135, 125264, 125265, 125266, 125267, 125268, 125269, 125270,
+            125271, 125272, 125273, 126065, 126066, 126067, 126068, 126069,
+            126070, 126071, 126072, 126073, 126074, 126075, 126076, 126077,
+            126078, 126079, 126080, 126081, 126082, 126083, 126084, 126085,
+            126086, 126087, 126088, 126089, 126090, 126091, 126092, 126093,
+            126094, 126095, 126096, 126097, 126098, 126099, 126100, 126101,
+            126102, 126103, 126104, 126105, 126106, 126107, 126108, 126109,
+            126110, 126111, 126112, 126113, 126114, 126115, 126116, 126117,
+            126118, 126119, 126120, 126121, 126122, 126123, 126125, 126126,
+            126127, 126129, 126130, 126131, 126132, 126209, 126210, 126211,
+            126212, 126213, 126214, 126215, 126216, 126217, 126218, 126219,
+            126220, 126221, 126222, 126223, 126224, 126225, 126226, 126227,
+            126228, 126229, 126230, 126231, 126232, 126233, 126234, 126235,
+            126236, 126237, 126238, 126239, 126240, 126241, 126242, 126243,
+            126244, 126245, 126246, 126247, 126248, 126249, 126250, 126251,
+            126252, 126253, 126255, 126256, 126257, 126258, 126259, 126260,
+            126261, 126262, 126263, 126264, 126265, 126266, 126267, 126268,
+            126269, 127232, 127233, 127234, 127235, 127236, 127237, 127238,
+            127239, 127240, 127241, 127242, 127243, 127244, 130032, 130033,
+            130034, 130035, 130036, 130037, 130038, 130039, 130040, 130041,
+            131073, 131172, 131298, 131361, 133418, 133507, 133516, 133532,
+            133866, 133885, 133913, 140176, 141720, 146203, 156269, 194704
+        });
+        WHITESPACE_SET = new CodepointSet(WHITESPACES);
+        DECIMAL_SET = new CodepointSet(DECIMALS);
+        DIGIT_SET = new CodepointSet(DIGITS);
+        NUMERIC_SET = new CodepointSet(NUMERICS);
+        TRIMMED_SET = new CodepointSet(new long[]{
+            0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18,
+            19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32
+        });
+        TOLOWERS = new HashMap<UTF8Char, Iterable<UTF8Char>>();
+        TOUPPERS = new HashMap<UTF8Char, Iterable<UTF8Char>>();
+        registerPairs('A', 'a');
+        registerPairs('B', 'b');
+        registerPairs('C', 'c');
+        registerPairs('D', 'd');
+        registerPairs('E', 'e');
+        registerPairs('F', 'f');
+        registerPairs('G', 'g');
+        registerPairs('H', 'h');
+        registerPairs('I', 'i');
+        registerPairs('J', 'j');
+        registerPairs('K', 'k');
+        registerPairs('L', 'l');
+        registerPairs('M', 'm');
+        registerPairs('N', 'n');
+        registerPairs('O', 'o');
+        registerPairs('P', 'p');
+        registerPairs('Q', 'q');
+        registerPairs('R', 'r');
+        registerPairs('S', 's');
+        registerPairs('T', 't');
+        registerPairs('U', 'u');
+        registerPairs('V', 'v');
+        registerPairs('W', 'w');
+        registerPairs('X', 'x');
+        registerPairs('Y', 'y');
+        registerPairs('Z', 'z');
+        registerPairs(UTF8Char.valueOf(192), UTF8Char.valueOf(224));
+        registerPairs(UTF8Char.valueOf(193), UTF8Char.valueOf(225));
+        registerPairs(UTF8Char.valueOf(194), UTF8Char.valueOf(226));
+        registerPairs(UTF8Char.valueOf(195), UTF8Char.valueOf(227));
+        registerPairs(UTF8Char.valueOf(196), UTF8Char.valueOf(228));
+        registerPairs(UTF8Char.valueOf(197), UTF8Char.valueOf(229));
+        registerPairs(UTF8Char.valueOf(198), UTF8Char.valueOf(230));
+        registerPairs(UTF8Char.valueOf(199), UTF8Char.valueOf(231));
+        registerPairs(UTF8Char.valueOf(200), UTF8Char.valueOf(232));
+        registerPairs(UTF8Char.valueOf(201), UTF8Char.valueOf(233));
+        registerPairs(UTF8Char.valueOf(202), UTF8Char.valueOf(234));
+        registerPairs(UTF8Char.valueOf(203), UTF8Char.valueOf(235));
+        registerPairs(UTF8Char.valueOf(204), UTF8Char.valueOf(236));
+        registerPairs(UTF8Char.valueOf(205), UTF8Char.valueOf(237));
+        registerPairs(UTF8Char.valueOf(206), UTF8Char.valueOf(238));
+        registerPairs(UTF8Char.valueOf(207), UTF8Char.valueOf(239));
+        registerPairs(UTF8Char.valueOf(208), UTF8Char.valueOf(240));
+        registerPairs(UTF8Char.valueOf(209), UTF8Char.valueOf(241));
+        registerPairs(UTF8Char.valueOf(210), UTF8Char.valueOf(242));
+        registerPairs(UTF8Char.valueOf(211), UTF8Char.valueOf(243));
+        registerPairs(UTF8Char.valueOf(212), UTF8Char.valueOf(244));
+        registerPairs(UTF8Char.valueOf(213), UTF8Char.valueOf(245));
+        registerPairs(UTF8Char.valueOf(214), UTF8Char.valueOf(246));
+        registerPairs(UTF8Char.valueOf(216), UTF8Char.valueOf(248));
+        registerPairs(UTF8Char.valueOf(217), UTF8Char.valueOf(249));
+        registerPairs(UTF8Char.valueOf(218), UTF8Char.valueOf(250));
+        registerPairs(UTF8Char.valueOf(219), UTF8Char.valueOf(251));
+        registerPairs(UTF8Char.valueOf(220), UTF8Char.valueOf(252));
+        registerPairs(UTF8Char.valueOf(221), UTF8Char.valueOf(253));
+        registerPairs(UTF8Char.valueOf(222), UTF8Char.valueOf(254));
+        registerPairs(UTF8Char.valueOf(256), UTF8Char.valueOf(257));
+        registerPairs(UTF8Char.valueOf(258), UTF8Char.valueOf(259));
+        registerPairs(UTF8Char.valueOf(260), UTF8Char.valueOf(261));
+        registerPairs(UTF8Char.valueOf(262), UTF8Char.valueOf(263));
+        registerPairs(UTF8Char.valueOf(264), UTF8Char.valueOf(265));
+        registerPairs(UTF8Char.valueOf(266), UTF8Char.valueOf(267));
+        registerPairs(UTF8Char.valueOf(268), UTF8Char.valueOf(269));
+        registerPairs(UTF8Char.valueOf(270), UTF8Char.valueOf(271));
+        registerPairs(UTF8Char.valueOf(272), UTF8Char.valueOf(273));
+        registerPairs(UTF8Char.valueOf(274), UTF8Char.valueOf(275));
+        registerPairs(UTF8Char.valueOf(276), UTF8Char.valueOf(277));
+        registerPairs(UTF8Char.valueOf(278), UTF8Char.valueOf(279));
+        registerPairs(UTF8Char.valueOf(280), UTF8Char.valueOf(281));
+        registerPairs(UTF8Char.valueOf(282), UTF8Char.valueOf(283));
+        registerPairs(UTF8Char.valueOf(284), UTF8Char.valueOf(285));
+        registerPairs(UTF8Char.valueOf(286), UTF8Char.valueOf(287));
+        registerPairs(UTF8Char.valueOf(288), UTF8Char.valueOf(289));
+        registerPairs(UTF8Char.valueOf(290), UTF8Char.valueOf(291));
+        registerPairs(UTF8Char.valueOf(292), UTF8Char.valueOf(293));
+        registerPairs(UTF8Char.valueOf(294), UTF8Char.valueOf(295));
+        registerPairs(UTF8Char.valueOf(296), UTF8Char.valueOf(297));
+        registerPairs(UTF8Char.valueOf(298), UTF8Char.valueOf(299));
+        registerPairs(UTF8Char.valueOf(300), UTF8Char.valueOf(301));
+        registerPairs(UTF8Char.valueOf(302), UTF8Char.valueOf(303));
+        registerPairs(UTF8Char.valueOf(306), UTF8Char.valueOf(307));
+        registerPairs(UTF8Char.valueOf(308), UTF8Char.valueOf(309));
+        registerPairs(UTF8Char.valueOf(310), UTF8Char.valueOf(311));
+        registerPairs(UTF8Char.valueOf(313), UTF8Char.valueOf(314));
+        registerPairs(UTF8Char.valueOf(315), UTF8Char.valueOf(316));
+        registerPairs(UTF8Char.valueOf(317), UTF8Char.valueOf(318));
+        registerPairs(UTF8Char.valueOf(319), UTF8Char.valueOf(320));
+        registerPairs(UTF8Char.valueOf(321), UTF8Char.valueOf(322));
+        registerPairs(UTF8Char.valueOf(323), UTF8Char.valueOf(324));
+        registerPairs(UTF8Char.valueOf(325), UTF8Char.valueOf(326));
+        registerPairs(UTF8Char.valueOf(327), UTF8Char.valueOf(328));
+        registerPairs(UTF8Char.valueOf(330), UTF8Char.valueOf(331));
+        registerPairs(UTF8Char.valueOf(332), UTF8Char.valueOf(333));
+        registerPairs(UTF8Char.valueOf(334), UTF8Char.valueOf(335));
+        registerPairs(UTF8Char.valueOf(336), UTF8Char.valueOf(337));
+        registerPairs(UTF8Char.valueOf(338), UTF8Char.valueOf(339));
+        registerPairs(UTF8Char.valueOf(340), UTF8Char.valueOf(341));
+        registerPairs(UTF8Char.valueOf(342), UTF8Char.valueOf(343));
+        registerPairs(UTF8Char.valueOf(344), UTF8Char.valueOf(345));
+        registerPairs(UTF8Char.valueOf(346), UTF8Char.valueOf(347));
+        registerPairs(UTF8Char.valueOf(348), UTF8Char.valueOf(349));
+        registerPairs(UTF8Char.valueOf(350), UTF8Char.valueOf(351));
+        registerPairs(UTF8Char.valueOf(352), UTF8Char.valueOf(353));
+        registerPairs(UTF8Char.valueOf(354), UTF8Char.valueOf(355));
+        registerPairs(UTF8Char.valueOf(356), UTF8Char.valueOf(357));
+        registerPairs(UTF8Char.valueOf(358), UTF8Char.valueOf(359));
+        registerPairs(UTF8Char.valueOf(360), UTF8Char.valueOf(361));
+        registerPairs(UTF8Char.valueOf(362), UTF8Char.valueOf(363));
+        registerPairs(UTF8Char.valueOf(364), UTF8Char.valueOf(365));
+        registerPairs(UTF8Char.valueOf(366), UTF8Char.valueOf(367));
+        registerPairs(UTF8Char.valueOf(368), UTF8Char.valueOf(369));
+        registerPairs(UTF8Char.valueOf(370), UTF8Char.valueOf(371));
+        registerPairs(UTF8Char.valueOf(372), UTF8Char.valueOf(373));
+        registerPairs(UTF8Char.valueOf(374), UTF8Char.valueOf(375));
+        registerPairs(UTF8Char.valueOf(376), UTF8Char.valueOf(255));
+        registerPairs(UTF8Char.valueOf(377), UTF8Char.valueOf(378));
+        registerPairs(UTF8Char.valueOf(379), UTF8Char.valueOf(380));
+        registerPairs(UTF8Char.valueOf(381), UTF8Char.valueOf(382));
+        registerPairs(UTF8Char.valueOf(385), UTF8Char.valueOf(595));
+        registerPairs(UTF8Char.valueOf(386), UTF8Char.valueOf(387));
+        registerPairs(UTF8Char.valueOf(388), UTF8Char.valueOf(389));
+        registerPairs(UTF8Char.valueOf(390), UTF8Char.valueOf(596));
+        registerPairs(UTF8Char.valueOf(391), UTF8Char.valueOf(392));
+        registerPairs(UTF8Char.valueOf(393), UTF8Char.valueOf(598));
+        registerPairs(UTF8Char.valueOf(394), UTF8Char.valueOf(599));
+        registerPairs(UTF8Char.valueOf(395), UTF8Char.valueOf(396));
+        registerPairs(UTF8Char.valueOf(398), UTF8Char.valueOf(477));
+        registerPairs(UTF8Char.valueOf(399), UTF8Char.valueOf(601));
+        registerPairs(UTF8Char.valueOf(400), UTF8Char.valueOf(603));
+        registerPairs(UTF8Char.valueOf(401), UTF8Char.valueOf(402));
+        registerPairs(UTF8Char.valueOf(403), UTF8Char.valueOf(608));
+        registerPairs(UTF8Char.valueOf(404), UTF8Char.valueOf(611));
+        registerPairs(UTF8Char.valueOf(406), UTF8Char.valueOf(617));
+        registerPairs(UTF8Char.valueOf(407), UTF8Char.valueOf(616));
+        registerPairs(UTF8Char.valueOf(408), UTF8Char.valueOf(409));
+        registerPairs(UTF8Char.valueOf(412), UTF8Char.valueOf(623));
+        registerPairs(UTF8Char.valueOf(413), UTF8Char.valueOf(626));
+        registerPairs(UTF8Char.valueOf(415), UTF8Char.valueOf(629));
+        registerPairs(UTF8Char.valueOf(416), UTF8Char.valueOf(417));
+        registerPairs(UTF8Char.valueOf(418), UTF8Char.valueOf(419));
+        registerPairs(UTF8Char.valueOf(420), UTF8Char.valueOf(421));
+        registerPairs(UTF8Char.valueOf(422), UTF8Char.valueOf(640));
+        registerPairs(UTF8Char.valueOf(423), UTF8Char.valueOf(424));
+        registerPairs(UTF8Char.valueOf(425), UTF8Char.valueOf(643));
+        registerPairs(UTF8Char.valueOf(428), UTF8Char.valueOf(429));
+        registerPairs(UTF8Char.valueOf(430), UTF8Char.valueOf(648));
+        registerPairs(UTF8Char.valueOf(431), UTF8Char.valueOf(432));
+        registerPairs(UTF8Char.valueOf(433), UTF8Char.valueOf(650));
+        registerPairs(UTF8Char.valueOf(434), UTF8Char.valueOf(651));
+        registerPairs(UTF8Char.valueOf(435), UTF8Char.valueOf(436));
+        registerPairs(UTF8Char.valueOf(437), UTF8Char.valueOf(438));
+        registerPairs(UTF8Char.valueOf(439), UTF8Char.valueOf(658));
+        registerPairs(UTF8Char.valueOf(440), UTF8Char.valueOf(441));
+        registerPairs(UTF8Char.valueOf(444), UTF8Char.valueOf(445));
+        registerPairs(UTF8Char.valueOf(452), UTF8Char.valueOf(454));
+        registerPairs(UTF8Char.valueOf(453), UTF8Char.valueOf(454));
+        registerPairs(UTF8Char.valueOf(455), UTF8Char.valueOf(457));
+        registerPairs(UTF8Char.valueOf(456), UTF8Char.valueOf(457));
+        registerPairs(UTF8Char.valueOf(458), UTF8Char.valueOf(460));
+        registerPairs(UTF8Char.valueOf(459), UTF8Char.valueOf(460));
+        registerPairs(UTF8Char.valueOf(461), UTF8Char.valueOf(462));
+        registerPairs(UTF8Char.valueOf(463), UTF8Char.valueOf(464));
+        registerPairs(UTF8Char.valueOf(465), UTF8Char.valueOf(466));
+        registerPairs(UTF8Char.valueOf(467), UTF8Char.valueOf(468));
+        registerPairs(UTF8Char.valueOf(469), UTF8Char.valueOf(470));
+        registerPairs(UTF8Char.valueOf(471), UTF8Char.valueOf(472));
+        registerPairs(UTF8Char.valueOf(473), UTF8Char.valueOf(474));
+        registerPairs(UTF8Char.valueOf(475), UTF8Char.valueOf(476));
+        registerPairs(UTF8Char.valueOf(478), UTF8Char.valueOf(479));
+        registerPairs(UTF8Char.valueOf(480), UTF8Char.valueOf(481));
+        registerPairs(UTF8Char.valueOf(482), UTF8Char.valueOf(483));
+        registerPairs(UTF8Char.valueOf(484), UTF8Char.valueOf(485));
+        registerPairs(UTF8Char.valueOf(486), UTF8Char.valueOf(487));
+        registerPairs(UTF8Char.valueOf(488), UTF8Char.valueOf(489));
+        registerPairs(UTF8Char.valueOf(490), UTF8Char.valueOf(491));
+        registerPairs(UTF8Char.valueOf(492), UTF8Char.valueOf(493));
+        registerPairs(UTF8Char.valueOf(494), UTF8Char.valueOf(495));
+        registerPairs(UTF8Char.valueOf(497), UTF8Char.valueOf(499));
+        registerPairs(UTF8Char.valueOf(498), UTF8Char.valueOf(499));
+        registerPairs(UTF8Char.valueOf(500), UTF8Char.valueOf(501));
+        registerPairs(UTF8Char.valueOf(502), UTF8Char.valueOf(405));
+        registerPairs(UTF8Char.valueOf(503), UTF8Char.valueOf(447));
+        registerPairs(UTF8Char.valueOf(504), UTF8Char.valueOf(505));
+        registerPairs(UTF8Char.valueOf(506), UTF8Char.valueOf(507));
+        registerPairs(UTF8Char.valueOf(508), UTF8Char.valueOf(509));
+        registerPairs(UTF8Char.valueOf(510), UTF8Char.valueOf(511));
+        registerPairs(UTF8Char.valueOf(512), UTF8Char.valueOf(513));
+        registerPairs(UTF8Char.valueOf(514), UTF8Char.valueOf(515));
+        registerPairs(UTF8Char.valueOf(516), UTF8Char.valueOf(517));
+        registerPairs(UTF8Char.valueOf(518), UTF8Char.valueOf(519));
+        registerPairs(UTF8Char.valueOf(520), UTF8Char.valueOf(521));
+        registerPairs(UTF8Char.valueOf(522), UTF8Char.valueOf(523));
+        registerPairs(UTF8Char.valueOf(524), UTF8Char.valueOf(525));
+        registerPairs(UTF8Char.valueOf(526), UTF8Char.valueOf(527));
+        registerPairs(UTF8Char.valueOf(528), UTF8Char.valueOf(529));
+        registerPairs(UTF8Char.valueOf(530), UTF8Char.valueOf(531));
+        registerPairs(UTF8Char.valueOf(532), UTF8Char.valueOf(533));
+        registerPairs(UTF8Char.valueOf(534), UTF8Char.valueOf(535));
+        registerPairs(UTF8Char.valueOf(536), UTF8Char.valueOf(537));
+        registerPairs(UTF8Char.valueOf(538), UTF8Char.valueOf(539));
+        registerPairs(UTF8Char.valueOf(540), UTF8Char.valueOf(541));
+        registerPairs(UTF8Char.valueOf(542), UTF8Char.valueOf(543));
+        registerPairs(UTF8Char.valueOf(544), UTF8Char.valueOf(414));
+        registerPairs(UTF8Char.valueOf(546), UTF8Char.valueOf(547));
+        registerPairs(UTF8Char.valueOf(548), UTF8Char.valueOf(549));
+        registerPairs(UTF8Char.valueOf(550), UTF8Char.valueOf(551));
+        registerPairs(UTF8Char.valueOf(552), UTF8Char.valueOf(553));
+        registerPairs(UTF8Char.valueOf(554), UTF8Char.valueOf(555));
+        registerPairs(UTF8Char.valueOf(556), UTF8Char.valueOf(557));
+        registerPairs(UTF8Char.valueOf(558), UTF8Char.valueOf(559));
+        registerPairs(UTF8Char.valueOf(560), UTF8Char.valueOf(561));
+        registerPairs(UTF8Char.valueOf(562), UTF8Char.valueOf(563));
+        registerPairs(UTF8Char.valueOf(570), UTF8Char.valueOf(11365));
+        registerPairs(UTF8Char.valueOf(571), UTF8Char.valueOf(572));
+        registerPairs(UTF8Char.valueOf(573), UTF8Char.valueOf(410));
+        registerPairs(UTF8Char.valueOf(574), UTF8Char.valueOf(11366));
+        registerPairs(UTF8Char.valueOf(577), UTF8Char.valueOf(578));
+        registerPairs(UTF8Char.valueOf(579), UTF8Char.valueOf(384));
+        registerPairs(UTF8Char.valueOf(580), UTF8Char.valueOf(649));
+        registerPairs(UTF8Char.valueOf(581), UTF8Char.valueOf(652));
+        registerPairs(UTF8Char.valueOf(582), UTF8Char.valueOf(583));
+        registerPairs(UTF8Char.valueOf(584), UTF8Char.valueOf(585));
+        registerPairs(UTF8Char.valueOf(586), UTF8Char.valueOf(587));
+        registerPairs(UTF8Char.valueOf(588), UTF8Char.valueOf(589));
+        registerPairs(UTF8Char.valueOf(590), UTF8Char.valueOf(591));
+        registerPairs(UTF8Char.valueOf(880), UTF8Char.valueOf(881));
+        registerPairs(UTF8Char.valueOf(882), UTF8Char.valueOf(883));
+        registerPairs(UTF8Char.valueOf(886), UTF8Char.valueOf(887));
+        registerPairs(UTF8Char.valueOf(895), UTF8Char.valueOf(1011));
+        registerPairs(UTF8Char.valueOf(902), UTF8Char.valueOf(940));
+        registerPairs(UTF8Char.valueOf(904), UTF8Char.valueOf(941));
+        registerPairs(UTF8Char.valueOf(905), UTF8Char.valueOf(942));
+        registerPairs(UTF8Char.valueOf(906), UTF8Char.valueOf(943));
+        registerPairs(UTF8Char.valueOf(908), UTF8Char.valueOf(972));
+        registerPairs(UTF8Char.valueOf(910), UTF8Char.valueOf(973));
+        registerPairs(UTF8Char.valueOf(911), UTF8Char.valueOf(974));
+        registerPairs(UTF8Char.valueOf(913), UTF8Char.valueOf(945));
+        registerPairs(UTF8Char.valueOf(914), UTF8Char.valueOf(946));
+        registerPairs(UTF8Char.valueOf(915), UTF8Char.valueOf(947));
+        registerPairs(UTF8Char.valueOf(916), UTF8Char.valueOf(948));
+        registerPairs(UTF8Char.valueOf(917), UTF8Char.valueOf(949));
+        registerPairs(UTF8Char.valueOf(918), UTF8Char.valueOf(950));
+        registerPairs(UTF8Char.valueOf(919), UTF8Char.valueOf(951));
+        registerPairs(UTF8Char.valueOf(920), UTF8Char.valueOf(952));
+        registerPairs(UTF8Char.valueOf(921), UTF8Char.valueOf(953));
+        registerPairs(UTF8Char.valueOf(922), UTF8Char.valueOf(954));
+        registerPairs(UTF8Char.valueOf(923), UTF8Char.valueOf(955));
+        registerPairs(UTF8Char.valueOf(924), UTF8Char.valueOf(956));
+        registerPairs(UTF8Char.valueOf(925), UTF8Char.valueOf(957));
+        registerPairs(UTF8Char.valueOf(926), UTF8Char.valueOf(958));
+        registerPairs(UTF8Char.valueOf(927), UTF8Char.valueOf(959));
+        registerPairs(UTF8Char.valueOf(928), UTF8Char.valueOf(960));
+        registerPairs(UTF8Char.valueOf(929), UTF8Char.valueOf(961));
+        registerPairs(UTF8Char.valueOf(931), UTF8Char.valueOf(963));
+        registerPairs(UTF8Char.valueOf(932), UTF8Char.valueOf(964));
+        registerPairs(UTF8Char.valueOf(933), UTF8Char.valueOf(965));
+        registerPairs(UTF8Char.valueOf(934), UTF8Char.valueOf(966));
+        registerPairs(UTF8Char.valueOf(935), UTF8Char.valueOf(967));
+        registerPairs(UTF8Char.valueOf(936), UTF8Char.valueOf(968));
+        registerPairs(UTF8Char.valueOf(937), UTF8Char.valueOf(969));
+        registerPairs(UTF8Char.valueOf(938), UTF8Char.valueOf(970));
+        registerPairs(UTF8Char.valueOf(939), UTF8Char.valueOf(971));
+        registerPairs(UTF8Char.valueOf(975), UTF8Char.valueOf(983));
+        registerPairs(UTF8Char.valueOf(984), UTF8Char.valueOf(985));
+        registerPairs(UTF8Char.valueOf(986), UTF8Char.valueOf(987));
+        registerPairs(UTF8Char.valueOf(988), UTF8Char.valueOf(989));
+        registerPairs(UTF8Char.valueOf(990), UTF8Char.valueOf(991));
+        registerPairs(UTF8Char.valueOf(992), UTF8Char.valueOf(993));
+        registerPairs(UTF8Char.valueOf(994), UTF8Char.valueOf(995));
+        registerPairs(UTF8Char.valueOf(996), UTF8Char.valueOf(997));
+        registerPairs(UTF8Char.valueOf(998), UTF8Char.valueOf(999));
+        registerPairs(UTF8Char.valueOf(1000), UTF8Char.valueOf(1001));
+        registerPairs(UTF8Char.valueOf(1002), UTF8Char.valueOf(1003));
+        registerPairs(UTF8Char.valueOf(1004), UTF8Char.valueOf(1005));
+        registerPairs(UTF8Char.valueOf(1006), UTF8Char.valueOf(1007));
+        registerPairs(UTF8Char.valueOf(1012), UTF8Char.valueOf(952));
+        registerPairs(UTF8Char.valueOf(1015), UTF8Char.valueOf(1016));
+        registerPairs(UTF8Char.valueOf(1017), UTF8Char.valueOf(1010));
+        registerPairs(UTF8Char.valueOf(1018), UTF8Char.valueOf(1019));
+        registerPairs(UTF8Char.valueOf(1021), UTF8Char.valueOf(891));
+        registerPairs(UTF8Char.valueOf(1022), UTF8Char.valueOf(892));
+        registerPairs(UTF8Char.valueOf(1023), UTF8Char.valueOf(893));
+        registerPairs(UTF8Char.valueOf(1024), UTF8Char.valueOf(1104));
+        registerPairs(UTF8Char.valueOf(1025), UTF8Char.valueOf(1105));
+        registerPairs(UTF8Char.valueOf(1026), UTF8Char.valueOf(1106));
+        registerPairs(UTF8Char.valueOf(1027), UTF8Char.valueOf(1107));
+        registerPairs(UTF8Char.valueOf(1028), UTF8Char.valueOf(1108));
+        registerPairs(UTF8Char.valueOf(1029), UTF8Char.valueOf(1109));
+        registerPairs(UTF8Char.valueOf(1030), UTF8Char.valueOf(1110));
+        registerPairs(UTF8Char.valueOf(1031), UTF8Char.valueOf(1111));
+        registerPairs(UTF8Char.valueOf(1032), UTF8Char.valueOf(1112));
+        registerPairs(UTF8Char.valueOf(1033), UTF8Char.valueOf(1113));
+        registerPairs(UTF8Char.valueOf(1034), UTF8Char.valueOf(1114));
+        registerPairs(UTF8Char.valueOf(1035), UTF8Char.valueOf(1115));
+        registerPairs(UTF8Char.valueOf(1036), UTF8Char.valueOf(1116));
+        registerPairs(UTF8Char.valueOf(1037), UTF8Char.valueOf(1117));
+        registerPairs(UTF8Char.valueOf(1038), UTF8Char.valueOf(1118));
+        registerPairs(UTF8Char.valueOf(1039), UTF8Char.valueOf(1119));
+        registerPairs(UTF8Char.valueOf(1040), UTF8Char.valueOf(1072));
+        registerPairs(UTF8Char.valueOf(1041), UTF8Char.valueOf(1073));
+        registerPairs(UTF8Char.valueOf(1042), UTF8Char.valueOf(1074));
+        registerPairs(UTF8Char.valueOf(1043), UTF8Char.valueOf(1075));
+        registerPairs(UTF8Char.valueOf(1044), UTF8Char.valueOf(1076));
+        registerPairs(UTF8Char.valueOf(1045), UTF8Char.valueOf(1077));
+        registerPairs(UTF8Char.valueOf(1046), UTF8Char.valueOf(1078));
+        registerPairs(UTF8Char.valueOf(1047), UTF8Char.valueOf(1079));
+        registerPairs(UTF8Char.valueOf(1048), UTF8Char.valueOf(1080));
+        registerPairs(UTF8Char.valueOf(1049), UTF8Char.valueOf(1081));
+        registerPairs(UTF8Char.valueOf(1050), UTF8Char.valueOf(1082));
+        registerPairs(UTF8Char.valueOf(1051), UTF8Char.valueOf(1083));
+        registerPairs(UTF8Char.valueOf(1052), UTF8Char.valueOf(1084));
+        registerPairs(UTF8Char.valueOf(1053), UTF8Char.valueOf(1085));
+        registerPairs(UTF8Char.valueOf(1054), UTF8Char.valueOf(1086));
+        registerPairs(UTF8Char.valueOf(1055), UTF8Char.valueOf(1087));
+        registerPairs(UTF8Char.valueOf(1056), UTF8Char.valueOf(1088));
+        registerPairs(UTF8Char.valueOf(1057), UTF8Char.valueOf(1089));
+        registerPairs(UTF8Char.valueOf(1058), UTF8Char.valueOf(1090));
+        registerPairs(UTF8Char.valueOf(1059), UTF8Char.valueOf(1091));
+        registerPairs(UTF8Char.valueOf(1060), UTF8Char.valueOf(1092));
+        registerPairs(UTF8Char.valueOf(1061), UTF8Char.valueOf(1093));
+        registerPairs(UTF8Char.valueOf(1062), UTF8Char.valueOf(1094));
+        registerPairs(UTF8Char.valueOf(1063), UTF8Char.valueOf(1095));
+        registerPairs(UTF8Char.valueOf(1064), UTF8Char.valueOf(1096));
+        registerPairs(UTF8Char.valueOf(1065), UTF8Char.valueOf(1097));
+        registerPairs(UTF8Char.valueOf(1066), UTF8Char.valueOf(1098));
+        registerPairs(UTF8Char.valueOf(1067), UTF8Char.valueOf(1099));
+        registerPairs(UTF8Char.valueOf(1068), UTF8Char.valueOf(1100));
+        registerPairs(UTF8Char.valueOf(1069), UTF8Char.valueOf(1101));
+        registerPairs(UTF8Char.valueOf(1070), UTF8Char.valueOf(1102));
+        registerPairs(UTF8Char.valueOf(1071), UTF8Char.valueOf(1103));
+        registerPairs(UTF8Char.valueOf(1120), UTF8Char.valueOf(1121));
+        registerPairs(UTF8Char.valueOf(1122), UTF8Char.valueOf(1123));
+        registerPairs(UTF8Char.valueOf(1124), UTF8Char.valueOf(1125));
+        registerPairs(UTF8Char.valueOf(1126), UTF8Char.valueOf(1127));
+        registerPairs(UTF8Char.valueOf(1128), UTF8Char.valueOf(1129));
+        registerPairs(UTF8Char.valueOf(1130), UTF8Char.valueOf(1131));
+        registerPairs(UTF8Char.valueOf(1132), UTF8Char.valueOf(1133));
+        registerPairs(UTF8Char.valueOf(1134), UTF8Char.valueOf(1135));
+        registerPairs(UTF8Char.valueOf(1136), UTF8Char.valueOf(1137));
+        registerPairs(UTF8Char.valueOf(1138), UTF8Char.valueOf(1139));
+        registerPairs(UTF8Char.valueOf(1140), UTF8Char.valueOf(1141));
+        registerPairs(UTF8Char.valueOf(1142), UTF8Char.valueOf(1143));
+        registerPairs(UTF8Char.valueOf(1144), UTF8Char.valueOf(1145));
+        registerPairs(UTF8Char.valueOf(1146), UTF8Char.valueOf(1147));
+        registerPairs(UTF8Char.valueOf(1148), UTF8Char.valueOf(1149));
+        registerPairs(UTF8Char.valueOf(1150), UTF8Char.valueOf(1151));
+        registerPairs(UTF8Char.valueOf(1152), UTF8Char.valueOf(1153));
+        registerPairs(UTF8Char.valueOf(1162), UTF8Char.valueOf(1163));
+        registerPairs(UTF8Char.valueOf(1164), UTF8Char.valueOf(1165));
+        registerPairs(UTF8Char.valueOf(1166), UTF8Char.valueOf(1167));
+        registerPairs(UTF8Char.valueOf(1168), UTF8Char.valueOf(1169));
+        registerPairs(UTF8Char.valueOf(1170), UTF8Char.valueOf(1171));
+        registerPairs(UTF8Char.valueOf(1172), UTF8Char.valueOf(1173));
+        registerPairs(UTF8Char.valueOf(1174), UTF8Char.valueOf(1175));
+        registerPairs(UTF8Char.valueOf(1176), UTF8Char.valueOf(1177));
+        registerPairs(UTF8Char.valueOf(1178), UTF8Char.valueOf(1179));
+        registerPairs(UTF8Char.valueOf(1180), UTF8Char.valueOf(1181));
+        registerPairs(UTF8Char.valueOf(1182), UTF8Char.valueOf(1183));
+        registerPairs(UTF8Char.valueOf(1184), UTF8Char.valueOf(1185));
+        registerPairs(UTF8Char.valueOf(1186), UTF8Char.valueOf(1187));
+        registerPairs(UTF8Char.valueOf(1188), UTF8Char.valueOf(1189));
+        registerPairs(UTF8Char.valueOf(1190), UTF8Char.valueOf(1191));
+        registerPairs(UTF8Char.valueOf(1192), UTF8Char.valueOf(1193));
+        registerPairs(UTF8Char.valueOf(1194), UTF8Char.valueOf(1195));
+        registerPairs(UTF8Char.valueOf(1196), UTF8Char.valueOf(1197));
+        registerPairs(UTF8Char.valueOf(1198), UTF8Char.valueOf(1199));
+        registerPairs(UTF8Char.valueOf(1200), UTF8Char.valueOf(1201));
+        registerPairs(UTF8Char.valueOf(1202), UTF8Char.valueOf(1203));
+        registerPairs(UTF8Char.valueOf(1204), UTF8Char.valueOf(1205));
+        registerPairs(UTF8Char.valueOf(1206), UTF8Char.valueOf(1207));
+        registerPairs(UTF8Char.valueOf(1208), UTF8Char.valueOf(1209));
+        registerPairs(UTF8Char.valueOf(1210), UTF8Char.valueOf(1211));
+        registerPairs(UTF8Char.valueOf(1212), UTF8Char.valueOf(1213));
+        registerPairs(UTF8Char.valueOf(1214), UTF8Char.valueOf(1215));
+        registerPairs(UTF8Char.valueOf(1216), UTF8Char.valueOf(1231));
+        registerPairs(UTF8Char.valueOf(1217), UTF8Char.valueOf(1218));
+        registerPairs(UTF8Char.valueOf(1219), UTF8Char.valueOf(1220));
+        registerPairs(UTF8Char.valueOf(1221), UTF8Char.valueOf(1222));
+        registerPairs(UTF8Char.valueOf(1223), UTF8Char.valueOf(1224));
+        registerPairs(UTF8Char.valueOf(1225), UTF8Char.valueOf(1226));
+        registerPairs(UTF8Char.valueOf(1227), UTF8Char.valueOf(1228));
+        registerPairs(UTF8Char.valueOf(1229), UTF8Char.valueOf(1230));
+        registerPairs(UTF8Char.valueOf(1232), UTF8Char.valueOf(1233));
+        registerPairs(UTF8Char.valueOf(1234), UTF8Char.valueOf(1235));
+        registerPairs(UTF8Char.valueOf(1236), UTF8Char.valueOf(1237));
+        registerPairs(UTF8Char.valueOf(1238), UTF8Char.valueOf(1239));
+        registerPairs(UTF8Char.valueOf(1240), UTF8Char.valueOf(1241));
+        registerPairs(UTF8Char.valueOf(1242), UTF8Char.valueOf(1243));
+        registerPairs(UTF8Char.valueOf(1244), UTF8Char.valueOf(1245));
+        registerPairs(UTF8Char.valueOf(1246), UTF8Char.valueOf(1247));
+        registerPairs(UTF8Char.valueOf(1248), UTF8Char.valueOf(1249));
+        registerPairs(UTF8Char.valueOf(1250), UTF8Char.valueOf(1251));
+        registerPairs(UTF8Char.valueOf(1252), UTF8Char.valueOf(1253));
+        registerPairs(UTF8Char.valueOf(1254), UTF8Char.valueOf(1255));
+        registerPairs(UTF8Char.valueOf(1256), UTF8Char.valueOf(1257));
+        registerPairs(UTF8Char.valueOf(1258), UTF8Char.valueOf(1259));
+        registerPairs(UTF8Char.valueOf(1260), UTF8Char.valueOf(1261));
+        registerPairs(UTF8Char.valueOf(1262), UTF8Char.valueOf(1263));
+        registerPairs(UTF8Char.valueOf(1264), UTF8Char.valueOf(1265));
+        registerPairs(UTF8Char.valueOf(1266), UTF8Char.valueOf(1267));
+        registerPairs(UTF8Char.valueOf(1268), UTF8Char.valueOf(1269));
+        registerPairs(UTF8Char.valueOf(1270), UTF8Char.valueOf(1271));
+        registerPairs(UTF8Char.valueOf(1272), UTF8Char.valueOf(1273));
+        registerPairs(UTF8Char.valueOf(1274), UTF8Char.valueOf(1275));
+        registerPairs(UTF8Char.valueOf(1276), UTF8Char.valueOf(1277));
+        registerPairs(UTF8Char.valueOf(1278), UTF8Char.valueOf(1279));
+        registerPairs(UTF8Char.valueOf(1280), UTF8Char.valueOf(1281));
+        registerPairs(UTF8Char.valueOf(1282), UTF8Char.valueOf(1283));
+        registerPairs(UTF8Char.valueOf(1284), UTF8Char.valueOf(1285));
+        registerPairs(UTF8Char.valueOf(1286), UTF8Char.valueOf(1287));
+        registerPairs(UTF8Char.valueOf(1288), UTF8Char.valueOf(1289));
+        registerPairs(UTF8Char.valueOf(1290), UTF8Char.valueOf(1291));
+        registerPairs(UTF8Char.valueOf(1292), UTF8Char.valueOf(1293));
+        registerPairs(UTF8Char.valueOf(1294), UTF8Char.valueOf(1295));
+        registerPairs(UTF8Char.valueOf(1296), UTF8Char.valueOf(1297));
+        registerPairs(UTF8Char.valueOf(1298), UTF8Char.valueOf(1299));
+        registerPairs(UTF8Char.valueOf(1300), UTF8Char.valueOf(1301));
+        registerPairs(UTF8Char.valueOf(1302), UTF8Char.valueOf(1303));
+        registerPairs(UTF8Char.valueOf(1304), UTF8Char.valueOf(1305));
+        registerPairs(UTF8Char.valueOf(1306), UTF8Char.valueOf(1307));
+        registerPairs(UTF8Char.valueOf(1308), UTF8Char.valueOf(1309));
+        registerPairs(UTF8Char.valueOf(1310), UTF8Char.valueOf(1311));
+        registerPairs(UTF8Char.valueOf(1312), UTF8Char.valueOf(1313));
+        registerPairs(UTF8Char.valueOf(1314), UTF8Char.valueOf(1315));
+        registerPairs(UTF8Char.valueOf(1316), UTF8Char.valueOf(1317));
+        registerPairs(UTF8Char.valueOf(1318), UTF8Char.valueOf(1319));
+        registerPairs(UTF8Char.valueOf(1320), UTF8Char.valueOf(1321));
+        registerPairs(UTF8Char.valueOf(1322), UTF8Char.valueOf(1323));
+        registerPairs(UTF8Char.valueOf(1324), UTF8Char.valueOf(1325));
+        registerPairs(UTF8Char.valueOf(1326), UTF8Char.valueOf(1327));
+        registerPairs(UTF8Char.valueOf(1329), UTF8Char.valueOf(1377));
+        registerPairs(UTF8Char.valueOf(1330), UTF8Char.valueOf(1378));
+        registerPairs(UTF8Char.valueOf(1331), UTF8Char.valueOf(1379));
+        registerPairs(UTF8Char.valueOf(1332), UTF8Char.valueOf(1380));
+        registerPairs(UTF8Char.valueOf(1333), UTF8Char.valueOf(1381));
+        registerPairs(UTF8Char.valueOf(1334), UTF8Char.valueOf(1382));
+        registerPairs(UTF8Char.valueOf(1335), UTF8Char.valueOf(1383));
+        registerPairs(UTF8Char.valueOf(1336), UTF8Char.valueOf(1384));
+        registerPairs(UTF8Char.valueOf(1337), UTF8Char.valueOf(1385));
+        registerPairs(UTF8Char.valueOf(1338), UTF8Char.valueOf(1386));
+        registerPairs(UTF8Char.valueOf(1339), UTF8Char.valueOf(1387));
+        registerPairs(UTF8Char.valueOf(1340), UTF8Char.valueOf(1388));
+        registerPairs(UTF8Char.valueOf(1341), UTF8Char.valueOf(1389));
+        registerPairs(UTF8Char.valueOf(1342), UTF8Char.valueOf(1390));
+        registerPairs(UTF8Char.valueOf(1343), UTF8Char.valueOf(1391));
+        registerPairs(UTF8Char.valueOf(1344), UTF8Char.valueOf(1392));
+        registerPairs(UTF8Char.valueOf(1345), UTF8Char.valueOf(1393));
+        registerPairs(UTF8Char.valueOf(1346), UTF8Char.valueOf(1394));
+        registerPairs(UTF8Char.valueOf(1347), UTF8Char.valueOf(1395));
+        registerPairs(UTF8Char.valueOf(1348), UTF8Char.valueOf(1396));
+        registerPairs(UTF8Char.valueOf(1349), UTF8Char.valueOf(1397));
+        registerPairs(UTF8Char.valueOf(1350), UTF8Char.valueOf(1398));
+        registerPairs(UTF8Char.valueOf(1351), UTF8Char.valueOf(1399));
+        registerPairs(UTF8Char.valueOf(1352), UTF8Char.valueOf(1400));
+        registerPairs(UTF8Char.valueOf(1353), UTF8Char.valueOf(1401));
+        registerPairs(UTF8Char.valueOf(1354), UTF8Char.valueOf(1402));
+        registerPairs(UTF8Char.valueOf(1355), UTF8Char.valueOf(1403));
+        registerPairs(UTF8Char.valueOf(1356), UTF8Char.valueOf(1404));
+        registerPairs(UTF8Char.valueOf(1357), UTF8Char.valueOf(1405));
+        registerPairs(UTF8Char.valueOf(1358), UTF8Char.valueOf(1406));
+        registerPairs(UTF8Char.valueOf(1359), UTF8Char.valueOf(1407));
+        registerPairs(UTF8Char.valueOf(1360), UTF8Char.valueOf(1408));
+        registerPairs(UTF8Char.valueOf(1361), UTF8Char.valueOf(1409));
+        registerPairs(UTF8Char.valueOf(1362), UTF8Char.valueOf(1410));
+        registerPairs(UTF8Char.valueOf(1363), UTF8Char.valueOf(1411));
+        registerPairs(UTF8Char.valueOf(1364), UTF8Char.valueOf(1412));
+        registerPairs(UTF8Char.valueOf(1365), UTF8Char.valueOf(1413));
+        registerPairs(UTF8Char.valueOf(1366), UTF8Char.valueOf(1414));
+        registerPairs(UTF8Char.valueOf(4256), UTF8Char.valueOf(11520));
+        registerPairs(UTF8Char.valueOf(4257), UTF8Char.valueOf(11521));
+        registerPairs(UTF8Char.valueOf(4258), UTF8Char.valueOf(11522));
+        registerPairs(UTF8Char.valueOf(4259), UTF8Char.valueOf(11523));
+        registerPairs(UTF8Char.valueOf(4260), UTF8Char.valueOf(11524));
+        registerPairs(UTF8Char.valueOf(4261), UTF8Char.valueOf(11525));
+        registerPairs(UTF8Char.valueOf(4262), UTF8Char.valueOf(11526));
+        registerPairs(UTF8Char.valueOf(4263), UTF8Char.valueOf(11527));
+        registerPairs(UTF8Char.valueOf(4264), UTF8Char.valueOf(11528));
+        registerPairs(UTF8Char.valueOf(4265), UTF8Char.valueOf(11529));
+        registerPairs(UTF8Char.valueOf(4266), UTF8Char.valueOf(11530));
+        registerPairs(UTF8Char.valueOf(4267), UTF8Char.valueOf(11531));
+        registerPairs(UTF8Char.valueOf(4268), UTF8Char.valueOf(11532));
+        registerPairs(UTF8Char.valueOf(4269), UTF8Char.valueOf(11533));
+        registerPairs(UTF8Char.valueOf(4270), UTF8Char.valueOf(11534));
+        registerPairs(UTF8Char.valueOf(4271), UTF8Char.valueOf(11535));
+        registerPairs(UTF8Char.valueOf(4272), UTF8Char.valueOf(11536));
+        registerPairs(UTF8Char.valueOf(4273), UTF8Char.valueOf(11537));
+        registerPairs(UTF8Char.valueOf(4274), UTF8Char.valueOf(11538));
+        registerPairs(UTF8Char.valueOf(4275), UTF8Char.valueOf(11539));
+        registerPairs(UTF8Char.valueOf(4276), UTF8Char.valueOf(11540));
+        registerPairs(UTF8Char.valueOf(4277), UTF8Char.valueOf(11541));
+        registerPairs(UTF8Char.valueOf(4278), UTF8Char.valueOf(11542));
+        registerPairs(UTF8Char.valueOf(4279), UTF8Char.valueOf(11543));
+        registerPairs(UTF8Char.valueOf(4280), UTF8Char.valueOf(11544));
+        registerPairs(UTF8Char.valueOf(4281), UTF8Char.valueOf(11545));
+        registerPairs(UTF8Char.valueOf(4282), UTF8Char.valueOf(11546));
+        registerPairs(UTF8Char.valueOf(4283), UTF8Char.valueOf(11547));
+        registerPairs(UTF8Char.valueOf(4284), UTF8Char.valueOf(11548));
+        registerPairs(UTF8Char.valueOf(4285), UTF8Char.valueOf(11549));
+        registerPairs(UTF8Char.valueOf(4286), UTF8Char.valueOf(11550));
+        registerPairs(UTF8Char.valueOf(4287), UTF8Char.valueOf(11551));
+        registerPairs(UTF8Char.valueOf(4288), UTF8Char.valueOf(11552));
+        registerPairs(UTF8Char.valueOf(4289), UTF8Char.valueOf(11553));
+        registerPairs(UTF8Char.valueOf(4290), UTF8Char.valueOf(11554));
+        registerPairs(UTF8Char.valueOf(4291), UTF8Char.valueOf(11555));
+        registerPairs(UTF8Char.valueOf(4292), UTF8Char.valueOf(11556));
+        registerPairs(UTF8Char.valueOf(4293), UTF8Char.valueOf(11557));
+        registerPairs(UTF8Char.valueOf(4295), UTF8Char.valueOf(11559));
+        registerPairs(UTF8Char.valueOf(4301), UTF8Char.valueOf(11565));
+        registerPairs(UTF8Char.valueOf(5024), UTF8Char.valueOf(43888));
+        registerPairs(UTF8Char.valueOf(5025), UTF8Char.valueOf(43889));
+        registerPairs(UTF8Char.valueOf(5026), UTF8Char.valueOf(43890));
+        registerPairs(UTF8Char.valueOf(5027), UTF8Char.valueOf(43891));
+        registerPairs(UTF8Char.valueOf(5028), UTF8Char.valueOf(43892));
+        registerPairs(UTF8Char.valueOf(5029), UTF8Char.valueOf(43893));
+        registerPairs(UTF8Char.valueOf(5030), UTF8Char.valueOf(43894));
+        registerPairs(UTF8Char.valueOf(5031), UTF8Char.valueOf(43895));
+        registerPairs(UTF8Char.valueOf(5032), UTF8Char.valueOf(43896));
+        registerPairs(UTF8Char.valueOf(5033), UTF8Char.valueOf(43897));
+        registerPairs(UTF8Char.valueOf(5034), UTF8Char.valueOf(43898));
+        registerPairs(UTF8Char.valueOf(5035), UTF8Char.valueOf(43899));
+        registerPairs(UTF8Char.valueOf(5036), UTF8Char.valueOf(43900));
+        registerPairs(UTF8Char.valueOf(5037), UTF8Char.valueOf(43901));
+        registerPairs(UTF8Char.valueOf(5038), UTF8Char.valueOf(43902));
+        registerPairs(UTF8Char.valueOf(5039), UTF8Char.valueOf(43903));
+        registerPairs(UTF8Char.valueOf(5040), UTF8Char.valueOf(43904));
+        registerPairs(UTF8Char.valueOf(5041), UTF8Char.valueOf(43905));
+        registerPairs(UTF8Char.valueOf(5042), UTF8Char.valueOf(43906));
+        registerPairs(UTF8Char.valueOf(5043), UTF8Char.valueOf(43907));
+        registerPairs(UTF8Char.valueOf(5044), UTF8Char.valueOf(43908));
+        registerPairs(UTF8Char.valueOf(5045), UTF8Char.valueOf(43909));
+        registerPairs(UTF8Char.valueOf(5046), UTF8Char.valueOf(43910));
+        registerPairs(UTF8Char.valueOf(5047), UTF8Char.valueOf(43911));
+        registerPairs(UTF8Char.valueOf(5048), UTF8Char.valueOf(43912));
+        registerPairs(UTF8Char.valueOf(5049), UTF8Char.valueOf(43913));
+        registerPairs(UTF8Char.valueOf(5050), UTF8Char.valueOf(43914));
+        registerPairs(UTF8Char.valueOf(5051), UTF8Char.valueOf(43915));
+        registerPairs(UTF8Char.valueOf(5052), UTF8Char.valueOf(43916));
+        registerPairs(UTF8Char.valueOf(5053), UTF8Char.valueOf(43917));
+        registerPairs(UTF8Char.valueOf(5054), UTF8Char.valueOf(43918));
+        registerPairs(UTF8Char.valueOf(5055), UTF8Char.valueOf(43919));
+        registerPairs(UTF8Char.valueOf(5056), UTF8Char.valueOf(43920));
+        registerPairs(UTF8Char.valueOf(5057), UTF8Char.valueOf(43921));
+        registerPairs(UTF8Char.valueOf(5058), UTF8Char.valueOf(43922));
+        registerPairs(UTF8Char.valueOf(5059), UTF8Char.valueOf(43923));
+        registerPairs(UTF8Char.valueOf(5060), UTF8Char.valueOf(43924));
+        registerPairs(UTF8Char.valueOf(5061), UTF8Char.valueOf(43925));
+        registerPairs(UTF8Char.valueOf(5062), UTF8Char.valueOf(43926));
+        registerPairs(UTF8Char.valueOf(5063), UTF8Char.valueOf(43927));
+        registerPairs(UTF8Char.valueOf(5064), UTF8Char.valueOf(43928));
+        registerPairs(UTF8Char.valueOf(5065), UTF8Char.valueOf(43929));
+        registerPairs(UTF8Char.valueOf(5066), UTF8Char.valueOf(43930));
+        registerPairs(UTF8Char.valueOf(5067), UTF8Char.valueOf(43931));
+        registerPairs(UTF8Char.valueOf(5068), UTF8Char.valueOf(43932));
+        registerPairs(UTF8Char.valueOf(5069), UTF8Char.valueOf(43933));
+        registerPairs(UTF8Char.valueOf(5070), UTF8Char.valueOf(43934));
+        registerPairs(UTF8Char.valueOf(5071), UTF8Char.valueOf(43935));
+        registerPairs(UTF8Char.valueOf(5072), UTF8Char.valueOf(43936));
+        registerPairs(UTF8Char.valueOf(5073), UTF8Char.valueOf(43937));
+        registerPairs(UTF8Char.valueOf(5074), UTF8Char.valueOf(43938));
+        registerPairs(UTF8Char.valueOf(5075), UTF8Char.valueOf(43939));
+        registerPairs(UTF8Char.valueOf(5076), UTF8Char.valueOf(43940));
+        registerPairs(UTF8Char.valueOf(5077), UTF8Char.valueOf(43941));
+        registerPairs(UTF8Char.valueOf(5078), UTF8Char.valueOf(43942));
+        registerPairs(UTF8Char.valueOf(5079), UTF8Char.valueOf(43943));
+        registerPairs(UTF8Char.valueOf(5080), UTF8Char.valueOf(43944));
+        registerPairs(UTF8Char.valueOf(5081), UTF8Char.valueOf(43945));
+        registerPairs(UTF8Char.valueOf(5082), UTF8Char.valueOf(43946));
+        registerPairs(UTF8Char.valueOf(5083), UTF8Char.valueOf(43947));
+        registerPairs(UTF8Char.valueOf(5084), UTF8Char.valueOf(43948));
+        registerPairs(UTF8Char.valueOf(5085), UTF8Char.valueOf(43949));
+        registerPairs(UTF8Char.valueOf(5086), UTF8Char.valueOf(43950));
+        registerPairs(UTF8Char.valueOf(5087), UTF8Char.valueOf(43951));
+        registerPairs(UTF8Char.valueOf(5088), UTF8Char.valueOf(43952));
+        registerPairs(UTF8Char.valueOf(5089), UTF8Char.valueOf(43953));
+        registerPairs(UTF8Char.valueOf(5090), UTF8Char.valueOf(43954));
+        registerPairs(UTF8Char.valueOf(5091), UTF8Char.valueOf(43955));
+        registerPairs(UTF8Char.valueOf(5092), UTF8Char.valueOf(43956));
+        registerPairs(UTF8Char.valueOf(5093), UTF8Char.valueOf(43957));
+        registerPairs(UTF8Char.valueOf(5094), UTF8Char.valueOf(43958));
+        registerPairs(UTF8Char.valueOf(5095), UTF8Char.valueOf(43959));
+        registerPairs(UTF8Char.valueOf(5096), UTF8Char.valueOf(43960));
+        registerPairs(UTF8Char.valueOf(5097), UTF8Char.valueOf(43961));
+        registerPairs(UTF8Char.valueOf(5098), UTF8Char.valueOf(43962));
+        registerPairs(UTF8Char.valueOf(5099), UTF8Char.valueOf(43963));
+        registerPairs(UTF8Char.valueOf(5100), UTF8Char.valueOf(43964));
+        registerPairs(UTF8Char.valueOf(5101), UTF8Char.valueOf(43965));
+        registerPairs(UTF8Char.valueOf(5102), UTF8Char.valueOf(43966));
+        registerPairs(UTF8Char.valueOf(5103), UTF8Char.valueOf(43967));
+        registerPairs(UTF8Char.valueOf(5104), UTF8Char.valueOf(5112));
+        registerPairs(UTF8Char.valueOf(5105), UTF8Char.valueOf(5113));
+        registerPairs(UTF8Char.valueOf(5106), UTF8Char.valueOf(5114));
+        registerPairs(UTF8Char.valueOf(5107), UTF8Char.valueOf(5115));
+        registerPairs(UTF8Char.valueOf(5108), UTF8Char.valueOf(5116));
+        registerPairs(UTF8Char.valueOf(5109), UTF8Char.valueOf(5117));
+        registerPairs(UTF8Char.valueOf(7312), UTF8Char.valueOf(4304));
+        registerPairs(UTF8Char.valueOf(7313), UTF8Char.valueOf(4305));
+        registerPairs(UTF8Char.valueOf(7314), UTF8Char.valueOf(4306));
+        registerPairs(UTF8Char.valueOf(7315), UTF8Char.valueOf(4307));
+        registerPairs(UTF8Char.valueOf(7316), UTF8Char.valueOf(4308));
+        registerPairs(UTF8Char.valueOf(7317), UTF8Char.valueOf(4309));
+        registerPairs(UTF8Char.valueOf(7318), UTF8Char.valueOf(4310));
+        registerPairs(UTF8Char.valueOf(7319), UTF8Char.valueOf(4311));
+        registerPairs(UTF8Char.valueOf(7320), UTF8Char.valueOf(4312));
+        registerPairs(UTF8Char.valueOf(7321), UTF8Char.valueOf(4313));
+        registerPairs(UTF8Char.valueOf(7322), UTF8Char.valueOf(4314));
+        registerPairs(UTF8Char.valueOf(7323), UTF8Char.valueOf(4315));
+        registerPairs(UTF8Char.valueOf(7324), UTF8Char.valueOf(4316));
+        registerPairs(UTF8Char.valueOf(7325), UTF8Char.valueOf(4317));
+        registerPairs(UTF8Char.valueOf(7326), UTF8Char.valueOf(4318));
+        registerPairs(UTF8Char.valueOf(7327), UTF8Char.valueOf(4319));
+        registerPairs(UTF8Char.valueOf(7328), UTF8Char.valueOf(4320));
+        registerPairs(UTF8Char.valueOf(7329), UTF8Char.valueOf(4321));
+        registerPairs(UTF8Char.valueOf(7330), UTF8Char.valueOf(4322));
+        registerPairs(UTF8Char.valueOf(7331), UTF8Char.valueOf(4323));
+        registerPairs(UTF8Char.valueOf(7332), UTF8Char.valueOf(4324));
+        registerPairs(UTF8Char.valueOf(7333), UTF8Char.valueOf(4325));
+        registerPairs(UTF8Char.valueOf(7334), UTF8Char.valueOf(4326));
+        registerPairs(UTF8Char.valueOf(7335), UTF8Char.valueOf(4327));
+        registerPairs(UTF8Char.valueOf(7336), UTF8Char.valueOf(4328));
+        registerPairs(UTF8Char.valueOf(7337), UTF8Char.valueOf(4329));
+        registerPairs(UTF8Char.valueOf(7338), UTF8Char.valueOf(4330));
+        registerPairs(UTF8Char.valueOf(7339), UTF8Char.valueOf(4331));
+        registerPairs(UTF8Char.valueOf(7340), UTF8Char.valueOf(4332));
+        registerPairs(UTF8Char.valueOf(7341), UTF8Char.valueOf(4333));
+        registerPairs(UTF8Char.valueOf(7342), UTF8Char.valueOf(4334));
+        registerPairs(UTF8Char.valueOf(7343), UTF8Char.valueOf(4335));
+        registerPairs(UTF8Char.valueOf(7344), UTF8Char.valueOf(4336));
+        registerPairs(UTF8Char.valueOf(7345), UTF8Char.valueOf(4337));
+        registerPairs(UTF8Char.valueOf(7346), UTF8Char.valueOf(4338));
+        registerPairs(UTF8Char.valueOf(7347), UTF8Char.valueOf(4339));
+        registerPairs(UTF8Char.valueOf(7348), UTF8Char.valueOf(4340));
+        registerPairs(UTF8Char.valueOf(7349), UTF8Char.valueOf(4341));
+        registerPairs(UTF8Char.valueOf(7350), UTF8Char.valueOf(4342));
+        registerPairs(UTF8Char.valueOf(7351), UTF8Char.valueOf(4343));
+        registerPairs(UTF8Char.valueOf(7352), UTF8Char.valueOf(4344));
+        registerPairs(UTF8Char.valueOf(7353), UTF8Char.valueOf(4345));
+        registerPairs(UTF8Char.valueOf(7354), UTF8Char.valueOf(4346));
+        registerPairs(UTF8Char.valueOf(7357), UTF8Char.valueOf(4349));
+        registerPairs(UTF8Char.valueOf(7358), UTF8Char.valueOf(4350));
+        registerPairs(UTF8Char.valueOf(7359), UTF8Char.valueOf(4351));
+        registerPairs(UTF8Char.valueOf(7680), UTF8Char.valueOf(7681));
+        registerPairs(UTF8Char.valueOf(7682), UTF8Char.valueOf(7683));
+        registerPairs(UTF8Char.valueOf(7684), UTF8Char.valueOf(7685));
+        registerPairs(UTF8Char.valueOf(7686), UTF8Char.valueOf(7687));
+        registerPairs(UTF8Char.valueOf(7688), UTF8Char.valueOf(7689));
+        registerPairs(UTF8Char.valueOf(7690), UTF8Char.valueOf(7691));
+        registerPairs(UTF8Char.valueOf(7692), UTF8Char.valueOf(7693));
+        registerPairs(UTF8Char.valueOf(7694), UTF8Char.valueOf(7695));
+        registerPairs(UTF8Char.valueOf(7696), UTF8Char.valueOf(7697));
+        registerPairs(UTF8Char.valueOf(7698), UTF8Char.valueOf(7699));
+        registerPairs(UTF8Char.valueOf(7700), UTF8Char.valueOf(7701));
+        registerPairs(UTF8Char.valueOf(7702), UTF8Char.valueOf(7703));
+        registerPairs(UTF8Char.valueOf(7704), UTF8Char.valueOf(7705));
+        registerPairs(UTF8Char.valueOf(7706), UTF8Char.valueOf(7707));
+        registerPairs(UTF8Char.valueOf(7708), UTF8Char.valueOf(7709));
+        registerPairs(UTF8Char.valueOf(7710), UTF8Char.valueOf(7711));
+        registerPairs(UTF8Char.valueOf(7712), UTF8Char.valueOf(7713));
+        registerPairs(UTF8Char.valueOf(7714), UTF8Char.valueOf(7715));
+        registerPairs(UTF8Char.valueOf(7716), UTF8Char.valueOf(7717));
+        registerPairs(UTF8Char.valueOf(7718), UTF8Char.valueOf(7719));
+        registerPairs(UTF8Char.valueOf(7720), UTF8Char.valueOf(7721));
+        registerPairs(UTF8Char.valueOf(7722), UTF8Char.valueOf(7723));
+        registerPairs(UTF8Char.valueOf(7724), UTF8Char.valueOf(7725));
+        registerPairs(UTF8Char.valueOf(7726), UTF8Char.valueOf(7727));
+        registerPairs(UTF8Char.valueOf(7728), UTF8Char.valueOf(7729));
+        registerPairs(UTF8Char.valueOf(7730), UTF8Char.valueOf(7731));
+        registerPairs(UTF8Char.valueOf(7732), UTF8Char.valueOf(7733));
+        registerPairs(UTF8Char.valueOf(7734), UTF8Char.valueOf(7735));
+        registerPairs(UTF8Char.valueOf(7736), UTF8Char.valueOf(7737));
+        registerPairs(UTF8Char.valueOf(7738), UTF8Char.valueOf(7739));
+        registerPairs(UTF8Char.valueOf(7740), UTF8Char.valueOf(7741));
+        registerPairs(UTF8Char.valueOf(7742), UTF8Char.valueOf(7743));
+        registerPairs(UTF8Char.valueOf(7744), UTF8Char.valueOf(7745));
+        registerPairs(UTF8Char.valueOf(7746), UTF8Char.valueOf(7747));
+        registerPairs(UTF8Char.valueOf(7748), UTF8Char.valueOf(7749));
+        registerPairs(UTF8Char.valueOf(7750), UTF8Char.valueOf(7751));
+        registerPairs(UTF8Char.valueOf(7752), UTF8Char.valueOf(7753));
+        registerPairs(UTF8Char.valueOf(7754), UTF8Char.valueOf(7755));
+        registerPairs(UTF8Char.valueOf(7756), UTF8Char.valueOf(7757));
+        registerPairs(UTF8Char.valueOf(7758), UTF8Char.valueOf(7759));
+        registerPairs(UTF8Char.valueOf(7760), UTF8Char.valueOf(7761));
+        registerPairs(UTF8Char.valueOf(7762), UTF8Char.valueOf(7763));
+        registerPairs(UTF8Char.valueOf(7764), UTF8Char.valueOf(7765));
+        registerPairs(UTF8Char.valueOf(7766), UTF8Char.valueOf(7767));
+        registerPairs(UTF8Char.valueOf(7768), UTF8Char.valueOf(7769));
+        registerPairs(UTF8Char.valueOf(7770), UTF8Char.valueOf(7771));
+        registerPairs(UTF8Char.valueOf(7772), UTF8Char.valueOf(7773));
+        registerPairs(UTF8Char.valueOf(7774), UTF8Char.valueOf(7775));
+        registerPairs(UTF8Char.valueOf(7776), UTF8Char.valueOf(7777));
+        registerPairs(UTF8Char.valueOf(7778), UTF8Char.valueOf(7779));
+        registerPairs(UTF8Char.valueOf(7780), UTF8Char.valueOf(7781));
+        registerPairs(UTF8Char.valueOf(7782), UTF8Char.valueOf(7783));
+        registerPairs(UTF8Char.valueOf(7784), UTF8Char.valueOf(7785));
+        registerPairs(UTF8Char.valueOf(7786), UTF8Char.valueOf(7787));
+        registerPairs(UTF8Char.valueOf(7788), UTF8Char.valueOf(7789));
+        registerPairs(UTF8Char.valueOf(7790), UTF8Char.valueOf(7791));
+        registerPairs(UTF8Char.valueOf(7792), UTF8Char.valueOf(7793));
+        registerPairs(UTF8Char.valueOf(7794), UTF8Char.valueOf(7795));
+        registerPairs(UTF8Char.valueOf(7796), UTF8Char.valueOf(7797));
+        registerPairs(UTF8Char.valueOf(7798), UTF8Char.valueOf(7799));
+        registerPairs(UTF8Char.valueOf(7800), UTF8Char.valueOf(7801));
+        registerPairs(UTF8Char.valueOf(7802), UTF8Char.valueOf(7803));
+        registerPairs(UTF8Char.valueOf(7804), UTF8Char.valueOf(7805));
+        registerPairs(UTF8Char.valueOf(7806), UTF8Char.valueOf(7807));
+        registerPairs(UTF8Char.valueOf(7808), UTF8Char.valueOf(7809));
+        registerPairs(UTF8Char.valueOf(7810), UTF8Char.valueOf(7811));
+        registerPairs(UTF8Char.valueOf(7812), UTF8Char.valueOf(7813));
+        registerPairs(UTF8Char.valueOf(7814), UTF8Char.valueOf(7815));
+        registerPairs(UTF8Char.valueOf(7816), UTF8Char.valueOf(7817));
+        registerPairs(UTF8Char.valueOf(7818), UTF8Char.valueOf(7819));
+        registerPairs(UTF8Char.valueOf(7820), UTF8Char.valueOf(7821));
+        registerPairs(UTF8Char.valueOf(7822), UTF8Char.valueOf(7823));
+        registerPairs(UTF8Char.valueOf(7824), UTF8Char.valueOf(7825));
+        registerPairs(UTF8Char.valueOf(7826), UTF8Char.valueOf(7827));
+        registerPairs(UTF8Char.valueOf(7828), UTF8Char.valueOf(7829));
+        registerPairs(UTF8Char.valueOf(7838), UTF8Char.valueOf(223));
+        registerPairs(UTF8Char.valueOf(7840), UTF8Char.valueOf(7841));
+        registerPairs(UTF8Char.valueOf(7842), UTF8Char.valueOf(7843));
+        registerPairs(UTF8Char.valueOf(7844), UTF8Char.valueOf(7845));
+        registerPairs(UTF8Char.valueOf(7846), UTF8Char.valueOf(7847));
+        registerPairs(UTF8Char.valueOf(7848), UTF8Char.valueOf(7849));
+        registerPairs(UTF8Char.valueOf(7850), UTF8Char.valueOf(7851));
+        registerPairs(UTF8Char.valueOf(7852), UTF8Char.valueOf(7853));
+        registerPairs(UTF8Char.valueOf(7854), UTF8Char.valueOf(7855));
+        registerPairs(UTF8Char.valueOf(7856), UTF8Char.valueOf(7857));
+        registerPairs(UTF8Char.valueOf(7858), UTF8Char.valueOf(7859));
+        registerPairs(UTF8Char.valueOf(7860), UTF8Char.valueOf(7861));
+        registerPairs(UTF8Char.valueOf(7862), UTF8Char.valueOf(7863));
+        registerPairs(UTF8Char.valueOf(7864), UTF8Char.valueOf(7865));
+        registerPairs(UTF8Char.valueOf(7866), UTF8Char.valueOf(7867));
+        registerPairs(UTF8Char.valueOf(7868), UTF8Char.valueOf(7869));
+        registerPairs(UTF8Char.valueOf(7870), UTF8Char.valueOf(7871));
+        registerPairs(UTF8Char.valueOf(7872), UTF8Char.valueOf(7873));
+        registerPairs(UTF8Char.valueOf(7874), UTF8Char.valueOf(7875));
+        registerPairs(UTF8Char.valueOf(7876), UTF8Char.valueOf(7877));
+        registerPairs(UTF8Char.valueOf(7878), UTF8Char.valueOf(7879));
+        registerPairs(UTF8Char.valueOf(7880), UTF8Char.valueOf(7881));
+        registerPairs(UTF8Char.valueOf(7882), UTF8Char.valueOf(7883));
+        registerPairs(UTF8Char.valueOf(7884), UTF8Char.valueOf(7885));
+        registerPairs(UTF8Char.valueOf(7886), UTF8Char.valueOf(7887));
+        registerPairs(UTF8Char.valueOf(7888), UTF8Char.valueOf(7889));
+        registerPairs(UTF8Char.valueOf(7890), UTF8Char.valueOf(7891));
+        registerPairs(UTF8Char.valueOf(7892), UTF8Char.valueOf(7893));
+        registerPairs(UTF8Char.valueOf(7894), UTF8Char.valueOf(7895));
+        registerPairs(UTF8Char.valueOf(7896), UTF8Char.valueOf(7897));
+        registerPairs(UTF8Char.valueOf(7898), UTF8Char.valueOf(7899));
+        registerPairs(UTF8Char.valueOf(7900), UTF8Char.valueOf(7901));
+        registerPairs(UTF8Char.valueOf(7902), UTF8Char.valueOf(7903));
+        registerPairs(UTF8Char.valueOf(7904), UTF8Char.valueOf(7905));
+        registerPairs(UTF8Char.valueOf(7906), UTF8Char.valueOf(7907));
+        registerPairs(UTF8Char.valueOf(7908), UTF8Char.valueOf(7909));
+        registerPairs(UTF8Char.valueOf(7910), UTF8Char.valueOf(7911));
+        registerPairs(UTF8Char.valueOf(7912), UTF8Char.valueOf(7913));
+        registerPairs(UTF8Char.valueOf(7914), UTF8Char.valueOf(7915));
+        registerPairs(UTF8Char.valueOf(7916), UTF8Char.valueOf(7917));
+        registerPairs(UTF8Char.valueOf(7918), UTF8Char.valueOf(7919));
+        registerPairs(UTF8Char.valueOf(7920), UTF8Char.valueOf(7921));
+        registerPairs(UTF8Char.valueOf(7922), UTF8Char.valueOf(7923));
+        registerPairs(UTF8Char.valueOf(7924), UTF8Char.valueOf(7925));
+        registerPairs(UTF8Char.valueOf(7926), UTF8Char.valueOf(7927));
+        registerPairs(UTF8Char.valueOf(7928), UTF8Char.valueOf(7929));
+        registerPairs(UTF8Char.valueOf(7930), UTF8Char.valueOf(7931));
+        registerPairs(UTF8Char.valueOf(7932), UTF8Char.valueOf(7933));
+        registerPairs(UTF8Char.valueOf(7934), UTF8Char.valueOf(7935));
+        registerPairs(UTF8Char.valueOf(7944), UTF8Char.valueOf(7936));
+        registerPairs(UTF8Char.valueOf(7945), UTF8Char.valueOf(7937));
+        registerPairs(UTF8Char.valueOf(7946), UTF8Char.valueOf(7938));
+        registerPairs(UTF8Char.valueOf(7947), UTF8Char.valueOf(7939));
+        registerPairs(UTF8Char.valueOf(7948), UTF8Char.valueOf(7940));
+        registerPairs(UTF8Char.valueOf(7949), UTF8Char.valueOf(7941));
+        registerPairs(UTF8Char.valueOf(7950), UTF8Char.valueOf(7942));
+        registerPairs(UTF8Char.valueOf(7951), UTF8Char.valueOf(7943));
+        registerPairs(UTF8Char.valueOf(7960), UTF8Char.valueOf(7952));
+        registerPairs(UTF8Char.valueOf(7961), UTF8Char.valueOf(7953));
+        registerPairs(UTF8Char.valueOf(7962), UTF8Char.valueOf(7954));
+        registerPairs(UTF8Char.valueOf(7963), UTF8Char.valueOf(7955));
+        registerPairs(UTF8Char.valueOf(7964), UTF8Char.valueOf(7956));
+        registerPairs(UTF8Char.valueOf(7965), UTF8Char.valueOf(7957));
+        registerPairs(UTF8Char.valueOf(7976), UTF8Char.valueOf(7968));
+        registerPairs(UTF8Char.valueOf(7977), UTF8Char.valueOf(7969));
+        registerPairs(UTF8Char.valueOf(7978), UTF8Char.valueOf(7970));
+        registerPairs(UTF8Char.valueOf(7979), UTF8Char.valueOf(7971));
+        registerPairs(UTF8Char.valueOf(7980), UTF8Char.valueOf(7972));
+        registerPairs(UTF8Char.valueOf(7981), UTF8Char.valueOf(7973));
+        registerPairs(UTF8Char.valueOf(7982), UTF8Char.valueOf(7974));
+        registerPairs(UTF8Char.valueOf(7983), UTF8Char.valueOf(7975));
+        registerPairs(UTF8Char.valueOf(7992), UTF8Char.valueOf(7984));
+        registerPairs(UTF8Char.valueOf(7993), UTF8Char.valueOf(7985));
+        registerPairs(UTF8Char.valueOf(7994), UTF8Char.valueOf(7986));
+        registerPairs(UTF8Char.valueOf(7995), UTF8Char.valueOf(7987));
+        registerPairs(UTF8Char.valueOf(7996), UTF8Char.valueOf(7988));
+        registerPairs(UTF8Char.valueOf(7997), UTF8Char.valueOf(7989));
+        registerPairs(UTF8Char.valueOf(7998), UTF8Char.valueOf(7990));
+        registerPairs(UTF8Char.valueOf(7999), UTF8Char.valueOf(7991));
+        registerPairs(UTF8Char.valueOf(8008), UTF8Char.valueOf(8000));
+        registerPairs(UTF8Char.valueOf(8009), UTF8Char.valueOf(8001));
+        registerPairs(UTF8Char.valueOf(8010), UTF8Char.valueOf(8002));
+        registerPairs(UTF8Char.valueOf(8011), UTF8Char.valueOf(8003));
+        registerPairs(UTF8Char.valueOf(8012), UTF8Char.valueOf(8004));
+        registerPairs(UTF8Char.valueOf(8013), UTF8Char.valueOf(8005));
+        registerPairs(UTF8Char.valueOf(8025), UTF8Char.valueOf(8017));
+        registerPairs(UTF8Char.valueOf(8027), UTF8Char.valueOf(8019));
+        registerPairs(UTF8Char.valueOf(8029), UTF8Char.valueOf(8021));
+        registerPairs(UTF8Char.valueOf(8031), UTF8Char.valueOf(8023));
+        registerPairs(UTF8Char.valueOf(8040), UTF8Char.valueOf(8032));
+        registerPairs(UTF8Char.valueOf(8041), UTF8Char.valueOf(8033));
+        registerPairs(UTF8Char.valueOf(8042), UTF8Char.valueOf(8034));
+        registerPairs(UTF8Char.valueOf(8043), UTF8Char.valueOf(8035));
+        registerPairs(UTF8Char.valueOf(8044), UTF8Char.valueOf(8036));
+        registerPairs(UTF8Char.valueOf(8045), UTF8Char.valueOf(8037));
+        registerPairs(UTF8Char.valueOf(8046), UTF8Char.valueOf(8038));
+        registerPairs(UTF8Char.valueOf(8047), UTF8Char.valueOf(8039));
+        registerPairs(UTF8Char.valueOf(8072), UTF8Char.valueOf(8064));
+        registerPairs(UTF8Char.valueOf(8073), UTF8Char.valueOf(8065));
+        registerPairs(UTF8Char.valueOf(8074), UTF8Char.valueOf(8066));
+        registerPairs(UTF8Char.valueOf(8075), UTF8Char.valueOf(8067));
+        registerPairs(UTF8Char.valueOf(8076), UTF8Char.valueOf(8068));
+        registerPairs(UTF8Char.valueOf(8077), UTF8Char.valueOf(8069));
+        registerPairs(UTF8Char.valueOf(8078), UTF8Char.valueOf(8070));
+        registerPairs(UTF8Char.valueOf(8079), UTF8Char.valueOf(8071));
+        registerPairs(UTF8Char.valueOf(8088), UTF8Char.valueOf(8080));
+        registerPairs(UTF8Char.valueOf(8089), UTF8Char.valueOf(8081));
+        registerPairs(UTF8Char.valueOf(8090), UTF8Char.valueOf(8082));
+        registerPairs(UTF8Char.valueOf(8091), UTF8Char.valueOf(8083));
+        registerPairs(UTF8Char.valueOf(8092), UTF8Char.valueOf(8084));
+        registerPairs(UTF8Char.valueOf(8093), UTF8Char.valueOf(8085));
+        registerPairs(UTF8Char.valueOf(8094), UTF8Char.valueOf(8086));
+        registerPairs(UTF8Char.valueOf(8095), UTF8Char.valueOf(8087));
+        registerPairs(UTF8Char.valueOf(8104), UTF8Char.valueOf(8096));
+        registerPairs(UTF8Char.valueOf(8105), UTF8Char.valueOf(8097));
+        registerPairs(UTF8Char.valueOf(8106), UTF8Char.valueOf(8098));
+        registerPairs(UTF8Char.valueOf(8107), UTF8Char.valueOf(8099));
+        registerPairs(UTF8Char.valueOf(8108), UTF8Char.valueOf(8100));
+        registerPairs(UTF8Char.valueOf(8109), UTF8Char.valueOf(8101));
+        registerPairs(UTF8Char.valueOf(8110), UTF8Char.valueOf(8102));
+        registerPairs(UTF8Char.valueOf(8111), UTF8Char.valueOf(8103));
+        registerPairs(UTF8Char.valueOf(8120), UTF8Char.valueOf(8112));
+        registerPairs(UTF8Char.valueOf(8121), UTF8Char.valueOf(8113));
+        registerPairs(UTF8Char.valueOf(8122), UTF8Char.valueOf(8048));
+        registerPairs(UTF8Char.valueOf(8123), UTF8Char.valueOf(8049));
+        registerPairs(UTF8Char.valueOf(8124), UTF8Char.valueOf(8115));
+        registerPairs(UTF8Char.valueOf(8136), UTF8Char.valueOf(8050));
+        registerPairs(UTF8Char.valueOf(8137), UTF8Char.valueOf(8051));
+        registerPairs(UTF8Char.valueOf(8138), UTF8Char.valueOf(8052));
+        registerPairs(UTF8Char.valueOf(8139), UTF8Char.valueOf(8053));
+        registerPairs(UTF8Char.valueOf(8140), UTF8Char.valueOf(8131));
+        registerPairs(UTF8Char.valueOf(8152), UTF8Char.valueOf(8144));
+        registerPairs(UTF8Char.valueOf(8153), UTF8Char.valueOf(8145));
+        registerPairs(UTF8Char.valueOf(8154), UTF8Char.valueOf(8054));
+        registerPairs(UTF8Char.valueOf(8155), UTF8Char.valueOf(8055));
+        registerPairs(UTF8Char.valueOf(8168), UTF8Char.valueOf(8160));
+        registerPairs(UTF8Char.valueOf(8169), UTF8Char.valueOf(8161));
+        registerPairs(UTF8Char.valueOf(8170), UTF8Char.valueOf(8058));
+        registerPairs(UTF8Char.valueOf(8171), UTF8Char.valueOf(8059));
+        registerPairs(UTF8Char.valueOf(8172), UTF8Char.valueOf(8165));
+        registerPairs(UTF8Char.valueOf(8184), UTF8Char.valueOf(8056));
+        registerPairs(UTF8Char.valueOf(8185), UTF8Char.valueOf(8057));
+        registerPairs(UTF8Char.valueOf(8186), UTF8Char.valueOf(8060));
+        registerPairs(UTF8Char.valueOf(8187), UTF8Char.valueOf(8061));
+        registerPairs(UTF8Char.valueOf(8188), UTF8Char.valueOf(8179));
+        registerPairs(UTF8Char.valueOf(8486), UTF8Char.valueOf(969));
+        registerPairs(UTF8Char.valueOf(8490), UTF8Char.valueOf(107));
+        registerPairs(UTF8Char.valueOf(8491), UTF8Char.valueOf(229));
+        registerPairs(UTF8Char.valueOf(8498), UTF8Char.valueOf(8526));
+        registerPairs(UTF8Char.valueOf(8544), UTF8Char.valueOf(8560));
+        registerPairs(UTF8Char.valueOf(8545), UTF8Char.valueOf(8561));
+        registerPairs(UTF8Char.valueOf(8546), UTF8Char.valueOf(8562));
+        registerPairs(UTF8Char.valueOf(8547), UTF8Char.valueOf(8563));
+        registerPairs(UTF8Char.valueOf(8548), UTF8Char.valueOf(8564));
+        registerPairs(UTF8Char.valueOf(8549), UTF8Char.valueOf(8565));
+        registerPairs(UTF8Char.valueOf(8550), UTF8Char.valueOf(8566));
+        registerPairs(UTF8Char.valueOf(8551), UTF8Char.valueOf(8567));
+        registerPairs(UTF8Char.valueOf(8552), UTF8Char.valueOf(8568));
+        registerPairs(UTF8Char.valueOf(8553), UTF8Char.valueOf(8569));
+        registerPairs(UTF8Char.valueOf(8554), UTF8Char.valueOf(8570));
+        registerPairs(UTF8Char.valueOf(8555), UTF8Char.valueOf(8571));
+        registerPairs(UTF8Char.valueOf(8556), UTF8Char.valueOf(8572));
+        registerPairs(UTF8Char.valueOf(8557), UTF8Char.valueOf(8573));
+        registerPairs(UTF8Char.valueOf(8558), UTF8Char.valueOf(8574));
+        registerPairs(UTF8Char.valueOf(8559), UTF8Char.valueOf(8575));
+        registerPairs(UTF8Char.valueOf(8579), UTF8Char.valueOf(8580));
+        registerPairs(UTF8Char.valueOf(9398), UTF8Char.valueOf(9424));
+        registerPairs(UTF8Char.valueOf(9399), UTF8Char.valueOf(9425));
+        registerPairs(UTF8Char.valueOf(9400), UTF8Char.valueOf(9426));
+        registerPairs(UTF8Char.valueOf(9401), UTF8Char.valueOf(9427));
+        registerPairs(UTF8Char.valueOf(9402), UTF8Char.valueOf(9428));
+        registerPairs(UTF8Char.valueOf(9403), UTF8Char.valueOf(9429));
+        registerPairs(UTF8Char.valueOf(9404), UTF8Char.valueOf(9430));
+        registerPairs(UTF8Char.valueOf(9405), UTF8Char.valueOf(9431));
+        registerPairs(UTF8Char.valueOf(9406), UTF8Char.valueOf(9432));
+        registerPairs(UTF8Char.valueOf(9407), UTF8Char.valueOf(9433));
+        registerPairs(UTF8Char.valueOf(9408), UTF8Char.valueOf(9434));
+        registerPairs(UTF8Char.valueOf(9409), UTF8Char.valueOf(9435));
+        registerPairs(UTF8Char.valueOf(9410), UTF8Char.valueOf(9436));
+        registerPairs(UTF8Char.valueOf(9411), UTF8Char.valueOf(9437));
+        registerPairs(UTF8Char.valueOf(9412), UTF8Char.valueOf(9438));
+        registerPairs(UTF8Char.valueOf(9413), UTF8Char.valueOf(9439));
+        registerPairs(UTF8Char.valueOf(9414), UTF8Char.valueOf(9440));
+        registerPairs(UTF8Char.valueOf(9415), UTF8Char.valueOf(9441));
+        registerPairs(UTF8Char.valueOf(9416), UTF8Char.valueOf(9442));
+        registerPairs(UTF8Char.valueOf(9417), UTF8Char.valueOf(9443));
+        registerPairs(UTF8Char.valueOf(9418), UTF8Char.valueOf(9444));
+        registerPairs(UTF8Char.valueOf(9419), UTF8Char.valueOf(9445));
+        registerPairs(UTF8Char.valueOf(9420), UTF8Char.valueOf(9446));
+        registerPairs(UTF8Char.valueOf(9421), UTF8Char.valueOf(9447));
+        registerPairs(UTF8Char.valueOf(9422), UTF8Char.valueOf(9448));
+        registerPairs(UTF8Char.valueOf(9423), UTF8Char.valueOf(9449));
+        registerPairs(UTF8Char.valueOf(11264), UTF8Char.valueOf(11312));
+        registerPairs(UTF8Char.valueOf(11265), UTF8Char.valueOf(11313));
+        registerPairs(UTF8Char.valueOf(11266), UTF8Char.valueOf(11314));
+        registerPairs(UTF8Char.valueOf(11267), UTF8Char.valueOf(11315));
+        registerPairs(UTF8Char.valueOf(11268), UTF8Char.valueOf(11316));
+        registerPairs(UTF8Char.valueOf(11269), UTF8Char.valueOf(11317));
+        registerPairs(UTF8Char.valueOf(11270), UTF8Char.valueOf(11318));
+        registerPairs(UTF8Char.valueOf(11271), UTF8Char.valueOf(11319));
+        registerPairs(UTF8Char.valueOf(11272), UTF8Char.valueOf(11320));
+        registerPairs(UTF8Char.valueOf(11273), UTF8Char.valueOf(11321));
+        registerPairs(UTF8Char.valueOf(11274), UTF8Char.valueOf(11322));
+        registerPairs(UTF8Char.valueOf(11275), UTF8Char.valueOf(11323));
+        registerPairs(UTF8Char.valueOf(11276), UTF8Char.valueOf(11324));
+        registerPairs(UTF8Char.valueOf(11277), UTF8Char.valueOf(11325));
+        registerPairs(UTF8Char.valueOf(11278), UTF8Char.valueOf(11326));
+        registerPairs(UTF8Char.valueOf(11279), UTF8Char.valueOf(11327));
+        registerPairs(UTF8Char.valueOf(11280), UTF8Char.valueOf(11328));
+        registerPairs(UTF8Char.valueOf(11281), UTF8Char.valueOf(11329));
+        registerPairs(UTF8Char.valueOf(11282), UTF8Char.valueOf(11330));
+        registerPairs(UTF8Char.valueOf(11283), UTF8Char.valueOf(11331));
+        registerPairs(UTF8Char.valueOf(11284), UTF8Char.valueOf(11332));
+        registerPairs(UTF8Char.valueOf(11285), UTF8Char.valueOf(11333));
+        registerPairs(UTF8Char.valueOf(11286), UTF8Char.valueOf(11334));
+        registerPairs(UTF8Char.valueOf(11287), UTF8Char.valueOf(11335));
+        registerPairs(UTF8Char.valueOf(11288), UTF8Char.valueOf(11336));
+        registerPairs(UTF8Char.valueOf(11289), UTF8Char.valueOf(11337));
+        registerPairs(UTF8Char.valueOf(11290), UTF8Char.valueOf(11338));
+        registerPairs(UTF8Char.valueOf(11291), UTF8Char.valueOf(11339));
+        registerPairs(UTF8Char.valueOf(11292), UTF8Char.valueOf(11340));
+        registerPairs(UTF8Char.valueOf(11293), UTF8Char.valueOf(11341));
+        registerPairs(UTF8Char.valueOf(11294), UTF8Char.valueOf(11342));
+        registerPairs(UTF8Char.valueOf(11295), UTF8Char.valueOf(11343));
+        registerPairs(UTF8Char.valueOf(11296), UTF8Char.valueOf(11344));
+        registerPairs(UTF8Char.valueOf(11297), UTF8Char.valueOf(11345));
+        registerPairs(UTF8Char.valueOf(11298), UTF8Char.valueOf(11346));
+        registerPairs(UTF8Char.valueOf(11299), UTF8Char.valueOf(11347));
+        registerPairs(UTF8Char.valueOf(11300), UTF8Char.valueOf(11348));
+        registerPairs(UTF8Char.valueOf(11301), UTF8Char.valueOf(11349));
+        registerPairs(UTF8Char.valueOf(11302), UTF8Char.valueOf(11350));
+        registerPairs(UTF8Char.valueOf(11303), UTF8Char.valueOf(11351));
+        registerPairs(UTF8Char.valueOf(11304), UTF8Char.valueOf(11352));
+        registerPairs(UTF8Char.valueOf(11305), UTF8Char.valueOf(11353));
+        registerPairs(UTF8Char.valueOf(11306), UTF8Char.valueOf(11354));
+        registerPairs(UTF8Char.valueOf(11307), UTF8Char.valueOf(11355));
+        registerPairs(UTF8Char.valueOf(11308), UTF8Char.valueOf(11356));
+        registerPairs(UTF8Char.valueOf(11309), UTF8Char.valueOf(11357));
+        registerPairs(UTF8Char.valueOf(11310), UTF8Char.valueOf(11358));
+        registerPairs(UTF8Char.valueOf(11360), UTF8Char.valueOf(11361));
+        registerPairs(UTF8Char.valueOf(11362), UTF8Char.valueOf(619));
+        registerPairs(UTF8Char.valueOf(11363), UTF8Char.valueOf(7549));
+        registerPairs(UTF8Char.valueOf(11364), UTF8Char.valueOf(637));
+        registerPairs(UTF8Char.valueOf(11367), UTF8Char.valueOf(11368));
+        registerPairs(UTF8Char.valueOf(11369), UTF8Char.valueOf(11370));
+        registerPairs(UTF8Char.valueOf(11371), UTF8Char.valueOf(11372));
+        registerPairs(UTF8Char.valueOf(11373), UTF8Char.valueOf(593));
+        registerPairs(UTF8Char.valueOf(11374), UTF8Char.valueOf(625));
+        registerPairs(UTF8Char.valueOf(11375), UTF8Char.valueOf(592));
+        registerPairs(UTF8Char.valueOf(11376), UTF8Char.valueOf(594));
+        registerPairs(UTF8Char.valueOf(11378), UTF8Char.valueOf(11379));
+        registerPairs(UTF8Char.valueOf(11381), UTF8Char.valueOf(11382));
+        registerPairs(UTF8Char.valueOf(11390), UTF8Char.valueOf(575));
+        registerPairs(UTF8Char.valueOf(11391), UTF8Char.valueOf(576));
+        registerPairs(UTF8Char.valueOf(11392), UTF8Char.valueOf(11393));
+        registerPairs(UTF8Char.valueOf(11394), UTF8Char.valueOf(11395));
+        registerPairs(UTF8Char.valueOf(11396), UTF8Char.valueOf(11397));
+        registerPairs(UTF8Char.valueOf(11398), UTF8Char.valueOf(11399));
+        registerPairs(UTF8Char.valueOf(11400), UTF8Char.valueOf(11401));
+        registerPairs(UTF8Char.valueOf(11402), UTF8Char.valueOf(11403));
+        registerPairs(UTF8Char.valueOf(11404), UTF8Char.valueOf(11405));
+        registerPairs(UTF8Char.valueOf(11406), UTF8Char.valueOf(11407));
+        registerPairs(UTF8Char.valueOf(11408), UTF8Char.valueOf(11409));
+        registerPairs(UTF8Char.valueOf(11410), UTF8Char.valueOf(11411));
+        registerPairs(UTF8Char.valueOf(11412), UTF8Char.valueOf(11413));
+        registerPairs(UTF8Char.valueOf(11414), UTF8Char.valueOf(11415));
+        registerPairs(UTF8Char.valueOf(11416), UTF8Char.valueOf(11417));
+        registerPairs(UTF8Char.valueOf(11418), UTF8Char.valueOf(11419));
+        registerPairs(UTF8Char.valueOf(11420), UTF8Char.valueOf(11421));
+        registerPairs(UTF8Char.valueOf(11422), UTF8Char.valueOf(11423));
+        registerPairs(UTF8Char.valueOf(11424), UTF8Char.valueOf(11425));
+        registerPairs(UTF8Char.valueOf(11426), UTF8Char.valueOf(11427));
+        registerPairs(UTF8Char.valueOf(11428), UTF8Char.valueOf(11429));
+        registerPairs(UTF8Char.valueOf(11430), UTF8Char.valueOf(11431));
+        registerPairs(UTF8Char.valueOf(11432), UTF8Char.valueOf(11433));
+        registerPairs(UTF8Char.valueOf(11434), UTF8Char.valueOf(11435));
+        registerPairs(UTF8Char.valueOf(11436), UTF8Char.valueOf(11437));
+        registerPairs(UTF8Char.valueOf(11438), UTF8Char.valueOf(11439));
+        registerPairs(UTF8Char.valueOf(11440), UTF8Char.valueOf(11441));
+        registerPairs(UTF8Char.valueOf(11442), UTF8Char.valueOf(11443));
+        registerPairs(UTF8Char.valueOf(11444), UTF8Char.valueOf(11445));
+        registerPairs(UTF8Char.valueOf(11446), UTF8Char.valueOf(11447));
+        registerPairs(UTF8Char.valueOf(11448), UTF8Char.valueOf(11449));
+        registerPairs(UTF8Char.valueOf(11450), UTF8Char.valueOf(11451));
+        registerPairs(UTF8Char.valueOf(11452), UTF8Char.valueOf(11453));
+        registerPairs(UTF8Char.valueOf(11454), UTF8Char.valueOf(11455));
+        registerPairs(UTF8Char.valueOf(11456), UTF8Char.valueOf(11457));
+        registerPairs(UTF8Char.valueOf(11458), UTF8Char.valueOf(11459));
+        registerPairs(UTF8Char.valueOf(11460), UTF8Char.valueOf(11461));
+        registerPairs(UTF8Char.valueOf(11462), UTF8Char.valueOf(11463));
+        registerPairs(UTF8Char.valueOf(11464), UTF8Char.valueOf(11465));
+        registerPairs(UTF8Char.valueOf(11466), UTF8Char.valueOf(11467));
+        registerPairs(UTF8Char.valueOf(11468), UTF8Char.valueOf(11469));
+        registerPairs(UTF8Char.valueOf(11470), UTF8Char.valueOf(11471));
+        registerPairs(UTF8Char.valueOf(11472), UTF8Char.valueOf(11473));
+        registerPairs(UTF8Char.valueOf(11474), UTF8Char.valueOf(11475));
+        registerPairs(UTF8Char.valueOf(11476), UTF8Char.valueOf(11477));
+        registerPairs(UTF8Char.valueOf(11478), UTF8Char.valueOf(11479));
+        registerPairs(UTF8Char.valueOf(11480), UTF8Char.valueOf(11481));
+        registerPairs(UTF8Char.valueOf(11482), UTF8Char.valueOf(11483));
+        registerPairs(UTF8Char.valueOf(11484), UTF8Char.valueOf(11485));
+        registerPairs(UTF8Char.valueOf(11486), UTF8Char.valueOf(11487));
+        registerPairs(UTF8Char.valueOf(11488), UTF8Char.valueOf(11489));
+        registerPairs(UTF8Char.valueOf(11490), UTF8Char.valueOf(11491));
+        registerPairs(UTF8Char.valueOf(11499), UTF8Char.valueOf(11500));
+        registerPairs(UTF8Char.valueOf(11501), UTF8Char.valueOf(11502));
+        registerPairs(UTF8Char.valueOf(11506), UTF8Char.valueOf(11507));
+        registerPairs(UTF8Char.valueOf(42560), UTF8Char.valueOf(42561));
+        registerPairs(UTF8Char.valueOf(42562), UTF8Char.valueOf(42563));
+        registerPairs(UTF8Char.valueOf(42564), UTF8Char.valueOf(42565));
+        registerPairs(UTF8Char.valueOf(42566), UTF8Char.valueOf(42567));
+        registerPairs(UTF8Char.valueOf(42568), UTF8Char.valueOf(42569));
+        registerPairs(UTF8Char.valueOf(42570), UTF8Char.valueOf(42571));
+        registerPairs(UTF8Char.valueOf(42572), UTF8Char.valueOf(42573));
+        registerPairs(UTF8Char.valueOf(42574), UTF8Char.valueOf(42575));
+        registerPairs(UTF8Char.valueOf(42576), UTF8Char.valueOf(42577));
+        registerPairs(UTF8Char.valueOf(42578), UTF8Char.valueOf(42579));
+        registerPairs(UTF8Char.valueOf(42580), UTF8Char.valueOf(42581));
+        registerPairs(UTF8Char.valueOf(42582), UTF8Char.valueOf(42583));
+        registerPairs(UTF8Char.valueOf(42584), UTF8Char.valueOf(42585));
+        registerPairs(UTF8Char.valueOf(42586), UTF8Char.valueOf(42587));
+        registerPairs(UTF8Char.valueOf(42588), UTF8Char.valueOf(42589));
+        registerPairs(UTF8Char.valueOf(42590), UTF8Char.valueOf(42591));
+        registerPairs(UTF8Char.valueOf(42592), UTF8Char.valueOf(42593));
+        registerPairs(UTF8Char.valueOf(42594), UTF8Char.valueOf(42595));
+        registerPairs(UTF8Char.valueOf(42596), UTF8Char.valueOf(42597));
+        registerPairs(UTF8Char.valueOf(42598), UTF8Char.valueOf(42599));
+        registerPairs(UTF8Char.valueOf(42600), UTF8Char.valueOf(42601));
+        registerPairs(UTF8Char.valueOf(42602), UTF8Char.valueOf(42603));
+        registerPairs(UTF8Char.valueOf(42604), UTF8Char.valueOf(42605));
+        registerPairs(UTF8Char.valueOf(42624), UTF8Char.valueOf(42625));
+        registerPairs(UTF8Char.valueOf(42626), UTF8Char.valueOf(42627));
+        registerPairs(UTF8Char.valueOf(42628), UTF8Char.valueOf(42629));
+        registerPairs(UTF8Char.valueOf(42630), UTF8Char.valueOf(42631));
+        registerPairs(UTF8Char.valueOf(42632), UTF8Char.valueOf(42633));
+        registerPairs(UTF8Char.valueOf(42634), UTF8Char.valueOf(42635));
+        registerPairs(UTF8Char.valueOf(42636), UTF8Char.valueOf(42637));
+        registerPairs(UTF8Char.valueOf(42638), UTF8Char.valueOf(42639));
+        registerPairs(UTF8Char.valueOf(42640), UTF8Char.valueOf(42641));
+        registerPairs(UTF8Char.valueOf(42642), UTF8Char.valueOf(42643));
+        registerPairs(UTF8Char.valueOf(42644), UTF8Char.valueOf(42645));
+        registerPairs(UTF8Char.valueOf(42646), UTF8Char.valueOf(42647));
+        registerPairs(UTF8Char.valueOf(42648), UTF8Char.valueOf(42649));
+        registerPairs(UTF8Char.valueOf(42650), UTF8Char.valueOf(42651));
+        registerPairs(UTF8Char.valueOf(42786), UTF8Char.valueOf(42787));
+        registerPairs(UTF8Char.valueOf(42788), UTF8Char.valueOf(42789));
+        registerPairs(UTF8Char.valueOf(42790), UTF8Char.valueOf(42791));
+        registerPairs(UTF8Char.valueOf(42792), UTF8Char.valueOf(42793));
+        registerPairs(UTF8Char.valueOf(42794), UTF8Char.valueOf(42795));
+        registerPairs(UTF8Char.valueOf(42796), UTF8Char.valueOf(42797));
+        registerPairs(UTF8Char.valueOf(42798), UTF8Char.valueOf(42799));
+        registerPairs(UTF8Char.valueOf(42802), UTF8Char.valueOf(42803));
+        registerPairs(UTF8Char.valueOf(42804), UTF8Char.valueOf(42805));
+        registerPairs(UTF8Char.valueOf(42806), UTF8Char.valueOf(42807));
+        registerPairs(UTF8Char.valueOf(42808), UTF8Char.valueOf(42809));
+        registerPairs(UTF8Char.valueOf(42810), UTF8Char.valueOf(42811));
+        registerPairs(UTF8Char.valueOf(42812), UTF8Char.valueOf(42813));
+        registerPairs(UTF8Char.valueOf(42814), UTF8Char.valueOf(42815));
+        registerPairs(UTF8Char.valueOf(42816), UTF8Char.valueOf(42817));
+        registerPairs(UTF8Char.valueOf(42818), UTF8Char.valueOf(42819));
+        registerPairs(UTF8Char.valueOf(42820), UTF8Char.valueOf(42821));
+        registerPairs(UTF8Char.valueOf(42822), UTF8Char.valueOf(42823));
+        registerPairs(UTF8Char.valueOf(42824), UTF8Char.valueOf(42825));
+        registerPairs(UTF8Char.valueOf(42826), UTF8Char.valueOf(42827));
+        registerPairs(UTF8Char.valueOf(42828), UTF8Char.valueOf(42829));
+        registerPairs(UTF8Char.valueOf(42830), UTF8Char.valueOf(42831));
+        registerPairs(UTF8Char.valueOf(42832), UTF8Char.valueOf(42833));
+        registerPairs(UTF8Char.valueOf(42834), UTF8Char.valueOf(42835));
+        registerPairs(UTF8Char.valueOf(42836), UTF8Char.valueOf(42837));
+        registerPairs(UTF8Char.valueOf(42838), UTF8Char.valueOf(42839));
+        registerPairs(UTF8Char.valueOf(42840), UTF8Char.valueOf(42841));
+        registerPairs(UTF8Char.valueOf(42842), UTF8Char.valueOf(42843));
+        registerPairs(UTF8Char.valueOf(42844), UTF8Char.valueOf(42845));
+        registerPairs(UTF8Char.valueOf(42846), UTF8Char.valueOf(42847));
+        registerPairs(UTF8Char.valueOf(42848), UTF8Char.valueOf(42849));
+        registerPairs(UTF8Char.valueOf(42850), UTF8Char.valueOf(42851));
+        registerPairs(UTF8Char.valueOf(42852), UTF8Char.valueOf(42853));
+        registerPairs(UTF8Char.valueOf(42854), UTF8Char.valueOf(42855));
+        registerPairs(UTF8Char.valueOf(42856), UTF8Char.valueOf(42857));
+        registerPairs(UTF8Char.valueOf(42858), UTF8Char.valueOf(42859));
+        registerPairs(UTF8Char.valueOf(42860), UTF8Char.valueOf(42861));
+        registerPairs(UTF8Char.valueOf(42862), UTF8Char.valueOf(42863));
+        registerPairs(UTF8Char.valueOf(42873), UTF8Char.valueOf(42874));
+        registerPairs(UTF8Char.valueOf(42875), UTF8Char.valueOf(42876));
+        registerPairs(UTF8Char.valueOf(42877), UTF8Char.valueOf(7545));
+        registerPairs(UTF8Char.valueOf(42878), UTF8Char.valueOf(42879));
+        registerPairs(UTF8Char.valueOf(42880), UTF8Char.valueOf(42881));
+        registerPairs(UTF8Char.valueOf(42882), UTF8Char.valueOf(42883));
+        registerPairs(UTF8Char.valueOf(42884), UTF8Char.valueOf(42885));
+        registerPairs(UTF8Char.valueOf(42886), UTF8Char.valueOf(42887));
+        registerPairs(UTF8Char.valueOf(42891), UTF8Char.valueOf(42892));
+        registerPairs(UTF8Char.valueOf(42893), UTF8Char.valueOf(613));
+        registerPairs(UTF8Char.valueOf(42896), UTF8Char.valueOf(42897));
+        registerPairs(UTF8Char.valueOf(42898), UTF8Char.valueOf(42899));
+        registerPairs(UTF8Char.valueOf(42902), UTF8Char.valueOf(42903));
+        registerPairs(UTF8Char.valueOf(42904), UTF8Char.valueOf(42905));
+        registerPairs(UTF8Char.valueOf(42906), UTF8Char.valueOf(42907));
+        registerPairs(UTF8Char.valueOf(42908), UTF8Char.valueOf(42909));
+        registerPairs(UTF8Char.valueOf(42910), UTF8Char.valueOf(42911));
+        registerPairs(UTF8Char.valueOf(42912), UTF8Char.valueOf(42913));
+        registerPairs(UTF8Char.valueOf(42914), UTF8Char.valueOf(42915));
+        registerPairs(UTF8Char.valueOf(42916), UTF8Char.valueOf(42917));
+        registerPairs(UTF8Char.valueOf(42918), UTF8Char.valueOf(42919));
+        registerPairs(UTF8Char.valueOf(42920), UTF8Char.valueOf(42921));
+        registerPairs(UTF8Char.valueOf(42922), UTF8Char.valueOf(614));
+        registerPairs(UTF8Char.valueOf(42923), UTF8Char.valueOf(604));
+        registerPairs(UTF8Char.valueOf(42924), UTF8Char.valueOf(609));
+        registerPairs(UTF8Char.valueOf(42925), UTF8Char.valueOf(620));
+        registerPairs(UTF8Char.valueOf(42926), UTF8Char.valueOf(618));
+        registerPairs(UTF8Char.valueOf(42928), UTF8Char.valueOf(670));
+        registerPairs(UTF8Char.valueOf(42929), UTF8Char.valueOf(647));
+        registerPairs(UTF8Char.valueOf(42930), UTF8Char.valueOf(669));
+        registerPairs(UTF8Char.valueOf(42931), UTF8Char.valueOf(43859));
+        registerPairs(UTF8Char.valueOf(42932), UTF8Char.valueOf(42933));
+        registerPairs(UTF8Char.valueOf(42934), UTF8Char.valueOf(42935));
+        registerPairs(UTF8Char.valueOf(42936), UTF8Char.valueOf(42937));
+        registerPairs(UTF8Char.valueOf(42938), UTF8Char.valueOf(42939));
+        registerPairs(UTF8Char.valueOf(42940), UTF8Char.valueOf(42941));
+        registerPairs(UTF8Char.valueOf(42942), UTF8Char.valueOf(42943));
+        registerPairs(UTF8Char.valueOf(42946), UTF8Char.valueOf(42947));
+        registerPairs(UTF8Char.valueOf(42948), UTF8Char.valueOf(42900));
+        registerPairs(UTF8Char.valueOf(42949), UTF8Char.valueOf(642));
+        registerPairs(UTF8Char.valueOf(42950), UTF8Char.valueOf(7566));
+        registerPairs(UTF8Char.valueOf(65313), UTF8Char.valueOf(65345));
+        registerPairs(UTF8Char.valueOf(65314), UTF8Char.valueOf(65346));
+        registerPairs(UTF8Char.valueOf(65315), UTF8Char.valueOf(65347));
+        registerPairs(UTF8Char.valueOf(65316), UTF8Char.valueOf(65348));
+        registerPairs(UTF8Char.valueOf(65317), UTF8Char.valueOf(65349));
+        registerPairs(UTF8Char.valueOf(65318), UTF8Char.valueOf(65350));
+        registerPairs(UTF8Char.valueOf(65319), UTF8Char.valueOf(65351));
+        registerPairs(UTF8Char.valueOf(65320), UTF8Char.valueOf(65352));
+        registerPairs(UTF8Char.valueOf(65321), UTF8Char.valueOf(65353));
+        registerPairs(UTF8Char.valueOf(65322), UTF8Char.valueOf(65354));
+        registerPairs(UTF8Char.valueOf(65323), UTF8Char.valueOf(65355));
+        registerPairs(UTF8Char.valueOf(65324), UTF8Char.valueOf(65356));
+        registerPairs(UTF8Char.valueOf(65325), UTF8Char.valueOf(65357));
+        registerPairs(UTF8Char.valueOf(65326), UTF8Char.valueOf(65358));
+        registerPairs(UTF8Char.valueOf(65327), UTF8Char.valueOf(65359));
+        registerPairs(UTF8Char.valueOf(65328), UTF8Char.valueOf(65360));
+        registerPairs(UTF8Char.valueOf(65329), UTF8Char.valueOf(65361));
+        registerPairs(UTF8Char.valueOf(65330), UTF8Char.valueOf(65362));
+        registerPairs(UTF8Char.valueOf(65331), UTF8Char.valueOf(65363));
+        registerPairs(UTF8Char.valueOf(65332), UTF8Char.valueOf(65364));
+        registerPairs(UTF8Char.valueOf(65333), UTF8Char.valueOf(65365));
+        registerPairs(UTF8Char.valueOf(65334), UTF8Char.valueOf(65366));
+        registerPairs(UTF8Char.valueOf(65335), UTF8Char.valueOf(65367));
+        registerPairs(UTF8Char.valueOf(65336), UTF8Char.valueOf(65368));
+        registerPairs(UTF8Char.valueOf(65337), UTF8Char.valueOf(65369));
+        registerPairs(UTF8Char.valueOf(65338), UTF8Char.valueOf(65370));
+    }
+}
@@ -1,18 +1,407 @@
-package rege.rege.utf8chr;
-
-public class UTF8SequenceBuilder implements Appendable {
-    public Appendable append(CharSequence csq) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'append'");
-    }
-
-    public Appendable append(CharSequence csq, int start, int end) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'append'");
-    }
-
-    public Appendable append(char c) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'append'");
-    }
-}
\ No newline at end of file
+package rege.rege.utf8chr;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of encoded units, used to build {@link UTF8Sequence}s
+ * without keeping a {@link UTF8Char} object per character.
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8SequenceBuilder implements Appendable {
+    /**
+     * Log2 of the distance between two sampled character boundaries.
+     */
+    static final int SPARSE_SHIFT = 5;
+    static final int SPARSE_MASK = (1 << SPARSE_SHIFT) - 1;
+
+    /**
+     * The encoded units, {@code size} bytes are in use.
+     */
+    private byte[] bytes;
+    private int size;
+    /**
+     * Count of characters appended.
+     */
+    private int count;
+    /**
+     * Byte offset of every 32nd character, or of every character once an
+     * EOF unit with a byte length other than {@code 1} has been appended.
+     */
+    private int[] marks;
+    private boolean dense;
+    /**
+     * Whether a unit with a byte length other than {@code 1} was appended.
+     */
+    private boolean multibyte;
+    /**
+     * Whether a unit longer than the shortest encoding of its codepoint was
+     * appended.
+     */
+    private boolean overlong;
+    /**
+     * Whether {@code bytes} is owned by a sequence built earlier.
+     */
+    private boolean shared;
+    /**
+     * Byte offset of the last unit if it is a high surrogate appended as a
+     * {@code char}, otherwise {@code -1}. A low surrogate appended next is
+     * combined with it, as {@link String} would.
+     */
+    private int highPos = -1;
+
+    /**
+     * Create a new empty builder.
+     */
+    public UTF8SequenceBuilder() {
+        this(16);
+    }
+
+    /**
+     * @param capacity The initial capacity in bytes.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public UTF8SequenceBuilder(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("negative capacity: " +
+                                               Integer.toString(capacity));
+        }
+        this.bytes = new byte[capacity];
+        this.marks = new int[(capacity >>> SPARSE_SHIFT) + 1];
+    }
+
+    /**
+     * @return The count of characters appended so far.
+     */
+    public int length() {
+        return this.count;
+    }
+
+    /**
+     * @return The count of bytes appended so far.
+     */
+    public int byteLength() {
+        return this.size;
+    }
+
+    /**
+     * @param c The character to append.
+     * @return This builder.
+     * @throws NullPointerException If the character is null.
+     */
+    public UTF8SequenceBuilder append(UTF8Char c) {
+        final int WIDTH = c.getByteLength();
+        if (WIDTH > 1 && WIDTH != UTF8Char.regularOf(c.ord())) {
+            this.overlong = true;
+        }
+        this.ensureCapacity(this.size + WIDTH);
+        this.mark(WIDTH, WIDTH != 0 && c.ord() == -1L);
+        this.size += c.encodeInto(this.bytes, this.size);
+        return this;
+    }
+
+    /**
+     * @param chars The characters to append.
+     * @return This builder.
+     * @throws NullPointerException If the iterable or one of its next is null.
+     */
+    public UTF8SequenceBuilder append(Iterable<UTF8Char> chars) {
+        if (chars instanceof UTF8Sequence) {
+            return this.append((UTF8Sequence)chars);
+        }
+        for (UTF8Char i : chars) {
+            this.append(i);
+        }
+        return this;
+    }
+
+    /**
+     * @param seq The sequence to append.
+     * @return This builder.
+     * @throws NullPointerException If the sequence is null.
+     */
+    public UTF8SequenceBuilder append(UTF8Sequence seq) {
+        seq.appendTo(this, 0, seq.length());
+        return this;
+    }
+
+    /**
+     * Append one unit that is known to be well formed.
+     */
+    void appendUnit(byte[] src, int off, int width) {
+        if (width > 1 && src[off] != (byte)-1 &&
+            !(UTF8Char.isShortest(src, off, width))) {
+            this.overlong = true;
+        }
+        this.ensureCapacity(this.size + width);
+        this.mark(width, width != 0 && src[off] == (byte)-1);
+        System.arraycopy(src, off, this.bytes, this.size, width);
+        this.size += width;
+    }
+
+    /**
+     * Append {@code len} bytes that are all 1-byte units.
+     */
+    void appendSingles(byte[] src, int off, int len) {
+        this.ensureCapacity(this.size + len);
+        this.markSingles(len);
+        System.arraycopy(src, off, this.bytes, this.size, len);
+        this.count += len;
+        this.size += len;
+    }
+
+    /**
+     * Append {@code chars} units taking {@code len} bytes, each as long as
+     * {@link UTF8Char#WIDTHS} tells by its first byte.
+     * @param shortest Whether the units are known to be in their shortest
+     * encodings.
+     */
+    void appendWalkable(byte[] src, int off, int len, int chars,
+                        boolean shortest) {
+        if (len == chars) {
+            this.appendSingles(src, off, len);
+            return;
+        }
+        if (!shortest) {
+            this.overlong = true;
+        }
+        this.ensureCapacity(this.size + len);
+        this.highPos = -1;
+        this.multibyte = true;
+        int pos = 0;
+        if (this.dense) {
+            this.ensureMarks(this.count + chars + 1);
+            for (int i = 0; i < chars; i++) {
+                this.marks[this.count + i] = this.size + pos;
+                pos += UTF8Char.WIDTHS[src[off + pos] & 0xff];
+            }
+        } else {
+            this.ensureMarks(((this.count + chars) >>> SPARSE_SHIFT) + 1);
+            for (int i = 0; i < chars; i++) {
+                if (((this.count + i) & SPARSE_MASK) == 0) {
+                    this.marks[(this.count + i) >>> SPARSE_SHIFT] =
+                    this.size + pos;
+                }
+                pos += UTF8Char.WIDTHS[src[off + pos] & 0xff];
+            }
+        }
+        System.arraycopy(src, off, this.bytes, this.size, len);
+        this.count += chars;
+        this.size += len;
+    }
+
+    /**
+     * Append a codepoint that is valid for {@code width}, other than EOF.
+     */
+    private void appendCodepoint(long codepoint, int width) {
+        this.ensureCapacity(this.size + width);
+        this.mark(width, false);
+        this.size += UTF8Char.encode(codepoint, width, this.bytes, this.size);
+    }
+
+    /**
+     * Append a UTF-16 code unit that is not the start of a surrogate pair.
+     */
+    private void appendChar(char c) {
+        if (c < 0x80) {
+            this.ensureCapacity(this.size + 1);
+            this.mark(1, false);
+            this.bytes[this.size++] = (byte)c;
+        } else if (c < 0x800) {
+            this.appendCodepoint(c, 2);
+        } else if (Character.isLowSurrogate(c) && this.highPos >= 0) {
+            final long HIGH = UTF8Char.decode(this.bytes, this.highPos, 3);
+            this.size = this.highPos;
+            this.highPos = -1;
+            this.ensureCapacity(this.size + 4);
+            this.size += UTF8Char.encode(
+                Character.toCodePoint((char)HIGH, c), 4, this.bytes, this.size
+            );
+        } else {
+            this.appendCodepoint(c, 3);
+            if (Character.isHighSurrogate(c)) {
+                this.highPos = this.size - 3;
+            }
+        }
+    }
+
+    /**
+     * Record the boundaries of {@code len} 1-byte units about to be
+     * appended.
+     */
+    private void markSingles(int len) {
+        this.highPos = -1;
+        if (this.dense) {
+            this.ensureMarks(this.count + len + 1);
+            for (int i = 0; i < len; i++) {
+                this.marks[this.count + i] = this.size + i;
+            }
+        } else {
+            this.ensureMarks(((this.count + len) >>> SPARSE_SHIFT) + 1);
+            for (int i = (-this.count) & SPARSE_MASK; i < len;
+                 i += SPARSE_MASK + 1) {
+                this.marks[(this.count + i) >>> SPARSE_SHIFT] = this.size + i;
+            }
+        }
+    }
+
+    /**
+     * @return A sequence of the characters appended so far. The builder can
+     * still be appended to afterwards.
+     */
+    public UTF8Sequence toUTF8Sequence() {
+        final int SHIFT = this.dense ? 0 : SPARSE_SHIFT;
+        int[] index = null;
+        if (this.multibyte) {
+            this.ensureMarks((this.count >>> SHIFT) + 1);
+            if ((this.count & ((1 << SHIFT) - 1)) == 0) {
+                this.marks[this.count >>> SHIFT] = this.size;
+            }
+            index = Arrays.copyOf(this.marks, (this.count >>> SHIFT) + 1);
+        }
+        final byte[] DATA;
+        if (this.bytes.length == this.size) {
+            DATA = this.bytes;
+            this.shared = true;
+        } else {
+            DATA = Arrays.copyOf(this.bytes, this.size);
+        }
+        return new UTF8Sequence(DATA, 0, this.size, index, SHIFT, 0,
+                                this.count, !(this.dense || this.overlong));
+    }
+
+    @Override
+    public String toString() {
+        return this.toUTF8Sequence().toString();
+    }
+
+    /**
+     * Record the boundary of the character about to be appended.
+     */
+    private void mark(int width, boolean eof) {
+        this.highPos = -1;
+        if (width != 1) {
+            if (!(this.dense) && (width == 0 || eof)) {
+                this.densify();
+            }
+            this.multibyte = true;
+        }
+        if (this.dense) {
+            this.ensureMarks(this.count + 2);
+            this.marks[this.count] = this.size;
+        } else if ((this.count & SPARSE_MASK) == 0) {
+            this.ensureMarks((this.count >>> SPARSE_SHIFT) + 2);
+            this.marks[this.count >>> SPARSE_SHIFT] = this.size;
+        }
+        this.count++;
+    }
+
+    /**
+     * Switch to a boundary per character. The units so far can all be
+     * walked by their first byte.
+     */
+    private void densify() {
+        final int[] NEWMARKS = new int[Math.max(this.count + 2,
+                                                this.marks.length)];
+        int pos = 0;
+        for (int i = 0; i < this.count; i++) {
+            NEWMARKS[i] = pos;
+            pos += UTF8Char.WIDTHS[this.bytes[pos] & 0xff];
+        }
+        this.marks = NEWMARKS;
+        this.dense = true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (this.shared || capacity > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(
+                capacity, (int)Math.min(0x7ffffff7L, this.bytes.length * 2L)
+            ));
+            this.shared = false;
+        }
+    }
+
+    private void ensureMarks(int capacity) {
+        if (capacity > this.marks.length) {
+            this.marks = Arrays.copyOf(this.marks, Math.max(
+                capacity, (int)Math.min(0x7ffffff7L, this.marks.length * 2L)
+            ));
+        }
+    }
+
+    /**
+     * @param csq The UTF-16 characters to append, {@code "null"} if null.
+     * Surrogate pairs become one 4-byte unit, unpaired surrogates are kept
+     * as 3-byte units.
+     * @return This builder.
+     */
+    public UTF8SequenceBuilder append(CharSequence csq) {
+        if (csq == null) {
+            csq = "null";
+        }
+        return this.append(csq, 0, csq.length());
+    }
+
+    /**
+     * @param csq The UTF-16 characters to append, {@code "null"} if null.
+     * @param start The index of the first character to append.
+     * @param end The index after the last character to append.
+     * @return This builder.
+     * @throws IndexOutOfBoundsException If
+     * {@code start < 0 || start > end || end > csq.length()}.
+     */
+    public UTF8SequenceBuilder append(CharSequence csq, int start, int end)
+    throws IndexOutOfBoundsException {
+        if (csq == null) {
+            csq = "null";
+        }
+        if (start < 0 || start > end || end > csq.length()) {
+            throw new IndexOutOfBoundsException(
+                "start " + Integer.toString(start) + ", end " +
+                Integer.toString(end) + ", length " +
+                Integer.toString(csq.length())
+            );
+        }
+        int i = start;
+        while (i < end) {
+            int j = i;
+            while (j < end && csq.charAt(j) < 0x80) {
+                j++;
+            }
+            if (j > i) {
+                this.ensureCapacity(this.size + (j - i));
+                this.markSingles(j - i);
+                for (int k = i; k < j; k++) {
+                    this.bytes[this.size++] = (byte)(csq.charAt(k));
+                }
+                this.count += j - i;
+                i = j;
+                continue;
+            }
+            final char C = csq.charAt(i);
+            if (Character.isHighSurrogate(C) && i + 1 < end &&
+                Character.isLowSurrogate(csq.charAt(i + 1))) {
+                this.appendCodepoint(
+                    Character.toCodePoint(C, csq.charAt(i + 1)), 4
+                );
+                i += 2;
+            } else {
+                this.appendChar(C);
+                i++;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param c The UTF-16 character to append.
+     * @return This builder.
+     */
+    public UTF8SequenceBuilder append(char c) {
+        this.appendChar(c);
+        return this;
+    }
+}
@@ -0,0 +1,338 @@
+package rege.rege.utf8chr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled set of patterns, found in a sequence in one pass with an
+ * Aho-Corasick automaton over codepoints.
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8SequenceMatcher {
+    /**
+     * An occurrence of a pattern, {@code [start, end)} in character indices.
+     */
+    public static final class Match {
+        public final int start;
+        public final int end;
+        /**
+         * The index of the pattern in the matcher.
+         */
+        public final int pattern;
+
+        Match(int start, int end, int pattern) {
+            this.start = start;
+            this.end = end;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Match) {
+                final Match CVT = (Match)o;
+                return this.start == CVT.start && this.end == CVT.end &&
+                       this.pattern == CVT.pattern;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.start * 31 + this.end) * 31 + this.pattern;
+        }
+
+        @Override
+        public String toString() {
+            return "Match[" + Integer.toString(this.start) + ", " +
+                   Integer.toString(this.end) + ", " +
+                   Integer.toString(this.pattern) + "]";
+        }
+    }
+
+    private final UTF8Sequence[] patterns;
+    /**
+     * Codepoints leaving each state, sorted, and the states they go to.
+     */
+    private final long[][] keys;
+    private final int[][] targets;
+    /**
+     * The states the root goes to by ASCII codepoints, {@code 0} if none.
+     */
+    private final int[] rootAscii = new int[128];
+    private final int[] fail;
+    private final int[] depth;
+    /**
+     * The pattern a state spells, or {@code -1}.
+     */
+    private final int[] term;
+    /**
+     * The longest pattern that is a suffix of what a state spells, or
+     * {@code -1}.
+     */
+    private final int[] longest;
+    /**
+     * The nearest state on the fail chain spelling a pattern, or {@code 0}.
+     */
+    private final int[] dict;
+
+    /**
+     * @param patterns The patterns to find. Repeated patterns are found as
+     * the first one.
+     * @throws NullPointerException If the array or one of its element is null.
+     * @throws IllegalArgumentException If a pattern is empty.
+     */
+    public UTF8SequenceMatcher(UTF8Sequence... patterns)
+    throws IllegalArgumentException {
+        this(Arrays.asList(patterns));
+    }
+
+    /**
+     * @param patterns The patterns to find. Repeated patterns are found as
+     * the first one.
+     * @throws NullPointerException If the iterable or one of its next is null.
+     * @throws IllegalArgumentException If a pattern is empty.
+     */
+    public UTF8SequenceMatcher(Iterable<UTF8Sequence> patterns)
+    throws IllegalArgumentException {
+        final List<UTF8Sequence> PATTERNS = new ArrayList<UTF8Sequence>();
+        final List<Map<Long, Integer>> GOTO =
+        new ArrayList<Map<Long, Integer>>();
+        final List<Integer> DEPTH = new ArrayList<Integer>();
+        final List<Integer> TERM = new ArrayList<Integer>();
+        GOTO.add(new HashMap<Long, Integer>());
+        DEPTH.add(Integer.valueOf(0));
+        TERM.add(Integer.valueOf(-1));
+        for (UTF8Sequence i : patterns) {
+            if (i.isEmpty()) {
+                throw new IllegalArgumentException("empty pattern");
+            }
+            int state = 0;
+            int pos = i.posOf(0);
+            for (int j = 0; j < i.length(); j++) {
+                final int NEXT = i.nextPos(j, pos);
+                final Long C = Long.valueOf(i.ordAt(pos, NEXT));
+                pos = NEXT;
+                final Integer TARGET = GOTO.get(state).get(C);
+                if (TARGET != null) {
+                    state = TARGET.intValue();
+                    continue;
+                }
+                GOTO.get(state).put(C, Integer.valueOf(GOTO.size()));
+                state = GOTO.size();
+                GOTO.add(new HashMap<Long, Integer>());
+                DEPTH.add(Integer.valueOf(j + 1));
+                TERM.add(Integer.valueOf(-1));
+            }
+            if (TERM.get(state).intValue() == -1) {
+                TERM.set(state, Integer.valueOf(PATTERNS.size()));
+            }
+            PATTERNS.add(i);
+        }
+        final int SIZE = GOTO.size();
+        this.patterns = PATTERNS.toArray(new UTF8Sequence[PATTERNS.size()]);
+        this.keys = new long[SIZE][];
+        this.targets = new int[SIZE][];
+        this.fail = new int[SIZE];
+        this.depth = new int[SIZE];
+        this.term = new int[SIZE];
+        this.longest = new int[SIZE];
+        this.dict = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final Map<Long, Integer> EDGES = GOTO.get(i);
+            final long[] K = new long[EDGES.size()];
+            int k = 0;
+            for (Long j : EDGES.keySet()) {
+                K[k++] = j.longValue();
+            }
+            Arrays.sort(K);
+            final int[] T = new int[K.length];
+            for (int j = 0; j < K.length; j++) {
+                T[j] = EDGES.get(Long.valueOf(K[j])).intValue();
+            }
+            this.keys[i] = K;
+            this.targets[i] = T;
+            this.depth[i] = DEPTH.get(i).intValue();
+            this.term[i] = TERM.get(i).intValue();
+        }
+        for (int i = 0; i < this.keys[0].length; i++) {
+            if (this.keys[0][i] >= 0L && this.keys[0][i] < 128L) {
+                this.rootAscii[(int)(this.keys[0][i])] = this.targets[0][i];
+            }
+        }
+        this.longest[0] = -1;
+        final int[] QUEUE = new int[SIZE];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < this.targets[0].length; i++) {
+            final int S = this.targets[0][i];
+            this.longest[S] = this.term[S];
+            QUEUE[tail++] = S;
+        }
+        while (head < tail) {
+            final int S = QUEUE[head++];
+            for (int i = 0; i < this.keys[S].length; i++) {
+                final int T = this.targets[S][i];
+                final int F = this.step(this.fail[S], this.keys[S][i]);
+                this.fail[T] = F;
+                this.longest[T] = (this.term[T] >= 0) ? this.term[T] :
+                                  this.longest[F];
+                this.dict[T] = (this.term[F] >= 0) ? F : this.dict[F];
+                QUEUE[tail++] = T;
+            }
+        }
+    }
+
+    /**
+     * @return The count of patterns.
+     */
+    public int size() {
+        return this.patterns.length;
+    }
+
+    /**
+     * @param i The index of the pattern.
+     * @return The pattern at index {@code i}.
+     * @throws IndexOutOfBoundsException If
+     * {@code i < 0 || i >= this.size()}.
+     */
+    public UTF8Sequence pattern(int i) throws IndexOutOfBoundsException {
+        return this.patterns[i];
+    }
+
+    /**
+     * @return The state reached from {@code state} by codepoint {@code c}.
+     */
+    private int step(int state, long c) {
+        while (true) {
+            if (state == 0) {
+                if (c >= 0L && c < 128L) {
+                    return this.rootAscii[(int)c];
+                }
+                final int I = Arrays.binarySearch(this.keys[0], c);
+                return (I >= 0) ? this.targets[0][I] : 0;
+            }
+            final long[] K = this.keys[state];
+            for (int i = 0; i < K.length; i++) {
+                if (K[i] == c) {
+                    return this.targets[state][i];
+                }
+                if (K[i] > c) {
+                    break;
+                }
+            }
+            state = this.fail[state];
+        }
+    }
+
+    /**
+     * @param text The sequence to search in.
+     * @param fromIndex The least index of the occurrence.
+     * @return The occurrence starting first at or after {@code fromIndex},
+     * the longest of them if several do, or null if there is none.
+     */
+    public Match find(UTF8Sequence text, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if (fromIndex >= text.length()) {
+            return null;
+        }
+        return this.find(text, fromIndex, text.posOf(fromIndex));
+    }
+
+    /**
+     * {@link #find(UTF8Sequence, int)} from {@code fromIndex}, which is in
+     * {@code [0, text.length]}, starting at byte offset {@code fromPos}.
+     */
+    Match find(UTF8Sequence text, int fromIndex, int fromPos) {
+        final int LEN = text.length();
+        int state = 0;
+        int bestStart = -1;
+        int bestEnd = -1;
+        int bestPattern = -1;
+        int pos = fromPos;
+        for (int i = fromIndex; i < LEN; i++) {
+            final int NEXT = text.nextPos(i, pos);
+            state = this.step(state, text.ordAt(pos, NEXT));
+            pos = NEXT;
+            final int P = this.longest[state];
+            if (P >= 0) {
+                final int START = i + 1 - this.patterns[P].length();
+                if (bestStart < 0 || START <= bestStart) {
+                    bestStart = START;
+                    bestEnd = i + 1;
+                    bestPattern = P;
+                }
+            }
+            if (bestStart >= 0 && i + 1 - this.depth[state] > bestStart) {
+                break;
+            }
+        }
+        return (bestStart < 0) ? null :
+               new Match(bestStart, bestEnd, bestPattern);
+    }
+
+    public Match find(UTF8Sequence text) {
+        return this.find(text, 0);
+    }
+
+    /**
+     * @param text The sequence to search in.
+     * @return Whether any pattern occurs in {@code text}.
+     */
+    public boolean foundIn(UTF8Sequence text) {
+        final int LEN = text.length();
+        int state = 0;
+        int pos = text.posOf(0);
+        for (int i = 0; i < LEN; i++) {
+            final int NEXT = text.nextPos(i, pos);
+            state = this.step(state, text.ordAt(pos, NEXT));
+            pos = NEXT;
+            if (this.longest[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param text The sequence to search in.
+     * @return Every occurrence of every pattern, overlapping or not, ordered
+     * by their ends, the longest first for the same end.
+     */
+    public List<Match> findAll(UTF8Sequence text) {
+        final List<Match> RES = new ArrayList<Match>();
+        final int LEN = text.length();
+        int state = 0;
+        int pos = text.posOf(0);
+        for (int i = 0; i < LEN; i++) {
+            final int NEXT = text.nextPos(i, pos);
+            state = this.step(state, text.ordAt(pos, NEXT));
+            pos = NEXT;
+            for (int s = (this.term[state] >= 0) ? state : this.dict[state];
+                 s != 0; s = this.dict[s]) {
+                RES.add(new Match(i + 1 - this.depth[s], i + 1,
+                                  this.term[s]));
+            }
+        }
+        return RES;
+    }
+
+    /**
+     * @param text The sequence to search in.
+     * @return The occurrences found by {@link #find(UTF8Sequence, int)} from
+     * the start of {@code text} and from the end of each one found.
+     */
+    public List<Match> findNonOverlapping(UTF8Sequence text) {
+        final List<Match> RES = new ArrayList<Match>();
+        for (Match m = this.find(text, 0); m != null;
+             m = this.find(text, m.end)) {
+            RES.add(m);
+        }
+        return RES;
+    }
+}
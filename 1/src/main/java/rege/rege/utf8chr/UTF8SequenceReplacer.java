@@ -0,0 +1,106 @@
+package rege.rege.utf8chr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled table of patterns and their replacements. Each sequence is
+ * replaced in one pass, whatever the count of patterns, taking the
+ * leftmost occurrence and the longest pattern there. A replacer is
+ * immutable and can be shared between threads.
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8SequenceReplacer {
+    private final UTF8SequenceMatcher matcher;
+    /**
+     * The replacements, indexed as the patterns of {@link #matcher}.
+     */
+    private final UTF8Sequence[] replacements;
+    /**
+     * The most bytes a single replacement adds.
+     */
+    private final long growth;
+
+    /**
+     * @param table The replacement of each pattern.
+     * @throws NullPointerException If the map, one of its keys or one of its
+     * values is null.
+     * @throws IllegalArgumentException If a pattern is empty.
+     */
+    public UTF8SequenceReplacer(Map<UTF8Sequence, UTF8Sequence> table)
+    throws IllegalArgumentException {
+        final List<UTF8Sequence> PATTERNS = new ArrayList<UTF8Sequence>();
+        final List<UTF8Sequence> REPLACEMENTS = new ArrayList<UTF8Sequence>();
+        long max = 0L;
+        for (Map.Entry<UTF8Sequence, UTF8Sequence> i : table.entrySet()) {
+            if (i.getValue() == null) {
+                throw new NullPointerException("replacement is null");
+            }
+            PATTERNS.add(i.getKey());
+            REPLACEMENTS.add(i.getValue());
+            max = Math.max(max, i.getValue().byteLength() -
+                                i.getKey().byteLength());
+        }
+        this.matcher = new UTF8SequenceMatcher(PATTERNS);
+        this.replacements =
+        REPLACEMENTS.toArray(new UTF8Sequence[REPLACEMENTS.size()]);
+        this.growth = max;
+    }
+
+    /**
+     * @return The count of patterns.
+     */
+    public int size() {
+        return this.replacements.length;
+    }
+
+    /**
+     * @param text The sequence to replace the patterns in.
+     * @param count The most occurrences to replace, left to right, all if
+     * negative.
+     * @return {@code text} with the occurrences found by
+     * {@link UTF8SequenceMatcher#findNonOverlapping} replaced, or
+     * {@code text} itself if nothing is replaced.
+     */
+    public UTF8Sequence replace(UTF8Sequence text, int count) {
+        UTF8SequenceBuilder b = null;
+        int start = 0;
+        int startPos = text.posOf(0);
+        while (count != 0) {
+            final UTF8SequenceMatcher.Match M =
+            this.matcher.find(text, start, startPos);
+            if (M == null) {
+                break;
+            }
+            if (b == null) {
+                b = new UTF8SequenceBuilder((int)Math.min(
+                    text.byteLength() + this.growth, 0x7ffffff7L
+                ));
+            }
+            int pos = startPos;
+            for (int i = start; i < M.start; i++) {
+                pos = text.nextPos(i, pos);
+            }
+            text.appendTo(b, start, M.start, startPos, pos);
+            b.append(this.replacements[M.pattern]);
+            for (int i = M.start; i < M.end; i++) {
+                pos = text.nextPos(i, pos);
+            }
+            start = M.end;
+            startPos = pos;
+            count--;
+        }
+        if (b == null) {
+            return text;
+        }
+        text.appendTo(b, start, text.length(), startPos,
+                      text.posOf(text.length()));
+        return b.toUTF8Sequence();
+    }
+
+    public UTF8Sequence replace(UTF8Sequence text) {
+        return this.replace(text, -1);
+    }
+}
@@ -0,0 +1,240 @@
+package rege.rege.utf8chr;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes UTF-8 bytes given in chunks, e.g. as read from a socket. A unit
+ * cut off at the end of a chunk is kept until the next chunk, so only
+ * {@link #finish()} treats an incomplete unit as malformed. Offsets given
+ * to the error handler count from the start of the stream, or from the
+ * last {@link #finish()} or {@link #reset()}.
+ * @author REGE
+ * @since 0.0.1a1
+ */
+public class UTF8StreamDecoder {
+    /**
+     * The longest unit, and so one more than the longest incomplete unit.
+     */
+    private static final int MAX_WIDTH = 7;
+
+    private final UTF8DecodeErrorHandlerProvider handler;
+    private final String errors;
+    /**
+     * The start of a unit cut off at the end of the last chunk.
+     */
+    private final byte[] carry = new byte[MAX_WIDTH - 1];
+    private int carryLength;
+    /**
+     * Count of bytes of the next chunks that the error handler asked to
+     * skip. {@link #offset} already counts them.
+     */
+    private long skip;
+    /**
+     * Stream offset of the first byte not decoded yet.
+     */
+    private long offset;
+    private byte[] scratch;
+
+    /**
+     * Create a new decoder with the {@code "strict"} error handler.
+     */
+    public UTF8StreamDecoder() {
+        this(UTF8DecodeErrorHandler.STRICT);
+    }
+
+    /**
+     * @param errors The name of the error handler in
+     * {@link UTF8DecodeErrorHandler#HANDLER}. It is looked up when the
+     * first malformed unit is met.
+     */
+    public UTF8StreamDecoder(String errors) {
+        this.handler = null;
+        this.errors = errors;
+    }
+
+    /**
+     * @param handler The error handler, e.g.
+     * {@link UTF8DecodeErrorHandler#REPLACE}.
+     * @throws NullPointerException If the handler is null.
+     */
+    public UTF8StreamDecoder(UTF8DecodeErrorHandlerProvider handler) {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        this.handler = handler;
+        this.errors = null;
+    }
+
+    /**
+     * @return The count of bytes kept from the last chunk as the start of
+     * an incomplete unit.
+     */
+    public int pending() {
+        return this.carryLength;
+    }
+
+    /**
+     * @param chunk The next bytes of the stream.
+     * @return The characters completed by this chunk.
+     * @throws NullPointerException If the chunk is null.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public UTF8Sequence decode(byte[] chunk) throws IllegalArgumentException {
+        return this.decode(chunk, 0, chunk.length);
+    }
+
+    /**
+     * @param chunk Holding the next bytes of the stream.
+     * @param off Where the bytes start.
+     * @param len The count of bytes.
+     * @return The characters completed by the bytes.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public UTF8Sequence decode(byte[] chunk, int off, int len)
+    throws IndexOutOfBoundsException, IllegalArgumentException {
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(len);
+        this.decode(chunk, off, len, B);
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * @param chunk The next bytes of the stream, from its position to its
+     * limit. The position is moved to the limit.
+     * @return The characters completed by the bytes.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public UTF8Sequence decode(ByteBuffer chunk)
+    throws IllegalArgumentException {
+        final UTF8SequenceBuilder B =
+        new UTF8SequenceBuilder(chunk.remaining());
+        this.decode(chunk, B);
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * Decode the next bytes of the stream, appending the characters they
+     * complete to {@code out}.
+     * @throws IndexOutOfBoundsException If the range is not in the array.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public void decode(byte[] chunk, int off, int len, UTF8SequenceBuilder out)
+    throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (off < 0 || len < 0 || off > chunk.length - len) {
+            throw new IndexOutOfBoundsException(
+                "off " + Integer.toString(off) + ", len " +
+                Integer.toString(len) + ", length " +
+                Integer.toString(chunk.length)
+            );
+        }
+        final int END = off + len;
+        if (this.skip > 0L) {
+            final int SKIPPED = (int)Math.min(this.skip, (long)len);
+            this.skip -= SKIPPED;
+            off += SKIPPED;
+        }
+        if (this.carryLength > 0) {
+            final int HEAD = Math.min(END - off, MAX_WIDTH);
+            final byte[] WINDOW = new byte[this.carryLength + HEAD];
+            System.arraycopy(this.carry, 0, WINDOW, 0, this.carryLength);
+            System.arraycopy(chunk, off, WINDOW, this.carryLength, HEAD);
+            final int POS = UTF8Sequence.decodeInto(
+                out, WINDOW, 0, this.carryLength, WINDOW.length,
+                -(int)(this.offset), false, this.handler, this.errors
+            );
+            if (POS < this.carryLength) {
+                this.offset += POS;
+                this.carryLength = WINDOW.length - POS;
+                System.arraycopy(WINDOW, POS, this.carry, 0, this.carryLength);
+                return;
+            }
+            final int CONSUMED = POS - this.carryLength;
+            this.offset += POS;
+            this.carryLength = 0;
+            if (CONSUMED > END - off) {
+                this.skip = CONSUMED - (END - off);
+                return;
+            }
+            off += CONSUMED;
+        }
+        final int POS = UTF8Sequence.decodeInto(
+            out, chunk, off, END, END, off - (int)(this.offset), false,
+            this.handler, this.errors
+        );
+        this.offset += POS - off;
+        if (POS < END) {
+            this.carryLength = END - POS;
+            System.arraycopy(chunk, POS, this.carry, 0, this.carryLength);
+        } else if (POS > END) {
+            this.skip = POS - END;
+        }
+    }
+
+    /**
+     * Decode the next bytes of the stream, from the position to the limit
+     * of {@code chunk}, appending the characters they complete to
+     * {@code out}. The position is moved to the limit.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public void decode(ByteBuffer chunk, UTF8SequenceBuilder out)
+    throws IllegalArgumentException {
+        if (chunk.hasArray()) {
+            final int POS = chunk.position();
+            this.decode(chunk.array(), chunk.arrayOffset() + POS,
+                        chunk.limit() - POS, out);
+            chunk.position(chunk.limit());
+            return;
+        }
+        if (this.scratch == null) {
+            this.scratch = new byte[8192];
+        }
+        while (chunk.hasRemaining()) {
+            final int LEN = Math.min(chunk.remaining(), this.scratch.length);
+            chunk.get(this.scratch, 0, LEN);
+            this.decode(this.scratch, 0, LEN, out);
+        }
+    }
+
+    /**
+     * End the stream. An incomplete unit kept from the last chunk is given
+     * to the error handler as malformed. The decoder can then be used for
+     * another stream.
+     * @return The characters completed by the end of the stream.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public UTF8Sequence finish() throws IllegalArgumentException {
+        final UTF8SequenceBuilder B = new UTF8SequenceBuilder(MAX_WIDTH);
+        this.finish(B);
+        return B.toUTF8Sequence();
+    }
+
+    /**
+     * End the stream, appending the characters completed by its end to
+     * {@code out}.
+     * @throws IllegalArgumentException If a unit is malformed and the error
+     * handler rejects it or is unknown.
+     */
+    public void finish(UTF8SequenceBuilder out)
+    throws IllegalArgumentException {
+        final int LEN = this.carryLength;
+        final long OFFSET = this.offset;
+        this.reset();
+        UTF8Sequence.decodeInto(out, this.carry, 0, LEN, LEN, -(int)OFFSET,
+                                true, this.handler, this.errors);
+    }
+
+    /**
+     * Drop any incomplete unit and start a new stream.
+     */
+    public void reset() {
+        this.carryLength = 0;
+        this.skip = 0L;
+        this.offset = 0L;
+    }
+}